@@ -31,6 +31,7 @@ CREATE TABLE FS_CONSENT (
   CONSENT_FREQUENCY     INT,
   VALIDITY_TIME         NUMBER,
   RECURRING_INDICATOR   NUMBER(1) DEFAULT 0,
+  EXPIRY_TIME           NUMBER,
   PRIMARY KEY (CONSENT_ID)
 );
 
@@ -81,3 +82,33 @@ CREATE TABLE FS_CONSENT_ATTRIBUTE (
   PRIMARY KEY(CONSENT_ID, ATT_KEY),
   CONSTRAINT FK_FS_CONSENT_ATTRIBUTE FOREIGN KEY (CONSENT_ID) REFERENCES FS_CONSENT (CONSENT_ID) ON DELETE CASCADE
 );
+
+CREATE TABLE FS_CONSENT_ATTRIBUTE_LOOKUP (
+  ATT_KEY           VARCHAR(255) NOT NULL,
+  ATT_VALUE_HASH    VARCHAR(64) NOT NULL,
+  CONSENT_ID        VARCHAR(255) NOT NULL,
+  PRIMARY KEY(ATT_KEY, ATT_VALUE_HASH, CONSENT_ID),
+  CONSTRAINT FK_FS_CONSENT_ATTRIBUTE_LOOKUP FOREIGN KEY (CONSENT_ID, ATT_KEY)
+    REFERENCES FS_CONSENT_ATTRIBUTE (CONSENT_ID, ATT_KEY) ON DELETE CASCADE
+);
+
+CREATE TABLE FS_AUTHORIZATION_SESSION (
+  SESSION_DATA_KEY  VARCHAR(255) NOT NULL,
+  CONSENT_ID        VARCHAR(255),
+  SESSION_DATA      CLOB NOT NULL,
+  EXPIRY_TIME       NUMBER NOT NULL,
+  PRIMARY KEY(SESSION_DATA_KEY)
+);
+
+CREATE TABLE FS_JTI_REPLAY (
+  JTI          VARCHAR(255) NOT NULL,
+  EXPIRY_TIME  NUMBER NOT NULL,
+  PRIMARY KEY(JTI)
+);
+
+CREATE INDEX IDX_FS_CONSENT_UPDATED_TIME ON FS_CONSENT (UPDATED_TIME, CONSENT_ID);
+CREATE INDEX IDX_FS_CONSENT_MAPPING_ACCOUNT_ID ON FS_CONSENT_MAPPING (ACCOUNT_ID, AUTH_ID);
+CREATE INDEX IDX_FS_CONSENT_EXPIRY_TIME ON FS_CONSENT (EXPIRY_TIME, CONSENT_ID);
+CREATE INDEX IDX_FS_AUTH_SESSION_EXPIRY_TIME ON FS_AUTHORIZATION_SESSION (EXPIRY_TIME);
+CREATE INDEX IDX_FS_JTI_REPLAY_EXPIRY_TIME ON FS_JTI_REPLAY (EXPIRY_TIME);
+CREATE INDEX IDX_FS_CONSENT_ATT_LOOKUP_CONSENT ON FS_CONSENT_ATTRIBUTE_LOOKUP (CONSENT_ID, ATT_KEY);
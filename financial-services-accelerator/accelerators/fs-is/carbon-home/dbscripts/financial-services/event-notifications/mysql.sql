@@ -71,3 +71,16 @@ CREATE TABLE IF NOT EXISTS FS_NOTIFICATION_SUBSCRIBED_EVENTS (
     CONSTRAINT FK_NotificationSubEvents FOREIGN KEY (SUBSCRIPTION_ID) REFERENCES FS_NOTIFICATION_SUBSCRIPTION(SUBSCRIPTION_ID)
 )
 ENGINE=InnoDB;
+
+-- Realtime event notifications waiting to be delivered. A row is claimed by a delivery worker until its lease expires
+-- and deleted once the notification is delivered. LEASE_EXPIRY is stored in milliseconds.
+CREATE TABLE IF NOT EXISTS FS_NOTIFICATION_OUTBOX (
+    NOTIFICATION_ID varchar(36) NOT NULL,
+    CLAIMED_BY varchar(36),
+    LEASE_EXPIRY BIGINT NOT NULL,
+    CREATED_TIMESTAMP BIGINT NOT NULL,
+    PRIMARY KEY (NOTIFICATION_ID)
+)
+ENGINE=InnoDB;
+
+CREATE INDEX IDX_FS_NOTIFICATION_OUTBOX_LEASE ON FS_NOTIFICATION_OUTBOX (LEASE_EXPIRY);
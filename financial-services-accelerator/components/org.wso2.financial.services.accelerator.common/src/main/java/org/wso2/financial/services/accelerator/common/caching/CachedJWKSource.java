@@ -0,0 +1,263 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.caching;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.RemoteKeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.Resource;
+import com.nimbusds.jose.util.ResourceRetriever;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.net.URL;
+import java.text.ParseException;
+import java.time.Clock;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JWK source for a single JWKS URI which keeps the fetched key set in memory.
+ * <p>
+ * The key set is served from memory until its time to live elapses. Accesses that fall inside the refresh ahead
+ * window trigger a background reload, a key id that is not in the cached set triggers a rate limited reload, and
+ * when the JWKS host cannot be reached the last known key set is served until the stale window elapses.
+ */
+public class CachedJWKSource implements JWKSource<SecurityContext> {
+
+    private static final Log log = LogFactory.getLog(CachedJWKSource.class);
+
+    private final URL jwksURL;
+    private final ResourceRetriever resourceRetriever;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+    private final long timeToLiveMillis;
+    private final long refreshAheadMillis;
+    private final long minRefreshIntervalMillis;
+    private final long staleTimeMillis;
+
+    private final Object refreshLock = new Object();
+    private final AtomicBoolean backgroundRefreshScheduled = new AtomicBoolean(false);
+    private volatile CachedJWKSet cachedJWKSet;
+    private volatile long lastRefreshAttemptTime;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder refreshCount = new LongAdder();
+    private final LongAdder refreshFailureCount = new LongAdder();
+    private final LongAdder staleServeCount = new LongAdder();
+
+    /**
+     * Create a cached JWK source.
+     *
+     * @param jwksURL                  JWKS URL
+     * @param resourceRetriever        retriever used to fetch the JWKS document
+     * @param refreshExecutor          executor used for background refreshes
+     * @param clock                    clock used to evaluate expiry
+     * @param timeToLiveMillis         time a fetched key set is considered fresh
+     * @param refreshAheadMillis       window before expiry in which a background refresh is triggered
+     * @param minRefreshIntervalMillis minimum time between two fetches from the JWKS host
+     * @param staleTimeMillis          time after expiry in which the last key set is served if the host is down
+     */
+    public CachedJWKSource(URL jwksURL, ResourceRetriever resourceRetriever, Executor refreshExecutor, Clock clock,
+                           long timeToLiveMillis, long refreshAheadMillis, long minRefreshIntervalMillis,
+                           long staleTimeMillis) {
+
+        this.jwksURL = jwksURL;
+        this.resourceRetriever = resourceRetriever;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.refreshAheadMillis = Math.min(refreshAheadMillis, timeToLiveMillis);
+        this.minRefreshIntervalMillis = minRefreshIntervalMillis;
+        this.staleTimeMillis = staleTimeMillis;
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+
+        long now = clock.millis();
+        CachedJWKSet current = cachedJWKSet;
+
+        if (current == null || current.isExpired(now, timeToLiveMillis)) {
+            missCount.increment();
+            current = refresh(current, false);
+        } else {
+            hitCount.increment();
+            if (now >= current.fetchedTime + timeToLiveMillis - refreshAheadMillis) {
+                scheduleBackgroundRefresh();
+            }
+        }
+
+        List<JWK> matches = jwkSelector.select(current.jwkSet);
+        if (matches.isEmpty() && isKeyIdLookup(jwkSelector)) {
+            // Unknown kid, the TPP may have rotated its keys. Reload once, subject to the refresh rate limit.
+            CachedJWKSet reloaded = refresh(current, true);
+            if (reloaded != current) {
+                matches = jwkSelector.select(reloaded.jwkSet);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Reload the key set from the JWKS host unless another thread already did it while waiting for the lock.
+     *
+     * @param observed   key set observed by the caller before deciding to refresh
+     * @param rateLimited whether the refresh should be skipped when the last attempt is too recent
+     * @return key set to use for the current request
+     * @throws KeySourceException if no key set could be fetched and no usable stale key set exists
+     */
+    private CachedJWKSet refresh(CachedJWKSet observed, boolean rateLimited) throws KeySourceException {
+
+        synchronized (refreshLock) {
+            CachedJWKSet current = cachedJWKSet;
+            long now = clock.millis();
+            if (current != observed && current != null && !current.isExpired(now, timeToLiveMillis)) {
+                return current;
+            }
+            if (current != null && now - lastRefreshAttemptTime < minRefreshIntervalMillis) {
+                if (rateLimited || current.isServableAsStale(now, timeToLiveMillis, staleTimeMillis)) {
+                    if (current.isExpired(now, timeToLiveMillis)) {
+                        staleServeCount.increment();
+                    }
+                    return current;
+                }
+            }
+
+            lastRefreshAttemptTime = now;
+            try {
+                CachedJWKSet fetched = new CachedJWKSet(fetchJWKSet(), clock.millis());
+                cachedJWKSet = fetched;
+                refreshCount.increment();
+                return fetched;
+            } catch (IOException | ParseException e) {
+                refreshFailureCount.increment();
+                if (current != null && current.isServableAsStale(now, timeToLiveMillis, staleTimeMillis)) {
+                    log.warn(String.format("Unable to refresh JWKS from %s. Serving the last known key set.",
+                            jwksURL.toString().replaceAll("[\r\n]", "")));
+                    if (current.isExpired(now, timeToLiveMillis)) {
+                        staleServeCount.increment();
+                    }
+                    return current;
+                }
+                throw new RemoteKeySourceException("Couldn't retrieve remote JWK set: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Reload the key set on the refresh executor if a reload is not already pending.
+     */
+    private void scheduleBackgroundRefresh() {
+
+        if (!backgroundRefreshScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        CachedJWKSet observed = cachedJWKSet;
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh(observed, true);
+                } catch (KeySourceException e) {
+                    log.debug("Background JWKS refresh failed", e);
+                } finally {
+                    backgroundRefreshScheduled.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            backgroundRefreshScheduled.set(false);
+            log.debug("Background JWKS refresh rejected", e);
+        }
+    }
+
+    private JWKSet fetchJWKSet() throws IOException, ParseException {
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Fetching JWKS from %s", jwksURL.toString().replaceAll("[\r\n]", "")));
+        }
+        Resource resource = resourceRetriever.retrieveResource(jwksURL);
+        return JWKSet.parse(resource.getContent());
+    }
+
+    private static boolean isKeyIdLookup(JWKSelector jwkSelector) {
+
+        Set<String> keyIds = jwkSelector.getMatcher().getKeyIDs();
+        return keyIds != null && !keyIds.isEmpty();
+    }
+
+    public long getHitCount() {
+
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+
+        return missCount.sum();
+    }
+
+    public long getRefreshCount() {
+
+        return refreshCount.sum();
+    }
+
+    public long getRefreshFailureCount() {
+
+        return refreshFailureCount.sum();
+    }
+
+    public long getStaleServeCount() {
+
+        return staleServeCount.sum();
+    }
+
+    /**
+     * Key set together with the time it was fetched.
+     */
+    private static final class CachedJWKSet {
+
+        private final JWKSet jwkSet;
+        private final long fetchedTime;
+
+        private CachedJWKSet(JWKSet jwkSet, long fetchedTime) {
+
+            this.jwkSet = jwkSet;
+            this.fetchedTime = fetchedTime;
+        }
+
+        private boolean isExpired(long now, long timeToLiveMillis) {
+
+            return now >= fetchedTime + timeToLiveMillis;
+        }
+
+        private boolean isServableAsStale(long now, long timeToLiveMillis, long staleTimeMillis) {
+
+            return now < fetchedTime + timeToLiveMillis + staleTimeMillis;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.caching;
+
+import org.apache.axis2.clustering.ClusteringAgent;
+import org.apache.axis2.clustering.ClusteringFault;
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.Serializable;
+
+/**
+ * Transport of the {@link NearCacheInvalidationChannel} sending invalidations to the other nodes through the Axis2
+ * clustering agent of the server. Invalidations are not sent when clustering is not enabled.
+ * <p>
+ * A key which is not serializable cannot be sent, hence all the entries of the cache are invalidated on the other
+ * nodes instead.
+ */
+public class ClusteringNearCacheInvalidationTransport implements NearCacheInvalidationChannel.Transport {
+
+    private static final Log log = LogFactory.getLog(ClusteringNearCacheInvalidationTransport.class);
+
+    private final ConfigurationContext configurationContext;
+
+    public ClusteringNearCacheInvalidationTransport(ConfigurationContext configurationContext) {
+
+        this.configurationContext = configurationContext;
+    }
+
+    @Override
+    public void send(String cacheName, FinancialServicesBaseCacheKey key) {
+
+        ClusteringAgent clusteringAgent = configurationContext.getAxisConfiguration().getClusteringAgent();
+        if (clusteringAgent == null) {
+            return;
+        }
+        Serializable messageKey = key instanceof Serializable ? (Serializable) key : null;
+        if (key != null && messageKey == null && log.isDebugEnabled()) {
+            log.debug(String.format("Key of cache %s is not serializable. Invalidating all the entries of the " +
+                    "cache on the other nodes", cacheName.replaceAll("[\r\n]", "")));
+        }
+        try {
+            clusteringAgent.sendMessage(new NearCacheInvalidationMessage(cacheName, messageKey), true);
+        } catch (ClusteringFault e) {
+            log.error(String.format("Error occurred while sending a near cache invalidation of cache %s to the " +
+                    "cluster", cacheName.replaceAll("[\r\n]", "")), e);
+        }
+    }
+}
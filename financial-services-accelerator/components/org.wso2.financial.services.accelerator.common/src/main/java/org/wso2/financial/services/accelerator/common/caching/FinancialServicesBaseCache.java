@@ -20,9 +20,18 @@ package org.wso2.financial.services.accelerator.common.caching;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
 
+import java.time.Clock;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.cache.Cache;
 import javax.cache.CacheBuilder;
@@ -32,6 +41,15 @@ import javax.cache.Caching;
 
 /**
  * Abstract cache manager for Financial Services.
+ * <p>
+ * The cache handle is resolved once per cache manager and reused. Concurrent misses of the same key in
+ * {@link #getFromCacheOrRetrieve(FinancialServicesBaseCacheKey, OnDemandRetriever)} are collapsed into a single
+ * retrieval, and an entry can be refreshed ahead of its expiry by the first request that finds it in the refresh
+ * window while other requests keep reading the cached value.
+ * <p>
+ * A {@link NearCache} can be enabled per cache name in front of the cache. Modifications of an entry invalidate the
+ * near caches of all the nodes through the {@link NearCacheInvalidationChannel}, while values retrieved on demand are
+ * only held in the near cache of this node.
  *
  * @param <K>   Extended Cache Key
  * @param <V>   Cache Value
@@ -39,7 +57,20 @@ import javax.cache.Caching;
 public abstract class FinancialServicesBaseCache<K extends FinancialServicesBaseCacheKey, V> {
 
     private static final String BASE_CACHE_KEY = "FS_BASE_CACHE";
+    private static final int MAX_TRACKED_LOAD_TIMES = 10000;
     private final String cacheName;
+    private final Map<K, CompletableFuture<V>> inFlightRetrievals = new ConcurrentHashMap<>();
+    private final Map<K, Long> loadTimes = new ConcurrentHashMap<>();
+    private final Map<CacheManager, NearCache<K, V>> nearCaches = Collections.synchronizedMap(new WeakHashMap<>());
+    private volatile CacheHandle<K, V> cacheHandle;
+    private volatile boolean nearCacheEnabled = true;
+    private boolean subscribedToInvalidations;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTimeNanos = new LongAdder();
 
     private static final Log log = LogFactory.getLog(FinancialServicesBaseCache.class);
 
@@ -66,7 +97,8 @@ public abstract class FinancialServicesBaseCache<K extends FinancialServicesBase
     }
 
     /**
-     * Get from cache or invoke ondemand retriever and store.
+     * Get from cache or invoke ondemand retriever and store. Concurrent calls for a key which is not cached wait for
+     * the retrieval of the first call instead of retrieving the value again.
      *
      * @param key                  cache key.
      * @param onDemandRetriever    on demand retriever.
@@ -75,34 +107,38 @@ public abstract class FinancialServicesBaseCache<K extends FinancialServicesBase
      */
     public V getFromCacheOrRetrieve(K key, OnDemandRetriever onDemandRetriever) throws FinancialServicesException {
 
-        Cache<K, V> cache = getBaseCache();
-
-        if (cache.containsKey(key)) {
-
-            if (log.isDebugEnabled()) {
-                log.debug(String.format("Found cache entry `%s` in cache %s",
-                        key.toString().replaceAll("[\r\n]", ""), cacheName.replaceAll("[\r\n]", "")));
-            }
-            return cache.get(key);
-        } else {
-
-            if (log.isDebugEnabled()) {
-                log.debug(String.format("Cache Entry `%s` not available in cache %s",
-                        key.toString().replaceAll("[\r\n]", ""), cacheName.replaceAll("[\r\n]", "")));
-            }
-
-            V value = (V) onDemandRetriever.get();
-
-            if (log.isDebugEnabled()) {
-                log.debug(String.format("On demand retrieved `%s` for %s",
-                        key.toString().replaceAll("[\r\n]", ""), cacheName.replaceAll("[\r\n]", "")));
+        V cachedValue = getFromCache(key);
+        if (cachedValue != null) {
+            if (isRefreshDue(key)) {
+                CompletableFuture<V> refresh = new CompletableFuture<>();
+                // Only the request winning the refresh reloads the entry, the others read the cached value
+                if (inFlightRetrievals.putIfAbsent(key, refresh) == null) {
+                    if (log.isDebugEnabled()) {
+                        log.debug(String.format("Refreshing cache entry `%s` ahead of expiry in cache %s",
+                                key.toString().replaceAll("[\r\n]", ""), cacheName.replaceAll("[\r\n]", "")));
+                    }
+                    try {
+                        return retrieve(key, onDemandRetriever, refresh);
+                    } catch (FinancialServicesException | RuntimeException e) {
+                        log.error(String.format("Error while refreshing cache entry in cache %s. Using the cached " +
+                                "value", cacheName.replaceAll("[\r\n]", "")), e);
+                    }
+                }
             }
+            return cachedValue;
+        }
 
-            removeFromCache(key);
-            addToCache(key, value);
-            return value;
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Cache Entry `%s` not available in cache %s",
+                    key.toString().replaceAll("[\r\n]", ""), cacheName.replaceAll("[\r\n]", "")));
         }
 
+        CompletableFuture<V> retrieval = new CompletableFuture<>();
+        CompletableFuture<V> inFlightRetrieval = inFlightRetrievals.putIfAbsent(key, retrieval);
+        if (inFlightRetrieval != null) {
+            return awaitRetrieval(inFlightRetrieval);
+        }
+        return retrieve(key, onDemandRetriever, retrieval);
     }
 
     /**
@@ -113,20 +149,24 @@ public abstract class FinancialServicesBaseCache<K extends FinancialServicesBase
      */
     public V getFromCache(K key) {
 
-        Cache<K, V> cache = getBaseCache();
-
-        if (cache.containsKey(key)) {
-
+        NearCache<K, V> nearCache = getCacheHandle().nearCache;
+        V value = nearCache != null ? nearCache.get(key) : null;
+        if (value == null) {
+            value = withBaseCache(cache -> cache.get(key));
+            if (value != null && nearCache != null) {
+                nearCache.put(key, value);
+            }
+        }
+        if (value != null) {
+            hitCount.increment();
             if (log.isDebugEnabled()) {
                 log.debug(String.format("Found cache entry `%s` in cache %s",
                         key.toString().replaceAll("[\r\n]", ""), cacheName.replaceAll("[\r\n]", "")));
             }
-            return cache.get(key);
         } else {
-
-            return null;
+            missCount.increment();
         }
-
+        return value;
     }
 
     /**
@@ -142,8 +182,17 @@ public abstract class FinancialServicesBaseCache<K extends FinancialServicesBase
                     cacheName.replaceAll("[\r\n]", "")));
         }
 
-        Cache<K, V> cache = getBaseCache();
-        cache.put(key, value);
+        withBaseCache(cache -> {
+            cache.put(key, value);
+            return null;
+        });
+
+        NearCache<K, V> nearCache = getCacheHandle().nearCache;
+        if (nearCache != null) {
+            // Invalidate the entry held by the near caches before holding the new value in the near cache
+            NearCacheInvalidationChannel.getInstance().publish(cacheName, key);
+            nearCache.put(key, value);
+        }
     }
 
     /**
@@ -158,18 +207,262 @@ public abstract class FinancialServicesBaseCache<K extends FinancialServicesBase
                     cacheName.replaceAll("[\r\n]", "")));
         }
 
-        Cache<K, V> cache = getBaseCache();
-        cache.remove(key);
+        loadTimes.remove(key);
+        withBaseCache(cache -> cache.remove(key));
+
+        if (getCacheHandle().nearCache != null) {
+            NearCacheInvalidationChannel.getInstance().publish(cacheName, key);
+        }
+    }
+
+    public long getHitCount() {
+
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+
+        return missCount.sum();
+    }
+
+    /**
+     * Get the number of reads served by the near caches of this node.
+     *
+     * @return near cache hit count, 0 if the near cache is disabled
+     */
+    public long getNearCacheHitCount() {
+
+        synchronized (nearCaches) {
+            return nearCaches.values().stream().mapToLong(NearCache::getHitCount).sum();
+        }
+    }
+
+    public long getLoadCount() {
+
+        return loadCount.sum();
+    }
+
+    public long getLoadFailureCount() {
+
+        return loadFailureCount.sum();
+    }
+
+    /**
+     * Get the average time taken by on demand retrievals.
+     *
+     * @return average retrieval time in milliseconds, 0 if nothing was retrieved
+     */
+    public double getAverageLoadTimeMillis() {
+
+        long loads = loadCount.sum() + loadFailureCount.sum();
+        return loads == 0 ? 0 : (double) TimeUnit.NANOSECONDS.toMicros(totalLoadTimeNanos.sum()) / loads / 1000;
+    }
+
+    /**
+     * Get the time before the modified expiry at which an entry is refreshed by
+     * {@link #getFromCacheOrRetrieve(FinancialServicesBaseCacheKey, OnDemandRetriever)}. Entries are not refreshed
+     * ahead of expiry by default.
+     *
+     * @return refresh ahead time in seconds, 0 to disable refresh ahead.
+     */
+    public int getRefreshAheadSeconds() {
+
+        return 0;
+    }
+
+    /**
+     * Create the near cache held in front of the cache of a cache manager. The near cache is configured per cache
+     * name in financial-services.xml.
+     *
+     * @return near cache, null if the near cache is disabled for this cache.
+     */
+    protected NearCache<K, V> createNearCache() {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        if (!configParser.isNearCacheEnabled(cacheName)) {
+            return null;
+        }
+        return new NearCache<>(configParser.getNearCacheMaxEntries(cacheName),
+                TimeUnit.SECONDS.toMillis(configParser.getNearCacheTimeToLiveInSeconds(cacheName)),
+                Clock.systemUTC());
+    }
+
+    private V retrieve(K key, OnDemandRetriever onDemandRetriever, CompletableFuture<V> retrieval)
+            throws FinancialServicesException {
+
+        long startTime = System.nanoTime();
+        try {
+            V value = (V) onDemandRetriever.get();
+            totalLoadTimeNanos.add(System.nanoTime() - startTime);
+            loadCount.increment();
+
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("On demand retrieved `%s` for %s",
+                        key.toString().replaceAll("[\r\n]", ""), cacheName.replaceAll("[\r\n]", "")));
+            }
+
+            populateCache(key, value);
+            recordLoadTime(key);
+            retrieval.complete(value);
+            return value;
+        } catch (FinancialServicesException | RuntimeException e) {
+            totalLoadTimeNanos.add(System.nanoTime() - startTime);
+            loadFailureCount.increment();
+            retrieval.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRetrievals.remove(key, retrieval);
+        }
+    }
+
+    /**
+     * Store a retrieved value in the cache and in the near cache of this node. The value is read from the source,
+     * hence the near caches of the other nodes are not invalidated.
+     *
+     * @param key   cache key.
+     * @param value retrieved value.
+     */
+    private void populateCache(K key, V value) {
+
+        withBaseCache(cache -> {
+            cache.remove(key);
+            cache.put(key, value);
+            return null;
+        });
+
+        NearCache<K, V> nearCache = getCacheHandle().nearCache;
+        if (nearCache != null) {
+            nearCache.put(key, value);
+        }
+    }
+
+    private V awaitRetrieval(CompletableFuture<V> retrieval) throws FinancialServicesException {
+
+        try {
+            return retrieval.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FinancialServicesException("Interrupted while waiting for the cache entry to be retrieved", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof FinancialServicesException) {
+                throw (FinancialServicesException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new FinancialServicesException("Error while retrieving the cache entry", e.getCause());
+        }
+    }
+
+    private boolean isRefreshDue(K key) {
+
+        int refreshAheadSeconds = getRefreshAheadSeconds();
+        if (refreshAheadSeconds <= 0) {
+            return false;
+        }
+        Long loadTime = loadTimes.get(key);
+        if (loadTime == null) {
+            return false;
+        }
+        long refreshAfterMillis = TimeUnit.MINUTES.toMillis(getCacheModifiedExpiryMinutes()) -
+                TimeUnit.SECONDS.toMillis(refreshAheadSeconds);
+        return System.currentTimeMillis() - loadTime >= refreshAfterMillis;
+    }
+
+    private void recordLoadTime(K key) {
+
+        if (getRefreshAheadSeconds() <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (loadTimes.size() >= MAX_TRACKED_LOAD_TIMES) {
+            // Drop the load times of entries which have expired from the cache
+            long expiryMillis = TimeUnit.MINUTES.toMillis(getCacheModifiedExpiryMinutes());
+            loadTimes.values().removeIf(loadTime -> now - loadTime >= expiryMillis);
+        }
+        loadTimes.put(key, now);
+    }
+
+    /**
+     * Run an operation on the cache of this instance. The cache is resolved again and the operation retried once if
+     * the memoized cache is no longer usable.
+     *
+     * @param operation operation on the cache.
+     * @return result of the operation.
+     */
+    private <R> R withBaseCache(CacheOperation<K, V, R> operation) {
+
+        Cache<K, V> cache = getCacheHandle().cache;
+        try {
+            return operation.apply(cache);
+        } catch (IllegalStateException e) {
+            log.debug("Cache handle is no longer usable. Resolving the cache again", e);
+            cacheHandle = null;
+            return operation.apply(getCacheHandle().cache);
+        }
     }
 
     /**
-     * Get Cache for instance.
+     * Get Cache for instance. The cache is resolved once per cache manager, as cache managers are scoped to the
+     * tenant of the calling thread.
      *
-     * @return Cache instance.
+     * @return Cache instance with its near cache.
      */
-    private Cache<K, V> getBaseCache() {
+    private CacheHandle<K, V> getCacheHandle() {
 
         CacheManager cacheManager = Caching.getCacheManager(BASE_CACHE_KEY);
+        CacheHandle<K, V> handle = cacheHandle;
+        if (handle != null && handle.cacheManager == cacheManager) {
+            return handle;
+        }
+
+        handle = new CacheHandle<>(cacheManager, resolveBaseCache(cacheManager), resolveNearCache(cacheManager));
+        cacheHandle = handle;
+        return handle;
+    }
+
+    private NearCache<K, V> resolveNearCache(CacheManager cacheManager) {
+
+        if (!nearCacheEnabled) {
+            return null;
+        }
+        synchronized (nearCaches) {
+            NearCache<K, V> nearCache = nearCaches.get(cacheManager);
+            if (nearCache != null || !nearCacheEnabled) {
+                return nearCache;
+            }
+            nearCache = createNearCache();
+            if (nearCache == null) {
+                nearCacheEnabled = false;
+                return null;
+            }
+            if (!subscribedToInvalidations) {
+                NearCacheInvalidationChannel.getInstance().subscribe(cacheName, this::invalidateNearCaches);
+                subscribedToInvalidations = true;
+            }
+            nearCaches.put(cacheManager, nearCache);
+            return nearCache;
+        }
+    }
+
+    /**
+     * Invalidate an entry in the near caches of all the cache managers, as invalidations do not carry the tenant.
+     *
+     * @param key invalidated key, null if all the entries are invalidated.
+     */
+    private void invalidateNearCaches(FinancialServicesBaseCacheKey key) {
+
+        synchronized (nearCaches) {
+            for (NearCache<K, V> nearCache : nearCaches.values()) {
+                if (key == null) {
+                    nearCache.invalidateAll();
+                } else {
+                    nearCache.invalidate((K) key);
+                }
+            }
+        }
+    }
+
+    private Cache<K, V> resolveBaseCache(CacheManager cacheManager) {
 
         Iterable<Cache<?, ?>> availableCaches = cacheManager.getCaches();
         for (Cache cache : availableCaches) {
@@ -194,7 +487,6 @@ public abstract class FinancialServicesBaseCache<K extends FinancialServicesBase
 
     }
 
-
     /**
      * Get Cache expiry time upon access in minutes.
      *
@@ -209,4 +501,29 @@ public abstract class FinancialServicesBaseCache<K extends FinancialServicesBase
      */
     public abstract int getCacheModifiedExpiryMinutes();
 
+    /**
+     * Operation on a cache.
+     */
+    @FunctionalInterface
+    private interface CacheOperation<K, V, R> {
+
+        R apply(Cache<K, V> cache);
+    }
+
+    /**
+     * Cache and near cache resolved for a cache manager.
+     */
+    private static final class CacheHandle<K, V> {
+
+        private final CacheManager cacheManager;
+        private final Cache<K, V> cache;
+        private final NearCache<K, V> nearCache;
+
+        private CacheHandle(CacheManager cacheManager, Cache<K, V> cache, NearCache<K, V> nearCache) {
+
+            this.cacheManager = cacheManager;
+            this.cache = cache;
+            this.nearCache = nearCache;
+        }
+    }
 }
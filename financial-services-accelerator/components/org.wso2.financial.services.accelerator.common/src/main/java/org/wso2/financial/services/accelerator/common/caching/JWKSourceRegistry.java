@@ -0,0 +1,223 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.caching;
+
+import com.nimbusds.jose.jwk.source.RemoteJWKSet;
+import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.nimbusds.jose.util.ResourceRetriever;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Process wide registry of cached JWK sources keyed by JWKS URI.
+ * <p>
+ * Every JWKS URI gets a single {@link CachedJWKSource} for the lifetime of the server, so repeated signature
+ * validations against the same TPP reuse the fetched key set instead of calling the JWKS host per request.
+ * JWKS URIs come from software statements, so the registry holds at most a configured number of sources and
+ * drops the least recently used one when it is full.
+ */
+public class JWKSourceRegistry {
+
+    private static final Log log = LogFactory.getLog(JWKSourceRegistry.class);
+    private static final int DEFAULT_CONNECTION_TIMEOUT = 3000;
+    private static final int DEFAULT_READ_TIMEOUT = 3000;
+    private static volatile JWKSourceRegistry instance;
+
+    private final Map<String, CachedJWKSource> jwkSources;
+    private final ResourceRetriever resourceRetriever;
+    private final ExecutorService refreshExecutor;
+    private final Clock clock;
+    private final long timeToLiveMillis;
+    private final long refreshAheadMillis;
+    private final long minRefreshIntervalMillis;
+    private final long staleTimeMillis;
+
+    /**
+     * Create a registry with explicit settings.
+     *
+     * @param resourceRetriever        retriever used to fetch JWKS documents
+     * @param clock                    clock used to evaluate expiry
+     * @param timeToLiveMillis         time a fetched key set is considered fresh
+     * @param refreshAheadMillis       window before expiry in which a background refresh is triggered
+     * @param minRefreshIntervalMillis minimum time between two fetches from the same JWKS host
+     * @param staleTimeMillis          time after expiry in which the last key set is served if the host is down
+     * @param maxEntries               maximum number of JWK sources held by the registry
+     */
+    public JWKSourceRegistry(ResourceRetriever resourceRetriever, Clock clock, long timeToLiveMillis,
+                             long refreshAheadMillis, long minRefreshIntervalMillis, long staleTimeMillis,
+                             int maxEntries) {
+
+        this.jwkSources = new LinkedHashMap<String, CachedJWKSource>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedJWKSource> eldest) {
+
+                boolean evict = size() > maxEntries;
+                if (evict && log.isDebugEnabled()) {
+                    log.debug(String.format("Evicting JWK source for %s",
+                            eldest.getKey().replaceAll("[\r\n]", "")));
+                }
+                return evict;
+            }
+        };
+        this.resourceRetriever = resourceRetriever;
+        this.clock = clock;
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.refreshAheadMillis = refreshAheadMillis;
+        this.minRefreshIntervalMillis = minRefreshIntervalMillis;
+        this.staleTimeMillis = staleTimeMillis;
+        this.refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fs-jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Get the registry configured from financial-services.xml.
+     *
+     * @return JWK source registry
+     */
+    public static JWKSourceRegistry getInstance() {
+
+        if (instance == null) {
+            synchronized (JWKSourceRegistry.class) {
+                if (instance == null) {
+                    instance = createFromConfig();
+                }
+            }
+        }
+        return instance;
+    }
+
+    private static JWKSourceRegistry createFromConfig() {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        int connectionTimeout = Integer.parseInt(configParser.getJWKSConnectionTimeOut());
+        int readTimeout = Integer.parseInt(configParser.getJWKSReadTimeOut());
+        if (connectionTimeout == 0 && readTimeout == 0) {
+            connectionTimeout = DEFAULT_CONNECTION_TIMEOUT;
+            readTimeout = DEFAULT_READ_TIMEOUT;
+        }
+        ResourceRetriever resourceRetriever = new DefaultResourceRetriever(connectionTimeout, readTimeout,
+                RemoteJWKSet.DEFAULT_HTTP_SIZE_LIMIT);
+
+        return new JWKSourceRegistry(resourceRetriever, Clock.systemUTC(),
+                TimeUnit.SECONDS.toMillis(configParser.getJWKSCacheTimeToLiveInSeconds()),
+                TimeUnit.SECONDS.toMillis(configParser.getJWKSCacheRefreshAheadTimeInSeconds()),
+                TimeUnit.SECONDS.toMillis(configParser.getJWKSCacheMinRefreshIntervalInSeconds()),
+                TimeUnit.SECONDS.toMillis(configParser.getJWKSCacheStaleTimeInSeconds()),
+                configParser.getJWKSCacheMaxEntries());
+    }
+
+    /**
+     * Get the shared JWK source for a JWKS URI, creating it on first use.
+     *
+     * @param jwksUri JWKS URI
+     * @return cached JWK source
+     * @throws MalformedURLException if the JWKS URI is not a valid URL
+     */
+    public CachedJWKSource getJWKSource(String jwksUri) throws MalformedURLException {
+
+        synchronized (jwkSources) {
+            CachedJWKSource jwkSource = jwkSources.get(jwksUri);
+            if (jwkSource != null) {
+                return jwkSource;
+            }
+        }
+
+        URL jwksURL = new URL(jwksUri);
+        synchronized (jwkSources) {
+            return jwkSources.computeIfAbsent(jwksUri, uri -> {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Registering JWK source for %s", uri.replaceAll("[\r\n]", "")));
+                }
+                return new CachedJWKSource(jwksURL, resourceRetriever, refreshExecutor, clock, timeToLiveMillis,
+                        refreshAheadMillis, minRefreshIntervalMillis, staleTimeMillis);
+            });
+        }
+    }
+
+    /**
+     * Get the registered JWK sources keyed by JWKS URI.
+     *
+     * @return unmodifiable snapshot of the registered JWK sources
+     */
+    public Map<String, CachedJWKSource> getJWKSources() {
+
+        synchronized (jwkSources) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(jwkSources));
+        }
+    }
+
+    public long getHitCount() {
+
+        return getSources().stream().mapToLong(CachedJWKSource::getHitCount).sum();
+    }
+
+    public long getMissCount() {
+
+        return getSources().stream().mapToLong(CachedJWKSource::getMissCount).sum();
+    }
+
+    public long getRefreshCount() {
+
+        return getSources().stream().mapToLong(CachedJWKSource::getRefreshCount).sum();
+    }
+
+    public long getRefreshFailureCount() {
+
+        return getSources().stream().mapToLong(CachedJWKSource::getRefreshFailureCount).sum();
+    }
+
+    public long getStaleServeCount() {
+
+        return getSources().stream().mapToLong(CachedJWKSource::getStaleServeCount).sum();
+    }
+
+    private List<CachedJWKSource> getSources() {
+
+        synchronized (jwkSources) {
+            return new ArrayList<>(jwkSources.values());
+        }
+    }
+
+    /**
+     * Stop the background refresh thread.
+     */
+    public void shutdown() {
+
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.caching;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size bounded in-process cache held in front of the cache of a {@link FinancialServicesBaseCache}.
+ * <p>
+ * Entries are evicted in least recently used order once the maximum number of entries is reached and expire after
+ * the time to live, which is expected to be short as entries are only invalidated by the other nodes on a best
+ * effort basis.
+ *
+ * @param <K>   Cache Key
+ * @param <V>   Cache Value
+ */
+public class NearCache<K, V> {
+
+    private final int maxEntries;
+    private final long timeToLiveMillis;
+    private final Clock clock;
+    private final Map<K, Entry<V>> entries;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public NearCache(int maxEntries, long timeToLiveMillis, Clock clock) {
+
+        this.maxEntries = maxEntries;
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+
+                if (size() > NearCache.this.maxEntries) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get an entry which has not expired.
+     *
+     * @param key cache key.
+     * @return cached value, null if not cached.
+     */
+    public V get(K key) {
+
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && entry.expiryTime <= clock.millis()) {
+                entries.remove(key);
+                entry = null;
+            }
+            if (entry == null) {
+                missCount.increment();
+                return null;
+            }
+            hitCount.increment();
+            return entry.value;
+        }
+    }
+
+    public void put(K key, V value) {
+
+        if (value == null) {
+            invalidate(key);
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, clock.millis() + timeToLiveMillis));
+        }
+    }
+
+    public void invalidate(K key) {
+
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+
+        return evictionCount.sum();
+    }
+
+    /**
+     * Cached value with its expiry time.
+     */
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long expiryTime;
+
+        private Entry(V value, long expiryTime) {
+
+            this.value = value;
+            this.expiryTime = expiryTime;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.caching;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Channel through which the near caches of a cache are invalidated when an entry of the cache is modified.
+ * <p>
+ * Invalidations are delivered to the near caches of this node on the publishing thread and handed to the
+ * {@link Transport} of the deployment, if one is set, to reach the other nodes of the cluster. A transport delivers
+ * the invalidations received from the other nodes through {@link #onRemoteInvalidation(String,
+ * FinancialServicesBaseCacheKey)}. Without a transport invalidations stay within this node. The common component
+ * sets a {@link ClusteringNearCacheInvalidationTransport} once the configuration context of the server is available.
+ */
+public class NearCacheInvalidationChannel {
+
+    private static final Log log = LogFactory.getLog(NearCacheInvalidationChannel.class);
+    private static volatile NearCacheInvalidationChannel instance;
+
+    private final Map<String, List<Consumer<FinancialServicesBaseCacheKey>>> subscribers = new ConcurrentHashMap<>();
+    private volatile Transport transport;
+
+    /**
+     * Transport carrying invalidations to the other nodes of the cluster.
+     */
+    public interface Transport {
+
+        /**
+         * Send an invalidation to the other nodes.
+         *
+         * @param cacheName name of the cache.
+         * @param key       invalidated key, null if all the entries are invalidated.
+         */
+        void send(String cacheName, FinancialServicesBaseCacheKey key);
+    }
+
+    public static NearCacheInvalidationChannel getInstance() {
+
+        if (instance == null) {
+            synchronized (NearCacheInvalidationChannel.class) {
+                if (instance == null) {
+                    instance = new NearCacheInvalidationChannel();
+                }
+            }
+        }
+        return instance;
+    }
+
+    public void setTransport(Transport transport) {
+
+        this.transport = transport;
+    }
+
+    /**
+     * Subscribe to invalidations of a cache.
+     *
+     * @param cacheName  name of the cache.
+     * @param subscriber consumer of the invalidated key, which is null if all the entries are invalidated.
+     */
+    public void subscribe(String cacheName, Consumer<FinancialServicesBaseCacheKey> subscriber) {
+
+        subscribers.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(subscriber);
+    }
+
+    public void unsubscribe(String cacheName, Consumer<FinancialServicesBaseCacheKey> subscriber) {
+
+        List<Consumer<FinancialServicesBaseCacheKey>> cacheSubscribers = subscribers.get(cacheName);
+        if (cacheSubscribers != null) {
+            cacheSubscribers.remove(subscriber);
+        }
+    }
+
+    /**
+     * Invalidate an entry of a cache on this node and on the other nodes.
+     *
+     * @param cacheName name of the cache.
+     * @param key       invalidated key, null if all the entries are invalidated.
+     */
+    public void publish(String cacheName, FinancialServicesBaseCacheKey key) {
+
+        deliver(cacheName, key);
+        Transport currentTransport = transport;
+        if (currentTransport != null) {
+            try {
+                currentTransport.send(cacheName, key);
+            } catch (RuntimeException e) {
+                log.error(String.format("Error occurred while sending a near cache invalidation of cache %s",
+                        cacheName.replaceAll("[\r\n]", "")), e);
+            }
+        }
+    }
+
+    /**
+     * Invalidate an entry of a cache on this node upon an invalidation received from another node.
+     *
+     * @param cacheName name of the cache.
+     * @param key       invalidated key, null if all the entries are invalidated.
+     */
+    public void onRemoteInvalidation(String cacheName, FinancialServicesBaseCacheKey key) {
+
+        deliver(cacheName, key);
+    }
+
+    private void deliver(String cacheName, FinancialServicesBaseCacheKey key) {
+
+        List<Consumer<FinancialServicesBaseCacheKey>> cacheSubscribers = subscribers.get(cacheName);
+        if (cacheSubscribers == null) {
+            return;
+        }
+        for (Consumer<FinancialServicesBaseCacheKey> subscriber : cacheSubscribers) {
+            try {
+                subscriber.accept(key);
+            } catch (RuntimeException e) {
+                log.error("Error occurred while notifying a near cache invalidation subscriber", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.caching;
+
+import org.apache.axis2.clustering.ClusteringCommand;
+import org.apache.axis2.clustering.ClusteringMessage;
+import org.apache.axis2.context.ConfigurationContext;
+
+import java.io.Serializable;
+
+/**
+ * Cluster message carrying a near cache invalidation to the other nodes of the cluster.
+ */
+public class NearCacheInvalidationMessage extends ClusteringMessage {
+
+    private static final long serialVersionUID = 4630713512846178823L;
+
+    private final String cacheName;
+    private final Serializable key;
+
+    /**
+     * Create an invalidation message.
+     *
+     * @param cacheName name of the cache.
+     * @param key       invalidated key, null if all the entries are invalidated.
+     */
+    public NearCacheInvalidationMessage(String cacheName, Serializable key) {
+
+        this.cacheName = cacheName;
+        this.key = key;
+    }
+
+    public String getCacheName() {
+
+        return cacheName;
+    }
+
+    public Serializable getKey() {
+
+        return key;
+    }
+
+    @Override
+    public void execute(ConfigurationContext configurationContext) {
+
+        NearCacheInvalidationChannel.getInstance().onRemoteInvalidation(cacheName,
+                (FinancialServicesBaseCacheKey) key);
+    }
+
+    @Override
+    public ClusteringCommand getResponse() {
+
+        return null;
+    }
+}
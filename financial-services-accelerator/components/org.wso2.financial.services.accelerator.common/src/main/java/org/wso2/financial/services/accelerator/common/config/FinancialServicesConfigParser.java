@@ -545,6 +545,102 @@ public final class FinancialServicesConfigParser {
         return source.map(String::trim).orElse("3000");
     }
 
+    /**
+     * Returns the time a fetched JWK set is served from the JWKS cache without a refresh.
+     *
+     * @return time to live in seconds, default value is 900
+     */
+    public int getJWKSCacheTimeToLiveInSeconds() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(FinancialServicesConstants.JWKS_CACHE_TIME_TO_LIVE);
+        return config.map(String::trim).map(Integer::parseInt).orElse(900);
+    }
+
+    /**
+     * Returns the window before expiry in which a cached JWK set is refreshed in the background.
+     *
+     * @return refresh ahead time in seconds, default value is 60
+     */
+    public int getJWKSCacheRefreshAheadTimeInSeconds() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.JWKS_CACHE_REFRESH_AHEAD_TIME);
+        return config.map(String::trim).map(Integer::parseInt).orElse(60);
+    }
+
+    /**
+     * Returns the minimum time between two fetches of the same JWKS URI.
+     *
+     * @return minimum refresh interval in seconds, default value is 30
+     */
+    public int getJWKSCacheMinRefreshIntervalInSeconds() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.JWKS_CACHE_MIN_REFRESH_INTERVAL);
+        return config.map(String::trim).map(Integer::parseInt).orElse(30);
+    }
+
+    /**
+     * Returns the time after expiry in which the last fetched JWK set is served when the JWKS host is unreachable.
+     *
+     * @return stale time in seconds, default value is 3600
+     */
+    public int getJWKSCacheStaleTimeInSeconds() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(FinancialServicesConstants.JWKS_CACHE_STALE_TIME);
+        return config.map(String::trim).map(Integer::parseInt).orElse(3600);
+    }
+
+    /**
+     * Returns the maximum number of JWKS URIs held in the JWKS cache.
+     *
+     * @return maximum number of cached JWKS URIs, default value is 1000
+     */
+    public int getJWKSCacheMaxEntries() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(FinancialServicesConstants.JWKS_CACHE_MAX_ENTRIES);
+        return config.map(String::trim).map(Integer::parseInt).orElse(1000);
+    }
+
+    /**
+     * Returns whether a near cache is held in front of a cache.
+     *
+     * @param cacheName name of the cache
+     * @return true if the near cache is enabled, default value is false
+     */
+    public boolean isNearCacheEnabled(String cacheName) {
+
+        Optional<String> config = getConfigurationFromKeyAsString(FinancialServicesConstants.NEAR_CACHE_CONFIG_PREFIX +
+                cacheName + FinancialServicesConstants.NEAR_CACHE_ENABLED);
+        return config.map(String::trim).map(Boolean::parseBoolean).orElse(false);
+    }
+
+    /**
+     * Returns the maximum number of entries held in the near cache of a cache.
+     *
+     * @param cacheName name of the cache
+     * @return maximum number of entries, default value is 1000
+     */
+    public int getNearCacheMaxEntries(String cacheName) {
+
+        Optional<String> config = getConfigurationFromKeyAsString(FinancialServicesConstants.NEAR_CACHE_CONFIG_PREFIX +
+                cacheName + FinancialServicesConstants.NEAR_CACHE_MAX_ENTRIES);
+        return config.map(String::trim).map(Integer::parseInt).orElse(1000);
+    }
+
+    /**
+     * Returns the time an entry is served from the near cache of a cache.
+     *
+     * @param cacheName name of the cache
+     * @return time to live in seconds, default value is 30
+     */
+    public int getNearCacheTimeToLiveInSeconds(String cacheName) {
+
+        Optional<String> config = getConfigurationFromKeyAsString(FinancialServicesConstants.NEAR_CACHE_CONFIG_PREFIX +
+                cacheName + FinancialServicesConstants.NEAR_CACHE_TIME_TO_LIVE);
+        return config.map(String::trim).map(Integer::parseInt).orElse(30);
+    }
+
     /**
      * ConnectionPool maximum connection count.
      *
@@ -701,6 +797,42 @@ public final class FinancialServicesConfigParser {
         return config.map(Integer::parseInt).orElse(5);
     }
 
+    /**
+     * Method to get whether event polling requests may wait for notifications instead of returning immediately.
+     *
+     * @return long polling is enabled, default value is false
+     */
+    public boolean isLongPollingEnabled() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(FinancialServicesConstants.LONG_POLLING_ENABLED);
+        return config.map(String::trim).map(Boolean::parseBoolean).orElse(false);
+    }
+
+    /**
+     * Method to get the maximum time a long polling request waits for notifications.
+     *
+     * @return maximum wait time in seconds, default value is 30
+     */
+    public int getLongPollingMaxWaitInSeconds() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.LONG_POLLING_MAX_WAIT_IN_SECONDS);
+        return config.map(String::trim).map(Integer::parseInt).orElse(30);
+    }
+
+    /**
+     * Method to get the signal used to wake up long polling requests when notifications are created.
+     *
+     * @return fully qualified name of the wake-up signal class
+     */
+    public String getLongPollingWakeUpSignal() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.LONG_POLLING_WAKE_UP_SIGNAL);
+        return config.map(String::trim).orElse("org.wso2.financial.services.accelerator.event.notifications." +
+                "service.polling.LocalEventPollingWakeUpSignal");
+    }
+
     public boolean isSubClaimIncluded() {
 
         Optional<String> config = getConfigurationFromKeyAsString(FinancialServicesConstants.IS_SUB_CLAIM_INCLUDED);
@@ -731,17 +863,6 @@ public final class FinancialServicesConfigParser {
         return config.map(Boolean::parseBoolean).orElse(false);
     }
 
-    /**
-     * Method to get periodic Cron expression config for realtime event notifications scheduler.
-     *
-     * @return String Cron expression to trigger the Cron job for real-time event notification
-     */
-    public String getRealtimeEventNotificationSchedulerCronExpression() {
-
-        Optional<String> source = getConfigurationFromKeyAsString(FinancialServicesConstants.PERIODIC_CRON_EXPRESSION);
-        return source.map(String::trim).orElse("0 0/1 0 ? * * *");
-    }
-
     /**
      * Method to get TIMEOUT_IN_SECONDS config for realtime event notifications.
      *
@@ -812,6 +933,113 @@ public final class FinancialServicesConfigParser {
         return config.map(Integer::parseInt).orElse(20);
     }
 
+    /**
+     * Method to get MAX_IN_FLIGHT_REQUESTS_PER_HOST config for realtime event notifications.
+     *
+     * @return integer maximum number of concurrent requests sent to a single callback host
+     */
+    public int getRealtimeEventNotificationMaxInFlightRequestsPerHost() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.MAX_IN_FLIGHT_REQUESTS_PER_HOST);
+        return config.map(String::trim).map(Integer::parseInt).orElse(4);
+    }
+
+    /**
+     * Method to get the failure rate at which the circuit breaker of a callback host opens.
+     *
+     * @return failure rate threshold as a percentage, default value is 50
+     */
+    public int getHostCircuitBreakerFailureRateThreshold() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.HOST_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD);
+        return config.map(String::trim).map(Integer::parseInt).orElse(50);
+    }
+
+    /**
+     * Method to get the number of recent requests to a callback host used to calculate its failure rate.
+     *
+     * @return sliding window size, default value is 20
+     */
+    public int getHostCircuitBreakerSlidingWindowSize() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.HOST_CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE);
+        return config.map(String::trim).map(Integer::parseInt).orElse(20);
+    }
+
+    /**
+     * Method to get the time the circuit breaker of a callback host stays open before probe requests are sent.
+     *
+     * @return wait duration in seconds, default value is 60
+     */
+    public int getHostCircuitBreakerWaitDurationInOpenStateInSeconds() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.HOST_CIRCUIT_BREAKER_WAIT_DURATION_IN_OPEN_STATE_IN_SECONDS);
+        return config.map(String::trim).map(Integer::parseInt).orElse(60);
+    }
+
+    /**
+     * Method to get the number of probe requests sent to a callback host while its circuit breaker is half open.
+     *
+     * @return permitted number of probe requests, default value is 3
+     */
+    public int getHostCircuitBreakerPermittedCallsInHalfOpenState() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.HOST_CIRCUIT_BREAKER_PERMITTED_CALLS_IN_HALF_OPEN_STATE);
+        return config.map(String::trim).map(Integer::parseInt).orElse(3);
+    }
+
+    /**
+     * Method to get the time a delivery worker holds a claimed realtime event notification unless it renews the claim.
+     *
+     * @return lease duration in seconds, default value is 60
+     */
+    public int getRealtimeEventNotificationOutboxLeaseDurationInSeconds() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.OUTBOX_LEASE_DURATION_IN_SECONDS);
+        return config.map(String::trim).map(Integer::parseInt).orElse(60);
+    }
+
+    /**
+     * Method to get the maximum number of realtime event notifications claimed from the outbox at once.
+     *
+     * @return claim batch size, default value is 100
+     */
+    public int getRealtimeEventNotificationOutboxClaimBatchSize() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(FinancialServicesConstants.OUTBOX_CLAIM_BATCH_SIZE);
+        return config.map(String::trim).map(Integer::parseInt).orElse(100);
+    }
+
+    /**
+     * Method to get the maximum number of realtime event notifications a delivery worker delivers at a time.
+     *
+     * @return maximum number of notifications in progress, default value is 1000
+     */
+    public int getRealtimeEventNotificationOutboxMaxInProgressNotifications() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.OUTBOX_MAX_IN_PROGRESS_NOTIFICATIONS);
+        return config.map(String::trim).map(Integer::parseInt).orElse(1000);
+    }
+
+    /**
+     * Method to get the interval at which the outbox is polled for realtime event notifications.
+     *
+     * @return poll interval in milliseconds, default value is 1000
+     */
+    public int getRealtimeEventNotificationOutboxPollIntervalInMillis() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.OUTBOX_POLL_INTERVAL_IN_MILLIS);
+        return config.map(String::trim).map(Integer::parseInt).orElse(1000);
+    }
+
     /**
      * Method to get EVENT_NOTIFICATION_GENERATOR config for event notifications.
      *
@@ -1068,6 +1296,179 @@ public final class FinancialServicesConfigParser {
         return config.map(String::trim).orElse(FinancialServicesConstants.DEFAULT_MIDNIGHT_CRON);
     }
 
+    /**
+     * Method to get the number of consents expired in a transaction by the periodical consent expiration job.
+     * @return consent expiration batch size, default value is 500
+     */
+    public int getConsentExpiryBatchSize() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.CONSENT_PERIODICAL_EXPIRATION_BATCH_SIZE);
+        return config.map(String::trim).map(Integer::parseInt).orElse(500);
+    }
+
+    /**
+     * Returns the time the data of an authorization session is kept in the authorization session store.
+     *
+     * @return time to live in seconds, default value is 3600
+     */
+    public long getAuthorizationSessionTimeToLiveInSeconds() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.AUTHORIZATION_SESSION_TIME_TO_LIVE);
+        return config.map(String::trim).map(Long::parseLong).orElse(3600L);
+    }
+
+    /**
+     * Returns the cron expression of the job removing the expired authorization sessions.
+     *
+     * @return authorization session cleanup job's cron string, default value runs the job every 15 minutes
+     */
+    public String getAuthorizationSessionCleanupCronExpression() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.AUTHORIZATION_SESSION_CLEANUP_CRON);
+        return config.map(String::trim).orElse(FinancialServicesConstants.DEFAULT_AUTHORIZATION_SESSION_CLEANUP_CRON);
+    }
+
+    /**
+     * Returns whether the consent data of an authorization flow is looked up in the consent attributes when it is not
+     * in the authorization session store. Consent data was stored as a consent attribute before the authorization
+     * session store was introduced, and the lookup scans the consent attributes.
+     *
+     * @return true if the consent attributes are looked up, enabled by default
+     */
+    public boolean isAuthorizationSessionLegacyAttributeFallbackEnabled() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.AUTHORIZATION_SESSION_LEGACY_ATTRIBUTE_FALLBACK_ENABLED);
+        return config.map(String::trim).map(Boolean::parseBoolean).orElse(true);
+    }
+
+    /**
+     * Returns the maximum number of JTIs kept in the local tier of the JTI replay store. Once the local tier is full,
+     * JTIs are checked against the database only.
+     *
+     * @return maximum number of local JTI entries, default value is 10000
+     */
+    public int getJtiReplayStoreLocalMaxEntries() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.JTI_REPLAY_STORE_LOCAL_MAX_ENTRIES);
+        return config.map(String::trim).map(Integer::parseInt).orElse(10000);
+    }
+
+    /**
+     * Returns the time a JTI is kept in the JTI replay store when its JWT does not carry an expiry time.
+     *
+     * @return default JTI expiry in seconds, default value is 3600
+     */
+    public long getJtiReplayStoreDefaultExpiryInSeconds() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.JTI_REPLAY_STORE_DEFAULT_EXPIRY);
+        return config.map(String::trim).map(Long::parseLong).orElse(3600L);
+    }
+
+    /**
+     * Returns the cron expression of the job removing the expired JTIs from the JTI replay store.
+     *
+     * @return JTI cleanup job's cron string, default value runs the job every 15 minutes
+     */
+    public String getJtiReplayStoreCleanupCronExpression() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.JTI_REPLAY_STORE_CLEANUP_CRON);
+        return config.map(String::trim).orElse(FinancialServicesConstants.DEFAULT_JTI_REPLAY_STORE_CLEANUP_CRON);
+    }
+
+    /**
+     * Returns whether detailed consents read on the consent validation path are cached.
+     *
+     * @return detailed consent cache is enabled, default value is false
+     */
+    public boolean isDetailedConsentCacheEnabled() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.DETAILED_CONSENT_CACHE_ENABLED);
+        return config.map(String::trim).map(Boolean::parseBoolean).orElse(false);
+    }
+
+    /**
+     * Returns the time a cached detailed consent is served before it is read from the database again.
+     *
+     * @return time to live in seconds, default value is 60
+     */
+    public int getDetailedConsentCacheTimeToLiveInSeconds() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.DETAILED_CONSENT_CACHE_TIME_TO_LIVE);
+        return config.map(String::trim).map(Integer::parseInt).orElse(60);
+    }
+
+    /**
+     * Returns the maximum number of detailed consents kept in the cache.
+     *
+     * @return maximum entry count, default value is 10000
+     */
+    public int getDetailedConsentCacheMaxEntries() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.DETAILED_CONSENT_CACHE_MAX_ENTRIES);
+        return config.map(String::trim).map(Integer::parseInt).orElse(10000);
+    }
+
+    /**
+     * Returns whether the total of an unfiltered admin consent search may be estimated from the database statistics.
+     *
+     * @return true if an approximate total is acceptable, default value is false
+     */
+    public boolean isAdminSearchApproximateTotalEnabled() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.ADMIN_SEARCH_APPROXIMATE_TOTAL_ENABLED);
+        return config.map(String::trim).map(Boolean::parseBoolean).orElse(false);
+    }
+
+    /**
+     * Returns the database types for which the consent search loads the child resources of a page of consents in
+     * batched queries instead of aggregating them in the search query.
+     *
+     * @return list of database types, empty by default
+     */
+    public List<String> getConsentSearchBatchedChildFetchDatabases() {
+
+        Object databasesObj =
+                configuration.get(FinancialServicesConstants.CONSENT_SEARCH_BATCHED_CHILD_FETCH_DATABASES);
+        List<String> databases = new ArrayList<>();
+        if (databasesObj instanceof List) {
+            databases.addAll((List) databasesObj);
+        } else if (databasesObj instanceof String) {
+            databases.add((String) databasesObj);
+        }
+
+        return databases;
+    }
+
+    /**
+     * Returns the consent attribute keys whose values are indexed for the consent lookup by attribute name and value.
+     * Attributes of these keys stored before the key is configured are not found by the lookup.
+     *
+     * @return list of consent attribute keys, empty by default
+     */
+    public List<String> getConsentAttributeLookupKeys() {
+
+        Object keysObj = configuration.get(FinancialServicesConstants.CONSENT_ATTRIBUTE_LOOKUP_KEYS);
+        List<String> keys = new ArrayList<>();
+        if (keysObj instanceof List) {
+            keys.addAll((List) keysObj);
+        } else if (keysObj instanceof String) {
+            keys.add((String) keysObj);
+        }
+
+        return keys;
+    }
+
     /**
      * Returns the JSON path to extract the consent ID from the request object.
      *
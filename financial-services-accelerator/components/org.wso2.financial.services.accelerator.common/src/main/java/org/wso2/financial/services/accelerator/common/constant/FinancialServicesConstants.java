@@ -36,6 +36,15 @@ public class FinancialServicesConstants {
     public static final String COMMON_IDENTITY_CACHE_MODIFY_EXPIRY = "Common.Identity.Cache.CacheModifiedExpiry";
     public static final String JWKS_CONNECTION_TIMEOUT = "JWKS-Retriever.ConnectionTimeout";
     public static final String JWKS_READ_TIMEOUT = "JWKS-Retriever.ReadTimeout";
+    public static final String JWKS_CACHE_TIME_TO_LIVE = "JWKS-Retriever.Cache.TimeToLiveInSeconds";
+    public static final String JWKS_CACHE_REFRESH_AHEAD_TIME = "JWKS-Retriever.Cache.RefreshAheadTimeInSeconds";
+    public static final String JWKS_CACHE_MIN_REFRESH_INTERVAL = "JWKS-Retriever.Cache.MinRefreshIntervalInSeconds";
+    public static final String JWKS_CACHE_STALE_TIME = "JWKS-Retriever.Cache.StaleTimeInSeconds";
+    public static final String JWKS_CACHE_MAX_ENTRIES = "JWKS-Retriever.Cache.MaxEntries";
+    public static final String NEAR_CACHE_CONFIG_PREFIX = "Cache.NearCache.";
+    public static final String NEAR_CACHE_ENABLED = ".Enabled";
+    public static final String NEAR_CACHE_MAX_ENTRIES = ".MaxEntries";
+    public static final String NEAR_CACHE_TIME_TO_LIVE = ".TimeToLiveInSeconds";
     public static final String JDBC_PERSISTENCE_CONFIG = "JDBCPersistenceManager.DataSource.Name";
     public static final String DB_CONNECTION_VERIFICATION_TIMEOUT =
             "JDBCPersistenceManager.ConnectionVerificationTimeout";
@@ -69,6 +78,22 @@ public class FinancialServicesConstants {
     public static final String IS_CONSENT_AMENDMENT_HISTORY_ENABLED = "Consent.AmendmentHistory.Enabled";
     public static final String CONSENT_PERIODICAL_EXPIRATION_CRON = "Consent.PeriodicalExpiration.CronValue";
     public static final String IS_CONSENT_PERIODICAL_EXPIRATION_ENABLED = "Consent.PeriodicalExpiration.Enabled";
+    public static final String CONSENT_PERIODICAL_EXPIRATION_BATCH_SIZE = "Consent.PeriodicalExpiration.BatchSize";
+    public static final String DETAILED_CONSENT_CACHE_ENABLED = "Consent.DetailedConsentCache.Enabled";
+    public static final String DETAILED_CONSENT_CACHE_TIME_TO_LIVE =
+            "Consent.DetailedConsentCache.TimeToLiveInSeconds";
+    public static final String DETAILED_CONSENT_CACHE_MAX_ENTRIES = "Consent.DetailedConsentCache.MaxEntries";
+    public static final String ADMIN_SEARCH_APPROXIMATE_TOTAL_ENABLED = "Consent.AdminSearch.ApproximateTotalEnabled";
+    public static final String CONSENT_SEARCH_BATCHED_CHILD_FETCH_DATABASES =
+            "Consent.Search.BatchedChildFetchDatabases.Database";
+    public static final String CONSENT_ATTRIBUTE_LOOKUP_KEYS = "Consent.AttributeLookup.Keys.Key";
+    public static final String AUTHORIZATION_SESSION_TIME_TO_LIVE =
+            "Consent.AuthorizationSession.TimeToLiveInSeconds";
+    public static final String AUTHORIZATION_SESSION_CLEANUP_CRON =
+            "Consent.AuthorizationSession.CleanupCronExpression";
+    public static final String AUTHORIZATION_SESSION_LEGACY_ATTRIBUTE_FALLBACK_ENABLED =
+            "Consent.AuthorizationSession.LegacyAttributeFallbackEnabled";
+    public static final String DEFAULT_AUTHORIZATION_SESSION_CLEANUP_CRON = "0 0/15 * * * ?";
 
     public static final String AUTH_SERVLET_EXTENSION = "Identity.AuthenticationWebApp.ServletExtension";
     public static final String REQUEST_VALIDATOR = "Identity.Extensions.RequestObjectValidator";
@@ -102,6 +127,13 @@ public class FinancialServicesConstants {
     public static final String CONDITIONAL_AUTH_SCRIPT_NAME = "AppRegistration.ConditionalAuthScriptFileName";
     public static final String JTI_CACHE_ACCESS_EXPIRY = "AppRegistration.DCR.JTICache.CacheAccessExpiry";
     public static final String JTI_CACHE_MODIFY_EXPIRY = "AppRegistration.DCR.JTICache.CacheModifiedExpiry";
+    public static final String JTI_REPLAY_STORE_LOCAL_MAX_ENTRIES =
+            "AppRegistration.DCR.JTIReplayStore.LocalMaxEntries";
+    public static final String JTI_REPLAY_STORE_DEFAULT_EXPIRY =
+            "AppRegistration.DCR.JTIReplayStore.DefaultExpiryInSeconds";
+    public static final String JTI_REPLAY_STORE_CLEANUP_CRON =
+            "AppRegistration.DCR.JTIReplayStore.CleanupCronExpression";
+    public static final String DEFAULT_JTI_REPLAY_STORE_CLEANUP_CRON = "0 0/15 * * * ?";
     public static final String KEYSTORE_LOCATION_TAG = "Security.InternalKeyStore.Location";
     public static final String KEYSTORE_PASSWORD_TAG = "Security.InternalKeyStore.Password";
     public static final String SIGNING_ALIAS_TAG = "Security.InternalKeyStore.KeyAlias";
@@ -111,7 +143,28 @@ public class FinancialServicesConstants {
     public static final String REQUEST_ROUTER = "Gateway.RequestRouter";
     public static final String GATEWAY_CACHE_EXPIRY = "Gateway.Cache.GatewayCache.CacheAccessExpiry";
     public static final String GATEWAY_CACHE_MODIFIED_EXPIRY = "Gateway.Cache.GatewayCache.CacheModifiedExpiry";
+    public static final String GATEWAY_CACHE_REFRESH_AHEAD_TIME =
+            "Gateway.Cache.GatewayCache.RefreshAheadTimeInSeconds";
+    public static final String GATEWAY_CACHE_PRE_WARM_ENABLED = "Gateway.Cache.GatewayCache.PreWarmEnabled";
+    public static final String GATEWAY_CACHE_SNAPSHOT_DIRECTORY = "Gateway.Cache.GatewayCache.SnapshotDirectory";
+    public static final String CONSENT_VALIDATION_DECISION_CACHE_ENABLED =
+            "Gateway.Cache.ConsentValidationDecisionCache.Enabled";
+    public static final String CONSENT_VALIDATION_DECISION_CACHE_TIME_TO_LIVE =
+            "Gateway.Cache.ConsentValidationDecisionCache.TimeToLiveInSeconds";
+    public static final String CONSENT_VALIDATION_DECISION_CACHE_MAX_ENTRIES =
+            "Gateway.Cache.ConsentValidationDecisionCache.MaxEntries";
+    public static final String CONSENT_VALIDATION_DECISION_CACHE_STATUS_CHANGE_POLL_INTERVAL =
+            "Gateway.Cache.ConsentValidationDecisionCache.StatusChangePollIntervalInSeconds";
+    public static final String CONSENT_VALIDATION_DECISION_CACHE_IGNORED_HEADERS =
+            "Gateway.Cache.ConsentValidationDecisionCache.IgnoredHeaders";
     public static final String CONSENT_VALIDATION_ENDPOINT = "Gateway.ConsentValidationEndpoint";
+    public static final String CONSENT_VALIDATION_BATCHING_ENABLED = "Gateway.ConsentValidationBatching.Enabled";
+    public static final String CONSENT_VALIDATION_BATCHING_MAX_WAIT =
+            "Gateway.ConsentValidationBatching.MaxWaitInMillis";
+    public static final String CONSENT_VALIDATION_BATCHING_MAX_BATCH_SIZE =
+            "Gateway.ConsentValidationBatching.MaxBatchSize";
+    public static final String CONSENT_VALIDATION_BATCHING_TIMEOUT =
+            "Gateway.ConsentValidationBatching.TimeoutInMillis";
     public static final String VALIDATE_JWT = "Gateway.DCR.RequestJWTValidation";
     public static final String JWKS_ENDPOINT_NAME = "Gateway.DCR.JWKSEndpointName";
     public static final String SSA_CLIENT_NAME = "Gateway.DCR.SSAClientName";
@@ -134,8 +187,10 @@ public class FinancialServicesConstants {
             "EventNotifications.EventSubscription.RequireSubscriptionToPoll";
     public static final String ALLOW_MULTIPLE_SUBSCRIPTION =
             "EventNotifications.EventSubscription.AllowMultipleSubscription";
+    public static final String LONG_POLLING_ENABLED = "EventNotifications.LongPolling.Enable";
+    public static final String LONG_POLLING_MAX_WAIT_IN_SECONDS = "EventNotifications.LongPolling.MaxWaitInSeconds";
+    public static final String LONG_POLLING_WAKE_UP_SIGNAL = "EventNotifications.LongPolling.WakeUpSignal";
     public static final String REALTIME_EVENT_NOTIFICATION_ENABLED = "EventNotifications.Realtime.Enable";
-    public static final String PERIODIC_CRON_EXPRESSION = "EventNotifications.Realtime.PeriodicCronExpression";
     public static final String TIMEOUT_IN_SECONDS = "EventNotifications.Realtime.TimeoutInSeconds";
     public static final String MAX_RETRIES = "EventNotifications.Realtime.MaxRetries";
     public static final String INITIAL_BACKOFF_TIME_IN_SECONDS =
@@ -147,6 +202,23 @@ public class FinancialServicesConstants {
             "EventNotifications.Realtime.EventNotificationThreadPoolSize";
     public static final String REALTIME_EVENT_NOTIFICATION_REQUEST_GENERATOR =
             "EventNotifications.Realtime.RequestGenerator";
+    public static final String MAX_IN_FLIGHT_REQUESTS_PER_HOST =
+            "EventNotifications.Realtime.MaxInFlightRequestsPerHost";
+    public static final String HOST_CIRCUIT_BREAKER_FAILURE_RATE_THRESHOLD =
+            "EventNotifications.Realtime.HostCircuitBreaker.FailureRateThreshold";
+    public static final String HOST_CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE =
+            "EventNotifications.Realtime.HostCircuitBreaker.SlidingWindowSize";
+    public static final String HOST_CIRCUIT_BREAKER_WAIT_DURATION_IN_OPEN_STATE_IN_SECONDS =
+            "EventNotifications.Realtime.HostCircuitBreaker.WaitDurationInOpenStateInSeconds";
+    public static final String HOST_CIRCUIT_BREAKER_PERMITTED_CALLS_IN_HALF_OPEN_STATE =
+            "EventNotifications.Realtime.HostCircuitBreaker.PermittedCallsInHalfOpenState";
+    public static final String OUTBOX_LEASE_DURATION_IN_SECONDS =
+            "EventNotifications.Realtime.Outbox.LeaseDurationInSeconds";
+    public static final String OUTBOX_CLAIM_BATCH_SIZE = "EventNotifications.Realtime.Outbox.ClaimBatchSize";
+    public static final String OUTBOX_MAX_IN_PROGRESS_NOTIFICATIONS =
+            "EventNotifications.Realtime.Outbox.MaxInProgressNotifications";
+    public static final String OUTBOX_POLL_INTERVAL_IN_MILLIS =
+            "EventNotifications.Realtime.Outbox.PollIntervalInMillis";
 
     // Service Extensions Constants
     public static final String SERVICE_EXTENSIONS_ENDPOINT_ENABLED = "ExtensionsEndpoint.Enable";
@@ -30,6 +30,12 @@ import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
+import org.wso2.carbon.utils.ConfigurationContextService;
+import org.wso2.financial.services.accelerator.common.caching.ClusteringNearCacheInvalidationTransport;
+import org.wso2.financial.services.accelerator.common.caching.NearCacheInvalidationChannel;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigurationService;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigurationServiceImpl;
@@ -67,6 +73,23 @@ public class FinancialServicesCommonServiceComponent {
         log.debug("Financial Services common component is deactivated");
     }
 
+    @Reference(
+            service = ConfigurationContextService.class,
+            cardinality = ReferenceCardinality.OPTIONAL,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetConfigurationContextService"
+    )
+    protected void setConfigurationContextService(ConfigurationContextService configurationContextService) {
+
+        NearCacheInvalidationChannel.getInstance().setTransport(
+                new ClusteringNearCacheInvalidationTransport(configurationContextService.getServerConfigContext()));
+    }
+
+    protected void unsetConfigurationContextService(ConfigurationContextService configurationContextService) {
+
+        NearCacheInvalidationChannel.getInstance().setTransport(null);
+    }
+
     /**
      * Initialize the connection manager for HTTPS protocol.
      */
@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.util;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.util.Base64URL;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.core.util.KeyStoreManager;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesRuntimeException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.interfaces.RSAPrivateKey;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signs JWTs with the carbon default key pair.
+ * <p>
+ * The private key and the signer built from it are cached, and the encoded RS256 header is computed once. The key is
+ * looked up again at most once per key check interval, and the signer is rebuilt only if the keystore returns a
+ * different key, so a rotated key is picked up without a lookup per signature. Payloads are signed as given, without
+ * parsing them into a claims set.
+ */
+public class JWTSigningService {
+
+    private static final Log log = LogFactory.getLog(JWTSigningService.class);
+    private static final int SUPER_TENANT_ID = -1234;
+    private static final long DEFAULT_KEY_CHECK_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static volatile JWTSigningService instance;
+
+    private final Callable<Key> keyProvider;
+    private final Clock clock;
+    private final long keyCheckIntervalMillis;
+    private final JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.RS256).build();
+    private final String encodedHeader = header.toBase64URL().toString();
+    private volatile SigningKey signingKey;
+
+    /**
+     * Create a signing service.
+     *
+     * @param keyProvider            provider of the private key to sign with
+     * @param clock                  clock used to decide when the key is checked again
+     * @param keyCheckIntervalMillis time after which the key is looked up again to detect a rotation
+     */
+    public JWTSigningService(Callable<Key> keyProvider, Clock clock, long keyCheckIntervalMillis) {
+
+        this.keyProvider = keyProvider;
+        this.clock = clock;
+        this.keyCheckIntervalMillis = keyCheckIntervalMillis;
+    }
+
+    /**
+     * Get the signing service using the default private key of the primary keystore.
+     *
+     * @return JWT signing service
+     */
+    @Generated(message = "Excluding from code coverage since KeyStoreManager cannot be mocked")
+    public static JWTSigningService getInstance() {
+
+        if (instance == null) {
+            synchronized (JWTSigningService.class) {
+                if (instance == null) {
+                    instance = new JWTSigningService(JWTSigningService::getDefaultPrivateKey, Clock.systemUTC(),
+                            DEFAULT_KEY_CHECK_INTERVAL_MILLIS);
+                }
+            }
+        }
+        return instance;
+    }
+
+    @Generated(message = "Excluding from code coverage since KeyStoreManager cannot be mocked")
+    private static Key getDefaultPrivateKey() throws Exception {
+
+        KeyStoreManager keyStoreManager = KeyStoreManager.getInstance(SUPER_TENANT_ID);
+        KeyStore primaryKeyStore = keyStoreManager.getPrimaryKeyStore();
+        if (primaryKeyStore == null) {
+            throw new FinancialServicesRuntimeException("Error while retrieving the Primary Keystore");
+        }
+        return keyStoreManager.getDefaultPrivateKey();
+    }
+
+    /**
+     * Sign a JSON payload with RS256.
+     *
+     * @param payload serialized JSON claims to sign
+     * @return serialized signed JWT
+     */
+    public String sign(String payload) {
+
+        return sign(getSigner(), payload);
+    }
+
+    /**
+     * Sign a list of JSON payloads with RS256. The key is resolved once for the whole list.
+     *
+     * @param payloads serialized JSON claims to sign
+     * @return serialized signed JWTs in the order of the payloads
+     */
+    public List<String> signAll(List<String> payloads) {
+
+        JWSSigner signer = getSigner();
+        List<String> signedJWTs = new ArrayList<>(payloads.size());
+        for (String payload : payloads) {
+            signedJWTs.add(sign(signer, payload));
+        }
+        return signedJWTs;
+    }
+
+    /**
+     * Discard the cached key so that the next signature looks up the key again.
+     */
+    public void reload() {
+
+        signingKey = null;
+    }
+
+    private String sign(JWSSigner signer, String payload) {
+
+        if (payload == null) {
+            log.debug("Null value passed for payload. Cannot generate JWT");
+            throw new FinancialServicesRuntimeException("Payload cannot be null");
+        }
+
+        String signingInput = encodedHeader + "." + Base64URL.encode(payload.getBytes(StandardCharsets.UTF_8));
+        try {
+            Base64URL signature = signer.sign(header, signingInput.getBytes(StandardCharsets.UTF_8));
+            return signingInput + "." + signature;
+        } catch (JOSEException e) {
+            throw new FinancialServicesRuntimeException("Error occurred while signing JWT", e);
+        }
+    }
+
+    private JWSSigner getSigner() {
+
+        SigningKey current = signingKey;
+        long now = clock.millis();
+        if (current != null && now < current.checkedAt + keyCheckIntervalMillis) {
+            return current.signer;
+        }
+
+        synchronized (this) {
+            current = signingKey;
+            if (current != null && now < current.checkedAt + keyCheckIntervalMillis) {
+                return current.signer;
+            }
+
+            Key privateKey;
+            try {
+                privateKey = keyProvider.call();
+            } catch (Exception e) {
+                if (current != null) {
+                    // Keep signing with the last key if the keystore can not be read
+                    log.error("Error while checking the signing key. Using the cached key", e);
+                    signingKey = new SigningKey(current.key, current.signer, now);
+                    return current.signer;
+                }
+                throw new FinancialServicesRuntimeException("Error while retrieving the signing key", e);
+            }
+
+            if (current != null && current.key.equals(privateKey)) {
+                signingKey = new SigningKey(current.key, current.signer, now);
+                return current.signer;
+            }
+            if (!(privateKey instanceof RSAPrivateKey)) {
+                throw new FinancialServicesRuntimeException("Private key should be an instance of RSAPrivateKey");
+            }
+            if (current != null) {
+                log.info("Signing key changed in the keystore. Reloading the JWT signer");
+            }
+            JWSSigner signer = new RSASSASigner((RSAPrivateKey) privateKey);
+            signingKey = new SigningKey(privateKey, signer, now);
+            return signer;
+        }
+    }
+
+    /**
+     * Private key with the signer built from it and the time the key was last checked.
+     */
+    private static class SigningKey {
+
+        private final Key key;
+        private final JWSSigner signer;
+        private final long checkedAt;
+
+        SigningKey(Key key, JWSSigner signer, long checkedAt) {
+
+            this.key = key;
+            this.signer = signer;
+            this.checkedAt = checkedAt;
+        }
+    }
+}
@@ -26,14 +26,12 @@ import com.nimbusds.jose.JWSSigner;
 import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.crypto.RSASSASigner;
 import com.nimbusds.jose.crypto.RSASSAVerifier;
-import com.nimbusds.jose.jwk.source.RemoteJWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.BadJOSEException;
 import com.nimbusds.jose.proc.JWSKeySelector;
 import com.nimbusds.jose.proc.JWSVerificationKeySelector;
 import com.nimbusds.jose.proc.SecurityContext;
 import com.nimbusds.jose.proc.SimpleSecurityContext;
-import com.nimbusds.jose.util.DefaultResourceRetriever;
-import com.nimbusds.jwt.JWT;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.JWTParser;
 import com.nimbusds.jwt.SignedJWT;
@@ -42,8 +40,7 @@ import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.wso2.carbon.core.util.KeyStoreManager;
-import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+import org.wso2.financial.services.accelerator.common.caching.JWKSourceRegistry;
 import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
 import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
 import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
@@ -54,13 +51,11 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
-import java.net.URL;
 import java.security.Key;
 import java.security.KeyFactory;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
-import java.security.PublicKey;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.security.interfaces.RSAPrivateKey;
@@ -70,8 +65,7 @@ import java.security.spec.X509EncodedKeySpec;
 import java.text.ParseException;
 import java.util.Base64;
 import java.util.Date;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
 
 /**
  * Util class for jwt related functions.
@@ -121,29 +115,28 @@ public class JWTUtils {
     public static JWTClaimsSet validateJWTSignature(String jwtString, String jwksUri, String algorithm)
             throws ParseException, BadJOSEException, JOSEException, MalformedURLException {
 
-        int defaultConnectionTimeout = 3000;
-        int defaultReadTimeout = 3000;
+        return validateJWTSignature((SignedJWT) JWTParser.parse(jwtString), jwksUri, algorithm);
+    }
+
+    /**
+     * Validate an already parsed signed JWT by querying a jwks.
+     *
+     * @param signedJWT parsed signed json web token
+     * @param jwksUri   endpoint displaying the key set for the signing certificates
+     * @param algorithm the signing algorithm for jwt
+     * @return claims set of the jwt if signature is valid
+     * @throws BadJOSEException      if the jwt is invalid
+     * @throws JOSEException         if an error occurs while processing the jwt
+     * @throws MalformedURLException if an error occurs while creating the URL
+     *                               object
+     */
+    @Generated(message = "Excluding from code coverage since can not call this method due to external https call")
+    public static JWTClaimsSet validateJWTSignature(SignedJWT signedJWT, String jwksUri, String algorithm)
+            throws BadJOSEException, JOSEException, MalformedURLException {
+
         ConfigurableJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
-        JWT jwt = JWTParser.parse(jwtString);
-        // set the Key Selector for the jwks_uri.
-        Map<String, RemoteJWKSet<SecurityContext>> jwkSourceMap = new ConcurrentHashMap<>();
-        RemoteJWKSet<SecurityContext> jwkSet = jwkSourceMap.get(jwksUri);
-        if (jwkSet == null) {
-            int connectionTimeout = Integer.parseInt(FinancialServicesConfigParser.getInstance()
-                    .getJWKSConnectionTimeOut());
-            int readTimeout = Integer.parseInt(FinancialServicesConfigParser.getInstance().getJWKSReadTimeOut());
-            int sizeLimit = RemoteJWKSet.DEFAULT_HTTP_SIZE_LIMIT;
-            if (connectionTimeout == 0 && readTimeout == 0) {
-                connectionTimeout = defaultConnectionTimeout;
-                readTimeout = defaultReadTimeout;
-            }
-            DefaultResourceRetriever resourceRetriever = new DefaultResourceRetriever(
-                    connectionTimeout,
-                    readTimeout,
-                    sizeLimit);
-            jwkSet = new RemoteJWKSet<>(new URL(jwksUri), resourceRetriever);
-            jwkSourceMap.put(jwksUri, jwkSet);
-        }
+        // set the Key Selector for the jwks_uri. Key sets are shared across requests through the registry.
+        JWKSource<SecurityContext> jwkSet = JWKSourceRegistry.getInstance().getJWKSource(jwksUri);
         // The expected JWS algorithm of the access tokens (agreed out-of-band).
         JWSAlgorithm expectedJWSAlg = JWSAlgorithm.parse(algorithm);
         // Configure the JWT processor with a key selector to feed matching public RSA
@@ -152,7 +145,7 @@ public class JWTUtils {
         jwtProcessor.setJWSKeySelector(keySelector);
         // Process the token, set optional context parameters.
         SimpleSecurityContext securityContext = new SimpleSecurityContext();
-        return jwtProcessor.process((SignedJWT) jwt, securityContext);
+        return jwtProcessor.process(signedJWT, securityContext);
     }
 
     /**
@@ -282,7 +275,8 @@ public class JWTUtils {
 
     /**
      * Validate a JWT signature by providing the alias in the client truststore.
-     * Skipped in unit tests since @KeystoreManager cannot be mocked
+     * The verifiers are cached and reloaded on truststore changes by {@link JWTVerifierRegistry}.
+     * Skipped in unit tests since the truststore is configured by the server
      *
      * @param jwtString string value of the JWT to be validated
      * @param alias     alias in the trust store
@@ -293,21 +287,7 @@ public class JWTUtils {
     public static boolean validateJWTSignatureWithPublicKey(String jwtString, String alias)
             throws ConsentManagementException {
 
-        Certificate certificate = getCertificateFromAlias(alias);
-
-        if (certificate == null) {
-            throw new ConsentManagementException("Certificate not found for provided alias");
-        }
-        PublicKey publicKey = certificate.getPublicKey();
-
-        try {
-            JWSVerifier verifier = new RSASSAVerifier((RSAPublicKey) publicKey);
-            return SignedJWT.parse(jwtString).verify(verifier);
-        } catch (JOSEException | ParseException e) {
-            log.error("Error occurred while validating JWT signature", e);
-            throw new ConsentManagementException("Error occurred while validating JWT signature");
-        }
-
+        return JWTVerifierRegistry.getInstance().verify(jwtString, alias);
     }
 
     /**
@@ -361,23 +341,31 @@ public class JWTUtils {
 
     /**
      * Sign a string body using the carbon default key pair.
+     * The key and signer are cached by {@link JWTSigningService}.
      * Skipped in unit tests since @KeystoreManager cannot be mocked
      *
-     * @param body the body that needs to be signed as a string
+     * @param body the JSON body that needs to be signed as a string
      * @return string value of the signed JWT
      * @throws Exception error if the tenant is invalid
      */
     @Generated(message = "Excluding from code coverage since it contains external https call")
     public static String signJWTWithDefaultKey(String body) throws Exception {
-        KeyStoreManager keyStoreManager = KeyStoreManager.getInstance(-1234);
-        KeyStore primaryKeyStore = keyStoreManager.getPrimaryKeyStore();
-        if (primaryKeyStore != null) {
-            Key privateKey = keyStoreManager.getDefaultPrivateKey();
-            return generateJWT(body, privateKey);
-        } else {
-            throw new FinancialServicesRuntimeException("Error while retrieving the Primary Keystore");
-        }
 
+        return JWTSigningService.getInstance().sign(body);
+    }
+
+    /**
+     * Sign a list of string bodies using the carbon default key pair.
+     * Skipped in unit tests since @KeystoreManager cannot be mocked
+     *
+     * @param bodies the JSON bodies that need to be signed as strings
+     * @return string values of the signed JWTs in the order of the bodies
+     * @throws Exception error if the tenant is invalid
+     */
+    @Generated(message = "Excluding from code coverage since it contains external https call")
+    public static List<String> signJWTsWithDefaultKey(List<String> bodies) throws Exception {
+
+        return JWTSigningService.getInstance().signAll(bodies);
     }
 
     /**
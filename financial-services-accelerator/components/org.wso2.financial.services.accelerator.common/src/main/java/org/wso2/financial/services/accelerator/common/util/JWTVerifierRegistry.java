@@ -0,0 +1,326 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.util;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jwt.SignedJWT;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.text.ParseException;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Verifies JWT signatures with the certificates of the truststore.
+ * <p>
+ * A verifier is built once for every RSA and EC certificate of the truststore and is looked up by the certificate
+ * alias. The key ID of the JWT is not used to select the certificate, since a truststore alias is bound to a single
+ * certificate and a key ID chosen by the signer must not select a certificate other than the requested one. The
+ * truststore file is checked for modifications at most once per check interval, and a modified truststore is loaded
+ * into a new set of verifiers which replaces the current set atomically. The current set is kept if the modified
+ * truststore can not be loaded. Verification failures are counted per alias.
+ */
+public class JWTVerifierRegistry {
+
+    private static final Log log = LogFactory.getLog(JWTVerifierRegistry.class);
+    private static final long DEFAULT_CHECK_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static volatile JWTVerifierRegistry instance;
+
+    private final Path trustStorePath;
+    private final String trustStoreType;
+    private final char[] trustStorePassword;
+    private final Clock clock;
+    private final long checkIntervalMillis;
+    private final Map<String, LongAdder> failureCounts = new ConcurrentHashMap<>();
+    private volatile Verifiers verifiers;
+
+    /**
+     * Create a verifier registry.
+     *
+     * @param trustStorePath      location of the truststore file
+     * @param trustStoreType      type of the truststore
+     * @param trustStorePassword  password of the truststore
+     * @param clock               clock used to decide when the truststore is checked again
+     * @param checkIntervalMillis time after which the truststore file is checked for modifications
+     */
+    public JWTVerifierRegistry(Path trustStorePath, String trustStoreType, char[] trustStorePassword, Clock clock,
+                               long checkIntervalMillis) {
+
+        this.trustStorePath = trustStorePath;
+        this.trustStoreType = trustStoreType;
+        this.trustStorePassword = Arrays.copyOf(trustStorePassword, trustStorePassword.length);
+        this.clock = clock;
+        this.checkIntervalMillis = checkIntervalMillis;
+    }
+
+    /**
+     * Get the verifier registry of the truststore configured through the javax.net.ssl system properties.
+     *
+     * @return JWT verifier registry
+     * @throws ConsentManagementException if the truststore configs are not available
+     */
+    @Generated(message = "Excluding from code coverage since the truststore is configured by the server")
+    public static JWTVerifierRegistry getInstance() throws ConsentManagementException {
+
+        if (instance == null) {
+            synchronized (JWTVerifierRegistry.class) {
+                if (instance == null) {
+                    String trustStoreLocation = System.getProperty("javax.net.ssl.trustStore");
+                    String trustStorePassword = System.getProperty("javax.net.ssl.trustStorePassword");
+                    String trustStoreType = System.getProperty("javax.net.ssl.trustStoreType");
+
+                    if (trustStoreLocation == null || trustStorePassword == null || trustStoreType == null) {
+                        log.error("Either of the Trust store configs (Location, Password or Type) is not available");
+                        throw new ConsentManagementException("Trust store config not available");
+                    }
+                    instance = new JWTVerifierRegistry(Paths.get(trustStoreLocation), trustStoreType,
+                            trustStorePassword.toCharArray(), Clock.systemUTC(), DEFAULT_CHECK_INTERVAL_MILLIS);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Verify the signature of a JWT with the certificate of the given alias.
+     *
+     * @param jwtString serialized JWT
+     * @param alias     alias of the certificate in the truststore
+     * @return whether the signature is valid
+     * @throws ConsentManagementException if the JWT can not be parsed, or no certificate is found
+     */
+    public boolean verify(String jwtString, String alias) throws ConsentManagementException {
+
+        Verifiers current = getVerifiers();
+        SignedJWT signedJWT;
+        try {
+            signedJWT = SignedJWT.parse(jwtString);
+        } catch (ParseException e) {
+            recordFailure(alias);
+            log.error("Error occurred while validating JWT signature", e);
+            throw new ConsentManagementException("Error occurred while validating JWT signature");
+        }
+
+        TrustedKey trustedKey = current.byAlias.get(alias);
+        if (trustedKey == null) {
+            recordFailure(alias);
+            throw new ConsentManagementException("Certificate not found for provided alias");
+        }
+
+        try {
+            boolean isValid = signedJWT.verify(trustedKey.verifier);
+            if (!isValid) {
+                recordFailure(trustedKey.alias);
+            }
+            return isValid;
+        } catch (JOSEException e) {
+            recordFailure(trustedKey.alias);
+            log.error("Error occurred while validating JWT signature", e);
+            throw new ConsentManagementException("Error occurred while validating JWT signature");
+        }
+    }
+
+    /**
+     * Get the number of failed verifications against an alias.
+     *
+     * @param alias alias of the certificate in the truststore
+     * @return number of failed verifications
+     */
+    public long getFailureCount(String alias) {
+
+        LongAdder failureCount = failureCounts.get(String.valueOf(alias));
+        return failureCount == null ? 0 : failureCount.sum();
+    }
+
+    /**
+     * Get the failure counts of all aliases with at least one failed verification.
+     *
+     * @return failure counts by alias
+     */
+    public Map<String, Long> getFailureCounts() {
+
+        Map<String, Long> counts = new HashMap<>();
+        failureCounts.forEach((alias, count) -> counts.put(alias, count.sum()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Discard the current verifiers so that the next verification loads the truststore again.
+     */
+    public void reload() {
+
+        verifiers = null;
+    }
+
+    private void recordFailure(String alias) {
+
+        failureCounts.computeIfAbsent(String.valueOf(alias), key -> new LongAdder()).increment();
+    }
+
+    private Verifiers getVerifiers() throws ConsentManagementException {
+
+        Verifiers current = verifiers;
+        long now = clock.millis();
+        if (current != null && now < current.checkedAt + checkIntervalMillis) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = verifiers;
+            if (current != null && now < current.checkedAt + checkIntervalMillis) {
+                return current;
+            }
+
+            long lastModified;
+            try {
+                lastModified = Files.getLastModifiedTime(trustStorePath).toMillis();
+            } catch (IOException e) {
+                if (current != null) {
+                    log.error("Error while checking the truststore for modifications. Using the loaded truststore", e);
+                    verifiers = current.checked(now);
+                    return verifiers;
+                }
+                throw new ConsentManagementException("Error while loading truststore.", e);
+            }
+            if (current != null && current.lastModified == lastModified) {
+                verifiers = current.checked(now);
+                return verifiers;
+            }
+
+            try {
+                verifiers = load(lastModified, now);
+            } catch (ConsentManagementException e) {
+                if (current == null) {
+                    throw e;
+                }
+                log.error("Error while reloading the modified truststore. Using the loaded truststore", e);
+                verifiers = current.checked(now);
+                return verifiers;
+            }
+            if (current != null) {
+                log.info("Truststore modified. Reloaded the JWT signature verifiers");
+            }
+            return verifiers;
+        }
+    }
+
+    private Verifiers load(long lastModified, long now) throws ConsentManagementException {
+
+        Map<String, TrustedKey> byAlias = new HashMap<>();
+        try (InputStream trustStoreStream = Files.newInputStream(trustStorePath)) {
+            KeyStore trustStore = KeyStore.getInstance(trustStoreType);
+            trustStore.load(trustStoreStream, trustStorePassword);
+
+            Enumeration<String> aliases = trustStore.aliases();
+            while (aliases.hasMoreElements()) {
+                String alias = aliases.nextElement();
+                Certificate certificate = trustStore.getCertificate(alias);
+                if (certificate == null) {
+                    continue;
+                }
+                JWSVerifier verifier = createVerifier(certificate.getPublicKey());
+                if (verifier == null) {
+                    if (log.isDebugEnabled()) {
+                        log.debug(String.format("Skipping certificate %s with an unsupported key type",
+                                alias.replaceAll("[\r\n]", "")));
+                    }
+                    continue;
+                }
+                TrustedKey trustedKey = new TrustedKey(alias, verifier);
+                byAlias.put(alias, trustedKey);
+            }
+        } catch (IOException | CertificateException | KeyStoreException | NoSuchAlgorithmException
+                 | JOSEException e) {
+            throw new ConsentManagementException("Error while loading truststore.", e);
+        }
+        return new Verifiers(byAlias, lastModified, now);
+    }
+
+    private static JWSVerifier createVerifier(PublicKey publicKey) throws JOSEException {
+
+        if (publicKey instanceof RSAPublicKey) {
+            return new RSASSAVerifier((RSAPublicKey) publicKey);
+        } else if (publicKey instanceof ECPublicKey) {
+            return new ECDSAVerifier((ECPublicKey) publicKey);
+        }
+        return null;
+    }
+
+    /**
+     * Verifier of a truststore certificate.
+     */
+    private static class TrustedKey {
+
+        private final String alias;
+        private final JWSVerifier verifier;
+
+        TrustedKey(String alias, JWSVerifier verifier) {
+
+            this.alias = alias;
+            this.verifier = verifier;
+        }
+    }
+
+    /**
+     * Verifiers of a loaded truststore with the modification time of the file and the time it was last checked.
+     */
+    private static class Verifiers {
+
+        private final Map<String, TrustedKey> byAlias;
+        private final long lastModified;
+        private final long checkedAt;
+
+        Verifiers(Map<String, TrustedKey> byAlias, long lastModified, long checkedAt) {
+
+            this.byAlias = byAlias;
+            this.lastModified = lastModified;
+            this.checkedAt = checkedAt;
+        }
+
+        Verifiers checked(long now) {
+
+            return new Verifiers(byAlias, lastModified, now);
+        }
+    }
+}
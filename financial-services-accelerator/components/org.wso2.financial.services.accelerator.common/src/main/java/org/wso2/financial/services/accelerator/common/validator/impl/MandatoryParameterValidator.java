@@ -19,7 +19,6 @@
 package org.wso2.financial.services.accelerator.common.validator.impl;
 
 import org.apache.commons.beanutils.NestedNullException;
-import org.apache.commons.beanutils.PropertyUtilsBean;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.financial.services.accelerator.common.validator.annotation.RequiredParameter;
@@ -34,12 +33,12 @@ import javax.validation.ConstraintValidatorContext;
  */
 public class MandatoryParameterValidator implements ConstraintValidator<RequiredParameter, Object> {
 
-    private String paramXPath;
+    private PropertyPathAccessor paramAccessor;
     private static Log log = LogFactory.getLog(MandatoryParameterValidator.class);
 
     @Override
     public void initialize(RequiredParameter constraintAnnotation) {
-        this.paramXPath = constraintAnnotation.param();
+        this.paramAccessor = new PropertyPathAccessor(constraintAnnotation.param());
     }
 
     @Override
@@ -47,7 +46,7 @@ public class MandatoryParameterValidator implements ConstraintValidator<Required
 
         try {
 
-            final Object parameterValue = new PropertyUtilsBean().getProperty(object, paramXPath);
+            final Object parameterValue = paramAccessor.getValue(object);
 
             if (parameterValue instanceof Integer) {
                 return (Integer) parameterValue != 0;
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.validator.impl;
+
+import org.apache.commons.beanutils.MethodUtils;
+import org.apache.commons.beanutils.NestedNullException;
+import org.apache.commons.beanutils.PropertyUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves a nested property path such as "claimsSet.claims.aud" on an object, in the same way as the
+ * commons-beanutils PropertyUtils. The path is split once, and the getter of each property is resolved once per class
+ * into a method handle, so that resolving the path does not introspect the object on each call. A property of a map
+ * is resolved as the value of the map for the property name. Paths with indexed or mapped properties are delegated to
+ * PropertyUtils.
+ */
+public class PropertyPathAccessor {
+
+    private static final Log log = LogFactory.getLog(PropertyPathAccessor.class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    // Getters of a class against the property name. Properties without a readable getter are kept as empty values.
+    private static final ClassValue<Map<String, Optional<MethodHandle>>> GETTERS =
+            new ClassValue<Map<String, Optional<MethodHandle>>>() {
+                @Override
+                protected Map<String, Optional<MethodHandle>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private final String path;
+    private final String[] properties;
+    private final boolean simplePath;
+
+    public PropertyPathAccessor(String path) {
+
+        this.path = path;
+        this.properties = path.split("\\.");
+        this.simplePath = path.indexOf('[') < 0 && path.indexOf('(') < 0;
+    }
+
+    /**
+     * Get the value of the property path from the given object.
+     *
+     * @param object Object to resolve the property path on
+     * @return Value of the property path
+     * @throws IllegalAccessException    When a getter is not accessible
+     * @throws InvocationTargetException When a getter throws an exception
+     * @throws NoSuchMethodException     When a property of the path does not have a getter
+     * @throws NestedNullException       When a property in the middle of the path is null
+     */
+    public Object getValue(Object object)
+            throws IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+
+        if (object == null) {
+            throw new IllegalArgumentException("No bean specified");
+        }
+        if (!simplePath) {
+            return PropertyUtils.getProperty(object, path);
+        }
+
+        Object value = object;
+        for (int i = 0; i < properties.length; i++) {
+            if (value == null) {
+                throw new NestedNullException("Null property value for '" + properties[i - 1] + "' on path '" +
+                        path + "'");
+            }
+            value = getPropertyValue(value, properties[i]);
+        }
+        return value;
+    }
+
+    private static Object getPropertyValue(Object bean, String property)
+            throws InvocationTargetException, NoSuchMethodException {
+
+        if (bean instanceof Map) {
+            return ((Map<?, ?>) bean).get(property);
+        }
+
+        Class<?> beanClass = bean.getClass();
+        Optional<MethodHandle> getter = GETTERS.get(beanClass)
+                .computeIfAbsent(property, name -> resolveGetter(beanClass, name));
+        if (!getter.isPresent()) {
+            throw new NoSuchMethodException("Unknown property '" + property + "' on class '" + beanClass + "'");
+        }
+
+        try {
+            return getter.get().invokeExact(bean);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private static Optional<MethodHandle> resolveGetter(Class<?> beanClass, String property) {
+
+        try {
+            for (PropertyDescriptor descriptor : Introspector.getBeanInfo(beanClass).getPropertyDescriptors()) {
+                if (property.equals(descriptor.getName())) {
+                    // Public getters declared in a non public class are resolved from a public super type
+                    Method readMethod = MethodUtils.getAccessibleMethod(beanClass, descriptor.getReadMethod());
+                    if (readMethod == null) {
+                        return Optional.empty();
+                    }
+                    return Optional.of(MethodHandles.publicLookup().unreflect(readMethod).asType(GETTER_TYPE));
+                }
+            }
+        } catch (IntrospectionException | IllegalAccessException e) {
+            log.debug(String.format("Unable to resolve the getter of property %s",
+                    property.replaceAll("[\r\n]", "")), e);
+        }
+        return Optional.empty();
+    }
+}
@@ -19,7 +19,6 @@
 package org.wso2.financial.services.accelerator.common.validator.impl;
 
 import org.apache.commons.beanutils.NestedNullException;
-import org.apache.commons.beanutils.PropertyUtilsBean;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.financial.services.accelerator.common.validator.annotation.ValidScopeFormat;
@@ -36,19 +35,19 @@ import javax.validation.ConstraintValidatorContext;
  */
 public class ScopeValidator implements ConstraintValidator<ValidScopeFormat, Object> {
 
-    private String scopeXPath;
+    private PropertyPathAccessor scopeAccessor;
     private static Log log = LogFactory.getLog(ScopeValidator.class);
 
     @Override
     public void initialize(ValidScopeFormat constraintAnnotation) {
-        this.scopeXPath = constraintAnnotation.scope();
+        this.scopeAccessor = new PropertyPathAccessor(constraintAnnotation.scope());
     }
 
     @Override
     public boolean isValid(Object object, ConstraintValidatorContext constraintValidatorContext) {
 
         try {
-            final Object scope = new PropertyUtilsBean().getProperty(object, scopeXPath);
+            final Object scope = scopeAccessor.getValue(object);
 
             return scopeValidate(scope);
 
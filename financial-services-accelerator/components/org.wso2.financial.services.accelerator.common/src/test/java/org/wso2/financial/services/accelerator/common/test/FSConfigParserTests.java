@@ -26,6 +26,7 @@ import org.wso2.financial.services.accelerator.common.exception.FinancialService
 import org.wso2.financial.services.accelerator.common.util.CarbonUtils;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.Map;
 
 import static org.testng.Assert.assertEquals;
@@ -207,6 +208,43 @@ public class FSConfigParserTests {
         Assert.assertEquals(FinancialServicesConfigParser.getInstance().getNumberOfSetsToReturn(), 5);
     }
 
+    @Test(priority = 25)
+    public void testGetLongPollingConfigs() {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        Assert.assertTrue(configParser.isLongPollingEnabled());
+        Assert.assertEquals(configParser.getLongPollingMaxWaitInSeconds(), 20);
+        Assert.assertEquals(configParser.getLongPollingWakeUpSignal(), "org.wso2.financial.services.accelerator." +
+                "event.notifications.service.polling.LocalEventPollingWakeUpSignal");
+    }
+
+    @Test(priority = 25)
+    public void testGetRealtimeEventNotificationMaxInFlightRequestsPerHost() {
+
+        Assert.assertEquals(FinancialServicesConfigParser.getInstance()
+                .getRealtimeEventNotificationMaxInFlightRequestsPerHost(), 4);
+    }
+
+    @Test(priority = 25)
+    public void testGetHostCircuitBreakerConfigs() {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        Assert.assertEquals(configParser.getHostCircuitBreakerFailureRateThreshold(), 50);
+        Assert.assertEquals(configParser.getHostCircuitBreakerSlidingWindowSize(), 20);
+        Assert.assertEquals(configParser.getHostCircuitBreakerWaitDurationInOpenStateInSeconds(), 60);
+        Assert.assertEquals(configParser.getHostCircuitBreakerPermittedCallsInHalfOpenState(), 3);
+    }
+
+    @Test(priority = 25)
+    public void testGetRealtimeEventNotificationOutboxConfigs() {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        Assert.assertEquals(configParser.getRealtimeEventNotificationOutboxLeaseDurationInSeconds(), 60);
+        Assert.assertEquals(configParser.getRealtimeEventNotificationOutboxClaimBatchSize(), 100);
+        Assert.assertEquals(configParser.getRealtimeEventNotificationOutboxMaxInProgressNotifications(), 1000);
+        Assert.assertEquals(configParser.getRealtimeEventNotificationOutboxPollIntervalInMillis(), 1000);
+    }
+
     @Test(priority = 26)
     public void testIsSubClaimIncluded() {
 
@@ -231,13 +269,6 @@ public class FSConfigParserTests {
         Assert.assertFalse(FinancialServicesConfigParser.getInstance().isRealtimeEventNotificationEnabled());
     }
 
-    @Test(priority = 30)
-    public void testGetRealtimeEventNotificationSchedulerCronExpression() {
-
-        Assert.assertNotNull(FinancialServicesConfigParser.getInstance()
-                .getRealtimeEventNotificationSchedulerCronExpression());
-    }
-
     @Test(priority = 31)
     public void testGetRealtimeEventNotificationTimeoutInSeconds() {
 
@@ -412,6 +443,12 @@ public class FSConfigParserTests {
                 .getConsentExpiryCronExpression());
     }
 
+    @Test(priority = 55)
+    public void testGetConsentExpiryBatchSize() {
+
+        Assert.assertEquals(FinancialServicesConfigParser.getInstance().getConsentExpiryBatchSize(), 100);
+    }
+
     @Test(priority = 56)
     public void testGetConsentIdExtractionJsonPath() {
 
@@ -440,4 +477,40 @@ public class FSConfigParserTests {
                 .getConsentIdExtractionKey());
     }
 
+    @Test(priority = 60)
+    public void testGetNearCacheConfigs() {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        Assert.assertTrue(configParser.isNearCacheEnabled("TEST_NEAR_CACHE"));
+        Assert.assertEquals(configParser.getNearCacheMaxEntries("TEST_NEAR_CACHE"), 500);
+        Assert.assertEquals(configParser.getNearCacheTimeToLiveInSeconds("TEST_NEAR_CACHE"), 10);
+        Assert.assertFalse(configParser.isNearCacheEnabled("UNCONFIGURED_CACHE"));
+    }
+
+    @Test(priority = 61)
+    public void testGetAuthorizationSessionConfigs() {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        Assert.assertEquals(configParser.getAuthorizationSessionTimeToLiveInSeconds(), 1800L);
+        Assert.assertEquals(configParser.getAuthorizationSessionCleanupCronExpression(), "0 0/5 * * * ?");
+        Assert.assertFalse(configParser.isAuthorizationSessionLegacyAttributeFallbackEnabled());
+    }
+
+    @Test(priority = 62)
+    public void testGetConsentAttributeLookupKeys() {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        Assert.assertEquals(configParser.getConsentAttributeLookupKeys(),
+                Arrays.asList("IdempotencyKey", "commonAuthId"));
+    }
+
+    @Test(priority = 63)
+    public void testGetJtiReplayStoreConfigs() {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        Assert.assertEquals(configParser.getJtiReplayStoreLocalMaxEntries(), 500);
+        Assert.assertEquals(configParser.getJtiReplayStoreDefaultExpiryInSeconds(), 600L);
+        Assert.assertEquals(configParser.getJtiReplayStoreCleanupCronExpression(), "0 0/5 * * * ?");
+    }
+
 }
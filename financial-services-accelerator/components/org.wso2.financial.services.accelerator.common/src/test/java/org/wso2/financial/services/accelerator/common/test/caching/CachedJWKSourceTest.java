@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.test.caching;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.util.Resource;
+import com.nimbusds.jose.util.ResourceRetriever;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.caching.CachedJWKSource;
+import org.wso2.financial.services.accelerator.common.test.util.testutils.MutableClock;
+
+import java.io.IOException;
+import java.net.URL;
+
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * Test class for CachedJWKSource.
+ */
+public class CachedJWKSourceTest {
+
+    private static final long TTL = 60000;
+    private static final long REFRESH_AHEAD = 10000;
+    private static final long MIN_REFRESH_INTERVAL = 5000;
+    private static final long STALE_TIME = 120000;
+
+    private Resource jwksResource;
+    private Resource rotatedJwksResource;
+    private ResourceRetriever resourceRetriever;
+    private MutableClock clock;
+    private CachedJWKSource jwkSource;
+
+    @BeforeClass
+    public void initKeys() throws JOSEException {
+
+        RSAKey key = new RSAKeyGenerator(2048).keyID("kid-1").generate();
+        RSAKey rotatedKey = new RSAKeyGenerator(2048).keyID("kid-2").generate();
+        jwksResource = new Resource(new JWKSet(key.toPublicJWK()).toString(), "application/json");
+        rotatedJwksResource = new Resource(new JWKSet(rotatedKey.toPublicJWK()).toString(), "application/json");
+    }
+
+    @BeforeMethod
+    public void init() throws Exception {
+
+        resourceRetriever = Mockito.mock(ResourceRetriever.class);
+        clock = new MutableClock();
+        jwkSource = new CachedJWKSource(new URL("https://localhost/jwks"), resourceRetriever, Runnable::run,
+                clock, TTL, REFRESH_AHEAD, MIN_REFRESH_INTERVAL, STALE_TIME);
+    }
+
+    @Test
+    public void testKeySetServedFromMemory() throws Exception {
+
+        Mockito.when(resourceRetriever.retrieveResource(any(URL.class))).thenReturn(jwksResource);
+
+        Assert.assertEquals(jwkSource.get(selectorFor("kid-1"), null).size(), 1);
+        clock.advance(1000);
+        Assert.assertEquals(jwkSource.get(selectorFor("kid-1"), null).size(), 1);
+
+        Mockito.verify(resourceRetriever, Mockito.times(1)).retrieveResource(any(URL.class));
+        Assert.assertEquals(jwkSource.getMissCount(), 1);
+        Assert.assertEquals(jwkSource.getHitCount(), 1);
+    }
+
+    @Test
+    public void testUnknownKeyIdRefreshIsRateLimited() throws Exception {
+
+        Mockito.when(resourceRetriever.retrieveResource(any(URL.class)))
+                .thenReturn(jwksResource, rotatedJwksResource);
+
+        jwkSource.get(selectorFor("kid-1"), null);
+        Assert.assertTrue(jwkSource.get(selectorFor("kid-2"), null).isEmpty());
+        Mockito.verify(resourceRetriever, Mockito.times(1)).retrieveResource(any(URL.class));
+
+        clock.advance(MIN_REFRESH_INTERVAL);
+        Assert.assertEquals(jwkSource.get(selectorFor("kid-2"), null).size(), 1);
+        Mockito.verify(resourceRetriever, Mockito.times(2)).retrieveResource(any(URL.class));
+    }
+
+    @Test
+    public void testRefreshAheadOfExpiry() throws Exception {
+
+        Mockito.when(resourceRetriever.retrieveResource(any(URL.class))).thenReturn(jwksResource);
+
+        jwkSource.get(selectorFor("kid-1"), null);
+        clock.advance(TTL - REFRESH_AHEAD);
+        jwkSource.get(selectorFor("kid-1"), null);
+
+        Assert.assertEquals(jwkSource.getRefreshCount(), 2);
+        Assert.assertEquals(jwkSource.getMissCount(), 1);
+    }
+
+    @Test
+    public void testStaleKeySetServedWhenHostIsDown() throws Exception {
+
+        Mockito.when(resourceRetriever.retrieveResource(any(URL.class)))
+                .thenReturn(jwksResource)
+                .thenThrow(new IOException("Connection refused"));
+
+        jwkSource.get(selectorFor("kid-1"), null);
+        clock.advance(TTL + 1000);
+
+        Assert.assertEquals(jwkSource.get(selectorFor("kid-1"), null).size(), 1);
+        Assert.assertEquals(jwkSource.getRefreshFailureCount(), 1);
+        Assert.assertEquals(jwkSource.getStaleServeCount(), 1);
+    }
+
+    @Test(expectedExceptions = KeySourceException.class)
+    public void testStaleKeySetNotServedAfterStaleWindow() throws Exception {
+
+        Mockito.when(resourceRetriever.retrieveResource(any(URL.class)))
+                .thenReturn(jwksResource)
+                .thenThrow(new IOException("Connection refused"));
+
+        jwkSource.get(selectorFor("kid-1"), null);
+        clock.advance(TTL + STALE_TIME);
+        jwkSource.get(selectorFor("kid-1"), null);
+    }
+
+    @Test(expectedExceptions = KeySourceException.class)
+    public void testInitialFetchFailure() throws Exception {
+
+        Mockito.when(resourceRetriever.retrieveResource(any(URL.class)))
+                .thenThrow(new IOException("Connection refused"));
+
+        jwkSource.get(selectorFor("kid-1"), null);
+    }
+
+    private static JWKSelector selectorFor(String keyId) {
+
+        return new JWKSelector(new JWKMatcher.Builder().keyID(keyId).build());
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.test.caching;
+
+import org.apache.axis2.clustering.ClusteringAgent;
+import org.apache.axis2.clustering.ClusteringFault;
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.axis2.engine.AxisConfiguration;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.caching.ClusteringNearCacheInvalidationTransport;
+import org.wso2.financial.services.accelerator.common.caching.FinancialServicesBaseCacheKey;
+import org.wso2.financial.services.accelerator.common.caching.NearCacheInvalidationChannel;
+import org.wso2.financial.services.accelerator.common.caching.NearCacheInvalidationMessage;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+
+/**
+ * Test class for ClusteringNearCacheInvalidationTransport.
+ */
+public class ClusteringNearCacheInvalidationTransportTest {
+
+    private static final String CACHE_NAME = "TEST_CLUSTERED_CACHE";
+
+    private AxisConfiguration axisConfiguration;
+    private ClusteringNearCacheInvalidationTransport transport;
+    private final List<FinancialServicesBaseCacheKey> invalidations = new ArrayList<>();
+    private final Consumer<FinancialServicesBaseCacheKey> subscriber = invalidations::add;
+
+    @BeforeMethod
+    public void init() {
+
+        axisConfiguration = Mockito.mock(AxisConfiguration.class);
+        ConfigurationContext configurationContext = Mockito.mock(ConfigurationContext.class);
+        Mockito.doReturn(axisConfiguration).when(configurationContext).getAxisConfiguration();
+        transport = new ClusteringNearCacheInvalidationTransport(configurationContext);
+        invalidations.clear();
+        NearCacheInvalidationChannel.getInstance().subscribe(CACHE_NAME, subscriber);
+    }
+
+    @AfterMethod
+    public void cleanUp() {
+
+        NearCacheInvalidationChannel.getInstance().unsubscribe(CACHE_NAME, subscriber);
+    }
+
+    @Test
+    public void testInvalidationIsSentToCluster() throws ClusteringFault {
+
+        ClusteringAgent clusteringAgent = Mockito.mock(ClusteringAgent.class);
+        Mockito.doReturn(clusteringAgent).when(axisConfiguration).getClusteringAgent();
+        SerializableKey key = new SerializableKey();
+
+        transport.send(CACHE_NAME, key);
+
+        ArgumentCaptor<NearCacheInvalidationMessage> message =
+                ArgumentCaptor.forClass(NearCacheInvalidationMessage.class);
+        Mockito.verify(clusteringAgent).sendMessage(message.capture(), Mockito.eq(true));
+        Assert.assertEquals(message.getValue().getCacheName(), CACHE_NAME);
+        Assert.assertSame(message.getValue().getKey(), key);
+
+        // The receiving node delivers the invalidation to its near caches
+        message.getValue().execute(null);
+        Assert.assertEquals(invalidations.size(), 1);
+        Assert.assertSame(invalidations.get(0), key);
+    }
+
+    @Test
+    public void testKeyWhichIsNotSerializableInvalidatesAllEntries() throws ClusteringFault {
+
+        ClusteringAgent clusteringAgent = Mockito.mock(ClusteringAgent.class);
+        Mockito.doReturn(clusteringAgent).when(axisConfiguration).getClusteringAgent();
+
+        transport.send(CACHE_NAME, new FinancialServicesBaseCacheKey());
+
+        ArgumentCaptor<NearCacheInvalidationMessage> message =
+                ArgumentCaptor.forClass(NearCacheInvalidationMessage.class);
+        Mockito.verify(clusteringAgent).sendMessage(message.capture(), anyBoolean());
+        Assert.assertNull(message.getValue().getKey());
+    }
+
+    @Test
+    public void testInvalidationIsNotSentWithoutClustering() {
+
+        Mockito.doReturn(null).when(axisConfiguration).getClusteringAgent();
+
+        transport.send(CACHE_NAME, new SerializableKey());
+        Assert.assertTrue(invalidations.isEmpty());
+    }
+
+    @Test
+    public void testSendFailureIsNotPropagated() throws ClusteringFault {
+
+        ClusteringAgent clusteringAgent = Mockito.mock(ClusteringAgent.class);
+        Mockito.doReturn(clusteringAgent).when(axisConfiguration).getClusteringAgent();
+        Mockito.doThrow(new ClusteringFault("Cluster unavailable")).when(clusteringAgent)
+                .sendMessage(any(), anyBoolean());
+
+        transport.send(CACHE_NAME, new SerializableKey());
+    }
+
+    /**
+     * Serializable cache key used to test the transport.
+     */
+    private static class SerializableKey extends FinancialServicesBaseCacheKey implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -0,0 +1,343 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.test.caching;
+
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.caching.FinancialServicesBaseCache;
+import org.wso2.financial.services.accelerator.common.caching.FinancialServicesBaseCacheKey;
+import org.wso2.financial.services.accelerator.common.caching.NearCache;
+import org.wso2.financial.services.accelerator.common.caching.NearCacheInvalidationChannel;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * Test class for FinancialServicesBaseCache.
+ */
+public class FinancialServicesBaseCacheTest {
+
+    private static final String CACHE_NAME = "TEST_CACHE";
+    private static final TestCacheKey KEY = new TestCacheKey("key");
+
+    private MockedStatic<Caching> cachingMockedStatic;
+    private CacheManager cacheManager;
+    private Map<Object, Object> entries;
+
+    @BeforeMethod
+    public void init() {
+
+        entries = new ConcurrentHashMap<>();
+        Cache cache = Mockito.mock(Cache.class);
+        Mockito.doReturn(CACHE_NAME).when(cache).getName();
+        Mockito.doAnswer(invocation -> entries.get(invocation.getArgument(0))).when(cache).get(any());
+        Mockito.doAnswer(invocation -> entries.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(cache).put(any(), any());
+        Mockito.doAnswer(invocation -> entries.remove(invocation.getArgument(0)) != null).when(cache).remove(any());
+
+        cacheManager = Mockito.mock(CacheManager.class);
+        Mockito.doReturn(Collections.singletonList(cache)).when(cacheManager).getCaches();
+        Mockito.doReturn(cache).when(cacheManager).getCache(CACHE_NAME);
+
+        cachingMockedStatic = Mockito.mockStatic(Caching.class);
+        cachingMockedStatic.when(() -> Caching.getCacheManager(anyString())).thenReturn(cacheManager);
+    }
+
+    @AfterMethod
+    public void cleanUp() {
+
+        cachingMockedStatic.close();
+        NearCacheInvalidationChannel.getInstance().setTransport(null);
+    }
+
+    @Test
+    public void testCacheHandleIsResolvedOnce() {
+
+        TestCache testCache = new TestCache(0);
+        testCache.addToCache(KEY, "value");
+
+        Assert.assertEquals(testCache.getFromCache(KEY), "value");
+        Assert.assertNull(testCache.getFromCache(new TestCacheKey("other")));
+        testCache.removeFromCache(KEY);
+
+        Mockito.verify(cacheManager, Mockito.times(1)).getCaches();
+        Assert.assertEquals(testCache.getHitCount(), 1);
+        Assert.assertEquals(testCache.getMissCount(), 1);
+    }
+
+    @Test
+    public void testConcurrentMissesAreRetrievedOnce() throws Exception {
+
+        TestCache testCache = new TestCache(0);
+        AtomicInteger retrievalCount = new AtomicInteger();
+        CountDownLatch retrievalStarted = new CountDownLatch(1);
+        CountDownLatch releaseRetrieval = new CountDownLatch(1);
+        FinancialServicesBaseCache.OnDemandRetriever retriever = () -> {
+            retrievalCount.incrementAndGet();
+            retrievalStarted.countDown();
+            try {
+                releaseRetrieval.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "value";
+        };
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executorService.submit(() -> testCache.getFromCacheOrRetrieve(KEY, retriever)));
+            Assert.assertTrue(retrievalStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                results.add(executorService.submit(() -> testCache.getFromCacheOrRetrieve(KEY, retriever)));
+            }
+            // Give the waiting requests time to find the retrieval in flight
+            Thread.sleep(100);
+            releaseRetrieval.countDown();
+
+            for (Future<String> result : results) {
+                Assert.assertEquals(result.get(5, TimeUnit.SECONDS), "value");
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        Assert.assertEquals(retrievalCount.get(), 1);
+        Assert.assertEquals(testCache.getLoadCount(), 1);
+        Assert.assertEquals(entries.get(KEY), "value");
+    }
+
+    @Test
+    public void testRetrievalFailureIsNotCached() throws Exception {
+
+        TestCache testCache = new TestCache(0);
+        try {
+            testCache.getFromCacheOrRetrieve(KEY, () -> {
+                throw new FinancialServicesException("Source unavailable");
+            });
+            Assert.fail("Expected the retrieval to fail");
+        } catch (FinancialServicesException e) {
+            Assert.assertEquals(e.getMessage(), "Source unavailable");
+        }
+
+        Assert.assertEquals(testCache.getLoadFailureCount(), 1);
+        Assert.assertEquals(testCache.getFromCacheOrRetrieve(KEY, () -> "value"), "value");
+    }
+
+    @Test
+    public void testCachedValueIsNotRetrievedAgain() throws Exception {
+
+        TestCache testCache = new TestCache(0);
+        AtomicInteger retrievalCount = new AtomicInteger();
+        FinancialServicesBaseCache.OnDemandRetriever retriever = () -> "value-" + retrievalCount.incrementAndGet();
+
+        Assert.assertEquals(testCache.getFromCacheOrRetrieve(KEY, retriever), "value-1");
+        Assert.assertEquals(testCache.getFromCacheOrRetrieve(KEY, retriever), "value-1");
+        Assert.assertEquals(retrievalCount.get(), 1);
+    }
+
+    @Test
+    public void testRefreshAhead() throws Exception {
+
+        // Refreshing a minute ahead of a one minute expiry makes every cached entry due for refresh
+        TestCache testCache = new TestCache(60);
+        AtomicInteger retrievalCount = new AtomicInteger();
+        FinancialServicesBaseCache.OnDemandRetriever retriever = () -> "value-" + retrievalCount.incrementAndGet();
+
+        Assert.assertEquals(testCache.getFromCacheOrRetrieve(KEY, retriever), "value-1");
+        Assert.assertEquals(testCache.getFromCacheOrRetrieve(KEY, retriever), "value-2");
+        Assert.assertEquals(entries.get(KEY), "value-2");
+    }
+
+    @Test
+    public void testFailedRefreshKeepsCachedValue() throws Exception {
+
+        TestCache testCache = new TestCache(60);
+        testCache.getFromCacheOrRetrieve(KEY, () -> "value");
+
+        Assert.assertEquals(testCache.getFromCacheOrRetrieve(KEY, () -> {
+            throw new FinancialServicesException("Source unavailable");
+        }), "value");
+    }
+
+    @Test
+    public void testNearCacheServesReads() {
+
+        TestCache testCache = new TestCache(0, true);
+        testCache.addToCache(KEY, "value");
+        entries.clear();
+
+        Assert.assertEquals(testCache.getFromCache(KEY), "value");
+        Assert.assertEquals(testCache.getNearCacheHitCount(), 1);
+    }
+
+    @Test
+    public void testNearCacheIsFilledFromCache() {
+
+        TestCache testCache = new TestCache(0, true);
+        entries.put(KEY, "value");
+
+        Assert.assertEquals(testCache.getFromCache(KEY), "value");
+        entries.clear();
+        Assert.assertEquals(testCache.getFromCache(KEY), "value");
+        Assert.assertEquals(testCache.getNearCacheHitCount(), 1);
+    }
+
+    @Test
+    public void testNearCacheInvalidation() {
+
+        TestCache testCache = new TestCache(0, true);
+        TestCache otherNodeCache = new TestCache(0, true);
+        otherNodeCache.addToCache(KEY, "value");
+
+        // A modification through one instance invalidates the near cache of the other instance
+        testCache.addToCache(KEY, "updated");
+        Assert.assertEquals(otherNodeCache.getFromCache(KEY), "updated");
+
+        otherNodeCache.getFromCache(KEY);
+        entries.remove(KEY);
+        NearCacheInvalidationChannel.getInstance().onRemoteInvalidation(CACHE_NAME, KEY);
+        Assert.assertNull(otherNodeCache.getFromCache(KEY));
+
+        testCache.addToCache(KEY, "value");
+        testCache.removeFromCache(KEY);
+        Assert.assertNull(testCache.getFromCache(KEY));
+    }
+
+    @Test
+    public void testOnDemandRetrievalIsNotBroadcast() throws FinancialServicesException {
+
+        List<FinancialServicesBaseCacheKey> sentInvalidations = new ArrayList<>();
+        NearCacheInvalidationChannel.getInstance().setTransport((cacheName, key) -> sentInvalidations.add(key));
+        TestCache testCache = new TestCache(0, true);
+
+        Assert.assertEquals(testCache.getFromCacheOrRetrieve(KEY, () -> "value"), "value");
+        Assert.assertTrue(sentInvalidations.isEmpty());
+        entries.clear();
+        Assert.assertEquals(testCache.getFromCache(KEY), "value");
+        Assert.assertEquals(testCache.getNearCacheHitCount(), 1);
+
+        testCache.addToCache(KEY, "updated");
+        Assert.assertEquals(sentInvalidations, Collections.singletonList(KEY));
+    }
+
+    /**
+     * Cache used to test the base cache.
+     */
+    private static class TestCache extends FinancialServicesBaseCache<TestCacheKey, String> {
+
+        private final int refreshAheadSeconds;
+        private final boolean nearCacheEnabled;
+
+        TestCache(int refreshAheadSeconds) {
+
+            this(refreshAheadSeconds, false);
+        }
+
+        TestCache(int refreshAheadSeconds, boolean nearCacheEnabled) {
+
+            super(CACHE_NAME);
+            this.refreshAheadSeconds = refreshAheadSeconds;
+            this.nearCacheEnabled = nearCacheEnabled;
+        }
+
+        @Override
+        protected NearCache<TestCacheKey, String> createNearCache() {
+
+            return nearCacheEnabled ? new NearCache<>(100, 60000, Clock.systemUTC()) : null;
+        }
+
+        @Override
+        public int getRefreshAheadSeconds() {
+
+            return refreshAheadSeconds;
+        }
+
+        @Override
+        public int getCacheAccessExpiryMinutes() {
+
+            return 1;
+        }
+
+        @Override
+        public int getCacheModifiedExpiryMinutes() {
+
+            return 1;
+        }
+    }
+
+    /**
+     * Cache key used to test the base cache.
+     */
+    private static class TestCacheKey extends FinancialServicesBaseCacheKey {
+
+        private final String key;
+
+        TestCacheKey(String key) {
+
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            return Objects.equals(key, ((TestCacheKey) o).key);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(key);
+        }
+
+        @Override
+        public String toString() {
+
+            return key;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.test.caching;
+
+import com.nimbusds.jose.util.ResourceRetriever;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.caching.CachedJWKSource;
+import org.wso2.financial.services.accelerator.common.caching.JWKSourceRegistry;
+import org.wso2.financial.services.accelerator.common.test.util.testutils.MutableClock;
+
+import java.net.MalformedURLException;
+
+/**
+ * Test class for JWKSourceRegistry.
+ */
+public class JWKSourceRegistryTest {
+
+    private static final String JWKS_URI_1 = "https://tpp1.example.com/jwks";
+    private static final String JWKS_URI_2 = "https://tpp2.example.com/jwks";
+    private static final String JWKS_URI_3 = "https://tpp3.example.com/jwks";
+
+    private JWKSourceRegistry registry;
+
+    @BeforeMethod
+    public void init() {
+
+        registry = new JWKSourceRegistry(Mockito.mock(ResourceRetriever.class), new MutableClock(), 60000, 10000,
+                5000, 120000, 2);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        registry.shutdown();
+    }
+
+    @Test
+    public void testJWKSourceReusedForSameUri() throws Exception {
+
+        CachedJWKSource jwkSource = registry.getJWKSource(JWKS_URI_1);
+
+        Assert.assertSame(registry.getJWKSource(JWKS_URI_1), jwkSource);
+        Assert.assertEquals(registry.getJWKSources().size(), 1);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedJWKSourceEvicted() throws Exception {
+
+        registry.getJWKSource(JWKS_URI_1);
+        registry.getJWKSource(JWKS_URI_2);
+        registry.getJWKSource(JWKS_URI_1);
+        registry.getJWKSource(JWKS_URI_3);
+
+        Assert.assertEquals(registry.getJWKSources().size(), 2);
+        Assert.assertTrue(registry.getJWKSources().containsKey(JWKS_URI_1));
+        Assert.assertFalse(registry.getJWKSources().containsKey(JWKS_URI_2));
+        Assert.assertTrue(registry.getJWKSources().containsKey(JWKS_URI_3));
+    }
+
+    @Test(expectedExceptions = MalformedURLException.class)
+    public void testInvalidJWKSUriNotRegistered() throws Exception {
+
+        try {
+            registry.getJWKSource("invalid-uri");
+        } finally {
+            Assert.assertTrue(registry.getJWKSources().isEmpty());
+        }
+    }
+}
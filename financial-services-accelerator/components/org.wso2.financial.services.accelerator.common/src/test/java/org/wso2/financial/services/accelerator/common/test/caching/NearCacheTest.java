@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.test.caching;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.caching.NearCache;
+import org.wso2.financial.services.accelerator.common.test.util.testutils.MutableClock;
+
+/**
+ * Test class for NearCache.
+ */
+public class NearCacheTest {
+
+    private static final long TTL = 10000;
+
+    private MutableClock clock;
+    private NearCache<String, String> nearCache;
+
+    @BeforeMethod
+    public void init() {
+
+        clock = new MutableClock();
+        nearCache = new NearCache<>(2, TTL, clock);
+    }
+
+    @Test
+    public void testEntryExpiresAfterTimeToLive() {
+
+        nearCache.put("key", "value");
+        clock.advance(TTL - 1);
+        Assert.assertEquals(nearCache.get("key"), "value");
+
+        clock.advance(1);
+        Assert.assertNull(nearCache.get("key"));
+        Assert.assertEquals(nearCache.size(), 0);
+        Assert.assertEquals(nearCache.getHitCount(), 1);
+        Assert.assertEquals(nearCache.getMissCount(), 1);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+
+        nearCache.put("key-1", "value-1");
+        nearCache.put("key-2", "value-2");
+        nearCache.get("key-1");
+        nearCache.put("key-3", "value-3");
+
+        Assert.assertEquals(nearCache.get("key-1"), "value-1");
+        Assert.assertNull(nearCache.get("key-2"));
+        Assert.assertEquals(nearCache.get("key-3"), "value-3");
+        Assert.assertEquals(nearCache.getEvictionCount(), 1);
+    }
+
+    @Test
+    public void testInvalidation() {
+
+        nearCache.put("key-1", "value-1");
+        nearCache.put("key-2", "value-2");
+
+        nearCache.invalidate("key-1");
+        Assert.assertNull(nearCache.get("key-1"));
+        Assert.assertEquals(nearCache.get("key-2"), "value-2");
+
+        nearCache.invalidateAll();
+        Assert.assertEquals(nearCache.size(), 0);
+    }
+}
@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.test.util;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jwt.SignedJWT;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesRuntimeException;
+import org.wso2.financial.services.accelerator.common.test.util.testutils.MutableClock;
+import org.wso2.financial.services.accelerator.common.util.JWTSigningService;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test class for JWTSigningService.
+ */
+public class JWTSigningServiceTest {
+
+    private static final long KEY_CHECK_INTERVAL = 60000;
+    private static final String PAYLOAD = "{\"iss\":\"issuer\",\"jti\":\"123\"}";
+
+    private KeyPair keyPair;
+    private KeyPair rotatedKeyPair;
+    private AtomicReference<Key> currentKey;
+    private AtomicInteger keyLookupCount;
+    private MutableClock clock;
+    private JWTSigningService signingService;
+
+    @BeforeClass
+    public void initClass() throws NoSuchAlgorithmException {
+
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        keyPair = keyPairGenerator.generateKeyPair();
+        rotatedKeyPair = keyPairGenerator.generateKeyPair();
+    }
+
+    @BeforeMethod
+    public void init() {
+
+        currentKey = new AtomicReference<>(keyPair.getPrivate());
+        keyLookupCount = new AtomicInteger();
+        clock = new MutableClock();
+        signingService = new JWTSigningService(() -> {
+            keyLookupCount.incrementAndGet();
+            return currentKey.get();
+        }, clock, KEY_CHECK_INTERVAL);
+    }
+
+    @Test
+    public void testSign() throws ParseException, JOSEException {
+
+        SignedJWT signedJWT = SignedJWT.parse(signingService.sign(PAYLOAD));
+
+        Assert.assertTrue(signedJWT.verify(new RSASSAVerifier((RSAPublicKey) keyPair.getPublic())));
+        Assert.assertEquals(signedJWT.getHeader().getAlgorithm().getName(), "RS256");
+        Assert.assertEquals(signedJWT.getJWTClaimsSet().getIssuer(), "issuer");
+        Assert.assertEquals(signedJWT.getJWTClaimsSet().getJWTID(), "123");
+    }
+
+    @Test
+    public void testSignAll() throws ParseException, JOSEException {
+
+        List<String> signedJWTs = signingService.signAll(Arrays.asList(PAYLOAD, "{\"jti\":\"456\"}"));
+
+        Assert.assertEquals(signedJWTs.size(), 2);
+        Assert.assertEquals(SignedJWT.parse(signedJWTs.get(1)).getJWTClaimsSet().getJWTID(), "456");
+        for (String signedJWT : signedJWTs) {
+            Assert.assertTrue(SignedJWT.parse(signedJWT)
+                    .verify(new RSASSAVerifier((RSAPublicKey) keyPair.getPublic())));
+        }
+        Assert.assertEquals(keyLookupCount.get(), 1);
+    }
+
+    @Test
+    public void testKeyIsCached() {
+
+        signingService.sign(PAYLOAD);
+        signingService.sign(PAYLOAD);
+        clock.advance(KEY_CHECK_INTERVAL - 1);
+        signingService.sign(PAYLOAD);
+
+        Assert.assertEquals(keyLookupCount.get(), 1);
+    }
+
+    @Test
+    public void testRotatedKeyIsPickedUp() throws ParseException, JOSEException {
+
+        signingService.sign(PAYLOAD);
+        currentKey.set(rotatedKeyPair.getPrivate());
+
+        // The rotated key is not looked up until the key check interval elapses
+        Assert.assertTrue(SignedJWT.parse(signingService.sign(PAYLOAD))
+                .verify(new RSASSAVerifier((RSAPublicKey) keyPair.getPublic())));
+
+        clock.advance(KEY_CHECK_INTERVAL);
+        Assert.assertTrue(SignedJWT.parse(signingService.sign(PAYLOAD))
+                .verify(new RSASSAVerifier((RSAPublicKey) rotatedKeyPair.getPublic())));
+        Assert.assertEquals(keyLookupCount.get(), 2);
+    }
+
+    @Test
+    public void testReload() {
+
+        signingService.sign(PAYLOAD);
+        signingService.reload();
+        signingService.sign(PAYLOAD);
+
+        Assert.assertEquals(keyLookupCount.get(), 2);
+    }
+
+    @Test
+    public void testCachedKeyUsedWhenKeyLookupFails() throws ParseException, JOSEException {
+
+        signingService = new JWTSigningService(new FailingAfterFirstLookup(currentKey.get()), clock,
+                KEY_CHECK_INTERVAL);
+        signingService.sign(PAYLOAD);
+        clock.advance(KEY_CHECK_INTERVAL);
+
+        Assert.assertTrue(SignedJWT.parse(signingService.sign(PAYLOAD))
+                .verify(new RSASSAVerifier((RSAPublicKey) keyPair.getPublic())));
+    }
+
+    @Test(expectedExceptions = FinancialServicesRuntimeException.class)
+    public void testSignWithoutKey() {
+
+        currentKey.set(null);
+        signingService.sign(PAYLOAD);
+    }
+
+    @Test(expectedExceptions = FinancialServicesRuntimeException.class)
+    public void testSignNullPayload() {
+
+        signingService.sign(null);
+    }
+
+    /**
+     * Key provider which fails after returning the key once.
+     */
+    private static class FailingAfterFirstLookup implements Callable<Key> {
+
+        private final Key key;
+        private boolean lookedUp;
+
+        FailingAfterFirstLookup(Key key) {
+
+            this.key = key;
+        }
+
+        @Override
+        public Key call() throws Exception {
+
+            if (lookedUp) {
+                throw new IllegalStateException("Keystore not available");
+            }
+            lookedUp = true;
+            return key;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.test.util;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
+import org.wso2.financial.services.accelerator.common.test.util.testutils.MutableClock;
+import org.wso2.financial.services.accelerator.common.util.JWTVerifierRegistry;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.KeyStore;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.RSAPrivateKey;
+
+/**
+ * Test class for JWTVerifierRegistry.
+ */
+public class JWTVerifierRegistryTest {
+
+    private static final long CHECK_INTERVAL = 30000;
+    private static final String RSA_KEYSTORE = "src/test/resources/wso2carbon.jks";
+    private static final String EC_KEYSTORE = "src/test/resources/ec-signer.jks";
+    private static final String RSA_ALIAS = "wso2carbon";
+    private static final String EC_ALIAS = "ec-signer";
+    private static final char[] PASSWORD = "wso2carbon".toCharArray();
+
+    private RSAPrivateKey rsaPrivateKey;
+    private ECPrivateKey ecPrivateKey;
+    private Path trustStorePath;
+    private MutableClock clock;
+    private JWTVerifierRegistry registry;
+
+    @BeforeClass
+    public void initClass() throws Exception {
+
+        rsaPrivateKey = (RSAPrivateKey) loadKeyStore(RSA_KEYSTORE).getKey(RSA_ALIAS, PASSWORD);
+        ecPrivateKey = (ECPrivateKey) loadKeyStore(EC_KEYSTORE).getKey(EC_ALIAS, PASSWORD);
+    }
+
+    @BeforeMethod
+    public void init() throws Exception {
+
+        trustStorePath = Files.createTempFile("truststore", ".jks");
+        Files.copy(Paths.get(RSA_KEYSTORE), trustStorePath, StandardCopyOption.REPLACE_EXISTING);
+        clock = new MutableClock();
+        registry = new JWTVerifierRegistry(trustStorePath, "JKS", PASSWORD, clock, CHECK_INTERVAL);
+    }
+
+    @AfterMethod
+    public void cleanUp() throws Exception {
+
+        Files.deleteIfExists(trustStorePath);
+    }
+
+    @Test
+    public void testVerifyRSASignature() throws Exception {
+
+        Assert.assertTrue(registry.verify(signRSA(null), RSA_ALIAS));
+        Assert.assertEquals(registry.getFailureCount(RSA_ALIAS), 0);
+    }
+
+    @Test
+    public void testVerifyECSignature() throws Exception {
+
+        Files.copy(Paths.get(EC_KEYSTORE), trustStorePath, StandardCopyOption.REPLACE_EXISTING);
+
+        SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.ES256), getClaims());
+        signedJWT.sign(new ECDSASigner(ecPrivateKey));
+
+        Assert.assertTrue(registry.verify(signedJWT.serialize(), EC_ALIAS));
+    }
+
+    @Test
+    public void testKeyIdDoesNotSelectCertificateOfAnotherAlias() throws Exception {
+
+        try {
+            registry.verify(signRSA(RSA_ALIAS), "unknown-alias");
+            Assert.fail("Expected the verification to fail for an alias which is not in the truststore");
+        } catch (ConsentManagementException e) {
+            Assert.assertEquals(e.getMessage(), "Certificate not found for provided alias");
+        }
+    }
+
+    @Test
+    public void testInvalidSignatureIsCounted() throws Exception {
+
+        String jwt = signRSA(null);
+        int signatureStart = jwt.lastIndexOf('.') + 1;
+        String tamperedJWT = jwt.substring(0, signatureStart) + (jwt.charAt(signatureStart) == 'A' ? 'B' : 'A') +
+                jwt.substring(signatureStart + 1);
+
+        Assert.assertFalse(registry.verify(tamperedJWT, RSA_ALIAS));
+        Assert.assertFalse(registry.verify(tamperedJWT, RSA_ALIAS));
+        Assert.assertEquals(registry.getFailureCount(RSA_ALIAS), 2);
+        Assert.assertEquals(registry.getFailureCounts().get(RSA_ALIAS).longValue(), 2);
+    }
+
+    @Test
+    public void testUnknownAlias() throws Exception {
+
+        try {
+            registry.verify(signRSA(null), "unknown-alias");
+            Assert.fail("Expected the verification to fail");
+        } catch (ConsentManagementException e) {
+            Assert.assertEquals(registry.getFailureCount("unknown-alias"), 1);
+        }
+    }
+
+    @Test(expectedExceptions = ConsentManagementException.class)
+    public void testMalformedJWT() throws Exception {
+
+        registry.verify("not-a-jwt", RSA_ALIAS);
+    }
+
+    @Test
+    public void testTrustStoreReloadedAfterModification() throws Exception {
+
+        String jwt = signRSA(null);
+        Assert.assertTrue(registry.verify(jwt, RSA_ALIAS));
+
+        Files.copy(Paths.get(EC_KEYSTORE), trustStorePath, StandardCopyOption.REPLACE_EXISTING);
+        Files.setLastModifiedTime(trustStorePath, FileTime.fromMillis(System.currentTimeMillis() + 10000));
+
+        // The truststore is not checked again within the check interval
+        Assert.assertTrue(registry.verify(jwt, RSA_ALIAS));
+
+        clock.advance(CHECK_INTERVAL);
+        try {
+            registry.verify(jwt, RSA_ALIAS);
+            Assert.fail("Expected the certificate to be removed with the reloaded truststore");
+        } catch (ConsentManagementException e) {
+            Assert.assertEquals(e.getMessage(), "Certificate not found for provided alias");
+        }
+    }
+
+    @Test
+    public void testLoadedTrustStoreKeptWhenReloadFails() throws Exception {
+
+        String jwt = signRSA(null);
+        Assert.assertTrue(registry.verify(jwt, RSA_ALIAS));
+
+        Files.write(trustStorePath, new byte[] {1, 2, 3});
+        Files.setLastModifiedTime(trustStorePath, FileTime.fromMillis(System.currentTimeMillis() + 10000));
+        clock.advance(CHECK_INTERVAL);
+
+        Assert.assertTrue(registry.verify(jwt, RSA_ALIAS));
+    }
+
+    @Test(expectedExceptions = ConsentManagementException.class)
+    public void testMissingTrustStore() throws Exception {
+
+        Files.delete(trustStorePath);
+        registry.verify(signRSA(null), RSA_ALIAS);
+    }
+
+    private String signRSA(String keyId) throws JOSEException {
+
+        SignedJWT signedJWT = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(keyId).build(),
+                getClaims());
+        signedJWT.sign(new RSASSASigner(rsaPrivateKey));
+        return signedJWT.serialize();
+    }
+
+    private static JWTClaimsSet getClaims() {
+
+        return new JWTClaimsSet.Builder().issuer("issuer").jwtID("123").build();
+    }
+
+    private static KeyStore loadKeyStore(String location) throws Exception {
+
+        try (InputStream keyStoreStream = Files.newInputStream(Paths.get(location))) {
+            KeyStore keyStore = KeyStore.getInstance("JKS");
+            keyStore.load(keyStoreStream, PASSWORD);
+            return keyStore;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.test.util.testutils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Clock which only moves when advanced by the test.
+ */
+public class MutableClock extends Clock {
+
+    private long millis = 1000000;
+
+    /**
+     * Move the clock forward.
+     *
+     * @param delta milliseconds to move the clock by
+     */
+    public void advance(long delta) {
+
+        millis += delta;
+    }
+
+    @Override
+    public ZoneId getZone() {
+
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+
+        return this;
+    }
+
+    @Override
+    public Instant instant() {
+
+        return Instant.ofEpochMilli(millis);
+    }
+
+    @Override
+    public long millis() {
+
+        return millis;
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.test.validator;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import org.apache.commons.beanutils.NestedNullException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.test.validator.resources.SampleDifferentClass;
+import org.wso2.financial.services.accelerator.common.test.validator.resources.SampleRequestObject;
+import org.wso2.financial.services.accelerator.common.validator.impl.PropertyPathAccessor;
+
+/**
+ * Test for property path accessor.
+ */
+public class PropertyPathAccessorTest {
+
+    @Test
+    public void testGetSimpleProperties() throws Exception {
+
+        SampleDifferentClass sampleObject = new SampleDifferentClass();
+        sampleObject.setName("name");
+        sampleObject.setAge(70);
+        sampleObject.setMale(true);
+
+        Assert.assertEquals(new PropertyPathAccessor("name").getValue(sampleObject), "name");
+        Assert.assertEquals(new PropertyPathAccessor("age").getValue(sampleObject), 70);
+        Assert.assertEquals(new PropertyPathAccessor("male").getValue(sampleObject), true);
+    }
+
+    @Test
+    public void testGetNestedMapProperty() throws Exception {
+
+        SampleRequestObject sampleObject = new SampleRequestObject();
+        sampleObject.setClaimsSet(new JWTClaimsSet.Builder().claim("scope", "openid accounts").build());
+
+        PropertyPathAccessor accessor = new PropertyPathAccessor("claimsSet.claims.scope");
+        Assert.assertEquals(accessor.getValue(sampleObject), "openid accounts");
+        Assert.assertNull(new PropertyPathAccessor("claimsSet.claims.aud").getValue(sampleObject));
+    }
+
+    @Test(expectedExceptions = NestedNullException.class)
+    public void testGetPropertyOfNullValue() throws Exception {
+
+        new PropertyPathAccessor("claimsSet.claims.scope").getValue(new SampleRequestObject());
+    }
+
+    @Test(expectedExceptions = NoSuchMethodException.class)
+    public void testGetUnknownProperty() throws Exception {
+
+        new PropertyPathAccessor("unknown").getValue(new SampleDifferentClass());
+    }
+}
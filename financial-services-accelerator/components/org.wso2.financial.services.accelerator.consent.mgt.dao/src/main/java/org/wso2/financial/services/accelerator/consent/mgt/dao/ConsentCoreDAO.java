@@ -24,12 +24,15 @@ import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.Consen
 import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataUpdationException;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.AuthorizationResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentAttributes;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentExpiryCursor;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentFile;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentHistoryResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentMappingResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchCursor;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStatusAuditRecord;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ExpiredConsentBatch;
 
 import java.sql.Connection;
 import java.util.ArrayList;
@@ -393,6 +396,85 @@ public interface ConsentCoreDAO {
                                                       Long fromTime, Long toTime, Integer limit, Integer offset)
             throws ConsentDataRetrievalException;
 
+    /**
+     * This method is used to search detailed consents for the given lists of parameters, additionally filtering the
+     * consents by the accounts they are mapped to. A consent matches the account IDs if any of its consent mapping
+     * resources is for one of the accounts. The account filter is applied by the database, so the limit, the offset
+     * and the number of returned consents all refer to the filtered consents.
+     *
+     * @param connection        connection object
+     * @param consentIDs        consent IDs optional list
+     * @param clientIDs         client IDs optional list
+     * @param consentTypes      consent types optional list
+     * @param consentStatuses   consent statuses optional list
+     * @param userIDs           user IDs optional list
+     * @param accountIDs        account IDs optional list
+     * @param fromTime          from time
+     * @param toTime            to time
+     * @param limit             limit
+     * @param offset            offset
+     * @return a list of detailed consent resources according to the provided parameters or the list of all consents
+     * if all parameters are null
+     * @throws ConsentDataRetrievalException thrown if any error occur
+     */
+    ArrayList<DetailedConsentResource> searchConsents(Connection connection, ArrayList<String> consentIDs,
+                                                      ArrayList<String> clientIDs, ArrayList<String> consentTypes,
+                                                      ArrayList<String> consentStatuses, ArrayList<String> userIDs,
+                                                      ArrayList<String> accountIDs, Long fromTime, Long toTime,
+                                                      Integer limit, Integer offset)
+            throws ConsentDataRetrievalException;
+
+    /**
+     * This method is used to search a page of detailed consents using keyset pagination. The same optional search
+     * parameters as {@link #searchConsents} are supported. Consents are ordered by the updated time and the consent ID
+     * in descending order and the page starts after the consent the cursor points to, so the cost of retrieving a
+     * page does not depend on how deep the page is. The result set is read forward only.
+     *
+     * @param connection        connection object
+     * @param consentIDs        consent IDs optional list
+     * @param clientIDs         client IDs optional list
+     * @param consentTypes      consent types optional list
+     * @param consentStatuses   consent statuses optional list
+     * @param userIDs           user IDs optional list
+     * @param fromTime          from time
+     * @param toTime            to time
+     * @param cursor            position after which the page starts, null for the first page
+     * @param pageSize          maximum number of consents in the page
+     * @return a page of detailed consent resources according to the provided parameters
+     * @throws ConsentDataRetrievalException thrown if any error occur
+     */
+    ArrayList<DetailedConsentResource> searchConsentsByCursor(Connection connection, ArrayList<String> consentIDs,
+                                                              ArrayList<String> clientIDs,
+                                                              ArrayList<String> consentTypes,
+                                                              ArrayList<String> consentStatuses,
+                                                              ArrayList<String> userIDs, Long fromTime, Long toTime,
+                                                              ConsentSearchCursor cursor, int pageSize)
+            throws ConsentDataRetrievalException;
+
+    /**
+     * This method is used to count the consents matching the same optional search parameters as
+     * {@link #searchConsents}, including the account IDs, without loading the matching consents. When an approximate
+     * count is requested and no search parameter is provided, the number of consents estimated by the database
+     * statistics is returned if the database provides one. Otherwise the consents are counted exactly.
+     *
+     * @param connection        connection object
+     * @param consentIDs        consent IDs optional list
+     * @param clientIDs         client IDs optional list
+     * @param consentTypes      consent types optional list
+     * @param consentStatuses   consent statuses optional list
+     * @param userIDs           user IDs optional list
+     * @param accountIDs        account IDs optional list
+     * @param fromTime          from time
+     * @param toTime            to time
+     * @param approximate       whether an estimated count is acceptable
+     * @return number of consents matching the provided parameters
+     * @throws ConsentDataRetrievalException thrown if any error occur
+     */
+    int countConsents(Connection connection, ArrayList<String> consentIDs, ArrayList<String> clientIDs,
+                      ArrayList<String> consentTypes, ArrayList<String> consentStatuses, ArrayList<String> userIDs,
+                      ArrayList<String> accountIDs, Long fromTime, Long toTime, boolean approximate)
+            throws ConsentDataRetrievalException;
+
 
     /**
      * This method is used to search authorization resources using following optional parameters. If all the input
@@ -499,4 +581,154 @@ public interface ConsentCoreDAO {
                                                            String statusesEligibleForExpiration)
             throws ConsentDataRetrievalException;
 
+    /**
+     * This method is used to fetch a batch of consents in an eligible status whose expiry time has passed. The
+     * consents are ordered by the expiry time and the consent ID, and the batch starts after the given cursor so
+     * that a sweep can continue from the last consent it has processed. Only the consent ID, client ID, status and
+     * updated time of the consents are set.
+     *
+     * @param connection                    connection object
+     * @param statusesEligibleForExpiration comma separated statuses eligible for expiration
+     * @param expiryTime                    consents expiring at or before this time (in seconds) are fetched
+     * @param cursor                        position after which the batch starts, null for the first batch
+     * @param limit                         maximum number of consents in the batch
+     * @return a batch of expired consents and the cursor to fetch the next batch
+     * @throws ConsentDataRetrievalException thrown if any error occurs in the process
+     */
+    ExpiredConsentBatch getExpiredConsents(Connection connection, String statusesEligibleForExpiration,
+                                           long expiryTime, ConsentExpiryCursor cursor, int limit)
+            throws ConsentDataRetrievalException;
+
+    /**
+     * This method is used to fetch the IDs of the consents updated at or after the given time. The updated time of a
+     * consent is set whenever its status changes, hence the consents whose status changed are among them.
+     *
+     * @param connection connection object
+     * @param fromTime   consents updated at or after this time (in seconds) are fetched
+     * @param limit      maximum number of consent IDs to fetch
+     * @return IDs of the updated consents
+     * @throws ConsentDataRetrievalException thrown if any error occurs in the process
+     */
+    ArrayList<String> getUpdatedConsentIds(Connection connection, long fromTime, int limit)
+            throws ConsentDataRetrievalException;
+
+    /**
+     * This method is used to set the expired status to a batch of consents. The status of a consent is only updated
+     * if it still has the status and the updated time it was fetched with, so a consent expired concurrently by
+     * another node is not expired again.
+     *
+     * @param connection       connection object
+     * @param consentResources consents to expire
+     * @param expiredStatus    expired consent status
+     * @param updatedTime      updated time to set (in seconds)
+     * @return the consents expired by this call
+     * @throws ConsentDataUpdationException thrown if any error occurs in the process
+     */
+    ArrayList<ConsentResource> expireConsents(Connection connection, List<ConsentResource> consentResources,
+                                              String expiredStatus, long updatedTime)
+            throws ConsentDataUpdationException;
+
+    /**
+     * This method is used to retrieve the authorization resources of a list of consents.
+     *
+     * @param connection connection object
+     * @param consentIDs consent IDs
+     * @return authorization resources of the consents
+     * @throws ConsentDataRetrievalException thrown if any error occurs in the process
+     */
+    ArrayList<AuthorizationResource> getAuthorizationResourcesOfConsents(Connection connection,
+                                                                         List<String> consentIDs)
+            throws ConsentDataRetrievalException;
+
+    /**
+     * This method is used to store a batch of consent status audit records.
+     *
+     * @param connection                connection object
+     * @param consentStatusAuditRecords consent status audit records
+     * @throws ConsentDataInsertionException thrown if any error occurs in the process
+     */
+    void storeConsentStatusAuditRecords(Connection connection,
+                                        List<ConsentStatusAuditRecord> consentStatusAuditRecords)
+            throws ConsentDataInsertionException;
+
+    /**
+     * This method is used to store the consent amendment history of a batch of consents. A history record is stored
+     * for each entry of the changed attributes map of a consent history resource, which maps the consent data type
+     * to the changed values of the consent.
+     *
+     * @param connection              connection object
+     * @param consentHistoryResources consent history resources
+     * @throws ConsentDataInsertionException thrown if any error occurs in the process
+     */
+    void storeConsentAmendmentHistory(Connection connection, List<ConsentHistoryResource> consentHistoryResources)
+            throws ConsentDataInsertionException;
+
+    /**
+     * This method is used to store the data of an authorization session against its session data key. An existing
+     * session of the same session data key is replaced. The session is kept until it is deleted or until the expiry
+     * time passes, after which it is removed by the expired session cleanup.
+     *
+     * @param connection     connection object
+     * @param sessionDataKey session data key of the authorization session
+     * @param consentID      consent ID of the authorization session, can be null
+     * @param sessionData    session data to store
+     * @param expiryTime     expiry time of the session (in seconds)
+     * @throws ConsentDataInsertionException thrown if any error occurs in the process
+     */
+    void storeAuthorizationSession(Connection connection, String sessionDataKey, String consentID,
+                                   String sessionData, long expiryTime) throws ConsentDataInsertionException;
+
+    /**
+     * This method is used to retrieve the data of an authorization session which has not expired.
+     *
+     * @param connection     connection object
+     * @param sessionDataKey session data key of the authorization session
+     * @param currentTime    current time (in seconds)
+     * @return session data, or null if there is no unexpired session for the session data key
+     * @throws ConsentDataRetrievalException thrown if any error occurs in the process
+     */
+    String getAuthorizationSession(Connection connection, String sessionDataKey, long currentTime)
+            throws ConsentDataRetrievalException;
+
+    /**
+     * This method is used to delete an authorization session.
+     *
+     * @param connection     connection object
+     * @param sessionDataKey session data key of the authorization session
+     * @throws ConsentDataDeletionException thrown if any error occurs in the process
+     */
+    void deleteAuthorizationSession(Connection connection, String sessionDataKey) throws ConsentDataDeletionException;
+
+    /**
+     * This method is used to delete the authorization sessions whose expiry time has passed.
+     *
+     * @param connection  connection object
+     * @param currentTime current time (in seconds)
+     * @return number of authorization sessions deleted
+     * @throws ConsentDataDeletionException thrown if any error occurs in the process
+     */
+    int deleteExpiredAuthorizationSessions(Connection connection, long currentTime)
+            throws ConsentDataDeletionException;
+
+    /**
+     * This method is used to store a JTI (JWT ID) until the expiry time of its JWT. The JTI is the primary key of the
+     * JTI table, so only one of any number of concurrent calls with the same JTI, from any node, can store it.
+     *
+     * @param connection connection object
+     * @param jti        JTI to store
+     * @param expiryTime expiry time of the JWT (in seconds)
+     * @return true if the JTI is stored, false if the JTI is already stored
+     * @throws ConsentDataInsertionException thrown if any error occurs in the process
+     */
+    boolean storeJti(Connection connection, String jti, long expiryTime) throws ConsentDataInsertionException;
+
+    /**
+     * This method is used to delete the JTIs whose expiry time has passed.
+     *
+     * @param connection  connection object
+     * @param currentTime current time (in seconds)
+     * @return number of JTIs deleted
+     * @throws ConsentDataDeletionException thrown if any error occurs in the process
+     */
+    int deleteExpiredJtis(Connection connection, long currentTime) throws ConsentDataDeletionException;
 }
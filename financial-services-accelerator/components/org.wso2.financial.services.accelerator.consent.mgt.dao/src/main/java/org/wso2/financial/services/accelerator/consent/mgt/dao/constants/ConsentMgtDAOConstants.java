@@ -61,7 +61,10 @@ public class ConsentMgtDAOConstants {
     public static final String TABLE_ID = "TABLE_ID";
     public static final String HISTORY_ID = "HISTORY_ID";
     public static final String CHANGED_VALUES = "CHANGED_VALUES";
+    public static final String EXPIRY_TIME = "EXPIRY_TIME";
     public static final String CONSENT_EXPIRY_TIME_ATTRIBUTE = "ExpirationDateTime";
+    public static final String CONSENT_COUNT = "CONSENT_COUNT";
+    public static final String SESSION_DATA = "SESSION_DATA";
 
     public static final String TYPE_CONSENT_BASIC_DATA = "ConsentData";
     public static final String TYPE_CONSENT_AUTH_RESOURCE_DATA = "ConsentAuthResourceData";
@@ -72,6 +75,7 @@ public class ConsentMgtDAOConstants {
     public static final String CONSENT_TYPES = "consentTypes";
     public static final String CONSENT_STATUSES = "consentStatuses";
     public static final String USER_IDS = "userIDs";
+    public static final String ACCOUNT_IDS = "accountIDs";
     public static final String IN = "inOperator";
     public static final String AND = "andOperator";
     public static final String OR = "orOperator";
@@ -79,6 +83,9 @@ public class ConsentMgtDAOConstants {
     public static final String PLACEHOLDER = "placeholder";
     public static final String PLAIN_PLACEHOLDER = "plainPlaceholder";
     public static final String EQUALS = "equals";
+    // Number of consents whose child resources are loaded by one batched query. Kept below the Oracle limit of
+    // 1000 values in an IN clause and the MSSQL limit of 2100 parameters in a statement.
+    public static final int CONSENT_SEARCH_CHILD_FETCH_BATCH_SIZE = 500;
     // Consent Database Table Identifiers
     public static final String TABLE_FS_CONSENT = "FS_CONSENT";
     public static final String TABLE_FS_CONSENT_AUTH_RESOURCE = "FS_CONSENT_AUTH_RESOURCE";
@@ -100,7 +107,8 @@ public class ConsentMgtDAOConstants {
             CLIENT_IDS, "CLIENT_ID",
             CONSENT_TYPES, "CONSENT_TYPE",
             CONSENT_STATUSES, "CURRENT_STATUS",
-            USER_IDS, "OCAR.USER_ID"
+            USER_IDS, "OCAR.USER_ID",
+            ACCOUNT_IDS, "OCM3.ACCOUNT_ID"
     );
 
     //Error Messages
@@ -151,11 +159,20 @@ public class ConsentMgtDAOConstants {
     public static final String CONSENT_FILE_RETRIEVE_ERROR_MSG = "Error occurred while retrieving consent file " +
             "resource from the database";
     public static final String CONSENT_SEARCH_ERROR_MSG = "Error occurred while searching consents";
+    public static final String CONSENT_COUNT_ERROR_MSG = "Error occurred while counting consents";
     public static final String AUDIT_RECORD_STORE_ERROR_MSG = "Error occurred while storing consent status audit " +
             "record in the database";
     public static final String AUDIT_RECORDS_RETRIEVE_ERROR_MSG = "Error occurred while retrieving consent status " +
             "audit records";
     public static final String CONSENT_AMENDMENT_HISTORY_RETRIEVE_ERROR_MSG = "Error occurred while retrieving " +
             "consent amendment history records from the database for the given consent ID";
+    public static final String AUTHORIZATION_SESSION_STORE_ERROR_MSG = "Error occurred while storing authorization " +
+            "session in the database";
+    public static final String AUTHORIZATION_SESSION_RETRIEVE_ERROR_MSG = "Error occurred while retrieving " +
+            "authorization session from the database";
+    public static final String AUTHORIZATION_SESSION_DELETE_ERROR_MSG = "Error occurred while deleting " +
+            "authorization sessions from the database";
+    public static final String JTI_STORE_ERROR_MSG = "Error occurred while storing JTI in the database";
+    public static final String JTI_DELETE_ERROR_MSG = "Error occurred while deleting expired JTIs from the database";
 
 }
@@ -31,12 +31,15 @@ import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.Consen
 import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataUpdationException;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.AuthorizationResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentAttributes;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentExpiryCursor;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentFile;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentHistoryResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentMappingResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchCursor;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStatusAuditRecord;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ExpiredConsentBatch;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.queries.ConsentMgtCommonDBQueries;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.util.ConsentManagementDAOUtil;
 
@@ -44,12 +47,15 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -68,10 +74,46 @@ public class ConsentCoreDAOImpl implements ConsentCoreDAO {
     private static final Log log = LogFactory.getLog(ConsentCoreDAOImpl.class);
     private static final String GROUP_BY_SEPARATOR = "\\|\\|";
     ConsentMgtCommonDBQueries sqlStatements;
+    private final boolean batchedChildFetchEnabled;
+    private final Set<String> lookupAttributeKeys;
 
     public ConsentCoreDAOImpl(ConsentMgtCommonDBQueries sqlStatements) {
 
+        this(sqlStatements, false);
+    }
+
+    public ConsentCoreDAOImpl(ConsentMgtCommonDBQueries sqlStatements, boolean batchedChildFetchEnabled) {
+
+        this(sqlStatements, batchedChildFetchEnabled, Collections.emptySet());
+    }
+
+    /**
+     * Initialize the DAO with the SQL statements of the database type.
+     *
+     * @param sqlStatements            SQL statements of the database type
+     * @param batchedChildFetchEnabled whether the consent search loads the attributes, authorization resources and
+     *                                 mappings of a page of consents in batched queries instead of aggregating them
+     *                                 in the search query
+     * @param lookupAttributeKeys      consent attribute keys whose values are indexed in the consent attribute lookup
+     *                                 table, to find the consents of an attribute key and value without scanning the
+     *                                 consent attributes
+     */
+    public ConsentCoreDAOImpl(ConsentMgtCommonDBQueries sqlStatements, boolean batchedChildFetchEnabled,
+                              Set<String> lookupAttributeKeys) {
+
         this.sqlStatements = sqlStatements;
+        this.batchedChildFetchEnabled = batchedChildFetchEnabled;
+        this.lookupAttributeKeys = Collections.unmodifiableSet(new HashSet<>(lookupAttributeKeys));
+    }
+
+    boolean isBatchedChildFetchEnabled() {
+
+        return batchedChildFetchEnabled;
+    }
+
+    boolean isLookupAttributeKey(String attributeKey) {
+
+        return lookupAttributeKeys.contains(attributeKey);
     }
 
     @Override
@@ -754,6 +796,11 @@ public class ConsentCoreDAOImpl implements ConsentCoreDAO {
 
             // with result, we can determine whether the updating was successful or not
             result = storeConsentAttributesPreparedStmt.executeBatch();
+            storeConsentAttributeLookups(connection, consentAttributes.getConsentID(), consentAttributesMap);
+            if (consentAttributesMap.containsKey(ConsentMgtDAOConstants.CONSENT_EXPIRY_TIME_ATTRIBUTE)) {
+                updateConsentExpiryTime(connection, consentAttributes.getConsentID(),
+                        consentAttributesMap.get(ConsentMgtDAOConstants.CONSENT_EXPIRY_TIME_ATTRIBUTE));
+            }
         } catch (SQLException e) {
             log.error(ConsentMgtDAOConstants.CONSENT_ATTRIBUTES_STORE_ERROR_MSG, e);
             throw new ConsentDataInsertionException(ConsentMgtDAOConstants.CONSENT_ATTRIBUTES_STORE_ERROR_MSG, e);
@@ -772,6 +819,117 @@ public class ConsentCoreDAOImpl implements ConsentCoreDAO {
         }
     }
 
+    /**
+     * Indexes the hashed values of the consent attributes of the lookup attribute keys, so the consent can be found
+     * by the attribute key and value. The index rows are removed together with the consent attributes.
+     *
+     * @param connection        connection object
+     * @param consentID         consent ID
+     * @param consentAttributes stored consent attributes
+     * @throws SQLException thrown if an error occurs when storing the index rows
+     */
+    private void storeConsentAttributeLookups(Connection connection, String consentID,
+                                              Map<String, String> consentAttributes) throws SQLException {
+
+        Map<String, String> lookupAttributes = getLookupAttributes(consentAttributes);
+        if (lookupAttributes.isEmpty()) {
+            return;
+        }
+
+        String storeConsentAttributeLookupPrepStatement =
+                sqlStatements.getStoreConsentAttributeLookupPreparedStatement();
+
+        try (PreparedStatement storeConsentAttributeLookupPreparedStmt =
+                     connection.prepareStatement(storeConsentAttributeLookupPrepStatement)) {
+
+            for (Map.Entry<String, String> entry : lookupAttributes.entrySet()) {
+                storeConsentAttributeLookupPreparedStmt.setString(1, entry.getKey());
+                storeConsentAttributeLookupPreparedStmt.setString(2,
+                        ConsentManagementDAOUtil.getAttributeValueHash(entry.getValue()));
+                storeConsentAttributeLookupPreparedStmt.setString(3, consentID);
+                storeConsentAttributeLookupPreparedStmt.addBatch();
+            }
+            storeConsentAttributeLookupPreparedStmt.executeBatch();
+        }
+    }
+
+    /**
+     * Re-indexes the hashed values of the updated consent attributes of the lookup attribute keys.
+     *
+     * @param connection        connection object
+     * @param consentID         consent ID
+     * @param consentAttributes updated consent attributes
+     * @throws SQLException thrown if an error occurs when updating the index rows
+     */
+    private void updateConsentAttributeLookups(Connection connection, String consentID,
+                                               Map<String, String> consentAttributes) throws SQLException {
+
+        Map<String, String> lookupAttributes = getLookupAttributes(consentAttributes);
+        if (lookupAttributes.isEmpty()) {
+            return;
+        }
+
+        String deleteConsentAttributeLookupPrepStatement =
+                sqlStatements.getDeleteConsentAttributeLookupPreparedStatement();
+
+        try (PreparedStatement deleteConsentAttributeLookupPreparedStmt =
+                     connection.prepareStatement(deleteConsentAttributeLookupPrepStatement)) {
+
+            for (String key : lookupAttributes.keySet()) {
+                deleteConsentAttributeLookupPreparedStmt.setString(1, consentID);
+                deleteConsentAttributeLookupPreparedStmt.setString(2, key);
+                deleteConsentAttributeLookupPreparedStmt.addBatch();
+            }
+            deleteConsentAttributeLookupPreparedStmt.executeBatch();
+        }
+        storeConsentAttributeLookups(connection, consentID, lookupAttributes);
+    }
+
+    private Map<String, String> getLookupAttributes(Map<String, String> consentAttributes) {
+
+        if (lookupAttributeKeys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return consentAttributes.entrySet().stream()
+                .filter(entry -> isLookupAttributeKey(entry.getKey()) && entry.getValue() != null)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    /**
+     * Keeps the indexed expiry time column of a consent in sync with its expiry time attribute. The column is cleared
+     * if the attribute is removed or does not hold a timestamp.
+     *
+     * @param connection     connection object
+     * @param consentID      consent ID
+     * @param expiryTime     value of the expiry time attribute, or null if it is removed
+     * @throws SQLException thrown if an error occurs when updating the expiry time
+     */
+    private void updateConsentExpiryTime(Connection connection, String consentID, String expiryTime)
+            throws SQLException {
+
+        String updateConsentExpiryTimePrepStatement = sqlStatements.getUpdateConsentExpiryTimePreparedStatement();
+
+        try (PreparedStatement updateConsentExpiryTimePreparedStmt =
+                     connection.prepareStatement(updateConsentExpiryTimePrepStatement)) {
+
+            Long expiryTimestamp = null;
+            if (StringUtils.isNotBlank(expiryTime)) {
+                try {
+                    expiryTimestamp = Long.parseLong(expiryTime.trim());
+                } catch (NumberFormatException e) {
+                    log.debug("Consent expiry time attribute is not a timestamp. Clearing the consent expiry time");
+                }
+            }
+            if (expiryTimestamp != null) {
+                updateConsentExpiryTimePreparedStmt.setLong(1, expiryTimestamp);
+            } else {
+                updateConsentExpiryTimePreparedStmt.setNull(1, Types.BIGINT);
+            }
+            updateConsentExpiryTimePreparedStmt.setString(2, consentID);
+            updateConsentExpiryTimePreparedStmt.executeUpdate();
+        }
+    }
+
     @Override
     public ConsentAttributes getConsentAttributes(Connection connection, String consentID)
             throws ConsentDataRetrievalException {
@@ -905,8 +1063,11 @@ public class ConsentCoreDAOImpl implements ConsentCoreDAO {
             throws ConsentDataRetrievalException {
 
         ArrayList<String> retrievedConsentIdList = new ArrayList<>();
-        String getConsentIdByConsentAttributeNameAndValuePrepStatement = sqlStatements
-                .getConsentIdByConsentAttributeNameAndValuePreparedStatement();
+        // Attributes of the lookup keys are found through the hashed value index instead of scanning the attributes
+        boolean isIndexedLookup = isLookupAttributeKey(attributeName);
+        String getConsentIdByConsentAttributeNameAndValuePrepStatement = isIndexedLookup ?
+                sqlStatements.getConsentIdByIndexedConsentAttributeNameAndValuePreparedStatement() :
+                sqlStatements.getConsentIdByConsentAttributeNameAndValuePreparedStatement();
 
         try (PreparedStatement getConsentAttributesByNamePreparedStmt =
                      connection.prepareStatement(getConsentIdByConsentAttributeNameAndValuePrepStatement)) {
@@ -917,7 +1078,13 @@ public class ConsentCoreDAOImpl implements ConsentCoreDAO {
                         attributeValue.replaceAll("[\r\n]", "")));
             }
             getConsentAttributesByNamePreparedStmt.setString(1, attributeName);
-            getConsentAttributesByNamePreparedStmt.setString(2, attributeValue);
+            if (isIndexedLookup) {
+                getConsentAttributesByNamePreparedStmt.setString(2,
+                        ConsentManagementDAOUtil.getAttributeValueHash(attributeValue));
+                getConsentAttributesByNamePreparedStmt.setString(3, attributeValue);
+            } else {
+                getConsentAttributesByNamePreparedStmt.setString(2, attributeValue);
+            }
 
             try (ResultSet resultSet = getConsentAttributesByNamePreparedStmt.executeQuery()) {
                 if (resultSet.isBeforeFirst()) {
@@ -963,6 +1130,11 @@ public class ConsentCoreDAOImpl implements ConsentCoreDAO {
 
             // with result, we can determine whether the updating was successful or not
             result = updateConsentAttributesPreparedStmt.executeBatch();
+            updateConsentAttributeLookups(connection, consentID, consentAttributes);
+            if (consentAttributes.containsKey(ConsentMgtDAOConstants.CONSENT_EXPIRY_TIME_ATTRIBUTE)) {
+                updateConsentExpiryTime(connection, consentID,
+                        consentAttributes.get(ConsentMgtDAOConstants.CONSENT_EXPIRY_TIME_ATTRIBUTE));
+            }
         } catch (SQLException e) {
             log.error(ConsentMgtDAOConstants.CONSENT_ATTRIBUTES_UPDATE_ERROR_MSG, e);
             throw new ConsentDataUpdationException(ConsentMgtDAOConstants.CONSENT_ATTRIBUTES_UPDATE_ERROR_MSG, e);
@@ -1000,6 +1172,9 @@ public class ConsentCoreDAOImpl implements ConsentCoreDAO {
             }
 
             result = deleteConsentAttributesPreparedStmt.executeBatch();
+            if (consentAttributeKeys.contains(ConsentMgtDAOConstants.CONSENT_EXPIRY_TIME_ATTRIBUTE)) {
+                updateConsentExpiryTime(connection, consentID, null);
+            }
         } catch (SQLException e) {
             log.error(ConsentMgtDAOConstants.CONSENT_ATTRIBUTES_DELETE_ERROR_MSG, e);
             throw new ConsentDataDeletionException(ConsentMgtDAOConstants.CONSENT_ATTRIBUTES_DELETE_ERROR_MSG, e);
@@ -1090,6 +1265,19 @@ public class ConsentCoreDAOImpl implements ConsentCoreDAO {
         return receivedConsentFileResource;
     }
 
+    @Override
+    public ArrayList<DetailedConsentResource> searchConsents(Connection connection, ArrayList<String> consentIDs,
+                                                             ArrayList<String> clientIDs,
+                                                             ArrayList<String> consentTypes,
+                                                             ArrayList<String> consentStatuses,
+                                                             ArrayList<String> userIDs, Long fromTime, Long toTime,
+                                                             Integer limit, Integer offset)
+            throws ConsentDataRetrievalException {
+
+        return searchConsents(connection, consentIDs, clientIDs, consentTypes, consentStatuses, userIDs, null,
+                fromTime, toTime, limit, offset);
+    }
+
     @Override
     @SuppressFBWarnings("SQL_INJECTION_JDBC")
     // Suppressed content - connection.prepareStatement(searchConsentsPreparedStatement,
@@ -1100,10 +1288,16 @@ public class ConsentCoreDAOImpl implements ConsentCoreDAO {
                                                              ArrayList<String> clientIDs,
                                                              ArrayList<String> consentTypes,
                                                              ArrayList<String> consentStatuses,
-                                                             ArrayList<String> userIDs, Long fromTime, Long toTime,
-                                                             Integer limit, Integer offset)
+                                                             ArrayList<String> userIDs, ArrayList<String> accountIDs,
+                                                             Long fromTime, Long toTime, Integer limit,
+                                                             Integer offset)
             throws ConsentDataRetrievalException {
 
+        if (batchedChildFetchEnabled) {
+            return searchConsentsWithBatchedChildFetch(connection, consentIDs, clientIDs, consentTypes,
+                    consentStatuses, userIDs, accountIDs, fromTime, toTime, limit, offset);
+        }
+
         boolean shouldLimit = true;
         boolean shouldOffset = true;
         int parameterIndex = 0;
@@ -1131,9 +1325,11 @@ public class ConsentCoreDAOImpl implements ConsentCoreDAO {
             userIDFilterCondition = ConsentManagementDAOUtil.constructUserIdListFilterCondition(userIdMap);
         }
 
+        String accountIDFilterCondition = constructAccountIdFilterCondition(accountIDs);
+
         String searchConsentsPreparedStatement =
                 sqlStatements.getSearchConsentsPreparedStatement(constructedConditions, shouldLimit, shouldOffset,
-                        userIDFilterCondition);
+                        userIDFilterCondition, accountIDFilterCondition);
 
         try (PreparedStatement searchConsentsPreparedStmt =
                      connection.prepareStatement(searchConsentsPreparedStatement, ResultSet.TYPE_SCROLL_INSENSITIVE,
@@ -1172,6 +1368,8 @@ public class ConsentCoreDAOImpl implements ConsentCoreDAO {
                 searchConsentsPreparedStmt.setNull(++parameterIndex, Types.BIGINT);
             }
 
+            parameterIndex = setAccountIdFilterParameters(searchConsentsPreparedStmt, accountIDs, parameterIndex);
+
             if (limit != null && offset != null) {
                 searchConsentsPreparedStmt.setInt(++parameterIndex, limit);
                 searchConsentsPreparedStmt.setInt(++parameterIndex, offset);
@@ -1197,6 +1395,386 @@ public class ConsentCoreDAOImpl implements ConsentCoreDAO {
         }
     }
 
+    /**
+     * Search detailed consents by fetching the page of matching consents first and then loading the authorization
+     * resources, consent mappings and attributes of the page in one batched query each. The child resources are
+     * stitched to the consents in memory, so the values are not concatenated into a single column by the database.
+     *
+     * @param connection      connection object
+     * @param consentIDs      consent IDs optional list
+     * @param clientIDs       client IDs optional list
+     * @param consentTypes    consent types optional list
+     * @param consentStatuses consent statuses optional list
+     * @param userIDs         user IDs optional list
+     * @param accountIDs      account IDs optional list
+     * @param fromTime        from time
+     * @param toTime          to time
+     * @param limit           limit
+     * @param offset          offset
+     * @return a list of detailed consent resources according to the provided parameters
+     * @throws ConsentDataRetrievalException thrown if any error occur
+     */
+    @SuppressFBWarnings("SQL_INJECTION_JDBC")
+    // Suppressed content - connection.prepareStatement(searchConsentsPagePreparedStatement,
+    //                  ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)
+    // Suppression reason - False Positive : Cannot bind variables separately as the query is complex
+    // Suppressed warning count - 1
+    ArrayList<DetailedConsentResource> searchConsentsWithBatchedChildFetch(Connection connection,
+                                                                           ArrayList<String> consentIDs,
+                                                                           ArrayList<String> clientIDs,
+                                                                           ArrayList<String> consentTypes,
+                                                                           ArrayList<String> consentStatuses,
+                                                                           ArrayList<String> userIDs,
+                                                                           ArrayList<String> accountIDs,
+                                                                           Long fromTime, Long toTime,
+                                                                           Integer limit, Integer offset)
+            throws ConsentDataRetrievalException {
+
+        Map<String, ArrayList<String>> applicableConditionsMap = new HashMap<>();
+        validateAndSetSearchConditions(applicableConditionsMap, consentIDs, clientIDs, consentTypes, consentStatuses);
+
+        log.debug("Constructing the prepared statement");
+        String constructedConditions =
+                ConsentManagementDAOUtil.constructConsentSearchPreparedStatement(applicableConditionsMap);
+
+        String userIDFilterCondition = "";
+        Map<String, ArrayList<String>> userIdMap = new HashMap<>();
+        if (CollectionUtils.isNotEmpty(userIDs)) {
+            userIdMap.put(ConsentMgtDAOConstants.COLUMNS_MAP.get(ConsentMgtDAOConstants.USER_IDS), userIDs);
+            userIDFilterCondition = ConsentManagementDAOUtil.constructUserIdListFilterCondition(userIdMap);
+        }
+
+        String searchConsentsPagePreparedStatement = sqlStatements.getSearchConsentsPagePreparedStatement(
+                constructedConditions, limit != null, offset != null, userIDFilterCondition,
+                constructAccountIdFilterCondition(accountIDs));
+
+        Map<String, DetailedConsentResource> detailedConsentResources = new LinkedHashMap<>();
+        try (PreparedStatement searchConsentsPagePreparedStmt =
+                     connection.prepareStatement(searchConsentsPagePreparedStatement, ResultSet.TYPE_FORWARD_ONLY,
+                             ResultSet.CONCUR_READ_ONLY)) {
+
+            log.debug("Setting parameters to prepared statement to search a page of consents");
+            Map<Integer, ArrayList<String>> orderedParamsMap = ConsentManagementDAOUtil.determineOrderOfParamsToSet(
+                    constructedConditions, applicableConditionsMap, ConsentMgtDAOConstants.COLUMNS_MAP);
+            int parameterIndex = ConsentManagementDAOUtil.setDynamicConsentSearchParameters(
+                    searchConsentsPagePreparedStmt, orderedParamsMap, 1);
+
+            // The user ID filter precedes the updated time range in every dialect
+            if (!userIdMap.isEmpty()) {
+                Map<Integer, ArrayList<String>> orderedUserIdsMap = ConsentManagementDAOUtil
+                        .determineOrderOfParamsToSet(userIDFilterCondition, userIdMap,
+                                ConsentMgtDAOConstants.COLUMNS_MAP);
+                parameterIndex = ConsentManagementDAOUtil.setDynamicConsentSearchParameters(
+                        searchConsentsPagePreparedStmt, orderedUserIdsMap, parameterIndex);
+            }
+            parameterIndex = parameterIndex - 1;
+
+            if (fromTime != null) {
+                searchConsentsPagePreparedStmt.setLong(++parameterIndex, fromTime);
+            } else {
+                searchConsentsPagePreparedStmt.setNull(++parameterIndex, Types.BIGINT);
+            }
+
+            if (toTime != null) {
+                searchConsentsPagePreparedStmt.setLong(++parameterIndex, toTime);
+            } else {
+                searchConsentsPagePreparedStmt.setNull(++parameterIndex, Types.BIGINT);
+            }
+
+            parameterIndex = setAccountIdFilterParameters(searchConsentsPagePreparedStmt, accountIDs,
+                    parameterIndex);
+
+            if (limit != null && offset != null) {
+                searchConsentsPagePreparedStmt.setInt(++parameterIndex,
+                        sqlStatements.isLimitBeforeThanOffset() ? limit : offset);
+                searchConsentsPagePreparedStmt.setInt(++parameterIndex,
+                        sqlStatements.isLimitBeforeThanOffset() ? offset : limit);
+            } else if (limit != null) {
+                searchConsentsPagePreparedStmt.setInt(++parameterIndex, limit);
+            }
+
+            try (ResultSet resultSet = searchConsentsPagePreparedStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    DetailedConsentResource detailedConsentResource =
+                            ConsentManagementDAOUtil.setConsentDataToDetailedConsentResource(resultSet);
+                    detailedConsentResources.put(detailedConsentResource.getConsentID(), detailedConsentResource);
+                }
+            }
+
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Loading the child resources of %d consents in batches",
+                        detailedConsentResources.size()));
+            }
+            List<String> pageConsentIDs = new ArrayList<>(detailedConsentResources.keySet());
+            for (int fromIndex = 0; fromIndex < pageConsentIDs.size();
+                 fromIndex += ConsentMgtDAOConstants.CONSENT_SEARCH_CHILD_FETCH_BATCH_SIZE) {
+                List<String> batchConsentIDs = pageConsentIDs.subList(fromIndex, Math.min(pageConsentIDs.size(),
+                        fromIndex + ConsentMgtDAOConstants.CONSENT_SEARCH_CHILD_FETCH_BATCH_SIZE));
+                fetchChildResourcesOfConsents(connection, batchConsentIDs, detailedConsentResources);
+            }
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.CONSENT_SEARCH_ERROR_MSG, e);
+            throw new ConsentDataRetrievalException(ConsentMgtDAOConstants.CONSENT_SEARCH_ERROR_MSG, e);
+        }
+        return new ArrayList<>(detailedConsentResources.values());
+    }
+
+    /**
+     * Load the authorization resources, consent mappings and attributes of a batch of consents and set them to the
+     * detailed consents.
+     *
+     * @param connection               connection object
+     * @param consentIDs               consent IDs of the batch
+     * @param detailedConsentResources detailed consents of the page by consent ID
+     * @throws SQLException thrown if an error occurs when reading the child resources
+     */
+    @SuppressFBWarnings("SQL_INJECTION_JDBC")
+    // Suppressed content - connection.prepareStatement(getAuthResourcesPreparedStatement)
+    //                      connection.prepareStatement(getMappingsPreparedStatement)
+    //                      connection.prepareStatement(getAttributesPreparedStatement)
+    // Suppression reason - False Positive : Only the placeholders of the consent IDs are appended to the queries
+    // Suppressed warning count - 3
+    private void fetchChildResourcesOfConsents(Connection connection, List<String> consentIDs,
+                                               Map<String, DetailedConsentResource> detailedConsentResources)
+            throws SQLException {
+
+        String placeholders = String.join(",", Collections.nCopies(consentIDs.size(), "?"));
+
+        String getAuthResourcesPreparedStatement =
+                sqlStatements.getSearchAuthorizationResourcesByConsentIdsPreparedStatement(placeholders);
+        try (PreparedStatement getAuthResourcesPreparedStmt =
+                     connection.prepareStatement(getAuthResourcesPreparedStatement)) {
+            setConsentIdParameters(getAuthResourcesPreparedStmt, consentIDs);
+            try (ResultSet resultSet = getAuthResourcesPreparedStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    AuthorizationResource authorizationResource = ConsentManagementDAOUtil
+                            .setAuthorizationData(resultSet, ConsentMgtDAOConstants.UPDATED_TIME);
+                    detailedConsentResources.get(authorizationResource.getConsentID()).getAuthorizationResources()
+                            .add(authorizationResource);
+                }
+            }
+        }
+
+        String getMappingsPreparedStatement =
+                sqlStatements.getSearchConsentMappingsByConsentIdsPreparedStatement(placeholders);
+        try (PreparedStatement getMappingsPreparedStmt = connection.prepareStatement(getMappingsPreparedStatement)) {
+            setConsentIdParameters(getMappingsPreparedStmt, consentIDs);
+            try (ResultSet resultSet = getMappingsPreparedStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    detailedConsentResources.get(resultSet.getString(ConsentMgtDAOConstants.CONSENT_ID))
+                            .getConsentMappingResources()
+                            .add(ConsentManagementDAOUtil.getConsentMappingResourceWithData(resultSet));
+                }
+            }
+        }
+
+        String getAttributesPreparedStatement =
+                sqlStatements.getSearchConsentAttributesByConsentIdsPreparedStatement(placeholders);
+        try (PreparedStatement getAttributesPreparedStmt =
+                     connection.prepareStatement(getAttributesPreparedStatement)) {
+            setConsentIdParameters(getAttributesPreparedStmt, consentIDs);
+            try (ResultSet resultSet = getAttributesPreparedStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    detailedConsentResources.get(resultSet.getString(ConsentMgtDAOConstants.CONSENT_ID))
+                            .getConsentAttributes().put(resultSet.getString(ConsentMgtDAOConstants.ATT_KEY),
+                                    resultSet.getString(ConsentMgtDAOConstants.ATT_VALUE));
+                }
+            }
+        }
+    }
+
+    private static void setConsentIdParameters(PreparedStatement preparedStatement, List<String> consentIDs)
+            throws SQLException {
+
+        int parameterIndex = 0;
+        for (String consentID : consentIDs) {
+            preparedStatement.setString(++parameterIndex, consentID);
+        }
+    }
+
+    @Override
+    @SuppressFBWarnings("SQL_INJECTION_JDBC")
+    // Suppressed content - connection.prepareStatement(searchConsentsPreparedStatement,
+    //                  ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)
+    // Suppression reason - False Positive : Cannot bind variables separately as the query is complex
+    // Suppressed warning count - 1
+    public ArrayList<DetailedConsentResource> searchConsentsByCursor(Connection connection,
+                                                                     ArrayList<String> consentIDs,
+                                                                     ArrayList<String> clientIDs,
+                                                                     ArrayList<String> consentTypes,
+                                                                     ArrayList<String> consentStatuses,
+                                                                     ArrayList<String> userIDs, Long fromTime,
+                                                                     Long toTime, ConsentSearchCursor cursor,
+                                                                     int pageSize)
+            throws ConsentDataRetrievalException {
+
+        Map<String, ArrayList<String>> applicableConditionsMap = new HashMap<>();
+        validateAndSetSearchConditions(applicableConditionsMap, consentIDs, clientIDs, consentTypes, consentStatuses);
+
+        log.debug("Constructing the prepared statement");
+        String constructedConditions =
+                ConsentManagementDAOUtil.constructConsentSearchPreparedStatement(applicableConditionsMap);
+
+        String userIDFilterCondition = "";
+        Map<String, ArrayList<String>> userIdMap = new HashMap<>();
+        if (CollectionUtils.isNotEmpty(userIDs)) {
+            userIdMap.put(ConsentMgtDAOConstants.COLUMNS_MAP.get(ConsentMgtDAOConstants.USER_IDS), userIDs);
+            userIDFilterCondition = ConsentManagementDAOUtil.constructUserIdListFilterCondition(userIdMap);
+        }
+
+        String searchConsentsPreparedStatement = sqlStatements.getKeysetSearchConsentsPreparedStatement(
+                constructedConditions, userIDFilterCondition, cursor != null);
+
+        // Forward only and read only, so that the driver streams the page instead of buffering a scrollable copy
+        try (PreparedStatement searchConsentsPreparedStmt =
+                     connection.prepareStatement(searchConsentsPreparedStatement, ResultSet.TYPE_FORWARD_ONLY,
+                             ResultSet.CONCUR_READ_ONLY)) {
+
+            searchConsentsPreparedStmt.setFetchSize(pageSize);
+
+            log.debug("Setting parameters to prepared statement to search consents");
+            int parameterIndex = setConsentSearchFilterParameters(searchConsentsPreparedStmt, constructedConditions,
+                    applicableConditionsMap, userIDFilterCondition, userIdMap);
+
+            if (fromTime != null) {
+                searchConsentsPreparedStmt.setLong(++parameterIndex, fromTime);
+            } else {
+                searchConsentsPreparedStmt.setNull(++parameterIndex, Types.BIGINT);
+            }
+
+            if (toTime != null) {
+                searchConsentsPreparedStmt.setLong(++parameterIndex, toTime);
+            } else {
+                searchConsentsPreparedStmt.setNull(++parameterIndex, Types.BIGINT);
+            }
+
+            if (cursor != null) {
+                searchConsentsPreparedStmt.setLong(++parameterIndex, cursor.getUpdatedTime());
+                searchConsentsPreparedStmt.setLong(++parameterIndex, cursor.getUpdatedTime());
+                searchConsentsPreparedStmt.setString(++parameterIndex, cursor.getConsentID());
+            }
+            searchConsentsPreparedStmt.setInt(++parameterIndex, pageSize);
+
+            try (ResultSet resultSet = searchConsentsPreparedStmt.executeQuery()) {
+                return constructDetailedConsentsSearchResult(resultSet, pageSize);
+            } catch (SQLException e) {
+                log.error("Error occurred while searching detailed consent resources", e);
+                throw new ConsentDataRetrievalException("Error occurred while searching detailed " +
+                        "consent resources", e);
+            }
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.CONSENT_SEARCH_ERROR_MSG, e);
+            throw new ConsentDataRetrievalException(ConsentMgtDAOConstants.CONSENT_SEARCH_ERROR_MSG, e);
+        }
+    }
+
+    @Override
+    @SuppressFBWarnings("SQL_INJECTION_JDBC")
+    // Suppressed content - connection.prepareStatement(countConsentsPreparedStatement)
+    // Suppression reason - False Positive : Cannot bind variables separately as the query is complex
+    // Suppressed warning count - 1
+    public int countConsents(Connection connection, ArrayList<String> consentIDs, ArrayList<String> clientIDs,
+                             ArrayList<String> consentTypes, ArrayList<String> consentStatuses,
+                             ArrayList<String> userIDs, ArrayList<String> accountIDs, Long fromTime, Long toTime,
+                             boolean approximate)
+            throws ConsentDataRetrievalException {
+
+        Map<String, ArrayList<String>> applicableConditionsMap = new HashMap<>();
+        validateAndSetSearchConditions(applicableConditionsMap, consentIDs, clientIDs, consentTypes, consentStatuses);
+
+        // Database statistics can only estimate the size of the whole table
+        if (approximate && applicableConditionsMap.isEmpty() && CollectionUtils.isEmpty(userIDs)
+                && CollectionUtils.isEmpty(accountIDs) && fromTime == null && toTime == null) {
+            Integer approximateCount = getApproximateConsentCount(connection);
+            if (approximateCount != null) {
+                return approximateCount;
+            }
+        }
+
+        log.debug("Constructing the prepared statement");
+        String constructedConditions =
+                ConsentManagementDAOUtil.constructConsentSearchPreparedStatement(applicableConditionsMap);
+
+        String userIDFilterCondition = "";
+        Map<String, ArrayList<String>> userIdMap = new HashMap<>();
+        if (CollectionUtils.isNotEmpty(userIDs)) {
+            userIdMap.put(ConsentMgtDAOConstants.COLUMNS_MAP.get(ConsentMgtDAOConstants.USER_IDS), userIDs);
+            userIDFilterCondition = ConsentManagementDAOUtil.constructUserIdListFilterCondition(userIdMap);
+        }
+
+        String countConsentsPreparedStatement = sqlStatements.getSearchConsentsCountPreparedStatement(
+                constructedConditions, userIDFilterCondition, constructAccountIdFilterCondition(accountIDs));
+
+        try (PreparedStatement countConsentsPreparedStmt =
+                     connection.prepareStatement(countConsentsPreparedStatement)) {
+
+            log.debug("Setting parameters to prepared statement to count consents");
+            int parameterIndex = setConsentSearchFilterParameters(countConsentsPreparedStmt, constructedConditions,
+                    applicableConditionsMap, userIDFilterCondition, userIdMap);
+
+            if (fromTime != null) {
+                countConsentsPreparedStmt.setLong(++parameterIndex, fromTime);
+            } else {
+                countConsentsPreparedStmt.setNull(++parameterIndex, Types.BIGINT);
+            }
+
+            if (toTime != null) {
+                countConsentsPreparedStmt.setLong(++parameterIndex, toTime);
+            } else {
+                countConsentsPreparedStmt.setNull(++parameterIndex, Types.BIGINT);
+            }
+
+            setAccountIdFilterParameters(countConsentsPreparedStmt, accountIDs, parameterIndex);
+
+            try (ResultSet resultSet = countConsentsPreparedStmt.executeQuery()) {
+                return resultSet.next() ? resultSet.getInt(ConsentMgtDAOConstants.CONSENT_COUNT) : 0;
+            }
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.CONSENT_COUNT_ERROR_MSG, e);
+            throw new ConsentDataRetrievalException(ConsentMgtDAOConstants.CONSENT_COUNT_ERROR_MSG, e);
+        }
+    }
+
+    /**
+     * Reads the number of consents estimated by the database statistics. A failed estimate is rolled back to a
+     * savepoint, as some databases abort the whole transaction on an error and the exact count runs on the same
+     * connection.
+     *
+     * @param connection connection object
+     * @return estimated number of consents, or null if the database does not provide an estimate
+     */
+    Integer getApproximateConsentCount(Connection connection) {
+
+        Savepoint savepoint = null;
+        try {
+            if (!connection.getAutoCommit()) {
+                savepoint = connection.setSavepoint();
+            }
+            try (PreparedStatement approximateCountPreparedStmt =
+                         connection.prepareStatement(sqlStatements.getApproximateConsentCountPreparedStatement());
+                 ResultSet resultSet = approximateCountPreparedStmt.executeQuery()) {
+
+                if (resultSet.next()) {
+                    long approximateCount = resultSet.getLong(1);
+                    // Statistics which were never gathered are reported as null or as a negative value
+                    if (!resultSet.wasNull() && approximateCount >= 0) {
+                        return (int) Math.min(approximateCount, Integer.MAX_VALUE);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            log.debug("Unable to read the estimated number of consents. Counting the consents exactly", e);
+            if (savepoint != null) {
+                try {
+                    connection.rollback(savepoint);
+                } catch (SQLException rollbackException) {
+                    log.error("Error while rolling back the estimated consent count query", rollbackException);
+                }
+            }
+        }
+        return null;
+    }
+
     @Override
     @SuppressFBWarnings("SQL_INJECTION_JDBC")
     // Suppressed content - connection.prepareStatement(searchAuthorizationResourcesPrepStatement)
@@ -1632,6 +2210,516 @@ public class ConsentCoreDAOImpl implements ConsentCoreDAO {
         }
     }
 
+    @Override
+    @SuppressFBWarnings("SQL_INJECTION_JDBC")
+    // Suppressed content - connection.prepareStatement(expiredConsentsStatement)
+    // Suppression reason - False Positive : Only the placeholders of the statuses are appended to the query
+    // Suppressed warning count - 1
+    public ExpiredConsentBatch getExpiredConsents(Connection connection, String statusesEligibleForExpiration,
+                                                  long expiryTime, ConsentExpiryCursor cursor, int limit)
+            throws ConsentDataRetrievalException {
+
+        List<String> statusesEligibleForExpirationList = Arrays.stream(statusesEligibleForExpiration
+                        .split(",")).map(String::trim).filter(status -> !status.isEmpty())
+                .collect(Collectors.toList());
+        ArrayList<ConsentResource> expiredConsents = new ArrayList<>();
+        ConsentExpiryCursor nextCursor = cursor;
+        if (statusesEligibleForExpirationList.isEmpty()) {
+            return new ExpiredConsentBatch(expiredConsents, nextCursor);
+        }
+
+        String statusesEligibleForExpirationCondition = ConsentManagementDAOUtil
+                .constructStatusesEligibleForExpirationCondition(statusesEligibleForExpirationList);
+        String expiredConsentsStatement = sqlStatements.getSearchExpiredConsentsPreparedStatement(
+                statusesEligibleForExpirationCondition);
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(expiredConsentsStatement)) {
+
+            log.debug("Setting parameters to prepared statement to fetch expired consents");
+
+            long afterExpiryTime = cursor != null ? cursor.getExpiryTime() : Long.MIN_VALUE;
+            String afterConsentID = cursor != null ? cursor.getConsentID() : "";
+            int parameterIndex = 0;
+            preparedStatement.setLong(++parameterIndex, expiryTime);
+            preparedStatement.setLong(++parameterIndex, afterExpiryTime);
+            preparedStatement.setLong(++parameterIndex, afterExpiryTime);
+            preparedStatement.setString(++parameterIndex, afterConsentID);
+            for (String status : statusesEligibleForExpirationList) {
+                preparedStatement.setString(++parameterIndex, status);
+            }
+            preparedStatement.setInt(++parameterIndex, limit);
+
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    ConsentResource consentResource = new ConsentResource();
+                    consentResource.setConsentID(resultSet.getString(ConsentMgtDAOConstants.CONSENT_ID));
+                    consentResource.setClientID(resultSet.getString(ConsentMgtDAOConstants.CLIENT_ID));
+                    consentResource.setCurrentStatus(resultSet.getString(ConsentMgtDAOConstants.CURRENT_STATUS));
+                    consentResource.setUpdatedTime(resultSet.getLong(ConsentMgtDAOConstants.UPDATED_TIME));
+                    expiredConsents.add(consentResource);
+                    nextCursor = new ConsentExpiryCursor(resultSet.getLong(ConsentMgtDAOConstants.EXPIRY_TIME),
+                            consentResource.getConsentID());
+                }
+            }
+        } catch (SQLException e) {
+            log.error("Error occurred while searching expired consents", e);
+            throw new ConsentDataRetrievalException("Error occurred while searching expired consents", e);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Found %d expired consents in the batch", expiredConsents.size()));
+        }
+        return new ExpiredConsentBatch(expiredConsents, nextCursor);
+    }
+
+    @Override
+    public ArrayList<String> getUpdatedConsentIds(Connection connection, long fromTime, int limit)
+            throws ConsentDataRetrievalException {
+
+        ArrayList<String> consentIDs = new ArrayList<>();
+        String updatedConsentIdsPrepStatement = sqlStatements.getUpdatedConsentIdsPreparedStatement();
+
+        try (PreparedStatement updatedConsentIdsPreparedStmt =
+                     connection.prepareStatement(updatedConsentIdsPrepStatement)) {
+
+            log.debug("Setting parameters to prepared statement to fetch updated consent IDs");
+
+            updatedConsentIdsPreparedStmt.setLong(1, fromTime);
+            updatedConsentIdsPreparedStmt.setMaxRows(limit);
+
+            try (ResultSet resultSet = updatedConsentIdsPreparedStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    consentIDs.add(resultSet.getString(ConsentMgtDAOConstants.CONSENT_ID));
+                }
+            }
+        } catch (SQLException e) {
+            log.error("Error occurred while searching updated consents", e);
+            throw new ConsentDataRetrievalException("Error occurred while searching updated consents", e);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Found %d consents updated since %d", consentIDs.size(), fromTime));
+        }
+        return consentIDs;
+    }
+
+    @Override
+    public ArrayList<ConsentResource> expireConsents(Connection connection, List<ConsentResource> consentResources,
+                                                     String expiredStatus, long updatedTime)
+            throws ConsentDataUpdationException {
+
+        ArrayList<ConsentResource> expiredConsents = new ArrayList<>();
+        if (consentResources.isEmpty()) {
+            return expiredConsents;
+        }
+
+        int[] result;
+        String expireConsentPrepStatement = sqlStatements.getExpireConsentPreparedStatement();
+
+        try (PreparedStatement expireConsentPreparedStmt = connection.prepareStatement(expireConsentPrepStatement)) {
+
+            log.debug("Setting parameters to prepared statement to expire consents");
+
+            for (ConsentResource consentResource : consentResources) {
+                expireConsentPreparedStmt.setString(1, expiredStatus);
+                expireConsentPreparedStmt.setLong(2, updatedTime);
+                expireConsentPreparedStmt.setString(3, consentResource.getConsentID());
+                expireConsentPreparedStmt.setString(4, consentResource.getCurrentStatus());
+                expireConsentPreparedStmt.setLong(5, consentResource.getUpdatedTime());
+                expireConsentPreparedStmt.addBatch();
+            }
+
+            result = expireConsentPreparedStmt.executeBatch();
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.CONSENT_STATUS_UPDATE_ERROR_MSG, e);
+            throw new ConsentDataUpdationException(ConsentMgtDAOConstants.CONSENT_STATUS_UPDATE_ERROR_MSG, e);
+        }
+
+        /*
+           An empty array or an array with value -3 means the batch execution is failed. A consent whose status or
+           updated time has changed since it was fetched is not updated, so its update count is 0 and it is not
+           expired by this call. A driver may report -2 instead of the update count, so those consents are confirmed
+           by reading back the status they were updated to.
+        */
+        if (result.length != consentResources.size() || IntStream.of(result).anyMatch(value -> value == -3)) {
+            throw new ConsentDataUpdationException("Failed to expire consents properly.");
+        }
+        List<ConsentResource> unconfirmedConsents = new ArrayList<>();
+        for (int i = 0; i < result.length; i++) {
+            if (result[i] > 0) {
+                expiredConsents.add(consentResources.get(i));
+            } else if (result[i] == -2) {
+                unconfirmedConsents.add(consentResources.get(i));
+            }
+        }
+        if (!unconfirmedConsents.isEmpty()) {
+            Set<String> updatedConsentIDs = getConsentIdsWithStatus(connection, unconfirmedConsents, expiredStatus,
+                    updatedTime);
+            for (ConsentResource consentResource : unconfirmedConsents) {
+                if (updatedConsentIDs.contains(consentResource.getConsentID())) {
+                    expiredConsents.add(consentResource);
+                }
+            }
+        }
+        return expiredConsents;
+    }
+
+    @SuppressFBWarnings("SQL_INJECTION_JDBC")
+    // Suppressed content - connection.prepareStatement(consentIdsWithStatusPrepStatement)
+    // Suppression reason - False Positive : Only the placeholders of the consent IDs are appended to the query
+    // Suppressed warning count - 1
+    private Set<String> getConsentIdsWithStatus(Connection connection, List<ConsentResource> consentResources,
+                                                String status, long updatedTime)
+            throws ConsentDataUpdationException {
+
+        Set<String> consentIDs = new HashSet<>();
+        int batchSize = ConsentMgtDAOConstants.CONSENT_SEARCH_CHILD_FETCH_BATCH_SIZE;
+
+        for (int fromIndex = 0; fromIndex < consentResources.size(); fromIndex += batchSize) {
+            List<String> batchConsentIDs = consentResources.subList(fromIndex,
+                    Math.min(fromIndex + batchSize, consentResources.size())).stream()
+                    .map(ConsentResource::getConsentID).collect(Collectors.toList());
+            String placeholders = String.join(",", Collections.nCopies(batchConsentIDs.size(), "?"));
+            String consentIdsWithStatusPrepStatement =
+                    sqlStatements.getConsentIdsWithStatusPreparedStatement(placeholders);
+
+            try (PreparedStatement consentIdsWithStatusPreparedStmt =
+                         connection.prepareStatement(consentIdsWithStatusPrepStatement)) {
+                setConsentIdParameters(consentIdsWithStatusPreparedStmt, batchConsentIDs);
+                consentIdsWithStatusPreparedStmt.setString(batchConsentIDs.size() + 1, status);
+                consentIdsWithStatusPreparedStmt.setLong(batchConsentIDs.size() + 2, updatedTime);
+                try (ResultSet resultSet = consentIdsWithStatusPreparedStmt.executeQuery()) {
+                    while (resultSet.next()) {
+                        consentIDs.add(resultSet.getString(ConsentMgtDAOConstants.CONSENT_ID));
+                    }
+                }
+            } catch (SQLException e) {
+                log.error(ConsentMgtDAOConstants.CONSENT_STATUS_UPDATE_ERROR_MSG, e);
+                throw new ConsentDataUpdationException(ConsentMgtDAOConstants.CONSENT_STATUS_UPDATE_ERROR_MSG, e);
+            }
+        }
+        return consentIDs;
+    }
+
+    @Override
+    @SuppressFBWarnings("SQL_INJECTION_JDBC")
+    // Suppressed content - connection.prepareStatement(getAuthResourcesPreparedStatement)
+    // Suppression reason - False Positive : Only the placeholders of the consent IDs are appended to the query
+    // Suppressed warning count - 1
+    public ArrayList<AuthorizationResource> getAuthorizationResourcesOfConsents(Connection connection,
+                                                                                List<String> consentIDs)
+            throws ConsentDataRetrievalException {
+
+        ArrayList<AuthorizationResource> authorizationResources = new ArrayList<>();
+        int batchSize = ConsentMgtDAOConstants.CONSENT_SEARCH_CHILD_FETCH_BATCH_SIZE;
+
+        for (int fromIndex = 0; fromIndex < consentIDs.size(); fromIndex += batchSize) {
+            List<String> batchConsentIDs = consentIDs.subList(fromIndex,
+                    Math.min(fromIndex + batchSize, consentIDs.size()));
+            String placeholders = String.join(",", Collections.nCopies(batchConsentIDs.size(), "?"));
+            String getAuthResourcesPreparedStatement =
+                    sqlStatements.getSearchAuthorizationResourcesByConsentIdsPreparedStatement(placeholders);
+
+            try (PreparedStatement getAuthResourcesPreparedStmt =
+                         connection.prepareStatement(getAuthResourcesPreparedStatement)) {
+                setConsentIdParameters(getAuthResourcesPreparedStmt, batchConsentIDs);
+                try (ResultSet resultSet = getAuthResourcesPreparedStmt.executeQuery()) {
+                    while (resultSet.next()) {
+                        authorizationResources.add(ConsentManagementDAOUtil
+                                .setAuthorizationData(resultSet, ConsentMgtDAOConstants.UPDATED_TIME));
+                    }
+                }
+            } catch (SQLException e) {
+                log.error(ConsentMgtDAOConstants.CONSENT_AUTHORIZATION_RESOURCE_RETRIEVE_ERROR_MSG, e);
+                throw new ConsentDataRetrievalException(
+                        ConsentMgtDAOConstants.CONSENT_AUTHORIZATION_RESOURCE_RETRIEVE_ERROR_MSG, e);
+            }
+        }
+        return authorizationResources;
+    }
+
+    @Override
+    public void storeConsentStatusAuditRecords(Connection connection,
+                                               List<ConsentStatusAuditRecord> consentStatusAuditRecords)
+            throws ConsentDataInsertionException {
+
+        if (consentStatusAuditRecords.isEmpty()) {
+            return;
+        }
+
+        int[] result;
+        String storeConsentStatusAuditRecordPrepStatement =
+                sqlStatements.getStoreConsentStatusAuditRecordPreparedStatement();
+
+        try (PreparedStatement storeConsentStatusAuditRecordPreparedStmt =
+                     connection.prepareStatement(storeConsentStatusAuditRecordPrepStatement)) {
+
+            log.debug("Setting parameters to prepared statement to store consent audit records");
+
+            for (ConsentStatusAuditRecord consentStatusAuditRecord : consentStatusAuditRecords) {
+                String statusAuditID = StringUtils.isEmpty(consentStatusAuditRecord.getStatusAuditID()) ?
+                        UUID.randomUUID().toString() : consentStatusAuditRecord.getStatusAuditID();
+                // Unix time in seconds
+                long actionTime = (consentStatusAuditRecord.getActionTime() == 0) ?
+                        System.currentTimeMillis() / 1000 : consentStatusAuditRecord.getActionTime();
+                consentStatusAuditRecord.setStatusAuditID(statusAuditID);
+                consentStatusAuditRecord.setActionTime(actionTime);
+
+                storeConsentStatusAuditRecordPreparedStmt.setString(1, statusAuditID);
+                storeConsentStatusAuditRecordPreparedStmt.setString(2, consentStatusAuditRecord.getConsentID());
+                storeConsentStatusAuditRecordPreparedStmt.setString(3, consentStatusAuditRecord.getCurrentStatus());
+                storeConsentStatusAuditRecordPreparedStmt.setLong(4, actionTime);
+                storeConsentStatusAuditRecordPreparedStmt.setString(5, consentStatusAuditRecord.getReason());
+                storeConsentStatusAuditRecordPreparedStmt.setString(6, consentStatusAuditRecord.getActionBy());
+                storeConsentStatusAuditRecordPreparedStmt.setString(7, consentStatusAuditRecord.getPreviousStatus());
+                storeConsentStatusAuditRecordPreparedStmt.addBatch();
+            }
+
+            result = storeConsentStatusAuditRecordPreparedStmt.executeBatch();
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.AUDIT_RECORD_STORE_ERROR_MSG, e);
+            throw new ConsentDataInsertionException(ConsentMgtDAOConstants.AUDIT_RECORD_STORE_ERROR_MSG, e);
+        }
+
+        if (result.length != 0 && IntStream.of(result).noneMatch(value -> value == -3)) {
+            log.debug("Stored the consent status audit records successfully");
+        } else {
+            throw new ConsentDataInsertionException("Failed to store consent status audit record data properly.");
+        }
+    }
+
+    @Override
+    public void storeConsentAmendmentHistory(Connection connection,
+                                             List<ConsentHistoryResource> consentHistoryResources)
+            throws ConsentDataInsertionException {
+
+        int[] result;
+        String insertConsentHistoryPrepStatement = sqlStatements.getInsertConsentHistoryPreparedStatement();
+
+        try (PreparedStatement insertConsentHistoryPreparedStmt =
+                     connection.prepareStatement(insertConsentHistoryPrepStatement)) {
+
+            log.debug("Setting parameters to prepared statement to store consent amendment history records");
+
+            int recordCount = 0;
+            for (ConsentHistoryResource consentHistoryResource : consentHistoryResources) {
+                for (Map.Entry<String, Object> changedAttributes :
+                        consentHistoryResource.getChangedAttributesJsonDataMap().entrySet()) {
+                    insertConsentHistoryPreparedStmt.setString(1,
+                            ConsentManagementDAOUtil.generateConsentTableId(changedAttributes.getKey()));
+                    insertConsentHistoryPreparedStmt.setString(2, consentHistoryResource.getConsentID());
+                    insertConsentHistoryPreparedStmt.setString(3, consentHistoryResource.getHistoryID());
+                    insertConsentHistoryPreparedStmt.setString(4, String.valueOf(changedAttributes.getValue()));
+                    insertConsentHistoryPreparedStmt.setString(5, consentHistoryResource.getReason());
+                    insertConsentHistoryPreparedStmt.setLong(6, consentHistoryResource.getTimestamp());
+                    insertConsentHistoryPreparedStmt.addBatch();
+                    recordCount++;
+                }
+            }
+            if (recordCount == 0) {
+                return;
+            }
+
+            result = insertConsentHistoryPreparedStmt.executeBatch();
+        } catch (SQLException e) {
+            log.error("Error while storing consent amendment history", e);
+            throw new ConsentDataInsertionException("Error while storing consent amendment history", e);
+        }
+
+        if (result.length == 0 || IntStream.of(result).anyMatch(value -> value == -3)) {
+            log.error("Failed to store consent amendment history data.");
+            throw new ConsentDataInsertionException("Failed to store consent amendment history data properly.");
+        }
+    }
+
+    @Override
+    public void storeAuthorizationSession(Connection connection, String sessionDataKey, String consentID,
+                                          String sessionData, long expiryTime) throws ConsentDataInsertionException {
+
+        if (updateAuthorizationSession(connection, sessionDataKey, consentID, sessionData, expiryTime)) {
+            log.debug("Updated the existing authorization session successfully");
+            return;
+        }
+
+        int result;
+        Savepoint savepoint = null;
+        String storeAuthorizationSessionPrepStatement = sqlStatements.getStoreAuthorizationSessionPreparedStatement();
+
+        try {
+            if (!connection.getAutoCommit()) {
+                savepoint = connection.setSavepoint();
+            }
+            try (PreparedStatement storeAuthorizationSessionPreparedStmt =
+                         connection.prepareStatement(storeAuthorizationSessionPrepStatement)) {
+
+                log.debug("Setting parameters to prepared statement to store authorization session");
+
+                storeAuthorizationSessionPreparedStmt.setString(1, sessionDataKey);
+                storeAuthorizationSessionPreparedStmt.setString(2, consentID);
+                storeAuthorizationSessionPreparedStmt.setString(3, sessionData);
+                storeAuthorizationSessionPreparedStmt.setLong(4, expiryTime);
+
+                result = storeAuthorizationSessionPreparedStmt.executeUpdate();
+            }
+        } catch (SQLException e) {
+            if (!ConsentManagementDAOUtil.isUniqueConstraintViolation(e)) {
+                log.error(ConsentMgtDAOConstants.AUTHORIZATION_SESSION_STORE_ERROR_MSG, e);
+                throw new ConsentDataInsertionException(ConsentMgtDAOConstants.AUTHORIZATION_SESSION_STORE_ERROR_MSG,
+                        e);
+            }
+            // The session was stored concurrently for the same key, so the stored session is updated instead
+            log.debug("The authorization session was stored concurrently. Updating the stored session");
+            if (savepoint != null) {
+                try {
+                    connection.rollback(savepoint);
+                } catch (SQLException rollbackException) {
+                    log.error(ConsentMgtDAOConstants.AUTHORIZATION_SESSION_STORE_ERROR_MSG, rollbackException);
+                    throw new ConsentDataInsertionException(
+                            ConsentMgtDAOConstants.AUTHORIZATION_SESSION_STORE_ERROR_MSG, rollbackException);
+                }
+            }
+            result = updateAuthorizationSession(connection, sessionDataKey, consentID, sessionData, expiryTime) ?
+                    1 : 0;
+        }
+
+        if (result > 0) {
+            log.debug("Stored the authorization session successfully");
+        } else {
+            throw new ConsentDataInsertionException("Failed to store authorization session data properly.");
+        }
+    }
+
+    private boolean updateAuthorizationSession(Connection connection, String sessionDataKey, String consentID,
+                                               String sessionData, long expiryTime)
+            throws ConsentDataInsertionException {
+
+        String updateAuthorizationSessionPrepStatement =
+                sqlStatements.getUpdateAuthorizationSessionPreparedStatement();
+
+        try (PreparedStatement updateAuthorizationSessionPreparedStmt =
+                     connection.prepareStatement(updateAuthorizationSessionPrepStatement)) {
+
+            log.debug("Setting parameters to prepared statement to update authorization session");
+
+            updateAuthorizationSessionPreparedStmt.setString(1, consentID);
+            updateAuthorizationSessionPreparedStmt.setString(2, sessionData);
+            updateAuthorizationSessionPreparedStmt.setLong(3, expiryTime);
+            updateAuthorizationSessionPreparedStmt.setString(4, sessionDataKey);
+
+            return updateAuthorizationSessionPreparedStmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.AUTHORIZATION_SESSION_STORE_ERROR_MSG, e);
+            throw new ConsentDataInsertionException(ConsentMgtDAOConstants.AUTHORIZATION_SESSION_STORE_ERROR_MSG, e);
+        }
+    }
+
+    @Override
+    public String getAuthorizationSession(Connection connection, String sessionDataKey, long currentTime)
+            throws ConsentDataRetrievalException {
+
+        String getAuthorizationSessionPrepStatement = sqlStatements.getGetAuthorizationSessionPreparedStatement();
+
+        try (PreparedStatement getAuthorizationSessionPreparedStmt =
+                     connection.prepareStatement(getAuthorizationSessionPrepStatement)) {
+
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Setting parameters to prepared statement to retrieve authorization session" +
+                        " for the session data key: %s", sessionDataKey.replaceAll("[\r\n]", "")));
+            }
+            getAuthorizationSessionPreparedStmt.setString(1, sessionDataKey);
+            getAuthorizationSessionPreparedStmt.setLong(2, currentTime);
+
+            try (ResultSet resultSet = getAuthorizationSessionPreparedStmt.executeQuery()) {
+                if (resultSet.next()) {
+                    return resultSet.getString(ConsentMgtDAOConstants.SESSION_DATA);
+                }
+                return null;
+            }
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.AUTHORIZATION_SESSION_RETRIEVE_ERROR_MSG, e);
+            throw new ConsentDataRetrievalException(ConsentMgtDAOConstants.AUTHORIZATION_SESSION_RETRIEVE_ERROR_MSG,
+                    e);
+        }
+    }
+
+    @Override
+    public void deleteAuthorizationSession(Connection connection, String sessionDataKey)
+            throws ConsentDataDeletionException {
+
+        String deleteAuthorizationSessionPrepStatement = sqlStatements.getDeleteAuthorizationSessionPreparedStatement();
+
+        try (PreparedStatement deleteAuthorizationSessionPreparedStmt =
+                     connection.prepareStatement(deleteAuthorizationSessionPrepStatement)) {
+
+            log.debug("Setting parameters to prepared statement to delete authorization session");
+
+            deleteAuthorizationSessionPreparedStmt.setString(1, sessionDataKey);
+            deleteAuthorizationSessionPreparedStmt.executeUpdate();
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.AUTHORIZATION_SESSION_DELETE_ERROR_MSG, e);
+            throw new ConsentDataDeletionException(ConsentMgtDAOConstants.AUTHORIZATION_SESSION_DELETE_ERROR_MSG, e);
+        }
+    }
+
+    @Override
+    public int deleteExpiredAuthorizationSessions(Connection connection, long currentTime)
+            throws ConsentDataDeletionException {
+
+        String deleteExpiredAuthorizationSessionsPrepStatement =
+                sqlStatements.getDeleteExpiredAuthorizationSessionsPreparedStatement();
+
+        try (PreparedStatement deleteExpiredAuthorizationSessionsPreparedStmt =
+                     connection.prepareStatement(deleteExpiredAuthorizationSessionsPrepStatement)) {
+
+            log.debug("Setting parameters to prepared statement to delete expired authorization sessions");
+
+            deleteExpiredAuthorizationSessionsPreparedStmt.setLong(1, currentTime);
+            return deleteExpiredAuthorizationSessionsPreparedStmt.executeUpdate();
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.AUTHORIZATION_SESSION_DELETE_ERROR_MSG, e);
+            throw new ConsentDataDeletionException(ConsentMgtDAOConstants.AUTHORIZATION_SESSION_DELETE_ERROR_MSG, e);
+        }
+    }
+
+    @Override
+    public boolean storeJti(Connection connection, String jti, long expiryTime) throws ConsentDataInsertionException {
+
+        String storeJtiPrepStatement = sqlStatements.getStoreJtiPreparedStatement();
+
+        try (PreparedStatement storeJtiPreparedStmt = connection.prepareStatement(storeJtiPrepStatement)) {
+
+            log.debug("Setting parameters to prepared statement to store JTI");
+
+            storeJtiPreparedStmt.setString(1, jti);
+            storeJtiPreparedStmt.setLong(2, expiryTime);
+
+            return storeJtiPreparedStmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            if (ConsentManagementDAOUtil.isUniqueConstraintViolation(e)) {
+                log.debug("The JTI is already stored");
+                return false;
+            }
+            log.error(ConsentMgtDAOConstants.JTI_STORE_ERROR_MSG, e);
+            throw new ConsentDataInsertionException(ConsentMgtDAOConstants.JTI_STORE_ERROR_MSG, e);
+        }
+    }
+
+    @Override
+    public int deleteExpiredJtis(Connection connection, long currentTime) throws ConsentDataDeletionException {
+
+        String deleteExpiredJtisPrepStatement = sqlStatements.getDeleteExpiredJtisPreparedStatement();
+
+        try (PreparedStatement deleteExpiredJtisPreparedStmt =
+                     connection.prepareStatement(deleteExpiredJtisPrepStatement)) {
+
+            log.debug("Setting parameters to prepared statement to delete expired JTIs");
+
+            deleteExpiredJtisPreparedStmt.setLong(1, currentTime);
+            return deleteExpiredJtisPreparedStmt.executeUpdate();
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.JTI_DELETE_ERROR_MSG, e);
+            throw new ConsentDataDeletionException(ConsentMgtDAOConstants.JTI_DELETE_ERROR_MSG, e);
+        }
+    }
+
     void validateAndSetSearchConditions(Map<String, ArrayList<String>> applicableConditionsMap,
                                         ArrayList<String> consentIDs, ArrayList<String> clientIDs,
                                         ArrayList<String> consentTypes, ArrayList<String> consentStatuses) {
@@ -1656,6 +2744,72 @@ public class ConsentCoreDAOImpl implements ConsentCoreDAO {
         }
     }
 
+    /**
+     * Sets the consent search filter parameters in the order they appear in the search query.
+     *
+     * @param preparedStatement       consent search prepared statement
+     * @param constructedConditions   constructed consent search where clause
+     * @param applicableConditionsMap applicable consent search conditions
+     * @param userIDFilterCondition   constructed user ID filter condition
+     * @param userIdMap               user IDs to filter by
+     * @return index of the last parameter set
+     * @throws SQLException thrown if an error occurs when setting the parameters
+     */
+    int setConsentSearchFilterParameters(PreparedStatement preparedStatement, String constructedConditions,
+                                         Map<String, ArrayList<String>> applicableConditionsMap,
+                                         String userIDFilterCondition, Map<String, ArrayList<String>> userIdMap)
+            throws SQLException {
+
+        Map<Integer, ArrayList<String>> orderedParamsMap = ConsentManagementDAOUtil.determineOrderOfParamsToSet(
+                constructedConditions, applicableConditionsMap, ConsentMgtDAOConstants.COLUMNS_MAP);
+        int parameterIndex = ConsentManagementDAOUtil.setDynamicConsentSearchParameters(preparedStatement,
+                orderedParamsMap, 1);
+
+        if (!userIdMap.isEmpty()) {
+            Map<Integer, ArrayList<String>> orderedUserIdsMap = ConsentManagementDAOUtil
+                    .determineOrderOfParamsToSet(userIDFilterCondition, userIdMap, ConsentMgtDAOConstants.COLUMNS_MAP);
+            parameterIndex = ConsentManagementDAOUtil.setDynamicConsentSearchParameters(preparedStatement,
+                    orderedUserIdsMap, parameterIndex);
+        }
+        return parameterIndex - 1;
+    }
+
+    /**
+     * Constructs the condition which filters the consent mappings by account ID.
+     *
+     * @param accountIDs account IDs to filter by
+     * @return account ID filter condition, or an empty string if there are no account IDs
+     */
+    String constructAccountIdFilterCondition(ArrayList<String> accountIDs) {
+
+        if (CollectionUtils.isEmpty(accountIDs)) {
+            return "";
+        }
+        Map<String, ArrayList<String>> accountIdMap = new HashMap<>();
+        accountIdMap.put(ConsentMgtDAOConstants.COLUMNS_MAP.get(ConsentMgtDAOConstants.ACCOUNT_IDS), accountIDs);
+        return ConsentManagementDAOUtil.constructUserIdListFilterCondition(accountIdMap);
+    }
+
+    /**
+     * Sets the account IDs of the account ID filter condition after the given parameter index.
+     *
+     * @param preparedStatement consent search prepared statement
+     * @param accountIDs        account IDs to filter by
+     * @param parameterIndex    index of the last parameter set
+     * @return index of the last parameter set
+     * @throws SQLException thrown if an error occurs when setting the parameters
+     */
+    int setAccountIdFilterParameters(PreparedStatement preparedStatement, ArrayList<String> accountIDs,
+                                     int parameterIndex) throws SQLException {
+
+        if (CollectionUtils.isNotEmpty(accountIDs)) {
+            for (String accountID : accountIDs) {
+                preparedStatement.setString(++parameterIndex, accountID);
+            }
+        }
+        return parameterIndex;
+    }
+
     ArrayList<DetailedConsentResource> constructDetailedConsentsSearchResult(ResultSet resultSet, int resultSetSize)
             throws SQLException {
 
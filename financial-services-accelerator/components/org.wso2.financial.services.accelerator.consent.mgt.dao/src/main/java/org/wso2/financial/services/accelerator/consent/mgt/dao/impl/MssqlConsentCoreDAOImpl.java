@@ -67,6 +67,17 @@ public class MssqlConsentCoreDAOImpl extends ConsentCoreDAOImpl {
         super(sqlStatements);
     }
 
+    public MssqlConsentCoreDAOImpl(ConsentMgtMssqlDBQueries sqlStatements, boolean batchedChildFetchEnabled) {
+
+        super(sqlStatements, batchedChildFetchEnabled);
+    }
+
+    public MssqlConsentCoreDAOImpl(ConsentMgtMssqlDBQueries sqlStatements, boolean batchedChildFetchEnabled,
+                                   Set<String> lookupAttributeKeys) {
+
+        super(sqlStatements, batchedChildFetchEnabled, lookupAttributeKeys);
+    }
+
     @Override
     @SuppressFBWarnings("SQL_INJECTION_JDBC")
     // Suppressed content - connection.prepareStatement(searchConsentsPreparedStatement,
@@ -77,10 +88,16 @@ public class MssqlConsentCoreDAOImpl extends ConsentCoreDAOImpl {
                                                              ArrayList<String> clientIDs,
                                                              ArrayList<String> consentTypes,
                                                              ArrayList<String> consentStatuses,
-                                                             ArrayList<String> userIDs, Long fromTime,
+                                                             ArrayList<String> userIDs,
+                                                             ArrayList<String> accountIDs, Long fromTime,
                                                              Long toTime, Integer limit, Integer offset)
             throws ConsentDataRetrievalException {
 
+        if (isBatchedChildFetchEnabled()) {
+            return searchConsentsWithBatchedChildFetch(connection, consentIDs, clientIDs, consentTypes,
+                    consentStatuses, userIDs, accountIDs, fromTime, toTime, limit, offset);
+        }
+
         boolean shouldLimit = true;
         boolean shouldOffset = true;
         int parameterIndex = 0;
@@ -107,7 +124,7 @@ public class MssqlConsentCoreDAOImpl extends ConsentCoreDAOImpl {
         }
         String searchConsentsPreparedStatement =
                 sqlStatements.getSearchConsentsPreparedStatement(constructedConditions, shouldLimit,
-                        shouldOffset, userIDFilterCondition);
+                        shouldOffset, userIDFilterCondition, constructAccountIdFilterCondition(accountIDs));
 
         try (PreparedStatement searchConsentsPreparedStmt =
                      connection.prepareStatement(searchConsentsPreparedStatement, ResultSet.TYPE_SCROLL_INSENSITIVE,
@@ -145,6 +162,8 @@ public class MssqlConsentCoreDAOImpl extends ConsentCoreDAOImpl {
                 searchConsentsPreparedStmt.setNull(++parameterIndex, Types.BIGINT);
             }
 
+            parameterIndex = setAccountIdFilterParameters(searchConsentsPreparedStmt, accountIDs, parameterIndex);
+
             if (offset != null && limit != null) {
                 searchConsentsPreparedStmt.setInt(++parameterIndex, offset);
             }
@@ -171,6 +190,28 @@ public class MssqlConsentCoreDAOImpl extends ConsentCoreDAOImpl {
         }
     }
 
+    @Override
+    int setConsentSearchFilterParameters(PreparedStatement preparedStatement, String constructedConditions,
+                                         Map<String, ArrayList<String>> applicableConditionsMap,
+                                         String userIDFilterCondition, Map<String, ArrayList<String>> userIdMap)
+            throws SQLException {
+
+        // The user ID filter is part of the join, which precedes the where clause in this dialect
+        int parameterIndex = 1;
+        if (!userIdMap.isEmpty()) {
+            Map<Integer, ArrayList<String>> orderedUserIdsMap = ConsentManagementDAOUtil
+                    .determineOrderOfParamsToSet(userIDFilterCondition, userIdMap, COLUMNS_MAP);
+            parameterIndex = ConsentManagementDAOUtil.setDynamicConsentSearchParameters(preparedStatement,
+                    orderedUserIdsMap, parameterIndex);
+        }
+
+        Map<Integer, ArrayList<String>> orderedParamsMap = ConsentManagementDAOUtil
+                .determineOrderOfParamsToSet(constructedConditions, applicableConditionsMap, COLUMNS_MAP);
+        parameterIndex = ConsentManagementDAOUtil.setDynamicConsentSearchParameters(preparedStatement,
+                orderedParamsMap, parameterIndex);
+        return parameterIndex - 1;
+    }
+
     ArrayList<DetailedConsentResource> constructDetailedConsentsSearchResult(ResultSet resultSet, int resultSetSize)
             throws SQLException {
 
@@ -18,11 +18,14 @@
 
 package org.wso2.financial.services.accelerator.consent.mgt.dao.models;
 
+import java.io.Serializable;
+
 /**
  * Model for the Authorization resource.
  */
-public class AuthorizationResource {
+public class AuthorizationResource implements Serializable {
 
+    private static final long serialVersionUID = 4945854814061688297L;
     private String authorizationID;
     private String consentID;
     private String userID;
@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.dao.models;
+
+/**
+ * Position of a consent in the expired consent sweep. Expired consents are ordered by the expiry time and the
+ * consent ID, and the next batch starts after the consent the cursor points to.
+ */
+public class ConsentExpiryCursor {
+
+    private final long expiryTime;
+    private final String consentID;
+
+    public ConsentExpiryCursor(long expiryTime, String consentID) {
+
+        this.expiryTime = expiryTime;
+        this.consentID = consentID;
+    }
+
+    public long getExpiryTime() {
+
+        return expiryTime;
+    }
+
+    public String getConsentID() {
+
+        return consentID;
+    }
+}
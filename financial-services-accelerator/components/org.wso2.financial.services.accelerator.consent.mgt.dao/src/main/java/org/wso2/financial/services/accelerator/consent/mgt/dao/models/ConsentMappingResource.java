@@ -18,11 +18,14 @@
 
 package org.wso2.financial.services.accelerator.consent.mgt.dao.models;
 
+import java.io.Serializable;
+
 /**
  * Model for consent mapping resource.
  */
-public class ConsentMappingResource {
+public class ConsentMappingResource implements Serializable {
 
+    private static final long serialVersionUID = -4797369465762506230L;
     private String mappingID;
     private String authorizationID;
     private String accountID;
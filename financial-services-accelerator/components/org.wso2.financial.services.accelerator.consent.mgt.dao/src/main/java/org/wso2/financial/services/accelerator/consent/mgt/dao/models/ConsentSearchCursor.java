@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.dao.models;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of a consent in the keyset paginated consent search. Consents are ordered by the updated time and the
+ * consent ID in descending order, and the next page starts after the consent the cursor points to.
+ * <p>
+ * The cursor is handed out to callers as an opaque URL safe string.
+ */
+public class ConsentSearchCursor {
+
+    private static final String SEPARATOR = ":";
+
+    private final long updatedTime;
+    private final String consentID;
+
+    public ConsentSearchCursor(long updatedTime, String consentID) {
+
+        this.updatedTime = updatedTime;
+        this.consentID = consentID;
+    }
+
+    /**
+     * Create a cursor pointing to the given consent.
+     *
+     * @param detailedConsentResource last consent of the current page
+     * @return cursor to retrieve the next page
+     */
+    public static ConsentSearchCursor of(DetailedConsentResource detailedConsentResource) {
+
+        return new ConsentSearchCursor(detailedConsentResource.getUpdatedTime(),
+                detailedConsentResource.getConsentID());
+    }
+
+    /**
+     * Decode an opaque cursor.
+     *
+     * @param cursor cursor returned by {@link #encode()}
+     * @return decoded cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static ConsentSearchCursor decode(String cursor) {
+
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separatorIndex = decoded.indexOf(SEPARATOR);
+        if (separatorIndex <= 0 || separatorIndex == decoded.length() - 1) {
+            throw new IllegalArgumentException("Malformed consent search cursor");
+        }
+        try {
+            return new ConsentSearchCursor(Long.parseLong(decoded.substring(0, separatorIndex)),
+                    decoded.substring(separatorIndex + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed consent search cursor", e);
+        }
+    }
+
+    /**
+     * Encode the cursor as an opaque URL safe string.
+     *
+     * @return encoded cursor
+     */
+    public String encode() {
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((updatedTime + SEPARATOR + consentID).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public long getUpdatedTime() {
+
+        return updatedTime;
+    }
+
+    public String getConsentID() {
+
+        return consentID;
+    }
+}
@@ -20,14 +20,16 @@ package org.wso2.financial.services.accelerator.consent.mgt.dao.models;
 
 import org.json.JSONObject;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Map;
 
 /**
  * Model for Detailed Consent Resource.
  */
-public class DetailedConsentResource {
+public class DetailedConsentResource implements Serializable {
 
+    private static final long serialVersionUID = 8355464054603054992L;
     private String consentID;
     private String clientID;
     private String receipt;
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.dao.models;
+
+import java.util.ArrayList;
+
+/**
+ * A batch of expired consents fetched by the expired consent sweep, with the cursor the next batch starts after.
+ */
+public class ExpiredConsentBatch {
+
+    private final ArrayList<ConsentResource> consents;
+    private final ConsentExpiryCursor nextCursor;
+
+    public ExpiredConsentBatch(ArrayList<ConsentResource> consents, ConsentExpiryCursor nextCursor) {
+
+        this.consents = consents;
+        this.nextCursor = nextCursor;
+    }
+
+    public ArrayList<ConsentResource> getConsents() {
+
+        return consents;
+    }
+
+    /**
+     * Get the cursor pointing to the last consent of the batch.
+     *
+     * @return cursor to fetch the next batch, the given cursor if the batch is empty
+     */
+    public ConsentExpiryCursor getNextCursor() {
+
+        return nextCursor;
+    }
+}
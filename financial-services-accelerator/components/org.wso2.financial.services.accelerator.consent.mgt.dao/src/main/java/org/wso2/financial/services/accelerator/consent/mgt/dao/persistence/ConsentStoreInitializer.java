@@ -18,6 +18,7 @@
 
 package  org.wso2.financial.services.accelerator.consent.mgt.dao.persistence;
 
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
 import org.wso2.financial.services.accelerator.common.persistence.JDBCPersistenceManager;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.ConsentCoreDAO;
@@ -31,6 +32,9 @@ import org.wso2.financial.services.accelerator.consent.mgt.dao.queries.ConsentMg
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * This class handles consent DAO layer initiation with the relevant SQL statements per database types.
@@ -66,17 +70,29 @@ public class ConsentStoreInitializer {
             Connection connection = JDBCPersistenceManager.getInstance().getDBConnection();
             String driverName = connection.getMetaData().getDriverName();
 
+            List<String> batchedChildFetchDatabases =
+                    FinancialServicesConfigParser.getInstance().getConsentSearchBatchedChildFetchDatabases();
+            Set<String> lookupAttributeKeys = FinancialServicesConfigParser.getInstance()
+                    .getConsentAttributeLookupKeys().stream()
+                    .map(String::trim)
+                    .collect(Collectors.toSet());
+
             ConsentCoreDAO dao;
             if (driverName.contains(MYSQL)) {
-                dao = new ConsentCoreDAOImpl(new ConsentMgtCommonDBQueries());
+                dao = new ConsentCoreDAOImpl(new ConsentMgtCommonDBQueries(),
+                        isBatchedChildFetchEnabled(batchedChildFetchDatabases, MYSQL), lookupAttributeKeys);
             } else if (driverName.contains(H2)) {
-                dao = new ConsentCoreDAOImpl(new ConsentMgtCommonDBQueries());
+                dao = new ConsentCoreDAOImpl(new ConsentMgtCommonDBQueries(),
+                        isBatchedChildFetchEnabled(batchedChildFetchDatabases, H2), lookupAttributeKeys);
             } else if (driverName.contains(MS_SQL) || driverName.contains(MICROSOFT)) {
-                dao = new MssqlConsentCoreDAOImpl(new ConsentMgtMssqlDBQueries());
+                dao = new MssqlConsentCoreDAOImpl(new ConsentMgtMssqlDBQueries(),
+                        isBatchedChildFetchEnabled(batchedChildFetchDatabases, MS_SQL), lookupAttributeKeys);
             } else if (driverName.contains(POSTGRE)) {
-                dao = new ConsentCoreDAOImpl(new ConsentMgtPostgresDBQueries());
+                dao = new ConsentCoreDAOImpl(new ConsentMgtPostgresDBQueries(),
+                        isBatchedChildFetchEnabled(batchedChildFetchDatabases, POSTGRE), lookupAttributeKeys);
             } else if (driverName.contains(ORACLE)) {
-                dao = new OracleConsentCoreDAOImpl(new ConsentMgtOracleDBQueries());
+                dao = new OracleConsentCoreDAOImpl(new ConsentMgtOracleDBQueries(),
+                        isBatchedChildFetchEnabled(batchedChildFetchDatabases, ORACLE), lookupAttributeKeys);
             } else {
                 throw new ConsentManagementException("Unhandled DB driver: " + driverName + " detected : ");
             }
@@ -85,4 +101,17 @@ public class ConsentStoreInitializer {
             throw new ConsentManagementException("Error while getting the database connection : ", e);
         }
     }
+
+    /**
+     * Check whether the consent search of the database type loads the child resources of the consents in batched
+     * queries. The configured database types are matched ignoring the case.
+     *
+     * @param batchedChildFetchDatabases configured database types
+     * @param databaseType               database type
+     * @return true if the batched child fetch is enabled for the database type
+     */
+    private static boolean isBatchedChildFetchEnabled(List<String> batchedChildFetchDatabases, String databaseType) {
+
+        return batchedChildFetchDatabases.stream().anyMatch(database -> databaseType.equalsIgnoreCase(database.trim()));
+    }
 }
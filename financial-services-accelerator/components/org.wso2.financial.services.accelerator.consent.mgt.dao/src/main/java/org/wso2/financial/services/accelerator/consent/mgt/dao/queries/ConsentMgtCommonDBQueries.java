@@ -166,6 +166,29 @@ public class ConsentMgtCommonDBQueries {
         return "SELECT CONSENT_ID FROM FS_CONSENT_ATTRIBUTE WHERE ATT_KEY = ? AND ATT_VALUE = ?";
     }
 
+    /**
+     * SQL query to fetch the consent IDs of an attribute key and value through the hashed attribute value index. The
+     * attribute value is compared as well, so a hash collision does not return a consent of another value.
+     *
+     * @return SQL query to fetch consent IDs by an indexed attribute key and value
+     */
+    public String getConsentIdByIndexedConsentAttributeNameAndValuePreparedStatement() {
+
+        return "SELECT CA.CONSENT_ID FROM FS_CONSENT_ATTRIBUTE_LOOKUP CAL " +
+                "JOIN FS_CONSENT_ATTRIBUTE CA ON CA.CONSENT_ID = CAL.CONSENT_ID AND CA.ATT_KEY = CAL.ATT_KEY " +
+                "WHERE CAL.ATT_KEY = ? AND CAL.ATT_VALUE_HASH = ? AND CA.ATT_VALUE = ?";
+    }
+
+    public String getStoreConsentAttributeLookupPreparedStatement() {
+
+        return "INSERT INTO FS_CONSENT_ATTRIBUTE_LOOKUP (ATT_KEY, ATT_VALUE_HASH, CONSENT_ID) VALUES (?, ?, ?)";
+    }
+
+    public String getDeleteConsentAttributeLookupPreparedStatement() {
+
+        return "DELETE FROM FS_CONSENT_ATTRIBUTE_LOOKUP WHERE CONSENT_ID = ? AND ATT_KEY = ?";
+    }
+
     public String getUpdateConsentAttributesPreparedStatement() {
 
         return "UPDATE FS_CONSENT_ATTRIBUTE SET ATT_VALUE = ? WHERE CONSENT_ID = ? and ATT_KEY = ?";
@@ -186,7 +209,211 @@ public class ConsentMgtCommonDBQueries {
     }
 
     public String getSearchConsentsPreparedStatement(String whereClause, boolean shouldLimit, boolean shouldOffset,
-                                                     String userIdFilterClause) {
+                                                     String userIdFilterClause, String accountIdFilterClause) {
+
+        StringBuilder query = getSearchConsentsSelectStatement(whereClause, userIdFilterClause,
+                getAccountIdCondition(accountIdFilterClause))
+                .append("ORDER BY OBC.UPDATED_TIME DESC ");
+
+        if (shouldLimit && shouldOffset) {
+            query.append(" LIMIT ? OFFSET ? ");
+        } else if (shouldLimit) {
+            query.append(" LIMIT ? ");
+        }
+
+        return query.toString();
+    }
+
+    /**
+     * SQL query for keyset paginated consent search. Consents are ordered by the updated time and the consent ID in
+     * descending order, and a page starts after the consent identified by the cursor instead of skipping an offset.
+     *
+     * @param whereClause        the pre-constructed dynamic where clause
+     * @param userIdFilterClause the pre-constructed user id filter condition
+     * @param hasCursor          whether the page starts after a cursor
+     * @return SQL query for keyset paginated consent search
+     */
+    public String getKeysetSearchConsentsPreparedStatement(String whereClause, String userIdFilterClause,
+                                                           boolean hasCursor) {
+
+        return getSearchConsentsSelectStatement(whereClause, userIdFilterClause, getKeysetCondition(hasCursor))
+                .append("ORDER BY OBC.UPDATED_TIME DESC, OBC.CONSENT_ID DESC LIMIT ? ")
+                .toString();
+    }
+
+    /**
+     * SQL query to count the consents matching the consent search parameters. Only the tables required to evaluate
+     * the search conditions are joined, and the consent attributes, authorization resources and mappings are not
+     * aggregated.
+     *
+     * @param whereClause           the pre-constructed dynamic where clause
+     * @param userIdFilterClause    the pre-constructed user id filter condition
+     * @param accountIdFilterClause the pre-constructed account id filter condition
+     * @return SQL query to count the matching consents
+     */
+    public String getSearchConsentsCountPreparedStatement(String whereClause, String userIdFilterClause,
+                                                          String accountIdFilterClause) {
+
+        String userIdJoinClause = "";
+        if (StringUtils.isNotEmpty(userIdFilterClause)) {
+            userIdJoinClause = "INNER JOIN FS_CONSENT_AUTH_RESOURCE OCAR ON OBC.CONSENT_ID=OCAR.CONSENT_ID AND " +
+                    userIdFilterClause;
+        }
+
+        return "SELECT COUNT(DISTINCT OBC.CONSENT_ID) AS CONSENT_COUNT " +
+                "FROM (SELECT * FROM FS_CONSENT " + whereClause + ") AS OBC " +
+                userIdJoinClause +
+                "WHERE (OBC.UPDATED_TIME >= COALESCE(?, OBC.UPDATED_TIME) " +
+                "AND OBC.UPDATED_TIME <= COALESCE(?, OBC.UPDATED_TIME)) " +
+                getAccountIdCondition(accountIdFilterClause);
+    }
+
+    /**
+     * SQL query to read the number of consents estimated by the database statistics. The estimate is read from the
+     * catalog without scanning the consent table.
+     *
+     * @return SQL query to read the estimated number of consents
+     */
+    public String getApproximateConsentCountPreparedStatement() {
+
+        return "SELECT TABLE_ROWS FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = DATABASE() " +
+                "AND TABLE_NAME = 'FS_CONSENT'";
+    }
+
+    /**
+     * SQL query to search a page of consents without their attributes, authorization resources and mappings, which
+     * are loaded separately by consent ID when the batched child fetch is used for the consent search.
+     *
+     * @param whereClause           the pre-constructed dynamic where clause
+     * @param shouldLimit           whether the limit should be applied
+     * @param shouldOffset          whether the offset should be applied
+     * @param userIdFilterClause    the pre-constructed user id filter condition
+     * @param accountIdFilterClause the pre-constructed account id filter condition
+     * @return SQL query to search a page of consents
+     */
+    public String getSearchConsentsPagePreparedStatement(String whereClause, boolean shouldLimit, boolean shouldOffset,
+                                                         String userIdFilterClause, String accountIdFilterClause) {
+
+        StringBuilder query = getSearchConsentsPageSelectStatement(whereClause, userIdFilterClause,
+                accountIdFilterClause).append("ORDER BY OBC.UPDATED_TIME DESC ");
+
+        if (shouldLimit && shouldOffset) {
+            query.append(" LIMIT ? OFFSET ? ");
+        } else if (shouldLimit) {
+            query.append(" LIMIT ? ");
+        }
+        return query.toString();
+    }
+
+    /**
+     * SQL query to retrieve the authorization resources of a batch of consents.
+     *
+     * @param placeholders placeholders for the consent IDs of the batch
+     * @return SQL query to retrieve the authorization resources of the consents
+     */
+    public String getSearchAuthorizationResourcesByConsentIdsPreparedStatement(String placeholders) {
+
+        return "SELECT * FROM FS_CONSENT_AUTH_RESOURCE WHERE CONSENT_ID IN (" + placeholders + ") ORDER BY AUTH_ID";
+    }
+
+    /**
+     * SQL query to retrieve the consent mapping resources of a batch of consents together with the consent ID of
+     * each mapping.
+     *
+     * @param placeholders placeholders for the consent IDs of the batch
+     * @return SQL query to retrieve the consent mapping resources of the consents
+     */
+    public String getSearchConsentMappingsByConsentIdsPreparedStatement(String placeholders) {
+
+        return "SELECT OCAR.CONSENT_ID, OCM.* FROM FS_CONSENT_MAPPING OCM " +
+                "INNER JOIN FS_CONSENT_AUTH_RESOURCE OCAR ON OCM.AUTH_ID=OCAR.AUTH_ID " +
+                "WHERE OCAR.CONSENT_ID IN (" + placeholders + ") ORDER BY OCM.MAPPING_ID";
+    }
+
+    /**
+     * SQL query to retrieve the consent attributes of a batch of consents.
+     *
+     * @param placeholders placeholders for the consent IDs of the batch
+     * @return SQL query to retrieve the consent attributes of the consents
+     */
+    public String getSearchConsentAttributesByConsentIdsPreparedStatement(String placeholders) {
+
+        return "SELECT CONSENT_ID, ATT_KEY, ATT_VALUE FROM FS_CONSENT_ATTRIBUTE WHERE CONSENT_ID IN (" +
+                placeholders + ")";
+    }
+
+    /**
+     * Constructs the query to search a page of consents without the ordering and pagination clauses. The user id
+     * filter precedes the updated time range, so the parameters are set in the same order in every dialect.
+     *
+     * @param whereClause           the pre-constructed dynamic where clause
+     * @param userIdFilterClause    the pre-constructed user id filter condition
+     * @param accountIdFilterClause the pre-constructed account id filter condition
+     * @return query to search a page of consents up to the ordering clause
+     */
+    protected StringBuilder getSearchConsentsPageSelectStatement(String whereClause, String userIdFilterClause,
+                                                                 String accountIdFilterClause) {
+
+        if (whereClause.trim().isEmpty()) {
+            whereClause = " WHERE ";
+        } else {
+            whereClause = whereClause + " AND ";
+        }
+
+        String userIdCondition = "";
+        if (StringUtils.isNotEmpty(userIdFilterClause)) {
+            userIdCondition = "OBC.CONSENT_ID IN (SELECT OCAR.CONSENT_ID FROM FS_CONSENT_AUTH_RESOURCE OCAR " +
+                    "WHERE " + userIdFilterClause + ") AND ";
+        }
+
+        return new StringBuilder("SELECT OBC.CONSENT_ID, OBC.RECEIPT, OBC.CLIENT_ID, OBC.CONSENT_TYPE, " +
+                "OBC.CURRENT_STATUS, OBC.CONSENT_FREQUENCY, OBC.VALIDITY_TIME, OBC.RECURRING_INDICATOR, " +
+                "OBC.CREATED_TIME AS CONSENT_CREATED_TIME, OBC.UPDATED_TIME AS CONSENT_UPDATED_TIME " +
+                "FROM FS_CONSENT OBC " + whereClause + userIdCondition +
+                "(OBC.UPDATED_TIME >= COALESCE(?, OBC.UPDATED_TIME) " +
+                "AND OBC.UPDATED_TIME <= COALESCE(?, OBC.UPDATED_TIME)) " +
+                getAccountIdCondition(accountIdFilterClause));
+    }
+
+    /**
+     * Condition which only matches the consents having a mapping resource for one of the filtered accounts. The
+     * mappings are probed through a sub query, so a consent mapped to several of the accounts is matched only once.
+     *
+     * @param accountIdFilterClause the pre-constructed account id filter condition
+     * @return account id condition, or an empty string if there is no account id filter
+     */
+    protected String getAccountIdCondition(String accountIdFilterClause) {
+
+        if (StringUtils.isEmpty(accountIdFilterClause)) {
+            return "";
+        }
+        return "AND OBC.CONSENT_ID IN (SELECT OCAR3.CONSENT_ID FROM FS_CONSENT_AUTH_RESOURCE OCAR3 " +
+                "INNER JOIN FS_CONSENT_MAPPING OCM3 ON OCAR3.AUTH_ID=OCM3.AUTH_ID " +
+                "WHERE " + accountIdFilterClause + ") ";
+    }
+
+    /**
+     * Condition which only matches the consents after the cursor when ordered by the updated time and the consent ID
+     * in descending order.
+     *
+     * @param hasCursor whether the page starts after a cursor
+     * @return keyset condition, or an empty string if there is no cursor
+     */
+    protected String getKeysetCondition(boolean hasCursor) {
+
+        return hasCursor ? "AND (OBC.UPDATED_TIME < ? OR (OBC.UPDATED_TIME = ? AND OBC.CONSENT_ID < ?)) " : "";
+    }
+
+    /**
+     * Constructs the consent search query without the ordering and pagination clauses.
+     *
+     * @param whereClause          the pre-constructed dynamic where clause
+     * @param userIdFilterClause   the pre-constructed user id filter condition
+     * @param additionalConditions additional conditions applied together with the updated time range
+     * @return consent search query up to the group by clause
+     */
+    protected StringBuilder getSearchConsentsSelectStatement(String whereClause, String userIdFilterClause,
+                                                             String additionalConditions) {
 
         String selectClause = "(SELECT * FROM FS_CONSENT " + whereClause + ")";
         String joinType = "LEFT ";
@@ -195,7 +422,7 @@ public class ConsentMgtCommonDBQueries {
             userIdFilterClause = "AND " + userIdFilterClause;
         }
 
-        StringBuilder query = new StringBuilder("SELECT OBC.CONSENT_ID, " +
+        return new StringBuilder("SELECT OBC.CONSENT_ID, " +
                 "RECEIPT, " +
                 "CLIENT_ID, " +
                 "CONSENT_TYPE, " +
@@ -269,15 +496,8 @@ public class ConsentMgtCommonDBQueries {
                 "LEFT JOIN FS_CONSENT_MAPPING OCM ON OCAR.AUTH_ID=OCM.AUTH_ID WHERE " +
                 "(OBC.UPDATED_TIME >= COALESCE(?, OBC.UPDATED_TIME) " +
                 "AND OBC.UPDATED_TIME <= COALESCE(?, OBC.UPDATED_TIME)) " +
-                "group by OBC.CONSENT_ID ORDER BY OBC.UPDATED_TIME DESC ");
-
-        if (shouldLimit && shouldOffset) {
-            query.append(" LIMIT ? OFFSET ? ");
-        } else if (shouldLimit) {
-            query.append(" LIMIT ? ");
-        }
-
-        return query.toString();
+                additionalConditions +
+                "group by OBC.CONSENT_ID ");
     }
 
     public String getSearchAuthorizationResourcesPreparedStatement(String whereClause) {
@@ -348,4 +568,89 @@ public class ConsentMgtCommonDBQueries {
                 " ON     CA.CONSENT_ID = OBC.CONSENT_ID " +
                 " WHERE  CA.ATT_KEY = ? AND OBC.CURRENT_STATUS IN " + statusesEligibleForExpirationCondition;
     }
+
+    /**
+     * SQL query to fetch a batch of expired consents in the eligible statuses, ordered by the expiry time and the
+     * consent ID and starting after the last consent of the previous batch.
+     *
+     * @param statusesEligibleForExpirationCondition placeholders for the statuses eligible for expiration
+     * @return SQL query to fetch a batch of expired consents
+     */
+    public String getSearchExpiredConsentsPreparedStatement(String statusesEligibleForExpirationCondition) {
+
+        return getSearchExpiredConsentsSelectStatement(statusesEligibleForExpirationCondition) + "LIMIT ?";
+    }
+
+    protected String getSearchExpiredConsentsSelectStatement(String statusesEligibleForExpirationCondition) {
+
+        return "SELECT CONSENT_ID, CLIENT_ID, CURRENT_STATUS, UPDATED_TIME, EXPIRY_TIME FROM FS_CONSENT " +
+                "WHERE EXPIRY_TIME <= ? AND (EXPIRY_TIME > ? OR (EXPIRY_TIME = ? AND CONSENT_ID > ?)) " +
+                "AND CURRENT_STATUS IN " + statusesEligibleForExpirationCondition +
+                "ORDER BY EXPIRY_TIME, CONSENT_ID ";
+    }
+
+    public String getUpdatedConsentIdsPreparedStatement() {
+
+        return "SELECT CONSENT_ID FROM FS_CONSENT WHERE UPDATED_TIME >= ? ORDER BY UPDATED_TIME";
+    }
+
+    public String getExpireConsentPreparedStatement() {
+
+        return "UPDATE FS_CONSENT SET CURRENT_STATUS = ?, UPDATED_TIME = ? WHERE CONSENT_ID = ? " +
+                "AND CURRENT_STATUS = ? AND UPDATED_TIME = ?";
+    }
+
+    /**
+     * SQL query to retrieve which of a batch of consents have the given status and updated time.
+     *
+     * @param placeholders comma separated placeholders of the consent IDs
+     * @return SQL query to retrieve the matching consent IDs
+     */
+    public String getConsentIdsWithStatusPreparedStatement(String placeholders) {
+
+        return "SELECT CONSENT_ID FROM FS_CONSENT WHERE CONSENT_ID IN (" + placeholders + ") " +
+                "AND CURRENT_STATUS = ? AND UPDATED_TIME = ?";
+    }
+
+    public String getUpdateConsentExpiryTimePreparedStatement() {
+
+        return "UPDATE FS_CONSENT SET EXPIRY_TIME = ? WHERE CONSENT_ID = ?";
+    }
+
+    public String getStoreAuthorizationSessionPreparedStatement() {
+
+        return "INSERT INTO FS_AUTHORIZATION_SESSION (SESSION_DATA_KEY, CONSENT_ID, SESSION_DATA, EXPIRY_TIME) " +
+                "VALUES (?, ?, ?, ?)";
+    }
+
+    public String getUpdateAuthorizationSessionPreparedStatement() {
+
+        return "UPDATE FS_AUTHORIZATION_SESSION SET CONSENT_ID = ?, SESSION_DATA = ?, EXPIRY_TIME = ? " +
+                "WHERE SESSION_DATA_KEY = ?";
+    }
+
+    public String getGetAuthorizationSessionPreparedStatement() {
+
+        return "SELECT SESSION_DATA FROM FS_AUTHORIZATION_SESSION WHERE SESSION_DATA_KEY = ? AND EXPIRY_TIME > ?";
+    }
+
+    public String getDeleteAuthorizationSessionPreparedStatement() {
+
+        return "DELETE FROM FS_AUTHORIZATION_SESSION WHERE SESSION_DATA_KEY = ?";
+    }
+
+    public String getDeleteExpiredAuthorizationSessionsPreparedStatement() {
+
+        return "DELETE FROM FS_AUTHORIZATION_SESSION WHERE EXPIRY_TIME <= ?";
+    }
+
+    public String getStoreJtiPreparedStatement() {
+
+        return "INSERT INTO FS_JTI_REPLAY (JTI, EXPIRY_TIME) VALUES (?, ?)";
+    }
+
+    public String getDeleteExpiredJtisPreparedStatement() {
+
+        return "DELETE FROM FS_JTI_REPLAY WHERE EXPIRY_TIME <= ?";
+    }
 }
@@ -26,7 +26,76 @@ import org.apache.commons.lang3.StringUtils;
 public class ConsentMgtMssqlDBQueries extends ConsentMgtCommonDBQueries {
 
     public String getSearchConsentsPreparedStatement(String whereClause, boolean shouldLimit, boolean shouldOffset,
-                                                     String userIdFilterClause) {
+                                                     String userIdFilterClause, String accountIdFilterClause) {
+
+        StringBuilder query = getSearchConsentsSelectStatement(whereClause, userIdFilterClause,
+                getAccountIdCondition(accountIdFilterClause))
+                .append(" ORDER BY UPDATED_TIME DESC ");
+
+        if (shouldLimit && shouldOffset) {
+            query.append("OFFSET ? ROWS FETCH NEXT ? ROWS ONLY ");
+        } else if (shouldLimit) {
+            query.append("OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY ");
+        }
+        return query.toString();
+    }
+
+    @Override
+    public String getSearchConsentsPagePreparedStatement(String whereClause, boolean shouldLimit, boolean shouldOffset,
+                                                         String userIdFilterClause, String accountIdFilterClause) {
+
+        StringBuilder query = getSearchConsentsPageSelectStatement(whereClause, userIdFilterClause,
+                accountIdFilterClause).append("ORDER BY OBC.UPDATED_TIME DESC ");
+
+        if (shouldLimit && shouldOffset) {
+            query.append("OFFSET ? ROWS FETCH NEXT ? ROWS ONLY ");
+        } else if (shouldLimit) {
+            query.append("OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY ");
+        }
+        return query.toString();
+    }
+
+    @Override
+    public String getKeysetSearchConsentsPreparedStatement(String whereClause, String userIdFilterClause,
+                                                           boolean hasCursor) {
+
+        return getSearchConsentsSelectStatement(whereClause, userIdFilterClause, getKeysetCondition(hasCursor))
+                .append("ORDER BY CONSENT_UPDATED_TIME DESC, CONSENT_ID DESC OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY ")
+                .toString();
+    }
+
+    @Override
+    public String getSearchConsentsCountPreparedStatement(String whereClause, String userIdFilterClause,
+                                                          String accountIdFilterClause) {
+
+        String userIdJoinClause = "";
+        if (StringUtils.isNotEmpty(userIdFilterClause)) {
+            userIdJoinClause = "INNER JOIN FS_CONSENT_AUTH_RESOURCE OCAR ON OBC.CONSENT_ID=OCAR.CONSENT_ID AND " +
+                    userIdFilterClause;
+        }
+
+        if (whereClause.trim().isEmpty()) {
+            whereClause = " WHERE ";
+        } else {
+            whereClause = whereClause + " AND ";
+        }
+
+        return "SELECT COUNT(DISTINCT OBC.CONSENT_ID) AS CONSENT_COUNT FROM FS_CONSENT AS OBC " +
+                userIdJoinClause + whereClause +
+                " (OBC.UPDATED_TIME >= COALESCE(?, OBC.UPDATED_TIME) " +
+                " AND OBC.UPDATED_TIME <= COALESCE(?, OBC.UPDATED_TIME)) " +
+                getAccountIdCondition(accountIdFilterClause);
+    }
+
+    @Override
+    public String getApproximateConsentCountPreparedStatement() {
+
+        return "SELECT SUM(ROWS) FROM SYS.PARTITIONS WHERE OBJECT_ID = OBJECT_ID('FS_CONSENT') AND INDEX_ID IN (0, 1)";
+    }
+
+    @Override
+    protected StringBuilder getSearchConsentsSelectStatement(String whereClause, String userIdFilterClause,
+                                                             String additionalConditions) {
 
         String selectClause = "(SELECT * FROM FS_CONSENT)";
         String joinType = " LEFT ";
@@ -42,7 +111,7 @@ public class ConsentMgtMssqlDBQueries extends ConsentMgtCommonDBQueries {
             whereClause = whereClause + " AND ";
         }
 
-        StringBuilder query = new StringBuilder("SELECT OBC.CONSENT_ID, " +
+        return new StringBuilder("SELECT OBC.CONSENT_ID, " +
                 " (SELECT receipt FROM FS_CONSENT WHERE consent_id = obc.consent_id " +
                 "           order by consent_id offset 0 rows FETCH next 1 rows only ) AS RECEIPT, " +
                 " (SELECT client_id FROM FS_CONSENT WHERE consent_id = obc.consent_id " +
@@ -130,16 +199,9 @@ public class ConsentMgtMssqlDBQueries extends ConsentMgtCommonDBQueries {
                 + userIdFilterClause +
                 "LEFT JOIN FS_CONSENT_MAPPING OCM ON OCAR.AUTH_ID=OCM.AUTH_ID " + whereClause +
                 " (OBC.UPDATED_TIME >= COALESCE(?, OBC.UPDATED_TIME) " +
-                " AND OBC.UPDATED_TIME <= COALESCE(?, OBC.UPDATED_TIME)) GROUP BY obc.consent_id " +
-                " ORDER BY UPDATED_TIME DESC ");
-
-        if (shouldLimit && shouldOffset) {
-            query.append("OFFSET ? ROWS FETCH NEXT ? ROWS ONLY ");
-        } else if (shouldLimit) {
-            query.append("OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY ");
-        }
-
-        return query.toString();
+                " AND OBC.UPDATED_TIME <= COALESCE(?, OBC.UPDATED_TIME)) " +
+                additionalConditions +
+                "GROUP BY obc.consent_id ");
     }
 
     /**
@@ -171,4 +233,11 @@ public class ConsentMgtMssqlDBQueries extends ConsentMgtCommonDBQueries {
 
         return false;
     }
+
+    @Override
+    public String getSearchExpiredConsentsPreparedStatement(String statusesEligibleForExpirationCondition) {
+
+        return getSearchExpiredConsentsSelectStatement(statusesEligibleForExpirationCondition) +
+                "OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY";
+    }
 }
@@ -25,21 +25,27 @@ import org.apache.commons.lang3.StringUtils;
  */
 public class ConsentMgtPostgresDBQueries extends ConsentMgtCommonDBQueries {
 
+    @Override
+    public String getApproximateConsentCountPreparedStatement() {
+
+        return "SELECT CAST(RELTUPLES AS BIGINT) FROM PG_CLASS WHERE OID = 'fs_consent'::REGCLASS";
+    }
+
     /**
      * This method returns the detailed consent search query. It constructs the query according to the provided
      * parameters dynamically. This queries all consent attributes, authorization resources, mapping resources, consent
      * data of the provided consent according to the parameters provided. To avoid fetching same rows multiple times,
      * the string_agg function is used to concatenate values using a delimiter. The delimited results are later
-     * processed and set to the result.
+     * processed and set to the result. The ordering and pagination clauses are appended by the caller.
      *
      * @param whereClause the pre-constructed where dynamic where clause
-     * @param shouldLimit flag that indicates the limit
-     * @param shouldOffset flag that indicates the offset
      * @param userIdFilterClause the pre-constructed user id filter condition
-     * @return the constructed prepared statement for consent search function
+     * @param additionalConditions additional conditions applied together with the updated time range
+     * @return the constructed consent search query up to the group by clause
      */
-    public String getSearchConsentsPreparedStatement(String whereClause, boolean shouldLimit, boolean shouldOffset,
-                                                     String userIdFilterClause) {
+    @Override
+    protected StringBuilder getSearchConsentsSelectStatement(String whereClause, String userIdFilterClause,
+                                                             String additionalConditions) {
 
         String selectClause = "(SELECT * FROM FS_CONSENT " + whereClause + ")";
         String joinType = "LEFT ";
@@ -48,7 +54,7 @@ public class ConsentMgtPostgresDBQueries extends ConsentMgtCommonDBQueries {
             userIdFilterClause = "AND " + userIdFilterClause;
         }
 
-        StringBuilder query = new StringBuilder("SELECT " +
+        return new StringBuilder("SELECT " +
                 "  OBC.CONSENT_ID, " +
                 "  RECEIPT, " +
                 "  CLIENT_ID, " +
@@ -189,6 +195,7 @@ public class ConsentMgtPostgresDBQueries extends ConsentMgtCommonDBQueries {
                 "LEFT JOIN FS_CONSENT_MAPPING OCM ON OCAR.AUTH_ID=OCM.AUTH_ID WHERE " +
                 "(OBC.UPDATED_TIME >= COALESCE(?, OBC.UPDATED_TIME) " +
                 "AND OBC.UPDATED_TIME <= COALESCE(?, OBC.UPDATED_TIME)) " +
+                additionalConditions +
                 "group by OBC.CONSENT_ID," +
                 "OBC.RECEIPT," +
                 "OBC.CLIENT_ID," +
@@ -198,15 +205,6 @@ public class ConsentMgtPostgresDBQueries extends ConsentMgtCommonDBQueries {
                 "RECURRING_INDICATOR," +
                 "OBC.CURRENT_STATUS," +
                 "OBC.CREATED_TIME," +
-                "OBC.UPDATED_TIME " +
-                "ORDER BY OBC.UPDATED_TIME DESC");
-
-        if (shouldLimit && shouldOffset) {
-            query.append(" LIMIT ? OFFSET ? ");
-        } else if (shouldLimit) {
-            query.append(" LIMIT ? ");
-        }
-
-        return query.toString();
+                "OBC.UPDATED_TIME ");
     }
 }
@@ -32,9 +32,13 @@ import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentMap
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -643,4 +647,40 @@ public class ConsentManagementDAOUtil {
         placeHoldersBuilder.delete(0, placeHoldersBuilder.length());
         return statusesEligibleForExpirationFilterBuilder.toString();
     }
+
+    /**
+     * Method to get the hash of a consent attribute value stored in the consent attribute lookup index.
+     *
+     * @param attributeValue  consent attribute value
+     * @return hex encoded SHA-256 hash of the attribute value
+     */
+    public static String getAttributeValueHash(String attributeValue) {
+
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(attributeValue.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hashBuilder = new StringBuilder(hash.length * 2);
+            for (byte hashByte : hash) {
+                hashBuilder.append(String.format("%02x", hashByte));
+            }
+            return hashBuilder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is supported by every Java platform
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+
+    /**
+     * Method to check whether an SQL exception is caused by a violation of a primary key or a unique constraint.
+     * Drivers which do not throw SQLIntegrityConstraintViolationException are identified by the integrity constraint
+     * violation SQL state class "23".
+     *
+     * @param e  SQL exception
+     * @return true if the exception is caused by an integrity constraint violation
+     */
+    public static boolean isUniqueConstraintViolation(SQLException e) {
+
+        return e instanceof SQLIntegrityConstraintViolationException ||
+                (e.getSQLState() != null && e.getSQLState().startsWith("23"));
+    }
 }
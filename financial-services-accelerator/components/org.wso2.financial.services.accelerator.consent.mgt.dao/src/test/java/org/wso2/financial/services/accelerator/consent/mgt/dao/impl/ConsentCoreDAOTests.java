@@ -30,12 +30,15 @@ import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.Consen
 import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataUpdationException;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.AuthorizationResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentAttributes;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentExpiryCursor;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentFile;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentHistoryResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentMappingResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchCursor;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStatusAuditRecord;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ExpiredConsentBatch;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.queries.ConsentMgtCommonDBQueries;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.util.ConsentManagementDAOTestDataProvider;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.util.ConsentMgtDAOTestData;
@@ -45,11 +48,15 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Consent management DAO tests.
@@ -1057,6 +1064,49 @@ public class ConsentCoreDAOTests {
         Assert.assertFalse(consentIdList.isEmpty());
     }
 
+    @Test
+    public void testRetrieveConsentIdByIndexedConsentAttributeNameAndValue() throws Exception {
+
+        ConsentCoreDAOImpl indexedConsentCoreDAO = new ConsentCoreDAOImpl(new ConsentMgtCommonDBQueries(), false,
+                Collections.singleton("idempotency-key"));
+        String idempotencyKey = UUID.randomUUID().toString();
+        String updatedIdempotencyKey = UUID.randomUUID().toString();
+        ArrayList<String> consentIdList;
+        ArrayList<String> consentIdListOfPreviousValue;
+        ArrayList<String> consentIdListOfUpdatedValue;
+        ArrayList<String> consentIdListAfterDeletion;
+        String consentID;
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            consentID = indexedConsentCoreDAO.storeConsentResource(connection,
+                    ConsentMgtDAOTestData.getSampleTestConsentResource()).getConsentID();
+            ConsentAttributes consentAttributes = new ConsentAttributes();
+            consentAttributes.setConsentID(consentID);
+            consentAttributes.setConsentAttributes(new HashMap<>(Map.of("idempotency-key", idempotencyKey,
+                    "payment-type", "domestic-payments")));
+            indexedConsentCoreDAO.storeConsentAttributes(connection, consentAttributes);
+            consentIdList = indexedConsentCoreDAO.getConsentIdByConsentAttributeNameAndValue(connection,
+                    "idempotency-key", idempotencyKey);
+
+            indexedConsentCoreDAO.updateConsentAttributes(connection, consentID,
+                    new HashMap<>(Map.of("idempotency-key", updatedIdempotencyKey)));
+            consentIdListOfPreviousValue = indexedConsentCoreDAO.getConsentIdByConsentAttributeNameAndValue(
+                    connection, "idempotency-key", idempotencyKey);
+            consentIdListOfUpdatedValue = indexedConsentCoreDAO.getConsentIdByConsentAttributeNameAndValue(
+                    connection, "idempotency-key", updatedIdempotencyKey);
+
+            indexedConsentCoreDAO.deleteConsentAttributes(connection, consentID,
+                    new ArrayList<>(Collections.singletonList("idempotency-key")));
+            consentIdListAfterDeletion = indexedConsentCoreDAO.getConsentIdByConsentAttributeNameAndValue(
+                    connection, "idempotency-key", updatedIdempotencyKey);
+        }
+
+        Assert.assertEquals(consentIdList, Collections.singletonList(consentID));
+        Assert.assertTrue(consentIdListOfPreviousValue.isEmpty());
+        Assert.assertEquals(consentIdListOfUpdatedValue, Collections.singletonList(consentID));
+        Assert.assertTrue(consentIdListAfterDeletion.isEmpty());
+    }
+
     @Test (expectedExceptions = ConsentDataRetrievalException.class)
     public void testRetrieveConsentIdByConsentAttributeNameAndValueSQLError() throws Exception {
 
@@ -1618,6 +1668,170 @@ public class ConsentCoreDAOTests {
                 null, null, null, null, null, null);
     }
 
+    @Test
+    public void testConsentSearchByCursor() throws Exception {
+
+        ArrayList<String> consentIDs = new ArrayList<>();
+        List<DetailedConsentResource> retrievedConsents = new ArrayList<>();
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            storeDataForConsentSearchTest(consentIDs, connection);
+
+            ConsentSearchCursor cursor = null;
+            ArrayList<DetailedConsentResource> page;
+            do {
+                page = consentCoreDAO.searchConsentsByCursor(connection, consentIDs, null, null, null, null,
+                        null, null, cursor, 2);
+                Assert.assertTrue(page.size() <= 2);
+                retrievedConsents.addAll(page);
+                if (!page.isEmpty()) {
+                    cursor = ConsentSearchCursor.of(page.get(page.size() - 1));
+                }
+            } while (page.size() == 2);
+        }
+
+        Assert.assertEquals(retrievedConsents.size(), consentIDs.size());
+        for (int index = 1; index < retrievedConsents.size(); index++) {
+            DetailedConsentResource previous = retrievedConsents.get(index - 1);
+            DetailedConsentResource current = retrievedConsents.get(index);
+            Assert.assertTrue(previous.getUpdatedTime() > current.getUpdatedTime() ||
+                    (previous.getUpdatedTime() == current.getUpdatedTime() &&
+                            previous.getConsentID().compareTo(current.getConsentID()) > 0));
+        }
+        for (DetailedConsentResource resource : retrievedConsents) {
+            Assert.assertTrue(consentIDs.contains(resource.getConsentID()));
+            Assert.assertFalse(resource.getAuthorizationResources().isEmpty());
+            Assert.assertFalse(resource.getConsentMappingResources().isEmpty());
+        }
+    }
+
+    @Test
+    public void testConsentSearchCursorEncoding() {
+
+        ConsentSearchCursor cursor = new ConsentSearchCursor(1669917425L, ConsentMgtDAOTestData.SAMPLE_CONSENT_ID);
+        ConsentSearchCursor decodedCursor = ConsentSearchCursor.decode(cursor.encode());
+
+        Assert.assertEquals(decodedCursor.getUpdatedTime(), 1669917425L);
+        Assert.assertEquals(decodedCursor.getConsentID(), ConsentMgtDAOTestData.SAMPLE_CONSENT_ID);
+    }
+
+    @Test (expectedExceptions = IllegalArgumentException.class)
+    public void testConsentSearchCursorDecodingError() {
+
+        ConsentSearchCursor.decode("bm90LWEtY3Vyc29y");
+    }
+
+    @Test (expectedExceptions = ConsentDataRetrievalException.class)
+    public void testConsentSearchByCursorSQLError() throws Exception {
+
+        Mockito.doThrow(SQLException.class).when(mockedConnection).prepareStatement(Mockito.anyString(),
+                Mockito.anyInt(), Mockito.anyInt());
+        consentCoreDAO.searchConsentsByCursor(mockedConnection, null, null, null, null, null, null, null,
+                null, 10);
+    }
+
+    @Test
+    public void testConsentSearchWithBatchedChildFetch() throws Exception {
+
+        ConsentCoreDAOImpl batchedConsentCoreDAO = new ConsentCoreDAOImpl(new ConsentMgtCommonDBQueries(), true);
+        ArrayList<String> consentIDs = new ArrayList<>();
+        ArrayList<DetailedConsentResource> aggregatedConsentResources;
+        ArrayList<DetailedConsentResource> batchedConsentResources;
+        ArrayList<DetailedConsentResource> batchedUserConsentResources;
+        ArrayList<DetailedConsentResource> batchedPage;
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            storeDataForConsentSearchTest(consentIDs, connection);
+            aggregatedConsentResources = consentCoreDAO.searchConsents(connection, consentIDs, null, null, null,
+                    null, null, null, null, null);
+            batchedConsentResources = batchedConsentCoreDAO.searchConsents(connection, consentIDs, null, null,
+                    null, null, null, null, null, null);
+            batchedUserConsentResources = batchedConsentCoreDAO.searchConsents(connection, consentIDs, null, null,
+                    null, ConsentMgtDAOTestData.SAMPLE_USER_IDS_LIST, null, null, null, null);
+            batchedPage = batchedConsentCoreDAO.searchConsents(connection, consentIDs, null, null, null, null,
+                    null, null, 1, 1);
+        }
+
+        Assert.assertEquals(batchedConsentResources.size(), aggregatedConsentResources.size());
+        for (DetailedConsentResource aggregatedResource : aggregatedConsentResources) {
+            DetailedConsentResource batchedResource = batchedConsentResources.stream()
+                    .filter(resource -> resource.getConsentID().equals(aggregatedResource.getConsentID()))
+                    .findFirst().orElseThrow(AssertionError::new);
+            Assert.assertEquals(batchedResource.getConsentAttributes(), aggregatedResource.getConsentAttributes());
+            Assert.assertEquals(batchedResource.getAuthorizationResources().stream()
+                            .map(AuthorizationResource::getAuthorizationID).collect(Collectors.toSet()),
+                    aggregatedResource.getAuthorizationResources().stream()
+                            .map(AuthorizationResource::getAuthorizationID).collect(Collectors.toSet()));
+            Assert.assertEquals(batchedResource.getConsentMappingResources().stream()
+                            .map(ConsentMappingResource::getMappingID).collect(Collectors.toSet()),
+                    aggregatedResource.getConsentMappingResources().stream()
+                            .map(ConsentMappingResource::getMappingID).collect(Collectors.toSet()));
+        }
+        Assert.assertFalse(batchedUserConsentResources.isEmpty());
+        Assert.assertEquals(batchedPage.size(), 1);
+    }
+
+    @Test
+    public void testCountConsents() throws Exception {
+
+        ArrayList<String> consentIDs = new ArrayList<>();
+        ArrayList<DetailedConsentResource> detailedConsentResources;
+        int consentCount;
+        int userConsentCount;
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            storeDataForConsentSearchTest(consentIDs, connection);
+            consentCount = consentCoreDAO.countConsents(connection, consentIDs, null, null, null, null, null, null,
+                    null, false);
+            userConsentCount = consentCoreDAO.countConsents(connection, consentIDs, null, null, null,
+                    ConsentMgtDAOTestData.SAMPLE_USER_IDS_LIST, null, null, null, true);
+            detailedConsentResources = consentCoreDAO.searchConsents(connection, consentIDs, null, null, null,
+                    ConsentMgtDAOTestData.SAMPLE_USER_IDS_LIST, null, null, null, null);
+        }
+
+        Assert.assertEquals(consentCount, consentIDs.size());
+        Assert.assertEquals(userConsentCount, detailedConsentResources.size());
+    }
+
+    @Test (expectedExceptions = ConsentDataRetrievalException.class)
+    public void testCountConsentsSQLError() throws Exception {
+
+        Mockito.doThrow(SQLException.class).when(mockedConnection).prepareStatement(Mockito.anyString());
+        consentCoreDAO.countConsents(mockedConnection, null, null, null, null, null, null, null, null, false);
+    }
+
+    @Test
+    public void testConsentSearchWithAccountIDs() throws Exception {
+
+        ArrayList<String> consentIDs = new ArrayList<>();
+        ArrayList<DetailedConsentResource> detailedConsentResources;
+        ArrayList<DetailedConsentResource> unmatchedConsentResources;
+        int consentCount;
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            storeDataForConsentSearchTest(consentIDs, connection);
+            ArrayList<String> accountIDs = new ArrayList<>();
+            accountIDs.add(ConsentMgtDAOTestData.SAMPLE_ACCOUNT_ID);
+            detailedConsentResources = consentCoreDAO.searchConsents(connection, consentIDs, null, null, null,
+                    null, accountIDs, null, null, null, null);
+            consentCount = consentCoreDAO.countConsents(connection, consentIDs, null, null, null, null,
+                    accountIDs, null, null, false);
+
+            ArrayList<String> unknownAccountIDs = new ArrayList<>();
+            unknownAccountIDs.add("unknown-account");
+            unmatchedConsentResources = consentCoreDAO.searchConsents(connection, consentIDs, null, null, null,
+                    null, unknownAccountIDs, null, null, null, null);
+        }
+
+        Assert.assertEquals(detailedConsentResources.size(), consentIDs.size());
+        for (DetailedConsentResource resource : detailedConsentResources) {
+            Assert.assertTrue(resource.getConsentMappingResources().stream()
+                    .anyMatch(mapping -> ConsentMgtDAOTestData.SAMPLE_ACCOUNT_ID.equals(mapping.getAccountID())));
+        }
+        Assert.assertEquals(consentCount, consentIDs.size());
+        Assert.assertTrue(unmatchedConsentResources.isEmpty());
+    }
+
     @Test
     public void testSearchConsentAuthorizations() throws Exception {
 
@@ -2208,6 +2422,315 @@ public class ConsentCoreDAOTests {
         consentCoreDAO.getExpiringConsents(mockedConnection, "authorised,awaitingAuthorisation");
     }
 
+    @Test
+    public void testExpireExpiredConsents() throws Exception {
+
+        ConsentResource consentResource = ConsentMgtDAOTestData.getSampleTestConsentResource();
+        ExpiredConsentBatch expiredConsents;
+        ArrayList<ConsentResource> consentsExpiredByCall;
+        ArrayList<ConsentResource> consentsExpiredBySecondCall;
+        ExpiredConsentBatch remainingExpiredConsents;
+        ArrayList<AuthorizationResource> authorizationResources;
+        ArrayList<ConsentStatusAuditRecord> auditRecords;
+        Map<String, ConsentHistoryResource> consentHistory;
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            consentResource = consentCoreDAO.storeConsentResource(connection, consentResource);
+            String consentID = consentResource.getConsentID();
+            consentCoreDAO.storeAuthorizationResource(connection,
+                    ConsentMgtDAOTestData.getSampleTestAuthorizationResource(consentID));
+
+            consentCoreDAO.storeConsentAttributes(connection, getConsentExpiryTimeAttributes(consentID, "1000"));
+
+            expiredConsents = consentCoreDAO.getExpiredConsents(connection, "Authorised, AwaitingAuthorisation",
+                    1000L, new ConsentExpiryCursor(999L, ""), 10);
+            consentsExpiredByCall = consentCoreDAO.expireConsents(connection, expiredConsents.getConsents(),
+                    ConsentMgtDAOTestData.SAMPLE_EXPIRED_STATUS, 2000L);
+            consentsExpiredBySecondCall = consentCoreDAO.expireConsents(connection, expiredConsents.getConsents(),
+                    ConsentMgtDAOTestData.SAMPLE_EXPIRED_STATUS, 2000L);
+            remainingExpiredConsents = consentCoreDAO.getExpiredConsents(connection, "Authorised",
+                    1000L, new ConsentExpiryCursor(999L, ""), 10);
+
+            authorizationResources = consentCoreDAO.getAuthorizationResourcesOfConsents(connection,
+                    Collections.singletonList(consentID));
+            consentCoreDAO.storeConsentStatusAuditRecords(connection, Collections.singletonList(
+                    ConsentMgtDAOTestData.getSampleTestConsentStatusAuditRecord(consentID,
+                            ConsentMgtDAOTestData.SAMPLE_EXPIRED_STATUS)));
+            auditRecords = consentCoreDAO.getConsentStatusAuditRecords(connection, consentID, null, null,
+                    null, null, null);
+
+            ConsentHistoryResource consentHistoryResource =
+                    new ConsentHistoryResource(consentID, UUID.randomUUID().toString());
+            consentHistoryResource.setTimestamp(2000L);
+            consentHistoryResource.setReason(ConsentMgtDAOTestData.SAMPLE_REASON);
+            consentHistoryResource.setChangedAttributesJsonDataMap(Collections.singletonMap(
+                    ConsentMgtDAOConstants.TYPE_CONSENT_BASIC_DATA, "{\"CURRENT_STATUS\":\"Authorised\"}"));
+            consentCoreDAO.storeConsentAmendmentHistory(connection,
+                    Collections.singletonList(consentHistoryResource));
+            consentHistory = consentCoreDAO.retrieveConsentAmendmentHistory(connection,
+                    Collections.singletonList(consentID));
+        }
+
+        Assert.assertEquals(expiredConsents.getConsents().size(), 1);
+        Assert.assertEquals(expiredConsents.getConsents().get(0).getConsentID(), consentResource.getConsentID());
+        Assert.assertEquals(expiredConsents.getNextCursor().getExpiryTime(), 1000L);
+        Assert.assertEquals(expiredConsents.getNextCursor().getConsentID(), consentResource.getConsentID());
+        Assert.assertEquals(consentsExpiredByCall.size(), 1);
+        Assert.assertTrue(consentsExpiredBySecondCall.isEmpty());
+        Assert.assertTrue(remainingExpiredConsents.getConsents().isEmpty());
+        Assert.assertEquals(authorizationResources.size(), 1);
+        Assert.assertEquals(auditRecords.size(), 1);
+        Assert.assertEquals(consentHistory.size(), 1);
+    }
+
+    @Test
+    public void testRetrieveExpiredConsentsAfterCursor() throws Exception {
+
+        ExpiredConsentBatch expiredConsents;
+        ExpiredConsentBatch expiredConsentsAfterCursor;
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            for (int i = 0; i < 2; i++) {
+                ConsentResource consentResource = consentCoreDAO.storeConsentResource(connection,
+                        ConsentMgtDAOTestData.getSampleTestConsentResource());
+                consentCoreDAO.storeConsentAttributes(connection,
+                        getConsentExpiryTimeAttributes(consentResource.getConsentID(), "500"));
+            }
+
+            expiredConsents = consentCoreDAO.getExpiredConsents(connection, "Authorised", 500L,
+                    new ConsentExpiryCursor(499L, ""), 1);
+            expiredConsentsAfterCursor = consentCoreDAO.getExpiredConsents(connection, "Authorised", 500L,
+                    expiredConsents.getNextCursor(), 10);
+        }
+
+        Assert.assertEquals(expiredConsents.getConsents().size(), 1);
+        Assert.assertEquals(expiredConsentsAfterCursor.getConsents().size(), 1);
+        Assert.assertTrue(expiredConsents.getConsents().get(0).getConsentID()
+                .compareTo(expiredConsentsAfterCursor.getConsents().get(0).getConsentID()) < 0);
+    }
+
+    @Test
+    public void testRetrieveUpdatedConsentIds() throws Exception {
+
+        String consentID;
+        ArrayList<String> updatedConsentIDs;
+        ArrayList<String> limitedConsentIDs;
+        ArrayList<String> laterConsentIDs;
+        long updatedTime = System.currentTimeMillis() / 1000;
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            consentID = consentCoreDAO.storeConsentResource(connection,
+                    ConsentMgtDAOTestData.getSampleTestConsentResource()).getConsentID();
+            consentCoreDAO.updateConsentStatus(connection, consentID, ConsentMgtDAOTestData.SAMPLE_EXPIRED_STATUS);
+
+            updatedConsentIDs = consentCoreDAO.getUpdatedConsentIds(connection, updatedTime, 1000);
+            limitedConsentIDs = consentCoreDAO.getUpdatedConsentIds(connection, 0L, 1);
+            laterConsentIDs = consentCoreDAO.getUpdatedConsentIds(connection, updatedTime + 3600, 1000);
+        }
+
+        Assert.assertTrue(updatedConsentIDs.contains(consentID));
+        Assert.assertEquals(limitedConsentIDs.size(), 1);
+        Assert.assertFalse(laterConsentIDs.contains(consentID));
+    }
+
+    @Test(expectedExceptions = ConsentDataRetrievalException.class)
+    public void testRetrieveUpdatedConsentIdsSQLError() throws Exception {
+
+        Mockito.doThrow(SQLException.class).when(mockedConnection).prepareStatement(Mockito.anyString());
+        consentCoreDAO.getUpdatedConsentIds(mockedConnection, 0L, 10);
+    }
+
+    @Test
+    public void testDeleteConsentExpiryTimeAttribute() throws Exception {
+
+        ExpiredConsentBatch expiredConsents;
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            ConsentResource consentResource = consentCoreDAO.storeConsentResource(connection,
+                    ConsentMgtDAOTestData.getSampleTestConsentResource());
+            consentCoreDAO.storeConsentAttributes(connection,
+                    getConsentExpiryTimeAttributes(consentResource.getConsentID(), "200"));
+            consentCoreDAO.deleteConsentAttributes(connection, consentResource.getConsentID(),
+                    new ArrayList<>(Collections.singletonList(ConsentMgtDAOConstants.CONSENT_EXPIRY_TIME_ATTRIBUTE)));
+
+            expiredConsents = consentCoreDAO.getExpiredConsents(connection, "Authorised", 200L,
+                    new ConsentExpiryCursor(199L, ""), 10);
+        }
+
+        Assert.assertTrue(expiredConsents.getConsents().isEmpty());
+    }
+
+    @Test (expectedExceptions = ConsentDataRetrievalException.class)
+    public void testRetrieveExpiredConsentsDataRetrievalError() throws Exception {
+
+        Mockito.doReturn(mockedPreparedStatement).when(mockedConnection).prepareStatement(Mockito.anyString());
+        Mockito.doThrow(SQLException.class).when(mockedPreparedStatement).executeQuery();
+        consentCoreDAO.getExpiredConsents(mockedConnection, "Authorised", 1000L, null, 10);
+    }
+
+    @Test (expectedExceptions = ConsentDataUpdationException.class)
+    public void testExpireConsentsUpdateError() throws Exception {
+
+        Mockito.doReturn(mockedPreparedStatement).when(mockedConnection).prepareStatement(Mockito.anyString());
+        Mockito.doThrow(SQLException.class).when(mockedPreparedStatement).executeBatch();
+        consentCoreDAO.expireConsents(mockedConnection,
+                Collections.singletonList(ConsentMgtDAOTestData.getSampleStoredTestConsentResource()),
+                ConsentMgtDAOTestData.SAMPLE_EXPIRED_STATUS, 2000L);
+    }
+
+    @Test
+    public void testExpireConsentsConfirmsUpdatesWithoutCount() throws Exception {
+
+        ConsentResource updatedConsent = ConsentMgtDAOTestData.getSampleStoredTestConsentResource();
+        ConsentResource concurrentlyUpdatedConsent = ConsentMgtDAOTestData.getSampleStoredTestConsentResource();
+        Connection connection = Mockito.mock(Connection.class);
+        PreparedStatement expirePreparedStatement = Mockito.mock(PreparedStatement.class);
+        PreparedStatement confirmPreparedStatement = Mockito.mock(PreparedStatement.class);
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Mockito.doReturn(expirePreparedStatement).doReturn(confirmPreparedStatement).when(connection)
+                .prepareStatement(Mockito.anyString());
+        Mockito.doReturn(new int[]{-2, -2}).when(expirePreparedStatement).executeBatch();
+        Mockito.doReturn(resultSet).when(confirmPreparedStatement).executeQuery();
+        Mockito.doReturn(true).doReturn(false).when(resultSet).next();
+        Mockito.doReturn(updatedConsent.getConsentID()).when(resultSet).getString(ConsentMgtDAOConstants.CONSENT_ID);
+
+        List<ConsentResource> expiredConsents = consentCoreDAO.expireConsents(connection,
+                Arrays.asList(updatedConsent, concurrentlyUpdatedConsent), ConsentMgtDAOTestData.SAMPLE_EXPIRED_STATUS,
+                2000L);
+
+        Assert.assertEquals(expiredConsents.size(), 1);
+        Assert.assertEquals(expiredConsents.get(0).getConsentID(), updatedConsent.getConsentID());
+        Mockito.verify(confirmPreparedStatement).setString(3, ConsentMgtDAOTestData.SAMPLE_EXPIRED_STATUS);
+        Mockito.verify(confirmPreparedStatement).setLong(4, 2000L);
+    }
+
+    @Test
+    public void testStoreAndRetrieveAuthorizationSession() throws Exception {
+
+        String storedSessionData;
+        String deletedSessionData;
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            consentCoreDAO.storeAuthorizationSession(connection, "session-key-1", "consent-1",
+                    "{\"type\":\"accounts\"}", 1000L);
+            storedSessionData = consentCoreDAO.getAuthorizationSession(connection, "session-key-1", 999L);
+            consentCoreDAO.deleteAuthorizationSession(connection, "session-key-1");
+            deletedSessionData = consentCoreDAO.getAuthorizationSession(connection, "session-key-1", 999L);
+        }
+
+        Assert.assertEquals(storedSessionData, "{\"type\":\"accounts\"}");
+        Assert.assertNull(deletedSessionData);
+    }
+
+    @Test
+    public void testDeleteExpiredAuthorizationSessions() throws Exception {
+
+        String expiredSessionData;
+        String unexpiredSessionData;
+        int deletedSessionCount;
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            consentCoreDAO.storeAuthorizationSession(connection, "session-key-2", null, "{}", 100L);
+            consentCoreDAO.storeAuthorizationSession(connection, "session-key-3", null, "{}", 300L);
+            expiredSessionData = consentCoreDAO.getAuthorizationSession(connection, "session-key-2", 100L);
+            deletedSessionCount = consentCoreDAO.deleteExpiredAuthorizationSessions(connection, 200L);
+            unexpiredSessionData = consentCoreDAO.getAuthorizationSession(connection, "session-key-3", 200L);
+        }
+
+        Assert.assertNull(expiredSessionData);
+        Assert.assertEquals(deletedSessionCount, 1);
+        Assert.assertEquals(unexpiredSessionData, "{}");
+    }
+
+    @Test
+    public void testStoreExistingAuthorizationSession() throws Exception {
+
+        String storedSessionData;
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            consentCoreDAO.storeAuthorizationSession(connection, "session-key-4", null, "{}", 1000L);
+            consentCoreDAO.storeAuthorizationSession(connection, "session-key-4", "consent-4",
+                    "{\"type\":\"payments\"}", 1000L);
+            storedSessionData = consentCoreDAO.getAuthorizationSession(connection, "session-key-4", 999L);
+        }
+
+        Assert.assertEquals(storedSessionData, "{\"type\":\"payments\"}");
+    }
+
+    @Test
+    public void testStoreConcurrentlyStoredAuthorizationSession() throws Exception {
+
+        Connection connection = Mockito.mock(Connection.class);
+        Savepoint savepoint = Mockito.mock(Savepoint.class);
+        PreparedStatement updatePreparedStatement = Mockito.mock(PreparedStatement.class);
+        PreparedStatement insertPreparedStatement = Mockito.mock(PreparedStatement.class);
+        Mockito.doReturn(false).when(connection).getAutoCommit();
+        Mockito.doReturn(savepoint).when(connection).setSavepoint();
+        Mockito.doReturn(updatePreparedStatement).doReturn(insertPreparedStatement).doReturn(updatePreparedStatement)
+                .when(connection).prepareStatement(Mockito.anyString());
+        Mockito.doReturn(0).doReturn(1).when(updatePreparedStatement).executeUpdate();
+        Mockito.doThrow(new SQLException("Duplicate key", "23505")).when(insertPreparedStatement).executeUpdate();
+
+        consentCoreDAO.storeAuthorizationSession(connection, "session-key", null, "{}", 1000L);
+
+        Mockito.verify(connection).rollback(savepoint);
+        Mockito.verify(updatePreparedStatement, Mockito.times(2)).executeUpdate();
+    }
+
+    @Test (expectedExceptions = ConsentDataInsertionException.class)
+    public void testStoreAuthorizationSessionInsertionError() throws Exception {
+
+        Mockito.doReturn(mockedPreparedStatement).when(mockedConnection).prepareStatement(Mockito.anyString());
+        Mockito.doThrow(SQLException.class).when(mockedPreparedStatement).executeUpdate();
+        consentCoreDAO.storeAuthorizationSession(mockedConnection, "session-key", null, "{}", 1000L);
+    }
+
+    @Test (expectedExceptions = ConsentDataRetrievalException.class)
+    public void testRetrieveAuthorizationSessionDataRetrievalError() throws Exception {
+
+        Mockito.doReturn(mockedPreparedStatement).when(mockedConnection).prepareStatement(Mockito.anyString());
+        Mockito.doThrow(SQLException.class).when(mockedPreparedStatement).executeQuery();
+        consentCoreDAO.getAuthorizationSession(mockedConnection, "session-key", 1000L);
+    }
+
+    @Test
+    public void testStoreReplayedJti() throws Exception {
+
+        boolean isFirstStored;
+        boolean isReplayStored;
+        int deletedJtiCount;
+        boolean isStoredAfterCleanup;
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            isFirstStored = consentCoreDAO.storeJti(connection, "jti-1", 100L);
+            isReplayStored = consentCoreDAO.storeJti(connection, "jti-1", 100L);
+            deletedJtiCount = consentCoreDAO.deleteExpiredJtis(connection, 200L);
+            isStoredAfterCleanup = consentCoreDAO.storeJti(connection, "jti-1", 300L);
+        }
+
+        Assert.assertTrue(isFirstStored);
+        Assert.assertFalse(isReplayStored);
+        Assert.assertEquals(deletedJtiCount, 1);
+        Assert.assertTrue(isStoredAfterCleanup);
+    }
+
+    @Test (expectedExceptions = ConsentDataInsertionException.class)
+    public void testStoreJtiInsertionError() throws Exception {
+
+        Mockito.doReturn(mockedPreparedStatement).when(mockedConnection).prepareStatement(Mockito.anyString());
+        Mockito.doThrow(new SQLException("Connection error", "08001")).when(mockedPreparedStatement).executeUpdate();
+        consentCoreDAO.storeJti(mockedConnection, "jti", 1000L);
+    }
+
+    private static ConsentAttributes getConsentExpiryTimeAttributes(String consentID, String expiryTime) {
+
+        ConsentAttributes consentAttributes = new ConsentAttributes();
+        consentAttributes.setConsentID(consentID);
+        consentAttributes.setConsentAttributes(
+                new HashMap<>(Map.of(ConsentMgtDAOConstants.CONSENT_EXPIRY_TIME_ATTRIBUTE, expiryTime)));
+        return consentAttributes;
+    }
+
     private void storeDataForConsentSearchTest(ArrayList<String> consentIDs,
                                                Connection connection) throws ConsentDataInsertionException {
 
@@ -2291,4 +2814,18 @@ public class ConsentCoreDAOTests {
         consentCoreDAO.updateConsentResource(connection, consentResource);
     }
 
+    @Test
+    public void testApproximateConsentCountErrorRolledBackToSavepoint() throws Exception {
+
+        Connection connection = Mockito.mock(Connection.class);
+        Savepoint savepoint = Mockito.mock(Savepoint.class);
+        Mockito.doReturn(false).when(connection).getAutoCommit();
+        Mockito.doReturn(savepoint).when(connection).setSavepoint();
+        Mockito.doThrow(SQLException.class).when(connection).prepareStatement(Mockito.anyString());
+
+        Assert.assertNull(new ConsentCoreDAOImpl(new ConsentMgtCommonDBQueries())
+                .getApproximateConsentCount(connection));
+        Mockito.verify(connection).rollback(savepoint);
+    }
+
 }
@@ -14,6 +14,7 @@ CREATE TABLE IF NOT EXISTS FS_CONSENT (
   CONSENT_FREQUENCY     INT,
   VALIDITY_TIME         BIGINT,
   RECURRING_INDICATOR   BOOLEAN,
+  EXPIRY_TIME           BIGINT,
   PRIMARY KEY (CONSENT_ID)
 );
 
@@ -65,6 +66,15 @@ CREATE TABLE IF NOT EXISTS FS_CONSENT_ATTRIBUTE (
   CONSTRAINT FK_FS_CONSENT_ATTRIBUTE FOREIGN KEY (CONSENT_ID) REFERENCES FS_CONSENT (CONSENT_ID)
 );
 
+CREATE TABLE IF NOT EXISTS FS_CONSENT_ATTRIBUTE_LOOKUP (
+  ATT_KEY           VARCHAR(255) NOT NULL,
+  ATT_VALUE_HASH    VARCHAR(64) NOT NULL,
+  CONSENT_ID        VARCHAR(255) NOT NULL,
+  PRIMARY KEY(ATT_KEY, ATT_VALUE_HASH, CONSENT_ID),
+  CONSTRAINT FK_FS_CONSENT_ATTRIBUTE_LOOKUP FOREIGN KEY (CONSENT_ID, ATT_KEY)
+    REFERENCES FS_CONSENT_ATTRIBUTE (CONSENT_ID, ATT_KEY) ON DELETE CASCADE
+);
+
 CREATE TABLE IF NOT EXISTS FS_CONSENT_HISTORY (
   TABLE_ID VARCHAR(10) NOT NULL,
   RECORD_ID VARCHAR(255) NOT NULL,
@@ -74,3 +84,23 @@ CREATE TABLE IF NOT EXISTS FS_CONSENT_HISTORY (
   EFFECTIVE_TIMESTAMP BIGINT NOT NULL,
   PRIMARY KEY (TABLE_ID,RECORD_ID,HISTORY_ID)
 );
+
+CREATE TABLE IF NOT EXISTS FS_AUTHORIZATION_SESSION (
+  SESSION_DATA_KEY  VARCHAR(255) NOT NULL,
+  CONSENT_ID        VARCHAR(255),
+  SESSION_DATA      CLOB NOT NULL,
+  EXPIRY_TIME       BIGINT NOT NULL,
+  PRIMARY KEY(SESSION_DATA_KEY)
+);
+
+CREATE TABLE IF NOT EXISTS FS_JTI_REPLAY (
+  JTI          VARCHAR(255) NOT NULL,
+  EXPIRY_TIME  BIGINT NOT NULL,
+  PRIMARY KEY(JTI)
+);
+
+CREATE INDEX IF NOT EXISTS IDX_FS_CONSENT_UPDATED_TIME ON FS_CONSENT (UPDATED_TIME, CONSENT_ID);
+CREATE INDEX IF NOT EXISTS IDX_FS_CONSENT_MAPPING_ACCOUNT_ID ON FS_CONSENT_MAPPING (ACCOUNT_ID, AUTH_ID);
+CREATE INDEX IF NOT EXISTS IDX_FS_CONSENT_EXPIRY_TIME ON FS_CONSENT (EXPIRY_TIME, CONSENT_ID);
+CREATE INDEX IF NOT EXISTS IDX_FS_AUTH_SESSION_EXPIRY_TIME ON FS_AUTHORIZATION_SESSION (EXPIRY_TIME);
+CREATE INDEX IF NOT EXISTS IDX_FS_JTI_REPLAY_EXPIRY_TIME ON FS_JTI_REPLAY (EXPIRY_TIME);
@@ -62,6 +62,7 @@ public class DefaultConsentAdminHandler implements ConsentAdminHandler {
     boolean isExtensionsEnabled;
     boolean isExternalPreConsentRevocationEnabled;
     boolean isExternalEnrichConsentSearchResponseEnabled;
+    boolean isApproximateSearchTotalEnabled;
 
     public DefaultConsentAdminHandler() {
 
@@ -72,6 +73,7 @@ public class DefaultConsentAdminHandler implements ConsentAdminHandler {
                 .contains(ServiceExtensionTypeEnum.PRE_PROCESS_CONSENT_REVOKE);
         isExternalEnrichConsentSearchResponseEnabled = configParser.getServiceExtensionTypes()
                 .contains(ServiceExtensionTypeEnum.ENRICH_CONSENT_SEARCH_RESPONSE);
+        isApproximateSearchTotalEnabled = configParser.isAdminSearchApproximateTotalEnabled();
     }
 
     @Override
@@ -84,6 +86,7 @@ public class DefaultConsentAdminHandler implements ConsentAdminHandler {
         ArrayList<String> consentTypes;
         ArrayList<String> consentStatuses;
         ArrayList<String> userIDs;
+        ArrayList<String> accountIDs;
         Long fromTime = null;
         Long toTime = null;
         Integer limit = null;
@@ -102,6 +105,8 @@ public class DefaultConsentAdminHandler implements ConsentAdminHandler {
                 .validateAndGetQueryParam(queryParams, ConsentExtensionConstants.CONSENT_STATUSES));
         userIDs = ConsentAdminUtils.getArrayListFromQueryParam(ConsentAdminUtils
                 .validateAndGetQueryParam(queryParams, ConsentExtensionConstants.USER_IDS));
+        accountIDs = ConsentAdminUtils.getArrayListFromQueryParam(ConsentAdminUtils
+                .validateAndGetQueryParam(queryParams, ConsentExtensionConstants.ACCOUNT_IDS));
 
         try {
             long fromTimeValue = ConsentAdminUtils.getLongFromQueryParam(ConsentAdminUtils
@@ -137,7 +142,7 @@ public class DefaultConsentAdminHandler implements ConsentAdminHandler {
         try {
             ArrayList<DetailedConsentResource> results = ConsentExtensionsDataHolder.getInstance()
                     .getConsentCoreService().searchDetailedConsents(consentIDs, clientIDs,
-                            consentTypes, consentStatuses, userIDs, fromTime, toTime, limit, offset);
+                            consentTypes, consentStatuses, userIDs, accountIDs, fromTime, toTime, limit, offset);
             JSONArray searchResults = new JSONArray();
             for (DetailedConsentResource result : results) {
                 searchResults.put(ConsentAdminUtils.detailedConsentToJSON(result));
@@ -152,10 +157,9 @@ public class DefaultConsentAdminHandler implements ConsentAdminHandler {
         //retrieve the total of the data set queried
         if (limit != null || offset != null) {
             try {
-                ArrayList<DetailedConsentResource> results = ConsentExtensionsDataHolder.getInstance()
-                        .getConsentCoreService().searchDetailedConsents(consentIDs,
-                                clientIDs, consentTypes, consentStatuses, userIDs, fromTime, toTime, null, null);
-                total = results.size();
+                total = ConsentExtensionsDataHolder.getInstance().getConsentCoreService().countDetailedConsents(
+                        consentIDs, clientIDs, consentTypes, consentStatuses, userIDs, accountIDs, fromTime, toTime,
+                        isApproximateSearchTotalEnabled);
             } catch (ConsentManagementException e) {
                 throw new ConsentException(ResponseStatus.INTERNAL_SERVER_ERROR, e.getMessage(), e);
             }
@@ -199,10 +203,20 @@ public class DefaultConsentAdminHandler implements ConsentAdminHandler {
             consentAdminData.setResponseStatus(ResponseStatus.OK);
             consentAdminData.setResponsePayload(response);
         }
-        // Filter consent data based on the accounts if accounts are available in the query params.
-        if (consentAdminData.getQueryParams().containsKey(ConsentExtensionConstants.ACCOUNT_IDS)) {
-            filterConsentsByAccount(consentAdminData);
-        }
+    }
+
+    /**
+     * Filter the consent data based on the accounts.
+     *
+     * @param consentAdminData Consent admin data.
+     * @deprecated The account IDs in the query params are now applied in the consent search query by
+     * {@link #handleSearch(ConsentAdminData)}, so the response is already filtered. This method does nothing and
+     * will be removed in a future release.
+     */
+    @Deprecated
+    public void filterConsentsByAccount(ConsentAdminData consentAdminData) {
+
+        // Account filtering is applied in the consent search query
     }
 
     @Override
@@ -453,38 +467,4 @@ public class DefaultConsentAdminHandler implements ConsentAdminHandler {
         consentAdminData.setResponseStatus(ResponseStatus.OK);
         consentAdminData.setResponsePayload(response);
     }
-
-
-    /**
-     * Filter the consent data based on the accounts.
-     * @param consentAdminData Consent admin data.
-     */
-    public void filterConsentsByAccount(ConsentAdminData consentAdminData) {
-
-        ArrayList accounts = ((ArrayList) consentAdminData.getQueryParams()
-                .get(ConsentExtensionConstants.ACCOUNT_IDS));
-        if (accounts.size() > 0) {
-            JSONArray filteredConsentData = new JSONArray();
-            for (Object consentObj : (JSONArray) consentAdminData.getResponsePayload()
-                    .get(ConsentExtensionConstants.DATA_CC)) {
-                JSONObject consent = (JSONObject) consentObj;
-                JSONArray consentMappingResources = (JSONArray) consent
-                        .get(ConsentExtensionConstants.MAPPING_RESOURCES);
-                for (Object consentMappingResource : consentMappingResources) {
-                    JSONObject consentMappingResourceObject = (JSONObject) consentMappingResource;
-                    if (accounts.contains(consentMappingResourceObject.get(ConsentExtensionConstants.ACCOUNT_ID_CC))) {
-                        filteredConsentData.put(consent);
-                        break;
-                    }
-                }
-            }
-            JSONObject responseMetadata = (JSONObject) consentAdminData.getResponsePayload()
-                    .get(ConsentExtensionConstants.METADATA);
-            responseMetadata.put(ConsentExtensionConstants.TOTAL, filteredConsentData.length());
-            responseMetadata.put(ConsentExtensionConstants.COUNT, filteredConsentData.length());
-            consentAdminData.getResponsePayload().put(ConsentExtensionConstants.DATA_CC, filteredConsentData);
-        }
-    }
-
-
 }
@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.extensions.job;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
+import org.wso2.financial.services.accelerator.common.util.Generated;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.internal.ConsentExtensionsDataHolder;
+
+/**
+ * Scheduled Task to remove the authorization sessions whose expiry time has passed from the DB. Sessions of
+ * authorization flows which were not completed are otherwise never deleted.
+ */
+@DisallowConcurrentExecution
+public class ExpiredAuthorizationSessionCleanupJob implements Job {
+
+    private static Log log = LogFactory.getLog(ExpiredAuthorizationSessionCleanupJob.class);
+
+    /**
+     * Method used to enforce periodic removal of expired authorization sessions
+     *
+     * @param jobExecutionContext
+     * @throws JobExecutionException
+     */
+    @Generated(message = "Ignoring since method contains no unit testable logics")
+    public void execute(JobExecutionContext jobExecutionContext) throws JobExecutionException {
+        try {
+            deleteExpiredAuthorizationSessions();
+        } catch (ConsentManagementException e) {
+            log.error("Error occurred while deleting expired authorization sessions", e);
+        }
+    }
+
+    /**
+     * Method to delete expired authorization sessions
+     */
+    public static void deleteExpiredAuthorizationSessions() throws ConsentManagementException {
+
+        log.debug("Expired Authorization Session Cleanup Scheduled Task is executing.");
+        int deletedSessionCount = ConsentExtensionsDataHolder.getInstance().getConsentCoreService()
+                .deleteExpiredAuthorizationSessions();
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Deleted %d expired authorization sessions", deletedSessionCount));
+        }
+        log.debug("Expired Authorization Session Cleanup Scheduled Task is finished.");
+    }
+}
@@ -27,14 +27,17 @@ import org.quartz.SchedulerException;
 import org.quartz.Trigger;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.util.Generated;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.job.ExpiredAuthorizationSessionCleanupJob;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.job.ExpiredConsentStatusUpdateJob;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.job.ExpiredJtiCleanupJob;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.job.scheduler.PeriodicalConsentJobScheduler;
 
 import static org.quartz.JobBuilder.newJob;
 import static org.quartz.TriggerBuilder.newTrigger;
 
 /**
- * Scheduled Task definition and trigger to perform expired consent status updateJob based on the cron string.
+ * Scheduled Task definitions and triggers to perform expired consent status updateJob, expired authorization
+ * session cleanup and expired JTI cleanup based on the cron strings.
  */
 public class PeriodicalConsentJobActivator {
 
@@ -74,5 +77,75 @@ public class PeriodicalConsentJobActivator {
                 log.error("Error while creating and starting Periodical Consent Status Update Scheduled Task", e);
             }
         }
+
+        activateAuthorizationSessionCleanup();
+        activateJtiCleanup();
+    }
+
+    /**
+     * activate the expired authorization session cleanup task
+     */
+    @Generated(message = "Ignoring since method contains no unit testable logics")
+    private void activateAuthorizationSessionCleanup() {
+
+        String cronExpression = FinancialServicesConfigParser.getInstance()
+                .getAuthorizationSessionCleanupCronExpression();
+        JobDetail job = newJob(ExpiredAuthorizationSessionCleanupJob.class)
+                .withIdentity("AuthorizationSessionCleanupJob", "group1")
+                .build();
+
+        Trigger trigger = newTrigger()
+                .withIdentity("authorizationSessionCleanupTrigger", "group1")
+                .withSchedule(CronScheduleBuilder.cronSchedule(cronExpression))
+                .build();
+
+        try {
+            Scheduler scheduler = PeriodicalConsentJobScheduler.getInstance().getScheduler();
+            // this check is to remove already stored jobs in clustered mode.
+            if (scheduler.checkExists(job.getKey())) {
+                scheduler.deleteJob(job.getKey());
+            }
+
+            scheduler.scheduleJob(job, trigger);
+            if (log.isDebugEnabled()) {
+                String debug = "Expired Authorization Session Cleanup Started with cron : " + cronExpression;
+                log.debug(debug.replaceAll("[\r\n]", ""));
+            }
+        } catch (SchedulerException e) {
+            log.error("Error while creating and starting Expired Authorization Session Cleanup Scheduled Task", e);
+        }
+    }
+
+    /**
+     * activate the expired JTI cleanup task
+     */
+    @Generated(message = "Ignoring since method contains no unit testable logics")
+    private void activateJtiCleanup() {
+
+        String cronExpression = FinancialServicesConfigParser.getInstance().getJtiReplayStoreCleanupCronExpression();
+        JobDetail job = newJob(ExpiredJtiCleanupJob.class)
+                .withIdentity("JtiCleanupJob", "group1")
+                .build();
+
+        Trigger trigger = newTrigger()
+                .withIdentity("jtiCleanupTrigger", "group1")
+                .withSchedule(CronScheduleBuilder.cronSchedule(cronExpression))
+                .build();
+
+        try {
+            Scheduler scheduler = PeriodicalConsentJobScheduler.getInstance().getScheduler();
+            // this check is to remove already stored jobs in clustered mode.
+            if (scheduler.checkExists(job.getKey())) {
+                scheduler.deleteJob(job.getKey());
+            }
+
+            scheduler.scheduleJob(job, trigger);
+            if (log.isDebugEnabled()) {
+                String debug = "Expired JTI Cleanup Started with cron : " + cronExpression;
+                log.debug(debug.replaceAll("[\r\n]", ""));
+            }
+        } catch (SchedulerException e) {
+            log.error("Error while creating and starting Expired JTI Cleanup Scheduled Task", e);
+        }
     }
 }
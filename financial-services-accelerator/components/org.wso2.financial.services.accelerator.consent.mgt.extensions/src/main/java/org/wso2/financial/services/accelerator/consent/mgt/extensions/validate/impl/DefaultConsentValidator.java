@@ -181,7 +181,8 @@ public class DefaultConsentValidator implements ConsentValidator {
             return;
         }
 
-        if (isConsentExpired(receiptJSON.getJSONObject("Data").getString("ExpirationDateTime"))) {
+        String expirationDateTime = receiptJSON.getJSONObject("Data").getString("ExpirationDateTime");
+        if (isConsentExpired(expirationDateTime)) {
             log.error(CONSENT_EXPIRED_ERROR);
             consentValidationResult.setValid(false);
             consentValidationResult.setErrorMessage(CONSENT_EXPIRED_ERROR);
@@ -189,6 +190,7 @@ public class DefaultConsentValidator implements ConsentValidator {
             consentValidationResult.setHttpCode(HttpStatus.SC_BAD_REQUEST);
             return;
         }
+        consentValidationResult.setConsentExpiryTime(getConsentExpiryTime(expirationDateTime));
         consentValidationResult.setValid(true);
     }
 
@@ -225,8 +227,9 @@ public class DefaultConsentValidator implements ConsentValidator {
         }
 
         //Validate whether the consent is expired
-        if (isConsentExpired(receiptJSON.getJSONObject(ConsentExtensionConstants.DATA)
-                .getString(ConsentExtensionConstants.EXPIRATION_DATE))) {
+        String expirationDateTime = receiptJSON.getJSONObject(ConsentExtensionConstants.DATA)
+                .getString(ConsentExtensionConstants.EXPIRATION_DATE);
+        if (isConsentExpired(expirationDateTime)) {
             log.error(CONSENT_EXPIRED_ERROR);
             consentValidationResult.setValid(false);
             consentValidationResult.setErrorMessage(CONSENT_EXPIRED_ERROR);
@@ -234,6 +237,7 @@ public class DefaultConsentValidator implements ConsentValidator {
             consentValidationResult.setHttpCode(HttpStatus.SC_UNAUTHORIZED);
             return;
         }
+        consentValidationResult.setConsentExpiryTime(getConsentExpiryTime(expirationDateTime));
 
 
         // Check if requested consent ID in the token to initiation consent ID.
@@ -371,6 +375,20 @@ public class DefaultConsentValidator implements ConsentValidator {
         }
     }
 
+    /**
+     * Method to get the consent expiration time. Called after the expiration date is validated.
+     *
+     * @param expDateVal   Expiration date value
+     * @return Expiration time in epoch seconds, 0 if the consent does not expire
+     */
+    private static long getConsentExpiryTime(String expDateVal) {
+
+        if (expDateVal == null || expDateVal.isEmpty()) {
+            return 0;
+        }
+        return OffsetDateTime.parse(expDateVal).toEpochSecond();
+    }
+
     /**
      * Util method to validate the Confirmation of Funds request URI.
      *
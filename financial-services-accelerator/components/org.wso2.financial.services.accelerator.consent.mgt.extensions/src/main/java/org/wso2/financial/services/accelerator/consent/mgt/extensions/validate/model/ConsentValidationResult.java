@@ -34,6 +34,7 @@ public class ConsentValidationResult {
     private String errorCode = null;
     private String errorMessage = null;
     private int httpCode = 0;
+    private long consentExpiryTime = -1;
 
     public boolean isValid() {
         return isValid;
@@ -83,12 +84,34 @@ public class ConsentValidationResult {
         this.httpCode = httpCode;
     }
 
+    /**
+     * Get the expiry time of the consent a valid result was decided on.
+     *
+     * @return expiry time in epoch seconds, 0 if the consent does not expire, -1 if not reported
+     */
+    public long getConsentExpiryTime() {
+        return consentExpiryTime;
+    }
+
+    /**
+     * Set the expiry time of the consent a valid result was decided on. The gateway reuses a valid result only
+     * when this is reported, and not after the consent expires.
+     *
+     * @param consentExpiryTime expiry time in epoch seconds, 0 if the consent does not expire
+     */
+    public void setConsentExpiryTime(long consentExpiryTime) {
+        this.consentExpiryTime = consentExpiryTime;
+    }
+
     public JSONObject generatePayload() {
         JSONObject payload = new JSONObject();
         payload.put("isValid", isValid);
         if (modifiedPayload != null) {
             payload.put("modifiedPayload", modifiedPayload);
         }
+        if (isValid && consentExpiryTime >= 0) {
+            payload.put("consentExpiryTime", consentExpiryTime);
+        }
         if (errorCode != null && errorMessage != null && httpCode != 0) {
             payload.put("errorCode", errorCode);
             payload.put("errorMessage", errorMessage);
@@ -20,9 +20,11 @@ package org.wso2.financial.services.accelerator.consent.mgt.extensions.admin;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -58,6 +60,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -100,6 +103,9 @@ public class DefaultConsentAdminHandlerTest {
         doReturn(resources).when(consentCoreServiceMock).searchDetailedConsents(any(ArrayList.class),
                 any(ArrayList.class), any(ArrayList.class), any(ArrayList.class), any(ArrayList.class),
                 anyLong(), anyLong(), anyInt(), anyInt());
+        doReturn(resources).when(consentCoreServiceMock).searchDetailedConsents(any(ArrayList.class),
+                any(ArrayList.class), any(ArrayList.class), any(ArrayList.class), any(ArrayList.class),
+                any(), any(), any(), any(), any());
         doReturn(TestUtil.getSampleConsentResource(TestConstants.AUTHORISED_STATUS)).when(consentCoreServiceMock)
                 .getConsent(anyString(), anyBoolean());
         doReturn(TestUtil.getSampleAuthorizedDetailedConsentResource()).when(consentCoreServiceMock)
@@ -159,6 +165,29 @@ public class DefaultConsentAdminHandlerTest {
         doReturn(new JSONObject(TestConstants.ADMIN_SEARCH_RESPONSE)).when(consentAdminDataMock).getResponsePayload();
         defaultConsentAdminHandler.handleSearch(consentAdminDataMock);
         verify(consentAdminDataMock).setResponseStatus(ResponseStatus.OK);
+        verify(consentCoreServiceMock).searchDetailedConsents(any(), any(), any(), any(), any(),
+                eq(new ArrayList<>(Collections.singletonList(TestConstants.SAMPLE_ACCOUNT_ID))), any(), any(),
+                any(), any());
+    }
+
+    @Test
+    public void testHandleSearchTotalWithPagination() throws ConsentManagementException {
+        ConsentAdminData consentAdminDataMock = mock(ConsentAdminData.class);
+        Map queryParams = getQueryParams();
+        queryParams.put(ConsentExtensionConstants.LIMIT, new ArrayList<>(Collections.singletonList("1")));
+        doReturn(queryParams).when(consentAdminDataMock).getQueryParams();
+        doReturn(5).when(consentCoreServiceMock).countDetailedConsents(any(ArrayList.class), any(ArrayList.class),
+                any(ArrayList.class), any(ArrayList.class), any(ArrayList.class), any(), any(), any(), anyBoolean());
+
+        defaultConsentAdminHandler.handleSearch(consentAdminDataMock);
+
+        ArgumentCaptor<JSONObject> responseCaptor = ArgumentCaptor.forClass(JSONObject.class);
+        verify(consentAdminDataMock).setResponsePayload(responseCaptor.capture());
+        Assert.assertEquals(responseCaptor.getValue().getJSONObject(ConsentExtensionConstants.METADATA)
+                .getInt(ConsentExtensionConstants.TOTAL), 5);
+        verify(consentCoreServiceMock, Mockito.never()).searchDetailedConsents(any(ArrayList.class),
+                any(ArrayList.class), any(ArrayList.class), any(ArrayList.class), any(ArrayList.class),
+                any(), any(), any(), Mockito.isNull(), Mockito.isNull());
     }
 
     @Test
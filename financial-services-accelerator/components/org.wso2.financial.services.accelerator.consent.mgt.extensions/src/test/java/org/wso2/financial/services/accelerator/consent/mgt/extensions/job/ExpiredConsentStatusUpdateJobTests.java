@@ -25,20 +25,17 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
-import org.wso2.financial.services.accelerator.consent.mgt.dao.constants.ConsentMgtDAOConstants;
-import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.internal.ConsentExtensionsDataHolder;
 import org.wso2.financial.services.accelerator.consent.mgt.service.ConsentCoreService;
 
-import java.util.ArrayList;
-import java.util.Map;
-
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ExpiredConsentStatusUpdateJobTests {
 
     private static MockedStatic<FinancialServicesConfigParser> mockedConfigParser;
+    private ConsentCoreService consentCoreService;
 
     @BeforeClass
     public void initTest() throws ConsentManagementException {
@@ -47,23 +44,13 @@ public class ExpiredConsentStatusUpdateJobTests {
         FinancialServicesConfigParser mockConfigParser = mock(FinancialServicesConfigParser.class);
         when(mockConfigParser.getStatusWordingForExpiredConsents()).thenReturn("Expired");
         when(mockConfigParser.getEligibleStatusesForConsentExpiry()).thenReturn("Authorised");
+        when(mockConfigParser.getConsentExpiryBatchSize()).thenReturn(100);
         when(mockConfigParser.isConsentAmendmentHistoryEnabled()).thenReturn(true);
         mockedConfigParser.when(FinancialServicesConfigParser::getInstance).thenReturn(mockConfigParser);
 
-        ConsentCoreService consentCoreService = mock(ConsentCoreService.class);
-
-        ArrayList<DetailedConsentResource> detailedConsentResources = new ArrayList<>();
-        DetailedConsentResource detailedConsentResource = new DetailedConsentResource();
-        detailedConsentResource.setConsentID("123");
-        Map<String, String> consentAttributes = Map
-                .of(ConsentMgtDAOConstants.CONSENT_EXPIRY_TIME_ATTRIBUTE, "1746017102");
-        detailedConsentResource.setConsentAttributes(consentAttributes);
-        detailedConsentResources.add(detailedConsentResource);
-
-        when(consentCoreService.getConsentsEligibleForExpiration(Mockito.any()))
-                .thenReturn(detailedConsentResources);
-        when(consentCoreService.updateConsentStatus(Mockito.any(), Mockito.any()))
-                .thenReturn(detailedConsentResource);
+        consentCoreService = mock(ConsentCoreService.class);
+        when(consentCoreService.expireConsents(Mockito.anyString(), Mockito.anyString(), Mockito.anyInt(),
+                Mockito.anyBoolean())).thenReturn(1);
         ConsentExtensionsDataHolder.getInstance().setConsentCoreService(consentCoreService);
 
     }
@@ -76,6 +63,7 @@ public class ExpiredConsentStatusUpdateJobTests {
     @Test
     void testUpdateExpiredStatues() throws ConsentManagementException {
         ExpiredConsentStatusUpdateJob.updateExpiredStatues();
+        verify(consentCoreService).expireConsents("Authorised", "Expired", 100, true);
     }
 
 }
@@ -340,6 +340,8 @@ public class DefaultConsentValidatorTest {
         validator.validate(consentValidateDataMock, consentValidationResultMock);
 
         Assert.assertTrue(consentValidationResultMock.isValid());
+        Assert.assertTrue(consentValidationResultMock.getConsentExpiryTime() >= 0);
+        Assert.assertTrue(consentValidationResultMock.generatePayload().has("consentExpiryTime"));
     }
 
     @Test
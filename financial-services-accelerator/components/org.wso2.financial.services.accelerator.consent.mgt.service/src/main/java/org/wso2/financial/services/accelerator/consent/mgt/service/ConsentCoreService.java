@@ -25,11 +25,13 @@ import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentFil
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentHistoryResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentMappingResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchCursor;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStatusAuditRecord;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
 
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -109,6 +111,17 @@ public interface ConsentCoreService {
      */
     DetailedConsentResource getDetailedConsent(String consentID) throws ConsentManagementException;
 
+    /**
+     * This method is used to get the detailed consents for the provided consent IDs. The consents which are not
+     * cached are retrieved with a single search, and consent IDs that do not exist are absent from the result.
+     *
+     * @param consentIDs     IDs of the consents
+     * @return detailed consent resources mapped by the consent ID
+     * @throws ConsentManagementException thrown if any error occur in the process
+     */
+    Map<String, DetailedConsentResource> getDetailedConsents(List<String> consentIDs)
+            throws ConsentManagementException;
+
     /**
      * This method is used to store a detailed consent along with its associated authorizations,
      * account mappings, and attributes. An audit record will be created after storage.
@@ -720,6 +733,109 @@ public interface ConsentCoreService {
                                                               Integer limit, Integer offset)
             throws ConsentManagementException;
 
+    /**
+     * This method is used to search detailed consents with the same optional parameters as
+     * {@link #searchDetailedConsents(ArrayList, ArrayList, ArrayList, ArrayList, ArrayList, Long, Long, Integer,
+     * Integer)}, additionally restricted to the consents mapped to any of the given accounts. The accounts are
+     * filtered by the database, so the limit and offset are applied to the filtered consents.
+     *
+     * @param consentIDs        consent IDs optional list
+     * @param clientIDs         client IDs optional list
+     * @param consentTypes      consent types optional list
+     * @param consentStatuses   consent statuses optional list
+     * @param userIDs           user IDs optional list
+     * @param accountIDs        account IDs optional list
+     * @param fromTime          from time
+     * @param toTime            to time
+     * @param limit             limit
+     * @param offset            offset
+     * @return a list of detailed consent resources according to the provided parameters
+     * @throws ConsentManagementException thrown if any error occur
+     */
+    ArrayList<DetailedConsentResource> searchDetailedConsents(ArrayList<String> consentIDs, ArrayList<String> clientIDs,
+                                                              ArrayList<String> consentTypes,
+                                                              ArrayList<String> consentStatuses,
+                                                              ArrayList<String> userIDs, ArrayList<String> accountIDs,
+                                                              Long fromTime, Long toTime, Integer limit,
+                                                              Integer offset)
+            throws ConsentManagementException;
+
+    /**
+     * This method is used to search a page of detailed consents using an opaque cursor instead of an offset. The same
+     * optional search parameters as {@link #searchDetailedConsents} are supported. Consents are ordered by the
+     * updated time and the consent ID in descending order. The cursor of the next page is obtained by encoding a
+     * {@link ConsentSearchCursor} of the last consent in the page. A page smaller than the page size is the last page.
+     *
+     * @param consentIDs        consent IDs optional list
+     * @param clientIDs         client IDs optional list
+     * @param consentTypes      consent types optional list
+     * @param consentStatuses   consent statuses optional list
+     * @param userIDs           user IDs optional list
+     * @param fromTime          from time
+     * @param toTime            to time
+     * @param cursor            opaque cursor returned with the previous page, null for the first page
+     * @param pageSize          maximum number of consents in the page
+     * @return a page of detailed consent resources according to the provided parameters
+     * @throws ConsentManagementException thrown if the cursor is invalid or any error occur
+     */
+    ArrayList<DetailedConsentResource> searchDetailedConsentsByCursor(ArrayList<String> consentIDs,
+                                                                      ArrayList<String> clientIDs,
+                                                                      ArrayList<String> consentTypes,
+                                                                      ArrayList<String> consentStatuses,
+                                                                      ArrayList<String> userIDs, Long fromTime,
+                                                                      Long toTime, String cursor, int pageSize)
+            throws ConsentManagementException;
+
+    /**
+     * This method is used to count the consents matching the same optional search parameters as
+     * {@link #searchDetailedConsents}, including the account IDs, without retrieving the detailed consents. An
+     * approximate count can be requested where the exact total is not required. It is served from the database
+     * statistics when no search parameter is provided and the database maintains an estimate, and is an exact count
+     * otherwise.
+     *
+     * @param consentIDs        consent IDs optional list
+     * @param clientIDs         client IDs optional list
+     * @param consentTypes      consent types optional list
+     * @param consentStatuses   consent statuses optional list
+     * @param userIDs           user IDs optional list
+     * @param accountIDs        account IDs optional list
+     * @param fromTime          from time
+     * @param toTime            to time
+     * @param approximate       whether an estimated count is acceptable
+     * @return number of consents matching the provided parameters
+     * @throws ConsentManagementException thrown if any error occur
+     */
+    int countDetailedConsents(ArrayList<String> consentIDs, ArrayList<String> clientIDs,
+                              ArrayList<String> consentTypes, ArrayList<String> consentStatuses,
+                              ArrayList<String> userIDs, ArrayList<String> accountIDs, Long fromTime, Long toTime,
+                              boolean approximate)
+            throws ConsentManagementException;
+
+    /**
+     * This method is used to iterate over all the detailed consents matching the given search parameters. Pages of
+     * the given size are retrieved lazily using cursor based pagination, so any number of consents can be processed
+     * while holding only one page in memory. A database connection is only held while a page is being retrieved.
+     * Errors occurring while retrieving a page are thrown as FinancialServicesRuntimeException by the iterator.
+     *
+     * @param consentIDs        consent IDs optional list
+     * @param clientIDs         client IDs optional list
+     * @param consentTypes      consent types optional list
+     * @param consentStatuses   consent statuses optional list
+     * @param userIDs           user IDs optional list
+     * @param fromTime          from time
+     * @param toTime            to time
+     * @param pageSize          number of consents retrieved per page
+     * @return an iterator over the detailed consent resources according to the provided parameters
+     * @throws ConsentManagementException thrown if the page size is invalid
+     */
+    Iterator<DetailedConsentResource> iterateDetailedConsents(ArrayList<String> consentIDs,
+                                                              ArrayList<String> clientIDs,
+                                                              ArrayList<String> consentTypes,
+                                                              ArrayList<String> consentStatuses,
+                                                              ArrayList<String> userIDs, Long fromTime, Long toTime,
+                                                              int pageSize)
+            throws ConsentManagementException;
+
     /**
      * This method is used to amend consent receipt or validity period. The consent ID is mandatory. One of consent
      * receipt of validity period must be provided. An audit record is created to indicate that the consent is
@@ -773,4 +889,92 @@ public interface ConsentCoreService {
     ArrayList<DetailedConsentResource> getConsentsEligibleForExpiration(String statusesEligibleForExpiration)
             throws ConsentManagementException;
 
+    /**
+     * This method is used to expire the consents in an eligible status whose expiry time has passed. The consents
+     * are fetched and expired in batches ordered by the expiry time, each in its own transaction, together with the
+     * status audit records and the amendment history of the expired consents. A consent modified or expired by
+     * another node after it was fetched is skipped.
+     *
+     * @param statusesEligibleForExpiration comma separated statuses eligible for expiration
+     * @param expiredConsentStatus          status to set to the expired consents
+     * @param batchSize                     maximum number of consents expired in a transaction
+     * @param storeAmendmentHistory         whether the previous status is stored in the consent amendment history
+     * @return number of consents expired
+     * @throws ConsentManagementException thrown if an error occurs while expiring a batch of consents
+     */
+    int expireConsents(String statusesEligibleForExpiration, String expiredConsentStatus, int batchSize,
+                       boolean storeAmendmentHistory) throws ConsentManagementException;
+
+
+    /**
+     * This method is used to store the data of an authorization session against its session data key, for the
+     * authorization flow to read when the session is not available in the cache. An existing session of the same
+     * session data key is replaced, so the latest data of the authorization flow is kept.
+     *
+     * @param sessionDataKey session data key of the authorization session
+     * @param consentID      consent ID of the authorization session, can be null
+     * @param sessionData    session data to store
+     * @param timeToLive     time the session is kept for (in seconds)
+     * @return true if the session is stored
+     * @throws ConsentManagementException thrown if an error occurs in the process
+     */
+    boolean storeAuthorizationSession(String sessionDataKey, String consentID, String sessionData, long timeToLive)
+            throws ConsentManagementException;
+
+    /**
+     * This method is used to retrieve the data of an unexpired authorization session.
+     *
+     * @param sessionDataKey session data key of the authorization session
+     * @return session data, or null if there is no unexpired session for the session data key
+     * @throws ConsentManagementException thrown if an error occurs in the process
+     */
+    String getAuthorizationSession(String sessionDataKey) throws ConsentManagementException;
+
+    /**
+     * This method is used to delete an authorization session once the authorization flow is completed.
+     *
+     * @param sessionDataKey session data key of the authorization session
+     * @return true if the deletion is successful
+     * @throws ConsentManagementException thrown if an error occurs in the process
+     */
+    boolean deleteAuthorizationSession(String sessionDataKey) throws ConsentManagementException;
+
+    /**
+     * This method is used to delete the authorization sessions whose expiry time has passed.
+     *
+     * @return number of authorization sessions deleted
+     * @throws ConsentManagementException thrown if an error occurs in the process
+     */
+    int deleteExpiredAuthorizationSessions() throws ConsentManagementException;
+
+    /**
+     * This method is used to store a JTI (JWT ID) until the expiry time of its JWT, if it is not already stored. The
+     * check and the store are a single insert to the database, so a JTI is stored only once across all nodes.
+     *
+     * @param jti        JTI to store
+     * @param expiryTime expiry time of the JWT (in seconds)
+     * @return true if the JTI is stored, false if the JTI is already stored
+     * @throws ConsentManagementException thrown if an error occurs in the process
+     */
+    boolean storeJtiIfAbsent(String jti, long expiryTime) throws ConsentManagementException;
+
+    /**
+     * This method is used to delete the JTIs whose expiry time has passed.
+     *
+     * @return number of JTIs deleted
+     * @throws ConsentManagementException thrown if an error occurs in the process
+     */
+    int deleteExpiredJtis() throws ConsentManagementException;
+
+    /**
+     * This method is used to retrieve the IDs of the consents updated at or after the given time, which include the
+     * consents whose status changed. Caches holding data of consents outside the identity server use it to find the
+     * consents to invalidate.
+     *
+     * @param fromTime consents updated at or after this time (in seconds) are retrieved
+     * @param limit    maximum number of consent IDs to retrieve
+     * @return IDs of the updated consents
+     * @throws ConsentManagementException thrown if an error occurs in the process
+     */
+    ArrayList<String> getUpdatedConsentIds(long fromTime, int limit) throws ConsentManagementException;
 }
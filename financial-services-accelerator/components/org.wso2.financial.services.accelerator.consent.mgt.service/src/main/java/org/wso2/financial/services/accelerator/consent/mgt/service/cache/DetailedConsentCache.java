@@ -0,0 +1,297 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.service.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.accelerator.common.caching.FinancialServicesBaseCache;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.AuthorizationResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentMappingResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read-through cache of detailed consents used on the consent validation path.
+ * <p>
+ * Every entry is stamped with the version of the consent it was loaded for. Mutations bump the version after the
+ * transaction commits, so a value loaded concurrently with a write is never served once the write is visible. The
+ * number of entries is bounded by evicting the least recently used consent, and each entry is served only until its
+ * time to live elapses.
+ */
+public class DetailedConsentCache extends FinancialServicesBaseCache<DetailedConsentCacheKey,
+        DetailedConsentCache.VersionedDetailedConsent> {
+
+    private static final Log log = LogFactory.getLog(DetailedConsentCache.class);
+    private static final String cacheName = "FINANCIAL_SERVICES_DETAILED_CONSENT_CACHE";
+    private static final int VERSION_STRIPES = 1024;
+
+    private final long timeToLiveMillis;
+    private final int maxEntries;
+    private final int expiryMinutes;
+
+    // Versions are striped by consent ID so that tracking them does not grow with the number of consents.
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final Map<String, Boolean> cachedConsentIDs;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Initialize with unique cache name.
+     *
+     * @param timeToLiveSeconds time a cached detailed consent is served
+     * @param maxEntries        maximum number of cached detailed consents
+     */
+    public DetailedConsentCache(int timeToLiveSeconds, int maxEntries) {
+
+        super(cacheName);
+        this.timeToLiveMillis = TimeUnit.SECONDS.toMillis(timeToLiveSeconds);
+        this.maxEntries = maxEntries;
+        this.expiryMinutes = (int) Math.max(1, TimeUnit.SECONDS.toMinutes(timeToLiveSeconds + 59L));
+        this.cachedConsentIDs = new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+
+                if (size() > DetailedConsentCache.this.maxEntries) {
+                    evictionCount.increment();
+                    removeFromCache(DetailedConsentCacheKey.of(eldest.getKey()));
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get the current version of a consent. The version must be read before loading the consent from the database
+     * and passed to {@link #put(String, DetailedConsentResource, long)}.
+     *
+     * @param consentID consent ID
+     * @return current version of the consent
+     */
+    public long getVersion(String consentID) {
+
+        return versions.get(stripeOf(consentID));
+    }
+
+    /**
+     * Get a cached detailed consent. A copy of the cached detailed consent is returned, so that a caller modifying it
+     * does not change the cached value served to other callers.
+     *
+     * @param consentID consent ID
+     * @return copy of the cached detailed consent, or null if it is not cached, expired or outdated
+     */
+    public DetailedConsentResource get(String consentID) {
+
+        VersionedDetailedConsent cached = getFromCache(DetailedConsentCacheKey.of(consentID));
+        if (cached == null || cached.version != getVersion(consentID)
+                || System.currentTimeMillis() - cached.cachedTime >= timeToLiveMillis) {
+            missCount.increment();
+            return null;
+        }
+        synchronized (cachedConsentIDs) {
+            cachedConsentIDs.get(consentID);
+        }
+        hitCount.increment();
+        return copyOf(cached.detailedConsentResource);
+    }
+
+    /**
+     * Cache a detailed consent unless the consent was modified after the given version was read.
+     *
+     * @param consentID               consent ID
+     * @param detailedConsentResource detailed consent loaded from the database
+     * @param version                 version of the consent read before loading it
+     */
+    public void put(String consentID, DetailedConsentResource detailedConsentResource, long version) {
+
+        if (detailedConsentResource == null || version != getVersion(consentID)) {
+            return;
+        }
+        addToCache(DetailedConsentCacheKey.of(consentID), new VersionedDetailedConsent(
+                copyOf(detailedConsentResource), version, System.currentTimeMillis()));
+        synchronized (cachedConsentIDs) {
+            cachedConsentIDs.put(consentID, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Invalidate the cached detailed consent of a modified consent.
+     *
+     * @param consentID consent ID
+     */
+    public void invalidate(String consentID) {
+
+        if (consentID == null) {
+            return;
+        }
+        versions.incrementAndGet(stripeOf(consentID));
+        invalidationCount.increment();
+        removeFromCache(DetailedConsentCacheKey.of(consentID));
+        synchronized (cachedConsentIDs) {
+            cachedConsentIDs.remove(consentID);
+        }
+    }
+
+    /**
+     * Invalidate all cached detailed consents. Used when the modified consents cannot be resolved.
+     */
+    public void invalidateAll() {
+
+        log.debug("Invalidating all cached detailed consents");
+        for (int i = 0; i < VERSION_STRIPES; i++) {
+            versions.incrementAndGet(i);
+        }
+        invalidationCount.increment();
+        List<String> consentIDs;
+        synchronized (cachedConsentIDs) {
+            consentIDs = new ArrayList<>(cachedConsentIDs.keySet());
+            cachedConsentIDs.clear();
+        }
+        for (String consentID : consentIDs) {
+            removeFromCache(DetailedConsentCacheKey.of(consentID));
+        }
+    }
+
+    @Override
+    public long getHitCount() {
+
+        return hitCount.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+
+        return missCount.sum();
+    }
+
+    public long getInvalidationCount() {
+
+        return invalidationCount.sum();
+    }
+
+    public long getEvictionCount() {
+
+        return evictionCount.sum();
+    }
+
+    /**
+     * Get the ratio of lookups served from the cache.
+     *
+     * @return hit ratio between 0 and 1
+     */
+    public double getHitRatio() {
+
+        long hits = hitCount.sum();
+        long lookups = hits + missCount.sum();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    public int getSize() {
+
+        synchronized (cachedConsentIDs) {
+            return cachedConsentIDs.size();
+        }
+    }
+
+    @Override
+    public int getCacheAccessExpiryMinutes() {
+
+        return expiryMinutes;
+    }
+
+    @Override
+    public int getCacheModifiedExpiryMinutes() {
+
+        return expiryMinutes;
+    }
+
+    private static int stripeOf(String consentID) {
+
+        return (consentID.hashCode() & Integer.MAX_VALUE) % VERSION_STRIPES;
+    }
+
+    private static DetailedConsentResource copyOf(DetailedConsentResource detailedConsentResource) {
+
+        Map<String, String> consentAttributes = detailedConsentResource.getConsentAttributes() == null ? null :
+                new HashMap<>(detailedConsentResource.getConsentAttributes());
+
+        ArrayList<AuthorizationResource> authorizationResources = null;
+        if (detailedConsentResource.getAuthorizationResources() != null) {
+            authorizationResources = new ArrayList<>();
+            for (AuthorizationResource authorizationResource : detailedConsentResource.getAuthorizationResources()) {
+                AuthorizationResource copy = new AuthorizationResource(authorizationResource.getConsentID(),
+                        authorizationResource.getUserID(), authorizationResource.getAuthorizationStatus(),
+                        authorizationResource.getAuthorizationType(), authorizationResource.getUpdatedTime());
+                copy.setAuthorizationID(authorizationResource.getAuthorizationID());
+                authorizationResources.add(copy);
+            }
+        }
+
+        ArrayList<ConsentMappingResource> consentMappingResources = null;
+        if (detailedConsentResource.getConsentMappingResources() != null) {
+            consentMappingResources = new ArrayList<>();
+            for (ConsentMappingResource mappingResource : detailedConsentResource.getConsentMappingResources()) {
+                ConsentMappingResource copy = new ConsentMappingResource(mappingResource.getAuthorizationID(),
+                        mappingResource.getAccountID(), mappingResource.getPermission(),
+                        mappingResource.getMappingStatus());
+                copy.setMappingID(mappingResource.getMappingID());
+                consentMappingResources.add(copy);
+            }
+        }
+
+        return new DetailedConsentResource(detailedConsentResource.getConsentID(),
+                detailedConsentResource.getClientID(), detailedConsentResource.getReceipt(),
+                detailedConsentResource.getConsentType(), detailedConsentResource.getCurrentStatus(),
+                detailedConsentResource.getConsentFrequency(), detailedConsentResource.getValidityPeriod(),
+                detailedConsentResource.getCreatedTime(), detailedConsentResource.getUpdatedTime(),
+                detailedConsentResource.isRecurringIndicator(), consentAttributes, authorizationResources,
+                consentMappingResources);
+    }
+
+    /**
+     * Detailed consent together with the consent version and the time it was cached.
+     */
+    static final class VersionedDetailedConsent implements Serializable {
+
+        private static final long serialVersionUID = 3027316411208127540L;
+        private final DetailedConsentResource detailedConsentResource;
+        private final long version;
+        private final long cachedTime;
+
+        private VersionedDetailedConsent(DetailedConsentResource detailedConsentResource, long version,
+                                         long cachedTime) {
+
+            this.detailedConsentResource = detailedConsentResource;
+            this.version = version;
+            this.cachedTime = cachedTime;
+        }
+    }
+}
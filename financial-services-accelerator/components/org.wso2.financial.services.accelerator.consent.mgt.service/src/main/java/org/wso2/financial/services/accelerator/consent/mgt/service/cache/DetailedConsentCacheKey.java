@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.service.cache;
+
+import org.wso2.financial.services.accelerator.common.caching.FinancialServicesBaseCacheKey;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Cache Key for the detailed consent cache.
+ */
+public class DetailedConsentCacheKey extends FinancialServicesBaseCacheKey implements Serializable {
+
+    private static final long serialVersionUID = -5125302894630528714L;
+    public String consentID;
+
+    public DetailedConsentCacheKey(String consentID) {
+
+        this.consentID = consentID;
+    }
+
+    public static DetailedConsentCacheKey of(String consentID) {
+
+        return new DetailedConsentCacheKey(consentID);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DetailedConsentCacheKey that = (DetailedConsentCacheKey) o;
+        return Objects.equals(consentID, that.consentID);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(consentID);
+    }
+
+    @Override
+    public String toString() {
+
+        return consentID;
+    }
+}
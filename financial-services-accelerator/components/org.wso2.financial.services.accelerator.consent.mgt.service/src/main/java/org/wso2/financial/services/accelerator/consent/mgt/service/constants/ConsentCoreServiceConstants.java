@@ -99,6 +99,8 @@ public class ConsentCoreServiceConstants {
             " are not present, cannot proceed";
     public static final String CONSENT_UPDATE_DETAILS_MISSING_ERROR = "Consent ID, userID or newConsentStatus" +
             " is missing. Cannot proceed.";
+    public static final String CONSENT_EXPIRATION_DETAILS_MISSING_ERROR = "Statuses eligible for expiration, " +
+            "expired consent status or a valid batch size is missing. Cannot proceed.";
     public static final String ACC_MAPPING_DETAILS_MISSING_ERROR = "Authorization ID, accountID/permission map" +
             " is not found, cannot proceed";
     public static final String ACC_MAPPING_ID_MISSING_ERROR_MSG = "Account mapping IDs are not provided, " +
@@ -133,10 +135,17 @@ public class ConsentCoreServiceConstants {
             " cannot proceed";
     public static final String ATTRIBUTE_LIST_MISSING_ERROR_MSG = "Consent ID or attributes list is not provided," +
             " cannot proceed";
+    public static final String AUTHORIZATION_SESSION_DETAILS_MISSING_ERROR_MSG = "Session data key, session data or " +
+            "a valid time to live is not provided, cannot proceed";
+    public static final String SESSION_DATA_KEY_MISSING_ERROR_MSG = "Session data key is not provided, cannot proceed";
+    public static final String JTI_MISSING_ERROR_MSG = "JTI is not provided, cannot proceed";
     public static final String AUDIT_RECORD_SEARCH_ERROR_MSG = "Error occurred while searching audit records";
     public static final String AMEND_DETAILS_MISSING_ERROR_MSG = "Consent ID or detailed consent resource or " +
             "amendment reason or amended timestamp in consent history resource is empty/zero";
     public static final String DETAIL_CONSENT_SEARCH_ERROR_MSG = "Error occurred while searching detailed consents";
+    public static final String CONSENT_COUNT_ERROR_MSG = "Error occurred while counting consents";
+    public static final String INVALID_SEARCH_CURSOR_ERROR_MSG = "Consent search cursor is invalid, cannot proceed";
+    public static final String INVALID_PAGE_SIZE_ERROR_MSG = "Page size must be a positive number, cannot proceed";
     public static final String CONSENT_DATA_MISSING_ERROR_MSG = "Consent ID or both consent receipt and consent" +
             " validity period are not provided, cannot proceed";
     public static final String DETAILED_CONSENT_DATA_MISSING_ERROR_MSG = "Auth ID, user ID, account permissions map," +
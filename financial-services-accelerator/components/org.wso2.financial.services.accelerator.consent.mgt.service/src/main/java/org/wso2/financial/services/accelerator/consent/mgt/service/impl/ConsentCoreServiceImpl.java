@@ -34,27 +34,37 @@ import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.Consen
 import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataUpdationException;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.AuthorizationResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentAttributes;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentExpiryCursor;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentFile;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentHistoryResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentMappingResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchCursor;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStatusAuditRecord;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ExpiredConsentBatch;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.persistence.ConsentStoreInitializer;
 import org.wso2.financial.services.accelerator.consent.mgt.service.ConsentCoreService;
+import org.wso2.financial.services.accelerator.consent.mgt.service.cache.DetailedConsentCache;
 import org.wso2.financial.services.accelerator.consent.mgt.service.constants.ConsentCoreServiceConstants;
+import org.wso2.financial.services.accelerator.consent.mgt.service.internal.ConsentMgtDataHolder;
 import org.wso2.financial.services.accelerator.consent.mgt.service.util.ConsentCoreServiceUtil;
 import org.wso2.financial.services.accelerator.consent.mgt.service.util.TokenRevocationUtil;
 
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Consent core service implementation.
@@ -93,6 +103,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                         .createAuthorizableConsentWithAuditRecord(connection, consentCoreDAO, consentResource,
                                 userID, authStatus, authType, isImplicitAuth);
                 DatabaseUtils.commitTransaction(connection);
+                invalidateCachedConsent(detailedConsentResource.getConsentID());
                 return detailedConsentResource;
             } catch (ConsentDataInsertionException e) {
                 log.error(ConsentCoreServiceConstants.DATA_INSERTION_ROLLBACK_ERROR_MSG, e);
@@ -138,9 +149,9 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
 
                 // Update existing consent statuses and revoke their account mappings
-                ConsentCoreServiceUtil.updateExistingConsentStatusesAndRevokeAccountMappings(connection,
-                        consentCoreDAO, consentResource, userID, applicableExistingConsentsStatus,
-                        newExistingConsentStatus);
+                ArrayList<String> updatedConsentIDs = ConsentCoreServiceUtil
+                        .updateExistingConsentStatusesAndRevokeAccountMappings(connection, consentCoreDAO,
+                                consentResource, userID, applicableExistingConsentsStatus, newExistingConsentStatus);
 
                 // Create a new consent, audit record and authorization resource if allowed
                 DetailedConsentResource storedDetailedConsentResource = ConsentCoreServiceUtil
@@ -150,6 +161,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit the transaction
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                invalidateCachedConsents(updatedConsentIDs);
                 return storedDetailedConsentResource;
             } catch (ConsentDataRetrievalException e) {
                 log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
@@ -265,6 +277,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 );
 
                 DatabaseUtils.commitTransaction(connection);
+                invalidateCachedConsent(detailedConsentResource.getConsentID());
                 log.debug("Stored DetailedConsentResource with audit successfully");
                 return detailedConsentResource;
 
@@ -343,6 +356,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 );
 
                 DatabaseUtils.commitTransaction(connection);
+                invalidateCachedConsent(detailedConsentResource.getConsentID());
                 log.debug("Updated consent and created authorization and mapping records successfully.");
                 return detailedConsentResource;
 
@@ -366,6 +380,21 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
             throw new ConsentManagementException(ConsentCoreServiceConstants.CONSENT_ID_MISSING_ERROR_MSG);
         }
 
+        DetailedConsentCache detailedConsentCache = ConsentMgtDataHolder.getInstance().getDetailedConsentCache();
+        long consentVersion = 0;
+        if (detailedConsentCache != null) {
+            DetailedConsentResource cachedDetailedConsentResource = detailedConsentCache.get(consentID);
+            if (cachedDetailedConsentResource != null) {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Detailed consent for consent ID: %s found in cache",
+                            consentID.replaceAll("[\r\n]", "")));
+                }
+                return cachedDetailedConsentResource;
+            }
+            // Read the version before the database so that a concurrent update is not overwritten by this read
+            consentVersion = detailedConsentCache.getVersion(consentID);
+        }
+
         Connection connection = DatabaseUtils.getDBConnection();
 
         try {
@@ -383,6 +412,9 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit transactions
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                if (detailedConsentCache != null) {
+                    detailedConsentCache.put(consentID, retrievedDetailedConsentResource, consentVersion);
+                }
                 return retrievedDetailedConsentResource;
             } catch (ConsentDataRetrievalException e) {
                 log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
@@ -394,6 +426,69 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
         }
     }
 
+    @Override
+    public Map<String, DetailedConsentResource> getDetailedConsents(List<String> consentIDs)
+            throws ConsentManagementException {
+
+        if (consentIDs == null || consentIDs.isEmpty() || consentIDs.stream().anyMatch(StringUtils::isBlank)) {
+            log.error(ConsentCoreServiceConstants.CONSENT_ID_MISSING_ERROR_MSG);
+            throw new ConsentManagementException(ConsentCoreServiceConstants.CONSENT_ID_MISSING_ERROR_MSG);
+        }
+
+        Map<String, DetailedConsentResource> detailedConsentResources = new HashMap<>();
+        Map<String, Long> consentVersions = new HashMap<>();
+        DetailedConsentCache detailedConsentCache = ConsentMgtDataHolder.getInstance().getDetailedConsentCache();
+        for (String consentID : new LinkedHashSet<>(consentIDs)) {
+            DetailedConsentResource cachedDetailedConsentResource = null;
+            if (detailedConsentCache != null) {
+                cachedDetailedConsentResource = detailedConsentCache.get(consentID);
+            }
+            if (cachedDetailedConsentResource != null) {
+                detailedConsentResources.put(consentID, cachedDetailedConsentResource);
+            } else {
+                // Read the version before the database so that a concurrent update is not overwritten by this read
+                consentVersions.put(consentID, detailedConsentCache != null ?
+                        detailedConsentCache.getVersion(consentID) : 0L);
+            }
+        }
+        if (consentVersions.isEmpty()) {
+            return detailedConsentResources;
+        }
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+            try {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Retrieving %d detailed consents", consentVersions.size()));
+                }
+                ArrayList<DetailedConsentResource> retrievedDetailedConsentResources = consentCoreDAO
+                        .searchConsents(connection, new ArrayList<>(consentVersions.keySet()), null, null, null,
+                                null, null, null, null, null);
+
+                // Commit transactions
+                DatabaseUtils.commitTransaction(connection);
+                log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                for (DetailedConsentResource retrievedDetailedConsentResource : retrievedDetailedConsentResources) {
+                    String consentID = retrievedDetailedConsentResource.getConsentID();
+                    detailedConsentResources.put(consentID, retrievedDetailedConsentResource);
+                    if (detailedConsentCache != null && consentVersions.containsKey(consentID)) {
+                        detailedConsentCache.put(consentID, retrievedDetailedConsentResource,
+                                consentVersions.get(consentID));
+                    }
+                }
+                return detailedConsentResources;
+            } catch (ConsentDataRetrievalException e) {
+                log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
+                throw new ConsentManagementException(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
+            }
+        } finally {
+            log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
     @Override
     public boolean createConsentFile(ConsentFile consentFileResource, String newConsentStatus, String userID,
                                      String applicableStatusToFileUpload)
@@ -477,6 +572,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit transaction
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                invalidateCachedConsent(consentID);
                 return true;
             } catch (ConsentDataRetrievalException e) {
                 log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
@@ -548,6 +644,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
 
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                invalidateCachedConsent(authorizationResource.getConsentID());
                 return storedAuthorizationResource;
             } catch (ConsentDataInsertionException e) {
                 log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
@@ -664,6 +761,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit transaction
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                invalidateCachedConsent(updatedAuthorizationResource.getConsentID());
                 return updatedAuthorizationResource;
             } catch (ConsentDataUpdationException e) {
                 log.error(ConsentCoreServiceConstants.DATA_UPDATE_ROLLBACK_ERROR_MSG, e);
@@ -707,6 +805,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit transaction
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                invalidateCachedConsent(updatedAuthResource.getConsentID());
                 return updatedAuthResource;
             } catch (ConsentDataUpdationException e) {
                 log.error(ConsentCoreServiceConstants.DATA_UPDATE_ROLLBACK_ERROR_MSG, e);
@@ -747,6 +846,8 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 consentCoreDAO.updateAuthorizationResources(connection, authorizationResources);
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                invalidateCachedConsentsOfAuthorizations(connection, consentCoreDAO, authorizationResources.stream()
+                        .map(AuthorizationResource::getAuthorizationID).collect(Collectors.toSet()));
                 return true;
             } catch (ConsentDataUpdationException e) {
                 log.error(ConsentCoreServiceConstants.DATA_UPDATE_ROLLBACK_ERROR_MSG, e);
@@ -847,6 +948,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit transactions
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                invalidateCachedConsent(consentID);
                 return true;
             } catch (ConsentDataInsertionException e) {
                 log.error(ConsentCoreServiceConstants.DATA_INSERTION_ROLLBACK_ERROR_MSG, e);
@@ -910,6 +1012,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit transaction
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                invalidateCachedConsent(consentId);
 
                 return existingConsentResource;
             } catch (ConsentDataRetrievalException e) {
@@ -966,6 +1069,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit transaction
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                invalidateCachedConsentsOfAuthorizations(connection, consentCoreDAO, Collections.singleton(authID));
                 return storedConsentMappingResources;
             } catch (ConsentDataInsertionException e) {
                 log.error(ConsentCoreServiceConstants.DATA_INSERTION_ROLLBACK_ERROR_MSG, e);
@@ -1005,6 +1109,8 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                         consentCoreDAO.storeConsentMappingResources(connection, consentMappingResources);
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                invalidateCachedConsentsOfAuthorizations(connection, consentCoreDAO, consentMappingResources.stream()
+                        .map(ConsentMappingResource::getAuthorizationID).collect(Collectors.toSet()));
                 return storedConsentMappingResources;
             } catch (ConsentDataInsertionException e) {
                 log.error(ConsentCoreServiceConstants.DATA_INSERTION_ROLLBACK_ERROR_MSG, e);
@@ -1039,6 +1145,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit transaction
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                invalidateAllCachedConsents();
                 return true;
             } catch (ConsentDataUpdationException e) {
                 log.error(ConsentCoreServiceConstants.DATA_UPDATE_ROLLBACK_ERROR_MSG, e);
@@ -1074,6 +1181,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit transaction
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                invalidateAllCachedConsents();
                 return true;
             } catch (ConsentDataUpdationException e) {
                 log.error(ConsentCoreServiceConstants.DATA_UPDATE_ROLLBACK_ERROR_MSG, e);
@@ -1109,6 +1217,8 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 consentCoreDAO.updateConsentMappingResources(connection, consentMappingResources);
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                invalidateCachedConsentsOfAuthorizations(connection, consentCoreDAO, consentMappingResources.stream()
+                        .map(ConsentMappingResource::getAuthorizationID).collect(Collectors.toSet()));
                 return true;
             } catch (ConsentDataUpdationException e) {
                 log.error(ConsentCoreServiceConstants.DATA_UPDATE_ROLLBACK_ERROR_MSG, e);
@@ -1257,6 +1367,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 //Commit transaction
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                invalidateCachedConsent(consentID);
             } catch (ConsentDataRetrievalException e) {
                 log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
                 throw new ConsentManagementException(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
@@ -1359,6 +1470,8 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 //Commit transaction
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                invalidateCachedConsents(retrievedDetailedConsentResources.stream()
+                        .map(DetailedConsentResource::getConsentID).collect(Collectors.toList()));
                 return true;
             } catch (ConsentDataRetrievalException e) {
                 log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
@@ -1421,6 +1534,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit transactions
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                invalidateCachedConsent(consentID);
                 return true;
             } catch (ConsentDataRetrievalException e) {
                 log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
@@ -1511,6 +1625,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit transactions
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                invalidateCachedConsent(consentID);
                 return true;
             } catch (ConsentDataRetrievalException e) {
                 log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
@@ -1557,6 +1672,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 }
                 isConsentAttributesStored = consentCoreDAO.storeConsentAttributes(connection, consentAttributesObject);
                 DatabaseUtils.commitTransaction(connection);
+                invalidateCachedConsent(consentID);
             } catch (ConsentDataInsertionException e) {
                 log.error(ConsentCoreServiceConstants.DATA_INSERTION_ROLLBACK_ERROR_MSG, e);
                 DatabaseUtils.rollbackTransaction(connection);
@@ -1763,6 +1879,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit transactions
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                invalidateCachedConsent(consentID);
                 return updatedAttributes;
             } catch (ConsentDataUpdationException e) {
                 log.error(ConsentCoreServiceConstants.ATTRIBUTE_UPDATE_ERROR_MSG, e);
@@ -1801,6 +1918,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit transactions
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                invalidateCachedConsent(consentID);
                 return true;
             } catch (ConsentDataDeletionException e) {
                 log.error(ConsentCoreServiceConstants.DATA_DELETE_ROLLBACK_ERROR_MSG, e);
@@ -2024,6 +2142,146 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
         return detailedConsentResources;
     }
 
+    @Override
+    public ArrayList<DetailedConsentResource> searchDetailedConsents(ArrayList<String> consentIDs,
+                                                                     ArrayList<String> clientIDs,
+                                                                     ArrayList<String> consentTypes,
+                                                                     ArrayList<String> consentStatuses,
+                                                                     ArrayList<String> userIDs,
+                                                                     ArrayList<String> accountIDs, Long fromTime,
+                                                                     Long toTime, Integer limit, Integer offset)
+            throws ConsentManagementException {
+
+        ArrayList<DetailedConsentResource> detailedConsentResources;
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            try {
+                ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+
+                log.debug("Searching detailed consents by accounts");
+                detailedConsentResources = consentCoreDAO.searchConsents(connection, consentIDs, clientIDs,
+                        consentTypes, consentStatuses, userIDs, accountIDs, fromTime, toTime, limit, offset);
+
+            } catch (ConsentDataRetrievalException e) {
+                log.error(ConsentCoreServiceConstants.DETAIL_CONSENT_SEARCH_ERROR_MSG, e);
+                throw new ConsentManagementException(ConsentCoreServiceConstants.DETAIL_CONSENT_SEARCH_ERROR_MSG, e);
+            }
+
+            // Commit transactions
+            DatabaseUtils.commitTransaction(connection);
+            log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+        } finally {
+            log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+        return detailedConsentResources;
+    }
+
+    @Override
+    public ArrayList<DetailedConsentResource> searchDetailedConsentsByCursor(ArrayList<String> consentIDs,
+                                                                             ArrayList<String> clientIDs,
+                                                                             ArrayList<String> consentTypes,
+                                                                             ArrayList<String> consentStatuses,
+                                                                             ArrayList<String> userIDs,
+                                                                             Long fromTime, Long toTime,
+                                                                             String cursor, int pageSize)
+            throws ConsentManagementException {
+
+        if (pageSize <= 0) {
+            log.error(ConsentCoreServiceConstants.INVALID_PAGE_SIZE_ERROR_MSG);
+            throw new ConsentManagementException(ConsentCoreServiceConstants.INVALID_PAGE_SIZE_ERROR_MSG);
+        }
+
+        ConsentSearchCursor searchCursor = null;
+        if (StringUtils.isNotBlank(cursor)) {
+            try {
+                searchCursor = ConsentSearchCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                log.error(ConsentCoreServiceConstants.INVALID_SEARCH_CURSOR_ERROR_MSG, e);
+                throw new ConsentManagementException(ConsentCoreServiceConstants.INVALID_SEARCH_CURSOR_ERROR_MSG, e);
+            }
+        }
+
+        ArrayList<DetailedConsentResource> detailedConsentResources;
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            try {
+                ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+
+                log.debug("Searching a page of detailed consents");
+                detailedConsentResources = consentCoreDAO.searchConsentsByCursor(connection, consentIDs, clientIDs,
+                        consentTypes, consentStatuses, userIDs, fromTime, toTime, searchCursor, pageSize);
+
+            } catch (ConsentDataRetrievalException e) {
+                log.error(ConsentCoreServiceConstants.DETAIL_CONSENT_SEARCH_ERROR_MSG, e);
+                throw new ConsentManagementException(ConsentCoreServiceConstants.DETAIL_CONSENT_SEARCH_ERROR_MSG, e);
+            }
+
+            // Commit transactions
+            DatabaseUtils.commitTransaction(connection);
+            log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+        } finally {
+            log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+        return detailedConsentResources;
+    }
+
+    @Override
+    public int countDetailedConsents(ArrayList<String> consentIDs, ArrayList<String> clientIDs,
+                                     ArrayList<String> consentTypes, ArrayList<String> consentStatuses,
+                                     ArrayList<String> userIDs, ArrayList<String> accountIDs, Long fromTime,
+                                     Long toTime, boolean approximate)
+            throws ConsentManagementException {
+
+        int consentCount;
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            try {
+                ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+
+                log.debug("Counting detailed consents");
+                consentCount = consentCoreDAO.countConsents(connection, consentIDs, clientIDs, consentTypes,
+                        consentStatuses, userIDs, accountIDs, fromTime, toTime, approximate);
+
+            } catch (ConsentDataRetrievalException e) {
+                log.error(ConsentCoreServiceConstants.CONSENT_COUNT_ERROR_MSG, e);
+                throw new ConsentManagementException(ConsentCoreServiceConstants.CONSENT_COUNT_ERROR_MSG, e);
+            }
+
+            // Commit transactions
+            DatabaseUtils.commitTransaction(connection);
+            log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+        } finally {
+            log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+        return consentCount;
+    }
+
+    @Override
+    public Iterator<DetailedConsentResource> iterateDetailedConsents(ArrayList<String> consentIDs,
+                                                                     ArrayList<String> clientIDs,
+                                                                     ArrayList<String> consentTypes,
+                                                                     ArrayList<String> consentStatuses,
+                                                                     ArrayList<String> userIDs, Long fromTime,
+                                                                     Long toTime, int pageSize)
+            throws ConsentManagementException {
+
+        if (pageSize <= 0) {
+            log.error(ConsentCoreServiceConstants.INVALID_PAGE_SIZE_ERROR_MSG);
+            throw new ConsentManagementException(ConsentCoreServiceConstants.INVALID_PAGE_SIZE_ERROR_MSG);
+        }
+        return new DetailedConsentSearchIterator(cursor -> searchDetailedConsentsByCursor(consentIDs, clientIDs,
+                consentTypes, consentStatuses, userIDs, fromTime, toTime, cursor, pageSize), pageSize);
+    }
+
     @Override
     public ConsentResource amendConsentData(String consentID, String consentReceipt, Long consentValidityTime,
                                             String userID)
@@ -2072,6 +2330,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit transaction
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                invalidateCachedConsent(consentID);
                 return consentResource;
             } catch (ConsentDataRetrievalException e) {
                 log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
@@ -2165,6 +2424,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
             // Commit transactions
             DatabaseUtils.commitTransaction(connection);
             log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+            invalidateCachedConsent(consentID);
             return newDetailedConsentResource;
         } catch (ConsentDataRetrievalException e) {
             log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
@@ -2214,6 +2474,417 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
         }
     }
 
+    @Override
+    public int expireConsents(String statusesEligibleForExpiration, String expiredConsentStatus, int batchSize,
+                              boolean storeAmendmentHistory) throws ConsentManagementException {
+
+        if (StringUtils.isBlank(statusesEligibleForExpiration) || StringUtils.isBlank(expiredConsentStatus) ||
+                batchSize <= 0) {
+            log.error(ConsentCoreServiceConstants.CONSENT_EXPIRATION_DETAILS_MISSING_ERROR);
+            throw new ConsentManagementException(ConsentCoreServiceConstants.CONSENT_EXPIRATION_DETAILS_MISSING_ERROR);
+        }
+
+        // Unix time in seconds
+        long expiryTime = System.currentTimeMillis() / 1000;
+        ConsentExpiryCursor cursor = null;
+        int expiredConsentCount = 0;
+        ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+
+        int fetchedConsentCount;
+        do {
+            ExpiredConsentBatch consentsToExpire;
+            ArrayList<ConsentResource> expiredConsents;
+            Connection connection = DatabaseUtils.getDBConnection();
+            try {
+                consentsToExpire = consentCoreDAO.getExpiredConsents(connection, statusesEligibleForExpiration,
+                        expiryTime, cursor, batchSize);
+                expiredConsents = consentCoreDAO.expireConsents(connection, consentsToExpire.getConsents(),
+                        expiredConsentStatus, expiryTime);
+                storeConsentExpirationRecords(connection, consentCoreDAO, expiredConsents, expiredConsentStatus,
+                        expiryTime, storeAmendmentHistory);
+
+                // The committed batch is the checkpoint of the sweep, the next batch starts after its last consent
+                DatabaseUtils.commitTransaction(connection);
+                log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+            } catch (ConsentDataRetrievalException e) {
+                log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
+                DatabaseUtils.rollbackTransaction(connection);
+                throw new ConsentManagementException(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
+            } catch (ConsentDataInsertionException e) {
+                log.error(ConsentCoreServiceConstants.DATA_INSERTION_ROLLBACK_ERROR_MSG, e);
+                DatabaseUtils.rollbackTransaction(connection);
+                throw new ConsentManagementException(ConsentCoreServiceConstants.DATA_INSERTION_ROLLBACK_ERROR_MSG, e);
+            } catch (ConsentDataUpdationException e) {
+                log.error(ConsentCoreServiceConstants.DATA_UPDATE_ROLLBACK_ERROR_MSG, e);
+                DatabaseUtils.rollbackTransaction(connection);
+                throw new ConsentManagementException(ConsentCoreServiceConstants.DATA_UPDATE_ROLLBACK_ERROR_MSG, e);
+            } finally {
+                log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+                DatabaseUtils.closeConnection(connection);
+            }
+
+            invalidateCachedConsents(getConsentIDs(expiredConsents));
+            expiredConsentCount += expiredConsents.size();
+            fetchedConsentCount = consentsToExpire.getConsents().size();
+            cursor = consentsToExpire.getNextCursor();
+        } while (fetchedConsentCount == batchSize);
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Expired %d consents", expiredConsentCount));
+        }
+        return expiredConsentCount;
+    }
+
+    @Override
+    public boolean storeAuthorizationSession(String sessionDataKey, String consentID, String sessionData,
+                                             long timeToLive) throws ConsentManagementException {
+
+        if (StringUtils.isBlank(sessionDataKey) || StringUtils.isBlank(sessionData) || timeToLive <= 0) {
+            log.error(ConsentCoreServiceConstants.AUTHORIZATION_SESSION_DETAILS_MISSING_ERROR_MSG);
+            throw new ConsentManagementException(
+                    ConsentCoreServiceConstants.AUTHORIZATION_SESSION_DETAILS_MISSING_ERROR_MSG);
+        }
+
+        // Unix time in seconds
+        long currentTime = System.currentTimeMillis() / 1000;
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+            try {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Storing authorization session for the session data key: %s",
+                            sessionDataKey.replaceAll("[\r\n]", "")));
+                }
+                consentCoreDAO.storeAuthorizationSession(connection, sessionDataKey, consentID, sessionData,
+                        currentTime + timeToLive);
+
+                // Commit transactions
+                DatabaseUtils.commitTransaction(connection);
+                log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                return true;
+            } catch (ConsentDataInsertionException e) {
+                log.error(ConsentCoreServiceConstants.DATA_INSERTION_ROLLBACK_ERROR_MSG, e);
+                DatabaseUtils.rollbackTransaction(connection);
+                throw new ConsentManagementException(ConsentCoreServiceConstants.DATA_INSERTION_ROLLBACK_ERROR_MSG, e);
+            }
+        } finally {
+            log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
+    @Override
+    public String getAuthorizationSession(String sessionDataKey) throws ConsentManagementException {
+
+        if (StringUtils.isBlank(sessionDataKey)) {
+            log.error(ConsentCoreServiceConstants.SESSION_DATA_KEY_MISSING_ERROR_MSG);
+            throw new ConsentManagementException(ConsentCoreServiceConstants.SESSION_DATA_KEY_MISSING_ERROR_MSG);
+        }
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+            try {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Retrieving authorization session for the session data key: %s",
+                            sessionDataKey.replaceAll("[\r\n]", "")));
+                }
+                String sessionData = consentCoreDAO.getAuthorizationSession(connection, sessionDataKey,
+                        System.currentTimeMillis() / 1000);
+
+                // Commit transactions
+                DatabaseUtils.commitTransaction(connection);
+                log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                return sessionData;
+            } catch (ConsentDataRetrievalException e) {
+                log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
+                throw new ConsentManagementException(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
+            }
+        } finally {
+            log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
+    @Override
+    public boolean deleteAuthorizationSession(String sessionDataKey) throws ConsentManagementException {
+
+        if (StringUtils.isBlank(sessionDataKey)) {
+            log.error(ConsentCoreServiceConstants.SESSION_DATA_KEY_MISSING_ERROR_MSG);
+            throw new ConsentManagementException(ConsentCoreServiceConstants.SESSION_DATA_KEY_MISSING_ERROR_MSG);
+        }
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+            try {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Deleting authorization session for the session data key: %s",
+                            sessionDataKey.replaceAll("[\r\n]", "")));
+                }
+                consentCoreDAO.deleteAuthorizationSession(connection, sessionDataKey);
+
+                // Commit transactions
+                DatabaseUtils.commitTransaction(connection);
+                log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                return true;
+            } catch (ConsentDataDeletionException e) {
+                log.error(ConsentCoreServiceConstants.DATA_DELETE_ROLLBACK_ERROR_MSG, e);
+                DatabaseUtils.rollbackTransaction(connection);
+                throw new ConsentManagementException(ConsentCoreServiceConstants.DATA_DELETE_ROLLBACK_ERROR_MSG, e);
+            }
+        } finally {
+            log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
+    @Override
+    public int deleteExpiredAuthorizationSessions() throws ConsentManagementException {
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+            try {
+                int deletedSessionCount = consentCoreDAO.deleteExpiredAuthorizationSessions(connection,
+                        System.currentTimeMillis() / 1000);
+
+                // Commit transactions
+                DatabaseUtils.commitTransaction(connection);
+                log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Deleted %d expired authorization sessions", deletedSessionCount));
+                }
+                return deletedSessionCount;
+            } catch (ConsentDataDeletionException e) {
+                log.error(ConsentCoreServiceConstants.DATA_DELETE_ROLLBACK_ERROR_MSG, e);
+                DatabaseUtils.rollbackTransaction(connection);
+                throw new ConsentManagementException(ConsentCoreServiceConstants.DATA_DELETE_ROLLBACK_ERROR_MSG, e);
+            }
+        } finally {
+            log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
+    @Override
+    public boolean storeJtiIfAbsent(String jti, long expiryTime) throws ConsentManagementException {
+
+        if (StringUtils.isBlank(jti)) {
+            log.error(ConsentCoreServiceConstants.JTI_MISSING_ERROR_MSG);
+            throw new ConsentManagementException(ConsentCoreServiceConstants.JTI_MISSING_ERROR_MSG);
+        }
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+            try {
+                if (!consentCoreDAO.storeJti(connection, jti, expiryTime)) {
+                    // Some databases abort the transaction on a constraint violation
+                    DatabaseUtils.rollbackTransaction(connection);
+                    return false;
+                }
+
+                // Commit transactions
+                DatabaseUtils.commitTransaction(connection);
+                log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                return true;
+            } catch (ConsentDataInsertionException e) {
+                log.error(ConsentCoreServiceConstants.DATA_INSERTION_ROLLBACK_ERROR_MSG, e);
+                DatabaseUtils.rollbackTransaction(connection);
+                throw new ConsentManagementException(ConsentCoreServiceConstants.DATA_INSERTION_ROLLBACK_ERROR_MSG, e);
+            }
+        } finally {
+            log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
+    @Override
+    public int deleteExpiredJtis() throws ConsentManagementException {
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+            try {
+                int deletedJtiCount = consentCoreDAO.deleteExpiredJtis(connection, System.currentTimeMillis() / 1000);
+
+                // Commit transactions
+                DatabaseUtils.commitTransaction(connection);
+                log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Deleted %d expired JTIs", deletedJtiCount));
+                }
+                return deletedJtiCount;
+            } catch (ConsentDataDeletionException e) {
+                log.error(ConsentCoreServiceConstants.DATA_DELETE_ROLLBACK_ERROR_MSG, e);
+                DatabaseUtils.rollbackTransaction(connection);
+                throw new ConsentManagementException(ConsentCoreServiceConstants.DATA_DELETE_ROLLBACK_ERROR_MSG, e);
+            }
+        } finally {
+            log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
+    @Override
+    public ArrayList<String> getUpdatedConsentIds(long fromTime, int limit) throws ConsentManagementException {
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+            try {
+                ArrayList<String> consentIDs = consentCoreDAO.getUpdatedConsentIds(connection, fromTime, limit);
+
+                // Commit transactions
+                DatabaseUtils.commitTransaction(connection);
+                log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                return consentIDs;
+            } catch (ConsentDataRetrievalException e) {
+                log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
+                throw new ConsentManagementException(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
+            }
+        } finally {
+            log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
+    /**
+     * Store the status audit records and, if enabled, the amendment history of a batch of expired consents.
+     *
+     * @param connection            database connection
+     * @param consentCoreDAO        consent core DAO
+     * @param expiredConsents       consents expired in the batch, with the status and updated time before expiration
+     * @param expiredConsentStatus  expired consent status
+     * @param expiryTime            time the consents are expired at (in seconds)
+     * @param storeAmendmentHistory whether the previous status is stored in the consent amendment history
+     * @throws ConsentDataRetrievalException thrown if an error occurs when retrieving the authorization resources
+     * @throws ConsentDataInsertionException thrown if an error occurs when storing the records
+     */
+    private static void storeConsentExpirationRecords(Connection connection, ConsentCoreDAO consentCoreDAO,
+                                                      List<ConsentResource> expiredConsents,
+                                                      String expiredConsentStatus, long expiryTime,
+                                                      boolean storeAmendmentHistory)
+            throws ConsentDataRetrievalException, ConsentDataInsertionException {
+
+        if (expiredConsents.isEmpty()) {
+            return;
+        }
+
+        Map<String, ConsentResource> expiredConsentsMap = new LinkedHashMap<>();
+        for (ConsentResource expiredConsent : expiredConsents) {
+            expiredConsentsMap.put(expiredConsent.getConsentID(), expiredConsent);
+        }
+
+        // Previous consent status is not added in reason because it can be null
+        String auditMessage = "Consent status updated to " + expiredConsentStatus;
+        List<ConsentStatusAuditRecord> auditRecords = new ArrayList<>();
+        for (AuthorizationResource authResource : consentCoreDAO.getAuthorizationResourcesOfConsents(connection,
+                new ArrayList<>(expiredConsentsMap.keySet()))) {
+            String actionBy = StringUtils.isNotEmpty(authResource.getUserID()) ? authResource.getUserID() : null;
+            auditRecords.add(new ConsentStatusAuditRecord(authResource.getConsentID(), expiredConsentStatus,
+                    expiryTime, auditMessage, actionBy,
+                    expiredConsentsMap.get(authResource.getConsentID()).getCurrentStatus()));
+        }
+        consentCoreDAO.storeConsentStatusAuditRecords(connection, auditRecords);
+
+        //since the consent status is changed during the consent expiration, the previous status is saved in the
+        //consent history to properly back-track the previous status held in the consent
+        if (storeAmendmentHistory) {
+            List<ConsentHistoryResource> consentHistoryResources = new ArrayList<>();
+            for (ConsentResource expiredConsent : expiredConsents) {
+                JSONObject changedConsentDataJson = new JSONObject();
+                changedConsentDataJson.put(ConsentCoreServiceConstants.UPDATED_TIME,
+                        String.valueOf(expiredConsent.getUpdatedTime()));
+                changedConsentDataJson.put(ConsentCoreServiceConstants.CURRENT_STATUS,
+                        String.valueOf(expiredConsent.getCurrentStatus()));
+
+                ConsentHistoryResource consentHistoryResource = new ConsentHistoryResource(
+                        expiredConsent.getConsentID(), String.valueOf(UUID.randomUUID()));
+                consentHistoryResource.setTimestamp(expiryTime);
+                consentHistoryResource.setReason(ConsentCoreServiceConstants.AMENDMENT_REASON_CONSENT_EXPIRATION);
+                Map<String, Object> changedAttributesJsonDataMap = new HashMap<>();
+                changedAttributesJsonDataMap.put(ConsentCoreServiceConstants.TYPE_CONSENT_BASIC_DATA,
+                        changedConsentDataJson);
+                consentHistoryResource.setChangedAttributesJsonDataMap(changedAttributesJsonDataMap);
+                consentHistoryResources.add(consentHistoryResource);
+            }
+            consentCoreDAO.storeConsentAmendmentHistory(connection, consentHistoryResources);
+        }
+    }
+
+    private static List<String> getConsentIDs(List<ConsentResource> consentResources) {
+
+        return consentResources.stream().map(ConsentResource::getConsentID).collect(Collectors.toList());
+    }
+
+    /**
+     * Invalidate the cached detailed consent of a modified consent. Called once the modification is committed.
+     *
+     * @param consentID ID of the modified consent
+     */
+    private static void invalidateCachedConsent(String consentID) {
+
+        DetailedConsentCache detailedConsentCache = ConsentMgtDataHolder.getInstance().getDetailedConsentCache();
+        if (detailedConsentCache != null) {
+            detailedConsentCache.invalidate(consentID);
+        }
+    }
+
+    private static void invalidateCachedConsents(Collection<String> consentIDs) {
+
+        for (String consentID : consentIDs) {
+            invalidateCachedConsent(consentID);
+        }
+    }
+
+    private static void invalidateAllCachedConsents() {
+
+        DetailedConsentCache detailedConsentCache = ConsentMgtDataHolder.getInstance().getDetailedConsentCache();
+        if (detailedConsentCache != null) {
+            detailedConsentCache.invalidateAll();
+        }
+    }
+
+    /**
+     * Invalidate the cached detailed consents owning the given authorization resources. The whole cache is
+     * invalidated if the owning consents cannot be resolved.
+     *
+     * @param connection       Database connection
+     * @param consentCoreDAO   Consent core DAO
+     * @param authorizationIDs IDs of the modified authorization resources
+     */
+    private static void invalidateCachedConsentsOfAuthorizations(Connection connection, ConsentCoreDAO consentCoreDAO,
+                                                                 Collection<String> authorizationIDs) {
+
+        DetailedConsentCache detailedConsentCache = ConsentMgtDataHolder.getInstance().getDetailedConsentCache();
+        if (detailedConsentCache == null) {
+            return;
+        }
+        try {
+            for (String authorizationID : authorizationIDs) {
+                AuthorizationResource authorizationResource =
+                        consentCoreDAO.getAuthorizationResource(connection, authorizationID);
+                if (authorizationResource == null) {
+                    detailedConsentCache.invalidateAll();
+                    return;
+                }
+                detailedConsentCache.invalidate(authorizationResource.getConsentID());
+            }
+        } catch (ConsentDataRetrievalException e) {
+            log.debug("Unable to resolve the consents of the modified authorizations, invalidating all", e);
+            detailedConsentCache.invalidateAll();
+        }
+    }
+
     private boolean isValidUserID(String requestUserID, Set<String> consentUserIDSet) {
         if (StringUtils.isEmpty(requestUserID)) {
             // userId not present in request query parameters, can use consentUserID to revoke tokens
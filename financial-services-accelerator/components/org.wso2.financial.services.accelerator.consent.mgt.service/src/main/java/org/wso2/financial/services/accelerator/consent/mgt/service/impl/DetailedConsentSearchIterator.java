@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.service.impl;
+
+import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesRuntimeException;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchCursor;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.service.constants.ConsentCoreServiceConstants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator over detailed consent search results which retrieves one page at a time using cursor based pagination.
+ */
+class DetailedConsentSearchIterator implements Iterator<DetailedConsentResource> {
+
+    private final PageLoader pageLoader;
+    private final int pageSize;
+
+    private Iterator<DetailedConsentResource> currentPage = Collections.emptyIterator();
+    private String nextCursor;
+    private boolean lastPageLoaded;
+
+    DetailedConsentSearchIterator(PageLoader pageLoader, int pageSize) {
+
+        this.pageLoader = pageLoader;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+
+        while (!currentPage.hasNext() && !lastPageLoaded) {
+            loadNextPage();
+        }
+        return currentPage.hasNext();
+    }
+
+    @Override
+    public DetailedConsentResource next() {
+
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentPage.next();
+    }
+
+    private void loadNextPage() {
+
+        ArrayList<DetailedConsentResource> page;
+        try {
+            page = pageLoader.load(nextCursor);
+        } catch (ConsentManagementException e) {
+            throw new FinancialServicesRuntimeException(ConsentCoreServiceConstants.DETAIL_CONSENT_SEARCH_ERROR_MSG,
+                    e);
+        }
+        lastPageLoaded = page.size() < pageSize;
+        if (!page.isEmpty()) {
+            nextCursor = ConsentSearchCursor.of(page.get(page.size() - 1)).encode();
+        }
+        currentPage = page.iterator();
+    }
+
+    /**
+     * Retrieves the page of detailed consents starting after the given cursor.
+     */
+    @FunctionalInterface
+    interface PageLoader {
+
+        ArrayList<DetailedConsentResource> load(String cursor) throws ConsentManagementException;
+    }
+}
@@ -19,6 +19,7 @@
 package org.wso2.financial.services.accelerator.consent.mgt.service.internal;
 
 import org.wso2.carbon.identity.oauth2.OAuth2Service;
+import org.wso2.financial.services.accelerator.consent.mgt.service.cache.DetailedConsentCache;
 
 /**
  * Data holder for consent management service.
@@ -26,6 +27,7 @@ import org.wso2.carbon.identity.oauth2.OAuth2Service;
 public class ConsentMgtDataHolder {
 
     private OAuth2Service oAuth2Service;
+    private DetailedConsentCache detailedConsentCache;
     private static volatile ConsentMgtDataHolder instance;
 
     public static ConsentMgtDataHolder getInstance() {
@@ -49,4 +51,14 @@ public class ConsentMgtDataHolder {
 
         this.oAuth2Service = oAuth2Service;
     }
+
+    public DetailedConsentCache getDetailedConsentCache() {
+
+        return detailedConsentCache;
+    }
+
+    public void setDetailedConsentCache(DetailedConsentCache detailedConsentCache) {
+
+        this.detailedConsentCache = detailedConsentCache;
+    }
 }
@@ -31,6 +31,7 @@ import org.wso2.carbon.identity.oauth2.OAuth2Service;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.persistence.JDBCPersistenceManager;
 import org.wso2.financial.services.accelerator.consent.mgt.service.ConsentCoreService;
+import org.wso2.financial.services.accelerator.consent.mgt.service.cache.DetailedConsentCache;
 import org.wso2.financial.services.accelerator.consent.mgt.service.impl.ConsentCoreServiceImpl;
 
 import java.sql.SQLException;
@@ -47,12 +48,20 @@ public class ConsentMgtServiceComponent {
     @Activate
     protected void activate(ComponentContext context) {
 
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        if (configParser.isDetailedConsentCacheEnabled()) {
+            ConsentMgtDataHolder.getInstance().setDetailedConsentCache(new DetailedConsentCache(
+                    configParser.getDetailedConsentCacheTimeToLiveInSeconds(),
+                    configParser.getDetailedConsentCacheMaxEntries()));
+            log.debug("Detailed consent cache is enabled");
+        }
+
         ConsentCoreService consentCoreService = new ConsentCoreServiceImpl();
 
         // Verify FS consent database connection when the server starts up
         try {
             boolean isConnectionActive = JDBCPersistenceManager.getInstance().getDBConnection()
-                    .isValid(FinancialServicesConfigParser.getInstance().getConnectionVerificationTimeout());
+                    .isValid(configParser.getConnectionVerificationTimeout());
             if (!isConnectionActive) {
                 log.error("The connection is not active");
             }
@@ -153,21 +153,20 @@ public class ConsentCoreServiceUtil {
      * @param userID                            User ID
      * @param applicableExistingConsentsStatus  Applicable existing consents status
      * @param newExistingConsentStatus          New existing consent status
+     * @return IDs of the existing consents which were updated
      * @throws ConsentDataRetrievalException If an error occurs when retrieving existing consents
      * @throws ConsentDataUpdationException  If an error occurs when updating existing consents
      * @throws ConsentDataInsertionException If an error occurs when inserting data
      * @throws ConsentManagementException     Consent management exception
      */
-    public static void updateExistingConsentStatusesAndRevokeAccountMappings(Connection connection,
-                                                                             ConsentCoreDAO consentCoreDAO,
-                                                                             ConsentResource consentResource,
-                                                                             String userID,
-                                                                             String applicableExistingConsentsStatus,
-                                                                             String newExistingConsentStatus)
+    public static ArrayList<String> updateExistingConsentStatusesAndRevokeAccountMappings(Connection connection,
+            ConsentCoreDAO consentCoreDAO, ConsentResource consentResource, String userID,
+            String applicableExistingConsentsStatus, String newExistingConsentStatus)
             throws ConsentDataRetrievalException, ConsentDataUpdationException, ConsentDataInsertionException,
             ConsentManagementException {
 
         ArrayList<String> accountMappingIDsList = new ArrayList<>();
+        ArrayList<String> updatedConsentIDsList = new ArrayList<>();
 
         ArrayList<String> clientIDsList = constructArrayList(consentResource.getClientID());
         ArrayList<String> userIDsList = constructArrayList(userID);
@@ -191,6 +190,7 @@ public class ConsentCoreServiceUtil {
                         + resource.getConsentID()).replaceAll("[\r\n]", ""));
             }
             consentCoreDAO.updateConsentStatus(connection, resource.getConsentID(), newExistingConsentStatus);
+            updatedConsentIDsList.add(resource.getConsentID());
 
             // Create audit record for each consent update
             if (log.isDebugEnabled()) {
@@ -218,6 +218,7 @@ public class ConsentCoreServiceUtil {
         log.debug("Deactivating account mappings");
         consentCoreDAO.updateConsentMappingStatus(connection, accountMappingIDsList,
                 ConsentCoreServiceConstants.INACTIVE_MAPPING_STATUS);
+        return updatedConsentIDsList;
     }
 
     /**
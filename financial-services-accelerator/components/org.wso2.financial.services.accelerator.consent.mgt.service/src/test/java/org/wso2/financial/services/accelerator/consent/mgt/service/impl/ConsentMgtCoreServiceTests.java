@@ -30,6 +30,7 @@ import org.wso2.carbon.identity.application.authentication.framework.model.Authe
 import org.wso2.carbon.identity.oauth2.dto.OAuthRevocationResponseDTO;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesRuntimeException;
 import org.wso2.financial.services.accelerator.common.util.DatabaseUtils;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.ConsentCoreDAO;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataDeletionException;
@@ -38,13 +39,16 @@ import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.Consen
 import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataUpdationException;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.AuthorizationResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentAttributes;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentExpiryCursor;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentFile;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentHistoryResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentMappingResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStatusAuditRecord;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ExpiredConsentBatch;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.persistence.ConsentStoreInitializer;
+import org.wso2.financial.services.accelerator.consent.mgt.service.cache.DetailedConsentCache;
 import org.wso2.financial.services.accelerator.consent.mgt.service.constants.ConsentCoreServiceConstants;
 import org.wso2.financial.services.accelerator.consent.mgt.service.internal.ConsentMgtDataHolder;
 import org.wso2.financial.services.accelerator.consent.mgt.service.util.ConsentMgtServiceTestData;
@@ -52,23 +56,29 @@ import org.wso2.financial.services.accelerator.consent.mgt.service.util.TokenRev
 
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
 
 /**
  * Test for FS consent management core service.
@@ -620,6 +630,90 @@ public class ConsentMgtCoreServiceTests {
         Assert.assertNotNull(retrievedConsentResource);
     }
 
+    @Test
+    public void testGetDetailedConsentFromCache() throws Exception {
+
+        DetailedConsentCache detailedConsentCacheMock = Mockito.mock(DetailedConsentCache.class);
+        DetailedConsentResource cachedConsentResource =
+                ConsentMgtServiceTestData.getSampleDetailedStoredTestConsentResource();
+        doReturn(cachedConsentResource).when(detailedConsentCacheMock).get(anyString());
+        doReturn(detailedConsentCacheMock).when(consentManagementDataHolderMock).getDetailedConsentCache();
+        ConsentCoreDAO consentCoreDAOMock = Mockito.mock(ConsentCoreDAO.class);
+        consentStoreInitializerMockedStatic.when(ConsentStoreInitializer::getInitializedConsentCoreDAOImpl)
+                .thenReturn(consentCoreDAOMock);
+
+        try {
+            DetailedConsentResource retrievedConsentResource = consentCoreServiceImpl
+                    .getDetailedConsent(ConsentMgtServiceTestData.CONSENT_ID);
+
+            Assert.assertSame(retrievedConsentResource, cachedConsentResource);
+            Mockito.verifyNoInteractions(consentCoreDAOMock);
+        } finally {
+            doReturn(null).when(consentManagementDataHolderMock).getDetailedConsentCache();
+            consentStoreInitializerMockedStatic.when(ConsentStoreInitializer::getInitializedConsentCoreDAOImpl)
+                    .thenReturn(mockedConsentCoreDAO);
+        }
+    }
+
+    @Test
+    public void testGetDetailedConsentPopulatesCache() throws Exception {
+
+        DetailedConsentCache detailedConsentCacheMock = Mockito.mock(DetailedConsentCache.class);
+        doReturn(3L).when(detailedConsentCacheMock).getVersion(anyString());
+        doReturn(detailedConsentCacheMock).when(consentManagementDataHolderMock).getDetailedConsentCache();
+        DetailedConsentResource storedConsentResource =
+                ConsentMgtServiceTestData.getSampleDetailedStoredTestConsentResource();
+        doReturn(storedConsentResource).when(mockedConsentCoreDAO).getDetailedConsentResource(any(), anyString());
+
+        try {
+            consentCoreServiceImpl.getDetailedConsent(ConsentMgtServiceTestData.CONSENT_ID);
+
+            Mockito.verify(detailedConsentCacheMock)
+                    .put(ConsentMgtServiceTestData.CONSENT_ID, storedConsentResource, 3L);
+        } finally {
+            doReturn(null).when(consentManagementDataHolderMock).getDetailedConsentCache();
+        }
+    }
+
+    @Test
+    public void testGetDetailedConsents() throws Exception {
+
+        DetailedConsentCache detailedConsentCacheMock = Mockito.mock(DetailedConsentCache.class);
+        DetailedConsentResource cachedConsentResource =
+                ConsentMgtServiceTestData.getSampleDetailedStoredTestConsentResource();
+        doReturn(cachedConsentResource).when(detailedConsentCacheMock).get(ConsentMgtServiceTestData.CONSENT_ID);
+        doReturn(2L).when(detailedConsentCacheMock).getVersion(anyString());
+        doReturn(detailedConsentCacheMock).when(consentManagementDataHolderMock).getDetailedConsentCache();
+        ArrayList<DetailedConsentResource> storedConsentResources =
+                ConsentMgtServiceTestData.getSampleDetailedStoredTestConsentResourcesList();
+        doReturn(storedConsentResources).when(mockedConsentCoreDAO).searchConsents(any(), any(), any(), any(),
+                any(), any(), any(), any(), any(), any());
+
+        try {
+            Map<String, DetailedConsentResource> retrievedConsentResources = consentCoreServiceImpl
+                    .getDetailedConsents(List.of(ConsentMgtServiceTestData.CONSENT_ID,
+                            ConsentMgtServiceTestData.UNMATCHED_CONSENT_ID,
+                            ConsentMgtServiceTestData.UNMATCHED_CONSENT_ID));
+
+            Assert.assertSame(retrievedConsentResources.get(ConsentMgtServiceTestData.CONSENT_ID),
+                    cachedConsentResource);
+            Assert.assertNotNull(retrievedConsentResources.get(ConsentMgtServiceTestData.UNMATCHED_CONSENT_ID));
+            verify(mockedConsentCoreDAO).searchConsents(any(), eq(new ArrayList<>(
+                    List.of(ConsentMgtServiceTestData.UNMATCHED_CONSENT_ID))), any(), any(), any(), any(), any(),
+                    any(), any(), any());
+            verify(detailedConsentCacheMock, atLeastOnce()).put(eq(ConsentMgtServiceTestData.UNMATCHED_CONSENT_ID),
+                    any(DetailedConsentResource.class), eq(2L));
+        } finally {
+            doReturn(null).when(consentManagementDataHolderMock).getDetailedConsentCache();
+        }
+    }
+
+    @Test(expectedExceptions = ConsentManagementException.class)
+    public void testGetDetailedConsentsWithoutConsentIDs() throws Exception {
+
+        consentCoreServiceImpl.getDetailedConsents(new ArrayList<>());
+    }
+
     @Test(expectedExceptions = ConsentManagementException.class)
     public void testGetDetailedConsentWithoutConsentID() throws Exception {
 
@@ -1213,6 +1307,24 @@ public class ConsentMgtCoreServiceTests {
                 ConsentMgtServiceTestData.SAMPLE_CONSUMED_STATUS);
     }
 
+    @Test
+    public void testUpdateConsentStatusInvalidatesCachedConsent() throws Exception {
+
+        DetailedConsentCache detailedConsentCacheMock = Mockito.mock(DetailedConsentCache.class);
+        doReturn(detailedConsentCacheMock).when(consentManagementDataHolderMock).getDetailedConsentCache();
+        doReturn(ConsentMgtServiceTestData.getSampleDetailedStoredTestConsentResource())
+                .when(mockedConsentCoreDAO).getDetailedConsentResource(any(), anyString());
+
+        try {
+            consentCoreServiceImpl.updateConsentStatus(ConsentMgtServiceTestData.CONSENT_ID,
+                    ConsentMgtServiceTestData.SAMPLE_CONSUMED_STATUS);
+
+            Mockito.verify(detailedConsentCacheMock).invalidate(ConsentMgtServiceTestData.CONSENT_ID);
+        } finally {
+            doReturn(null).when(consentManagementDataHolderMock).getDetailedConsentCache();
+        }
+    }
+
     @Test (expectedExceptions = ConsentManagementException.class)
     public void testUpdateConsentStatusDataRetrievalError() throws Exception {
 
@@ -2771,6 +2883,237 @@ public class ConsentMgtCoreServiceTests {
                 12345L, 23456L, 1, 0);
     }
 
+    @Test
+    public void testSearchConsentsWithAccountIDs() throws Exception {
+
+        ArrayList<DetailedConsentResource> detailedConsentResources = new ArrayList<>();
+        detailedConsentResources.add(ConsentMgtServiceTestData.getSampleDetailedStoredTestConsentResource());
+
+        doReturn(detailedConsentResources)
+                .when(mockedConsentCoreDAO).searchConsents(any(), any(), any(), any(),
+                        any(), any(), any(), any(), any(), any(), any());
+
+        ArrayList<DetailedConsentResource> result = consentCoreServiceImpl.searchDetailedConsents(null, null, null,
+                null, null, ConsentMgtServiceTestData.SAMPLE_ACCOUNT_ID_LIST, null, null, null, null);
+
+        Assert.assertEquals(result.size(), 1);
+        verify(mockedConsentCoreDAO, atLeastOnce()).searchConsents(any(), any(), any(), any(), any(), any(),
+                eq(ConsentMgtServiceTestData.SAMPLE_ACCOUNT_ID_LIST), any(), any(), any(), any());
+    }
+
+    @Test (expectedExceptions = ConsentManagementException.class)
+    public void testSearchConsentsWithAccountIDsRetrieveError() throws Exception {
+
+        doThrow(ConsentDataRetrievalException.class)
+                .when(mockedConsentCoreDAO).searchConsents(any(), any(), any(), any(),
+                        any(), any(), any(), any(), any(), any(), any());
+
+        consentCoreServiceImpl.searchDetailedConsents(null, null, null, null, null,
+                ConsentMgtServiceTestData.SAMPLE_ACCOUNT_ID_LIST, null, null, null, null);
+    }
+
+    @Test
+    public void testExpireConsents() throws Exception {
+
+        ArrayList<ConsentResource> expiredConsents = new ArrayList<>();
+        ArrayList<AuthorizationResource> authorizationResources = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            ConsentResource consentResource = ConsentMgtServiceTestData.getSampleStoredConsentResource();
+            expiredConsents.add(consentResource);
+            authorizationResources.add(ConsentMgtServiceTestData.getSampleTestAuthorizationResource(
+                    consentResource.getConsentID(), UUID.randomUUID().toString()));
+        }
+        ConsentExpiryCursor cursor = new ConsentExpiryCursor(1000L, expiredConsents.get(1).getConsentID());
+
+        doReturn(new ExpiredConsentBatch(expiredConsents, cursor), new ExpiredConsentBatch(new ArrayList<>(), cursor))
+                .when(mockedConsentCoreDAO).getExpiredConsents(any(), anyString(), anyLong(), any(), anyInt());
+        doReturn(expiredConsents, new ArrayList<>()).when(mockedConsentCoreDAO).expireConsents(any(), anyList(),
+                anyString(), anyLong());
+        doReturn(authorizationResources).when(mockedConsentCoreDAO).getAuthorizationResourcesOfConsents(any(),
+                anyList());
+
+        int expiredConsentCount = consentCoreServiceImpl.expireConsents("Authorised", "Expired", 2, true);
+
+        Assert.assertEquals(expiredConsentCount, 2);
+        // The second batch starts after the last consent of the first batch
+        verify(mockedConsentCoreDAO).getExpiredConsents(any(), anyString(), anyLong(), eq(cursor), eq(2));
+        verify(mockedConsentCoreDAO, atLeastOnce()).storeConsentStatusAuditRecords(any(),
+                argThat(auditRecords -> auditRecords.size() == 2));
+        verify(mockedConsentCoreDAO, atLeastOnce()).storeConsentAmendmentHistory(any(),
+                argThat((List<ConsentHistoryResource> historyResources) -> historyResources.size() == 2));
+    }
+
+    @Test (expectedExceptions = ConsentManagementException.class)
+    public void testExpireConsentsWithoutEligibleStatuses() throws Exception {
+
+        consentCoreServiceImpl.expireConsents("", "Expired", 2, true);
+    }
+
+    @Test (expectedExceptions = ConsentManagementException.class)
+    public void testExpireConsentsUpdateError() throws Exception {
+
+        ArrayList<ConsentResource> expiredConsents = new ArrayList<>();
+        expiredConsents.add(ConsentMgtServiceTestData.getSampleStoredConsentResource());
+
+        doReturn(new ExpiredConsentBatch(expiredConsents, null)).when(mockedConsentCoreDAO)
+                .getExpiredConsents(any(), anyString(), anyLong(), any(), anyInt());
+        doThrow(ConsentDataUpdationException.class).when(mockedConsentCoreDAO).expireConsents(any(), anyList(),
+                anyString(), anyLong());
+
+        consentCoreServiceImpl.expireConsents("Authorised", "Expired", 2, true);
+    }
+
+    @Test
+    public void testGetUpdatedConsentIds() throws Exception {
+
+        doReturn(new ArrayList<>(Collections.singletonList(sampleID))).when(mockedConsentCoreDAO)
+                .getUpdatedConsentIds(any(), anyLong(), anyInt());
+
+        ArrayList<String> consentIDs = consentCoreServiceImpl.getUpdatedConsentIds(1000L, 10);
+
+        Assert.assertEquals(consentIDs, Collections.singletonList(sampleID));
+        verify(mockedConsentCoreDAO).getUpdatedConsentIds(any(), eq(1000L), eq(10));
+    }
+
+    @Test (expectedExceptions = ConsentManagementException.class)
+    public void testGetUpdatedConsentIdsRetrieveError() throws Exception {
+
+        doThrow(ConsentDataRetrievalException.class).when(mockedConsentCoreDAO)
+                .getUpdatedConsentIds(any(), anyLong(), anyInt());
+
+        consentCoreServiceImpl.getUpdatedConsentIds(1000L, 10);
+    }
+
+    @Test
+    public void testStoreAuthorizationSession() throws Exception {
+
+        Mockito.clearInvocations(mockedConsentCoreDAO);
+
+        boolean isStored = consentCoreServiceImpl.storeAuthorizationSession(sampleID, sampleID, "{}", 3600);
+
+        Assert.assertTrue(isStored);
+        verify(mockedConsentCoreDAO).storeAuthorizationSession(any(), eq(sampleID), eq(sampleID), eq("{}"),
+                anyLong());
+    }
+
+    @Test (expectedExceptions = ConsentManagementException.class)
+    public void testStoreAuthorizationSessionInsertionError() throws Exception {
+
+        doThrow(ConsentDataInsertionException.class).when(mockedConsentCoreDAO).storeAuthorizationSession(any(),
+                anyString(), any(), anyString(), anyLong());
+
+        try {
+            consentCoreServiceImpl.storeAuthorizationSession(sampleID, sampleID, "{}", 3600);
+        } finally {
+            Mockito.doNothing().when(mockedConsentCoreDAO).storeAuthorizationSession(any(), anyString(), any(),
+                    anyString(), anyLong());
+        }
+    }
+
+    @Test (expectedExceptions = ConsentManagementException.class)
+    public void testStoreAuthorizationSessionWithoutTimeToLive() throws Exception {
+
+        consentCoreServiceImpl.storeAuthorizationSession(sampleID, sampleID, "{}", 0);
+    }
+
+    @Test
+    public void testDeleteExpiredAuthorizationSessions() throws Exception {
+
+        doReturn(3).when(mockedConsentCoreDAO).deleteExpiredAuthorizationSessions(any(), anyLong());
+
+        Assert.assertEquals(consentCoreServiceImpl.deleteExpiredAuthorizationSessions(), 3);
+    }
+
+    @Test
+    public void testStoreJtiIfAbsent() throws Exception {
+
+        doReturn(true).when(mockedConsentCoreDAO).storeJti(any(), eq("jti-1"), anyLong());
+        doReturn(false).when(mockedConsentCoreDAO).storeJti(any(), eq("jti-2"), anyLong());
+
+        Assert.assertTrue(consentCoreServiceImpl.storeJtiIfAbsent("jti-1", 3600L));
+        Assert.assertFalse(consentCoreServiceImpl.storeJtiIfAbsent("jti-2", 3600L));
+    }
+
+    @Test (expectedExceptions = ConsentManagementException.class)
+    public void testStoreJtiIfAbsentWithoutJti() throws Exception {
+
+        consentCoreServiceImpl.storeJtiIfAbsent(null, 3600L);
+    }
+
+    @Test
+    public void testIterateDetailedConsents() throws Exception {
+
+        ArrayList<DetailedConsentResource> firstPage = new ArrayList<>();
+        firstPage.add(ConsentMgtServiceTestData.getSampleDetailedStoredTestConsentResource());
+        firstPage.add(ConsentMgtServiceTestData.getSampleDetailedStoredTestConsentResource());
+        ArrayList<DetailedConsentResource> lastPage = new ArrayList<>();
+        lastPage.add(ConsentMgtServiceTestData.getSampleDetailedStoredTestConsentResource());
+
+        Mockito.clearInvocations(mockedConsentCoreDAO);
+        doReturn(firstPage, lastPage)
+                .when(mockedConsentCoreDAO).searchConsentsByCursor(any(), any(), any(), any(),
+                        any(), any(), any(), any(), any(), anyInt());
+
+        Iterator<DetailedConsentResource> iterator = consentCoreServiceImpl.iterateDetailedConsents(null,
+                ConsentMgtServiceTestData.SAMPLE_CLIENT_IDS_LIST, null, null, null, null, null, 2);
+
+        int count = 0;
+        while (iterator.hasNext()) {
+            Assert.assertNotNull(iterator.next());
+            count++;
+        }
+        Assert.assertEquals(count, 3);
+        Mockito.verify(mockedConsentCoreDAO, Mockito.times(1)).searchConsentsByCursor(any(), any(), any(),
+                any(), any(), any(), any(), any(), Mockito.isNull(), eq(2));
+        Mockito.verify(mockedConsentCoreDAO, Mockito.times(1)).searchConsentsByCursor(any(), any(), any(),
+                any(), any(), any(), any(), any(), Mockito.isNotNull(), eq(2));
+    }
+
+    @Test (expectedExceptions = FinancialServicesRuntimeException.class)
+    public void testIterateDetailedConsentsRetrieveError() throws Exception {
+
+        doThrow(ConsentDataRetrievalException.class)
+                .when(mockedConsentCoreDAO).searchConsentsByCursor(any(), any(), any(), any(),
+                        any(), any(), any(), any(), any(), anyInt());
+
+        consentCoreServiceImpl.iterateDetailedConsents(null, null, null, null, null, null, null, 10).hasNext();
+    }
+
+    @Test (expectedExceptions = ConsentManagementException.class)
+    public void testSearchDetailedConsentsByInvalidCursor() throws Exception {
+
+        consentCoreServiceImpl.searchDetailedConsentsByCursor(null, null, null, null, null, null, null,
+                "bm90LWEtY3Vyc29y", 10);
+    }
+
+    @Test (expectedExceptions = ConsentManagementException.class)
+    public void testSearchDetailedConsentsByCursorInvalidPageSize() throws Exception {
+
+        consentCoreServiceImpl.searchDetailedConsentsByCursor(null, null, null, null, null, null, null,
+                null, 0);
+    }
+
+    @Test
+    public void testCountDetailedConsents() throws Exception {
+
+        doReturn(3).when(mockedConsentCoreDAO).countConsents(any(), any(), any(), any(), any(), any(), any(),
+                any(), any(), anyBoolean());
+
+        int consentCount = consentCoreServiceImpl.countDetailedConsents(
+                ConsentMgtServiceTestData.SAMPLE_CONSENT_IS_ARRAY, null, null, null, null, null, null, null, true);
+
+        Assert.assertEquals(consentCount, 3);
+    }
+
+    @Test (expectedExceptions = ConsentManagementException.class)
+    public void testCountDetailedConsentsRetrieveError() throws Exception {
+
+        doThrow(ConsentDataRetrievalException.class).when(mockedConsentCoreDAO).countConsents(any(), any(), any(),
+                any(), any(), any(), any(), any(), any(), anyBoolean());
+
+        consentCoreServiceImpl.countDetailedConsents(null, null, null, null, null, null, null, null, false);
+    }
+
     @Test
     public void testAmendConsentData() throws Exception {
 
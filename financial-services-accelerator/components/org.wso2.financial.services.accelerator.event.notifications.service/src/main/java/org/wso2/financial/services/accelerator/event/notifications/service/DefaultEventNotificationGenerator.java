@@ -32,6 +32,7 @@ import org.wso2.financial.services.accelerator.event.notifications.service.model
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Default Event Notification Response Generator Class.
@@ -75,6 +76,19 @@ public class DefaultEventNotificationGenerator implements EventNotificationGener
 
     }
 
+    @Override
+    @Generated(message = "Excluded from tests as using a util method from a different package")
+    public List<String> generateEventNotifications(List<JsonNode> jsonNodes) throws FSEventNotificationException {
+
+        try {
+            return JWTUtils.signJWTsWithDefaultKey(jsonNodes.stream().map(JsonNode::toString)
+                    .collect(Collectors.toList()));
+        } catch (Exception e) {
+            log.error("Error while signing the JWT tokens", e);
+            throw new FSEventNotificationException("Error while signing the JWT tokens", e);
+        }
+    }
+
     @Generated(message = "Private method tested when the used method is tested")
     private String generateSubClaim(Notification notification) {
         return notification.getClientId();
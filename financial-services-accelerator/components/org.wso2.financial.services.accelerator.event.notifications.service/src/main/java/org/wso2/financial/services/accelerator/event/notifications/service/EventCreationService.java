@@ -30,7 +30,8 @@ import org.wso2.financial.services.accelerator.event.notifications.service.excep
 import org.wso2.financial.services.accelerator.event.notifications.service.model.Notification;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationEvent;
 import org.wso2.financial.services.accelerator.event.notifications.service.persistence.EventNotificationStoreInitializer;
-import org.wso2.financial.services.accelerator.event.notifications.service.realtime.service.EventNotificationProducerService;
+import org.wso2.financial.services.accelerator.event.notifications.service.polling.PendingEventPollRegistry;
+import org.wso2.financial.services.accelerator.event.notifications.service.realtime.service.RealtimeEventNotificationOutboxWorker;
 
 import java.sql.Connection;
 import java.util.ArrayList;
@@ -77,12 +78,21 @@ public class EventCreationService {
         EventNotificationDAO eventCreationDAO = EventNotificationStoreInitializer.getEventNotificationDAO();
         String eventResponse = null;
 
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
         try {
             eventResponse = eventCreationDAO.persistEventNotification(connection, notification, eventsList);
+            if (configParser.isRealtimeEventNotificationEnabled()) {
+                // Stored in the same transaction so that a committed notification is never missed for delivery
+                eventCreationDAO.storeOutboxEntry(connection, notification.getNotificationId());
+            }
             DatabaseUtils.commitTransaction(connection);
 
-            if (FinancialServicesConfigParser.getInstance().isRealtimeEventNotificationEnabled()) {
-                new Thread(new EventNotificationProducerService(notification, eventsList)).start();
+            if (configParser.isLongPollingEnabled()) {
+                // Wake up the long polling requests parked for the client.
+                PendingEventPollRegistry.getInstance().notifyClient(notification.getClientId());
+            }
+            if (configParser.isRealtimeEventNotificationEnabled()) {
+                RealtimeEventNotificationOutboxWorker.getInstance().wakeUp();
             }
             return eventResponse;
         } catch (FSEventNotificationException e) {
@@ -24,6 +24,7 @@ import org.wso2.financial.services.accelerator.event.notifications.service.model
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationEvent;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationResponse;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -45,4 +46,21 @@ public interface EventNotificationGenerator {
             notificationEventList) throws FSEventNotificationException;
 
     String generateEventNotification(JsonNode jsonNode) throws FSEventNotificationException;
+
+    /**
+     * This method is to generate the event notifications of a set of notification bodies at once.
+     * The default implementation generates them one by one.
+     *
+     * @param jsonNodes  Notification bodies
+     * @return Event notifications in the order of the bodies
+     * @throws FSEventNotificationException  Exception when generating the event notifications
+     */
+    default List<String> generateEventNotifications(List<JsonNode> jsonNodes) throws FSEventNotificationException {
+
+        List<String> eventNotifications = new ArrayList<>(jsonNodes.size());
+        for (JsonNode jsonNode : jsonNodes) {
+            eventNotifications.add(generateEventNotification(jsonNode));
+        }
+        return eventNotifications;
+    }
 }
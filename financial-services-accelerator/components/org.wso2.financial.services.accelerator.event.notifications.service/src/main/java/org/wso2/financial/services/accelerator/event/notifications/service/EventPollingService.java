@@ -18,11 +18,13 @@
 
 package org.wso2.financial.services.accelerator.event.notifications.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.nimbusds.jose.JOSEException;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.HttpStatus;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.util.DatabaseUtils;
 import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationConstants;
 import org.wso2.financial.services.accelerator.event.notifications.service.dao.EventNotificationDAO;
@@ -34,13 +36,23 @@ import org.wso2.financial.services.accelerator.event.notifications.service.model
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationEvent;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationResponse;
 import org.wso2.financial.services.accelerator.event.notifications.service.persistence.EventNotificationStoreInitializer;
+import org.wso2.financial.services.accelerator.event.notifications.service.polling.PendingEventPollRegistry;
 import org.wso2.financial.services.accelerator.event.notifications.service.util.EventNotificationServiceUtil;
 
 import java.io.IOException;
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * Event polling service.
@@ -49,9 +61,22 @@ public class EventPollingService {
 
     private static Log log = LogFactory.getLog(EventPollingService.class);
 
+    private PendingEventPollRegistry pendingEventPollRegistry;
+
+    public EventPollingService() {
+
+    }
+
+    public EventPollingService(PendingEventPollRegistry pendingEventPollRegistry) {
+
+        this.pendingEventPollRegistry = pendingEventPollRegistry;
+    }
+
     /**
      * The pollEvents methods will return the Aggregated Polling Response for
-     * event polling request.
+     * event polling request. A long polling request blocks the calling thread until
+     * notifications are available or the maximum wait elapses, use
+     * {@link #pollEventsAsync(EventPolling)} to wait without blocking.
      * @param eventPolling Event polling request
      * @return AggregatedPollingResponse Aggregated Polling Response
      * @throws FSEventNotificationException Exception when polling events
@@ -59,6 +84,112 @@ public class EventPollingService {
     public AggregatedPollingResponse pollEvents(EventPolling eventPolling)
             throws FSEventNotificationException {
 
+        //Short polling
+        if (eventPolling.getReturnImmediately()) {
+            return retrieveNotifications(eventPolling, true);
+        }
+
+        try {
+            return pollEventsAsync(eventPolling).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof FSEventNotificationException) {
+                throw (FSEventNotificationException) e.getCause();
+            }
+            throw new FSEventNotificationException("Error when retrieving FS event notifications.", e.getCause());
+        }
+    }
+
+    /**
+     * The pollEventsAsync method returns the Aggregated Polling Response for event polling
+     * request without blocking the calling thread. When long polling is requested and no
+     * notifications are available, the request is parked until notifications are stored for
+     * the client or the configured maximum wait elapses. No database connection is held while
+     * the request is parked.
+     * @param eventPolling Event polling request
+     * @return future completed with the Aggregated Polling Response, or exceptionally with
+     * FSEventNotificationException
+     */
+    public CompletableFuture<AggregatedPollingResponse> pollEventsAsync(EventPolling eventPolling) {
+
+        if (eventPolling.getReturnImmediately() || eventPolling.getMaxEvents() == 0) {
+            try {
+                return CompletableFuture.completedFuture(retrieveNotifications(eventPolling, true));
+            } catch (FSEventNotificationException e) {
+                return failedFuture(e);
+            }
+        }
+
+        PendingEventPollRegistry registry = getPendingEventPollRegistry();
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(
+                FinancialServicesConfigParser.getInstance().getLongPollingMaxWaitInSeconds());
+
+        // Register before the first retrieval so that a notification stored in between is not missed.
+        CompletableFuture<Boolean> wakeUp = registry.register(eventPolling.getClientId(),
+                Math.max(0, deadline - System.currentTimeMillis()));
+        AggregatedPollingResponse aggregatedPollingResponse;
+        try {
+            aggregatedPollingResponse = retrieveNotifications(eventPolling, true);
+        } catch (FSEventNotificationException e) {
+            wakeUp.cancel(false);
+            return failedFuture(e);
+        }
+        if (aggregatedPollingResponse.getStatus() != HttpStatus.SC_NOT_FOUND) {
+            wakeUp.cancel(false);
+            return CompletableFuture.completedFuture(aggregatedPollingResponse);
+        }
+        Map<String, String> setOutcomes = aggregatedPollingResponse.getSetOutcomes();
+        return awaitNotifications(eventPolling, wakeUp, deadline)
+                .thenApply(response -> {
+                    response.setSetOutcomes(setOutcomes);
+                    return response;
+                });
+    }
+
+    /**
+     * Wait for a wake-up and retrieve the notifications of the client. Wake-ups are only signalled for
+     * notifications stored on this node, hence the notifications are retrieved once more when the wait
+     * elapses without a wake-up.
+     */
+    private CompletableFuture<AggregatedPollingResponse> awaitNotifications(
+            EventPolling eventPolling, CompletableFuture<Boolean> wakeUp, long deadline) {
+
+        PendingEventPollRegistry registry = getPendingEventPollRegistry();
+        return wakeUp.thenComposeAsync(woken -> {
+            long remainingWait = deadline - System.currentTimeMillis();
+            if (!woken && log.isDebugEnabled()) {
+                log.debug(String.format("Long polling wait elapsed for the client with ID : '%s'.",
+                        eventPolling.getClientId().replaceAll("[\r\n]", "")));
+            }
+            if (!woken || remainingWait <= 0) {
+                return retrieve(eventPolling);
+            }
+            // Re-register before retrieving, the notification may have been claimed by another request.
+            CompletableFuture<Boolean> nextWakeUp = registry.register(eventPolling.getClientId(), remainingWait);
+            CompletableFuture<AggregatedPollingResponse> retrieved = retrieve(eventPolling);
+            if (retrieved.isCompletedExceptionally() || retrieved.join().getStatus() != HttpStatus.SC_NOT_FOUND) {
+                nextWakeUp.cancel(false);
+                return retrieved;
+            }
+            return awaitNotifications(eventPolling, nextWakeUp, deadline);
+        }, registry.getExecutor());
+    }
+
+    /**
+     * Retrieve notifications after a wait. The acknowledgements and errors of the request
+     * are already updated by the first retrieval.
+     */
+    private CompletableFuture<AggregatedPollingResponse> retrieve(EventPolling eventPolling) {
+
+        try {
+            return CompletableFuture.completedFuture(retrieveNotifications(eventPolling, false));
+        } catch (FSEventNotificationException e) {
+            return failedFuture(e);
+        }
+    }
+
+    private AggregatedPollingResponse retrieveNotifications(EventPolling eventPolling, boolean updateStatuses)
+            throws FSEventNotificationException {
+
         Connection connection = DatabaseUtils.getDBConnection();
         AggregatedPollingResponse aggregatedPollingResponse = new AggregatedPollingResponse();
         EventNotificationDAO eventNotificationDAO = EventNotificationStoreInitializer.getEventNotificationDAO();
@@ -68,95 +199,164 @@ public class EventPollingService {
 
         Map<String, String> sets = new HashMap<>();
 
-        //Short polling
-        if (eventPolling.getReturnImmediately()) {
+        try {
+            if (updateStatuses) {
+                aggregatedPollingResponse.setSetOutcomes(updateSetStatuses(connection, eventNotificationDAO,
+                        eventPolling));
+            }
 
-            try {
-                //Update notifications with ack
-                for (String notificationId : eventPolling.getAck()) {
-                    eventNotificationDAO.updateNotificationStatusById(connection, notificationId,
-                            EventNotificationConstants.ACK);
-                }
+            //Retrieve notifications
+            int maxEvents = eventPolling.getMaxEvents();
 
-                //Update notifications with err
-                for (Map.Entry<String, NotificationError> entry: eventPolling.getErrors().entrySet()) {
-                    //Check if the notification is in OPEN status
-                    if (eventNotificationDAO.getNotificationStatus(connection, entry.getKey())) {
-                        eventNotificationDAO.updateNotificationStatusById(connection, entry.getKey(),
-                                EventNotificationConstants.ERROR);
-                        eventNotificationDAO.storeErrorNotification(connection, entry.getValue());
-                    }
-                }
+            if (maxEvents == 0) {
+                aggregatedPollingResponse.setSets(sets);
+                aggregatedPollingResponse.setStatus(HttpStatus.SC_OK);
+            } else {
 
-                //Retrieve notifications
-                int maxEvents = eventPolling.getMaxEvents();
+                int setsToReturn = eventPolling.getSetsToReturn();
 
-                if (maxEvents == 0) {
-                    aggregatedPollingResponse.setSets(sets);
-                    aggregatedPollingResponse.setStatus(HttpStatus.SC_OK);
+                List<Notification> notificationList;
+
+                if (maxEvents < setsToReturn) {
+                    notificationList = eventNotificationDAO.getNotificationsByClientIdAndStatus(connection,
+                            eventPolling.getClientId(), EventNotificationConstants.OPEN, maxEvents);
+
+                } else {
+                    notificationList = eventNotificationDAO.getNotificationsByClientIdAndStatus(connection,
+                            eventPolling.getClientId(), EventNotificationConstants.OPEN, setsToReturn);
+                }
+
+                if (notificationList.isEmpty()) {
+                    if (log.isDebugEnabled()) {
+                        log.debug(String.format("No FS Event Notifications available for for the client " +
+                                "with ID : '%s'.", eventPolling.getClientId().replaceAll("[\r\n]", "")));
+                    }
+                    aggregatedPollingResponse.setStatus(HttpStatus.SC_NOT_FOUND);
                 } else {
+                    if (log.isDebugEnabled()) {
+                        log.debug(String.format("FS Event Notifications available for the client " +
+                                "with ID : '%s'.", eventPolling.getClientId().replaceAll("[\r\n]", "")));
+                    }
+                    aggregatedPollingResponse.setStatus(HttpStatus.SC_OK);
 
-                    int setsToReturn = eventPolling.getSetsToReturn();
+                    //Get the events of all notifications at once
+                    Map<String, List<NotificationEvent>> eventsByNotificationId = eventNotificationDAO.
+                            getEventsByNotificationIDs(connection, notificationList.stream()
+                                    .map(Notification::getNotificationId).collect(Collectors.toList()));
 
-                    List<Notification> notificationList;
+                    List<JsonNode> notificationBodies = new ArrayList<>(notificationList.size());
+                    for (Notification notification : notificationList) {
 
-                    if (maxEvents < setsToReturn) {
-                        notificationList = eventNotificationDAO.getNotificationsByClientIdAndStatus(connection,
-                                eventPolling.getClientId(), EventNotificationConstants.OPEN, maxEvents);
+                        List<NotificationEvent> notificationEvents = eventsByNotificationId.getOrDefault(
+                                notification.getNotificationId(), Collections.emptyList());
 
-                    } else {
-                        notificationList = eventNotificationDAO.getNotificationsByClientIdAndStatus(connection,
-                                eventPolling.getClientId(), EventNotificationConstants.OPEN, setsToReturn);
+                        NotificationResponse responseNotification = eventNotificationGenerator.
+                                generateEventNotificationBody(notification, notificationEvents);
+                        notificationBodies.add(NotificationResponse.getJsonNode(responseNotification));
                     }
 
-                    if (notificationList.isEmpty()) {
-                        if (log.isDebugEnabled()) {
-                            log.debug(String.format("No FS Event Notifications available for for the client " +
-                                    "with ID : '%s'.", eventPolling.getClientId().replaceAll("[\r\n]", "")));
-                        }
-                        aggregatedPollingResponse.setStatus(HttpStatus.SC_NOT_FOUND);
-                    } else {
-                        if (log.isDebugEnabled()) {
-                            log.debug(String.format("FS Event Notifications available for the client " +
-                                    "with ID : '%s'.", eventPolling.getClientId().replaceAll("[\r\n]", "")));
-                        }
-                        aggregatedPollingResponse.setStatus(HttpStatus.SC_OK);
-
-                        for (Notification notification : notificationList) {
-
-                            //Get events by notificationId
-                            List<NotificationEvent> notificationEvents = eventNotificationDAO.
-                                    getEventsByNotificationID(connection, notification.getNotificationId());
-
-                            NotificationResponse responseNotification = eventNotificationGenerator.
-                                    generateEventNotificationBody(notification, notificationEvents);
-                            sets.put(notification.getNotificationId(), eventNotificationGenerator
-                                    .generateEventNotification(NotificationResponse.getJsonNode(responseNotification)));
-                            log.info("Retrieved FS event notifications");
-                        }
-                        aggregatedPollingResponse.setSets(sets);
+                    //Sign the SETs of the whole polling response at once
+                    List<String> signedNotifications = eventNotificationGenerator
+                            .generateEventNotifications(notificationBodies);
+                    for (int i = 0; i < notificationList.size(); i++) {
+                        sets.put(notificationList.get(i).getNotificationId(), signedNotifications.get(i));
                     }
+                    log.info("Retrieved FS event notifications");
+                    aggregatedPollingResponse.setSets(sets);
                 }
+            }
 
-                int count = eventNotificationDAO.getNotificationCountByClientIdAndStatus(connection,
-                        eventPolling.getClientId(), EventNotificationConstants.OPEN)
-                        - aggregatedPollingResponse.getSets().size();
-
-                aggregatedPollingResponse.setCount(count);
-                DatabaseUtils.commitTransaction(connection);
-
-                return aggregatedPollingResponse;
-            } catch (FSEventNotificationException |
-                     IOException | JOSEException | IdentityOAuth2Exception e) {
-                log.debug("Error when retrieving FS event notifications.", e);
-                DatabaseUtils.rollbackTransaction(connection);
-                throw new FSEventNotificationException("Error when retrieving FS event notifications.", e);
-            } finally {
-                log.debug(EventNotificationConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
-                DatabaseUtils.closeConnection(connection);
+            int count = eventNotificationDAO.getNotificationCountByClientIdAndStatus(connection,
+                    eventPolling.getClientId(), EventNotificationConstants.OPEN)
+                    - aggregatedPollingResponse.getSets().size();
+
+            aggregatedPollingResponse.setCount(count);
+            DatabaseUtils.commitTransaction(connection);
+
+            return aggregatedPollingResponse;
+        } catch (FSEventNotificationException |
+                 IOException | JOSEException | IdentityOAuth2Exception e) {
+            log.debug("Error when retrieving FS event notifications.", e);
+            DatabaseUtils.rollbackTransaction(connection);
+            throw new FSEventNotificationException("Error when retrieving FS event notifications.", e);
+        } finally {
+            log.debug(EventNotificationConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
+    /**
+     * Update the status of the acknowledged and erroneous notifications of the polling request
+     * with one statement per status.
+     *
+     * @param connection           Database connection
+     * @param eventNotificationDAO Event notification DAO
+     * @param eventPolling         Event polling request
+     * @return Outcome by notification ID
+     * @throws FSEventNotificationException Exception when updating the notification statuses
+     */
+    private Map<String, String> updateSetStatuses(Connection connection, EventNotificationDAO eventNotificationDAO,
+                                                  EventPolling eventPolling) throws FSEventNotificationException {
+
+        Map<String, String> setOutcomes = new LinkedHashMap<>();
+        List<String> polledNotificationIds = new ArrayList<>(eventPolling.getAck());
+        polledNotificationIds.addAll(eventPolling.getErrors().keySet());
+        if (polledNotificationIds.isEmpty()) {
+            return setOutcomes;
+        }
+        Map<String, String> notificationStatuses = eventNotificationDAO.getNotificationStatuses(connection,
+                polledNotificationIds);
+
+        //Update notifications with ack
+        Set<String> acknowledgedIds = new LinkedHashSet<>();
+        for (String notificationId : eventPolling.getAck()) {
+            if (notificationStatuses.containsKey(notificationId)) {
+                acknowledgedIds.add(notificationId);
+                setOutcomes.put(notificationId, EventNotificationConstants.ACK);
+            } else {
+                setOutcomes.put(notificationId, EventNotificationConstants.SET_NOT_FOUND);
             }
         }
+        if (!acknowledgedIds.isEmpty()) {
+            eventNotificationDAO.updateNotificationStatusByIds(connection, new ArrayList<>(acknowledgedIds),
+                    EventNotificationConstants.ACK);
+        }
+
+        //Update notifications with err, only the notifications in OPEN status are updated
+        List<NotificationError> notificationErrors = new ArrayList<>();
+        for (Map.Entry<String, NotificationError> entry : eventPolling.getErrors().entrySet()) {
+            String notificationStatus = notificationStatuses.get(entry.getKey());
+            if (notificationStatus == null) {
+                setOutcomes.put(entry.getKey(), EventNotificationConstants.SET_NOT_FOUND);
+            } else if (!EventNotificationConstants.OPEN.equals(notificationStatus)
+                    || acknowledgedIds.contains(entry.getKey())) {
+                setOutcomes.put(entry.getKey(), EventNotificationConstants.SET_NOT_OPEN);
+            } else {
+                notificationErrors.add(entry.getValue());
+                setOutcomes.put(entry.getKey(), EventNotificationConstants.ERROR);
+            }
+        }
+        if (!notificationErrors.isEmpty()) {
+            eventNotificationDAO.updateNotificationStatusByIds(connection, notificationErrors.stream()
+                    .map(NotificationError::getNotificationId).collect(Collectors.toList()),
+                    EventNotificationConstants.ERROR);
+            eventNotificationDAO.storeErrorNotifications(connection, notificationErrors);
+        }
+        return setOutcomes;
+    }
+
+    private PendingEventPollRegistry getPendingEventPollRegistry() {
+
+        if (pendingEventPollRegistry == null) {
+            pendingEventPollRegistry = PendingEventPollRegistry.getInstance();
+        }
+        return pendingEventPollRegistry;
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(Throwable e) {
 
-        return null;
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+        return future;
     }
 }
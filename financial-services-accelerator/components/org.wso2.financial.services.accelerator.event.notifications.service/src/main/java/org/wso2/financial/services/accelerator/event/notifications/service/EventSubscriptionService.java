@@ -30,7 +30,10 @@ import org.wso2.financial.services.accelerator.event.notifications.service.model
 import org.wso2.financial.services.accelerator.event.notifications.service.persistence.EventNotificationStoreInitializer;
 
 import java.sql.Connection;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Event subscription service class.
@@ -159,6 +162,38 @@ public class EventSubscriptionService {
         }
     }
 
+    /**
+     * This method will call the dao layer to retrieve all event subscriptions of a set of clients.
+     *
+     * @param clientIds client IDs of the retrieving subscriptions.
+     * @return event subscriptions by client ID, a client without subscriptions is mapped to an empty list
+     * @throws FSEventNotificationException if an error occurred while retrieving the event subscriptions
+     */
+    public Map<String, List<EventSubscription>> getEventSubscriptionsByClientIds(Collection<String> clientIds)
+            throws FSEventNotificationException {
+
+        if (clientIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Connection connection = DatabaseUtils.getDBConnection();
+        try {
+            EventSubscriptionDAO eventSubscriptionDAO = EventNotificationStoreInitializer.getEventSubscriptionDAO();
+            Map<String, List<EventSubscription>> eventSubscriptions = eventSubscriptionDAO
+                    .getEventSubscriptionsByClientIds(connection, clientIds);
+            log.debug("Event subscriptions of the clients retrieved successfully.");
+            DatabaseUtils.commitTransaction(connection);
+            return eventSubscriptions;
+        } catch (FSEventNotificationException e) {
+            log.error("Error while retrieving event subscriptions.", e);
+            DatabaseUtils.rollbackTransaction(connection);
+            throw new FSEventNotificationException(e.getMessage(), e);
+        } finally {
+            log.debug(EventNotificationConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
     /**
      * This method will call the dao layer to retrieve all event subscriptions by event type.
      *
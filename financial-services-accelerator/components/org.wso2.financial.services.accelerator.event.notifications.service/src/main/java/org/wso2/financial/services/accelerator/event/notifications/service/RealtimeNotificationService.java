@@ -30,7 +30,9 @@ import org.wso2.financial.services.accelerator.event.notifications.service.model
 import org.wso2.financial.services.accelerator.event.notifications.service.persistence.EventNotificationStoreInitializer;
 
 import java.sql.Connection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Realtime Notification service class.
@@ -106,6 +108,40 @@ public class RealtimeNotificationService {
         }
     }
 
+    /**
+     * Method to retrieve the events of a set of notifications.
+     *
+     * @param notificationIds  Notification IDs to retrieve events
+     * @return Events by notification ID, a notification without events is mapped to an empty list
+     * @throws FSEventNotificationException  Exception when retrieving events by notification IDs
+     */
+    public Map<String, List<NotificationEvent>> getEventsByNotificationIDs(List<String> notificationIds)
+            throws FSEventNotificationException {
+
+        if (notificationIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        EventNotificationDAO eventNotificationDAO = EventNotificationStoreInitializer.getEventNotificationDAO();
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            Map<String, List<NotificationEvent>> notificationEvents = eventNotificationDAO.
+                    getEventsByNotificationIDs(connection, notificationIds);
+            log.debug("Events of the event notifications retrieved successfully.");
+            DatabaseUtils.commitTransaction(connection);
+            return notificationEvents;
+        } catch (FSEventNotificationException e) {
+            log.error("Error while retrieving event notification.", e);
+            DatabaseUtils.rollbackTransaction(connection);
+            throw new FSEventNotificationException(e.getMessage(), e);
+        } finally {
+            log.debug(EventNotificationConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
     /**
      * Method to update the notification status by ID, allowed values are.
      * OPEN,ACK and ERR
@@ -141,4 +177,134 @@ public class RealtimeNotificationService {
             DatabaseUtils.closeConnection(connection);
         }
     }
+
+    /**
+     * Method to claim realtime event notifications from the outbox for delivery.
+     *
+     * @param workerId     ID of the delivery worker claiming the notifications
+     * @param leaseExpiry  Time in milliseconds the claim is held until unless renewed
+     * @param maxEntries   Maximum number of notifications to claim
+     * @return Claimed notifications
+     * @throws FSEventNotificationException  Exception when claiming the notifications
+     */
+    public List<Notification> claimOutboxNotifications(String workerId, long leaseExpiry, int maxEntries)
+            throws FSEventNotificationException {
+
+        EventNotificationDAO eventNotificationDAO = EventNotificationStoreInitializer.getEventNotificationDAO();
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            List<Notification> notifications = eventNotificationDAO.claimOutboxEntries(connection, workerId,
+                    leaseExpiry, maxEntries);
+            DatabaseUtils.commitTransaction(connection);
+            return notifications;
+        } catch (FSEventNotificationException e) {
+            log.error("Error while claiming realtime event notifications.", e);
+            DatabaseUtils.rollbackTransaction(connection);
+            throw new FSEventNotificationException(e.getMessage(), e);
+        } finally {
+            log.debug(EventNotificationConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
+    /**
+     * Method to extend the lease of the realtime event notifications claimed by a delivery worker.
+     *
+     * @param workerId         ID of the delivery worker
+     * @param notificationIds  Notification IDs with deliveries in progress
+     * @param leaseExpiry      Time in milliseconds the claims are held until unless renewed
+     * @throws FSEventNotificationException  Exception when renewing the leases
+     */
+    public void renewOutboxLeases(String workerId, List<String> notificationIds, long leaseExpiry)
+            throws FSEventNotificationException {
+
+        if (notificationIds.isEmpty()) {
+            return;
+        }
+
+        EventNotificationDAO eventNotificationDAO = EventNotificationStoreInitializer.getEventNotificationDAO();
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            int renewedCount = eventNotificationDAO.renewOutboxLeases(connection, workerId, notificationIds,
+                    leaseExpiry);
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Renewed the leases of %d realtime event notifications.", renewedCount));
+            }
+            DatabaseUtils.commitTransaction(connection);
+        } catch (FSEventNotificationException e) {
+            log.error("Error while renewing the leases of realtime event notifications.", e);
+            DatabaseUtils.rollbackTransaction(connection);
+            throw new FSEventNotificationException(e.getMessage(), e);
+        } finally {
+            log.debug(EventNotificationConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
+    /**
+     * Method to release claimed realtime event notifications which could not be delivered, so that they are claimed
+     * again without waiting for their leases to expire.
+     *
+     * @param workerId         ID of the delivery worker that claimed the notifications
+     * @param notificationIds  Notification IDs to release
+     * @throws FSEventNotificationException  Exception when releasing the notifications
+     */
+    public void releaseOutboxEntries(String workerId, List<String> notificationIds)
+            throws FSEventNotificationException {
+
+        if (notificationIds.isEmpty()) {
+            return;
+        }
+
+        EventNotificationDAO eventNotificationDAO = EventNotificationStoreInitializer.getEventNotificationDAO();
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            eventNotificationDAO.releaseOutboxEntries(connection, workerId, notificationIds);
+            DatabaseUtils.commitTransaction(connection);
+        } catch (FSEventNotificationException e) {
+            log.error("Error while releasing claimed realtime event notifications.", e);
+            DatabaseUtils.rollbackTransaction(connection);
+            throw new FSEventNotificationException(e.getMessage(), e);
+        } finally {
+            log.debug(EventNotificationConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
+    /**
+     * Method to remove delivered realtime event notifications from the outbox.
+     *
+     * @param workerId         ID of the delivery worker that claimed the notifications
+     * @param notificationIds  Notification IDs to remove
+     * @throws FSEventNotificationException  Exception when removing the notifications
+     */
+    public void deleteOutboxEntries(String workerId, List<String> notificationIds)
+            throws FSEventNotificationException {
+
+        if (notificationIds.isEmpty()) {
+            return;
+        }
+
+        EventNotificationDAO eventNotificationDAO = EventNotificationStoreInitializer.getEventNotificationDAO();
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            eventNotificationDAO.deleteOutboxEntries(connection, workerId, notificationIds);
+            DatabaseUtils.commitTransaction(connection);
+        } catch (FSEventNotificationException e) {
+            log.error("Error while removing delivered realtime event notifications.", e);
+            DatabaseUtils.rollbackTransaction(connection);
+            throw new FSEventNotificationException(e.getMessage(), e);
+        } finally {
+            log.debug(EventNotificationConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
 }
@@ -111,6 +111,9 @@ public class EventNotificationConstants {
     //Polling response params
     public static final String SETS = "sets";
     public static final String MORE_AVAILABLE = "moreAvailable";
+    public static final String SET_OUTCOMES = "setOutcomes";
+    public static final String SET_NOT_FOUND = "NOT_FOUND";
+    public static final String SET_NOT_OPEN = "NOT_OPEN";
     public static final String NOTIFICATIONS_ID = "notificationsID";
 
     // Event Subscription Request Params
@@ -136,6 +139,23 @@ public class EventNotificationConstants {
     public static final String  RETRIEVED_NOTIFICATION_CLIENT = "Retrieved notification for client ID: '%s'. ";
 
     public static final String RETRIEVED_EVENTS_NOTIFICATION = "Retrieved events for notification ID: '%s'. ";
+    public static final String DB_ERROR_NOTIFICATIONS_EVENTS_RETRIEVE = "Error occurred while retrieving events " +
+            "of the notifications.";
+    public static final String DB_ERROR_NOTIFICATIONS_STATUS_RETRIEVE = "Error occurred while retrieving the " +
+            "status of the notifications.";
+    public static final String DB_ERROR_NOTIFICATIONS_STATUS_UPDATE = "Database error while updating the status " +
+            "of the notifications.";
+    public static final String DB_ERROR_OUTBOX_STORE = "Database error while storing the realtime event " +
+            "notification in the outbox.";
+    public static final String DB_ERROR_OUTBOX_CLAIM = "Database error while claiming realtime event " +
+            "notifications from the outbox.";
+    public static final String DB_ERROR_OUTBOX_RENEW = "Database error while renewing the leases of the claimed " +
+            "realtime event notifications.";
+    public static final String DB_ERROR_OUTBOX_RELEASE = "Database error while releasing the claimed realtime " +
+            "event notifications.";
+    public static final String DB_ERROR_OUTBOX_DELETE = "Database error while deleting delivered realtime event " +
+            "notifications from the outbox.";
+    public static final int IN_CLAUSE_BATCH_SIZE = 500;
     public static final String NO_NOTIFICATIONS_FOUND_CLIENT = "No notifications found for client ID - '%s'";
     public static final String NO_EVENTS_NOTIFICATION_ID = "No events found for notification ID - '%s'";
     public static final String INVALID_CLIENT_ID = "Invalid mandatory parameter x-wso2-client-id.";
@@ -26,6 +26,7 @@ import org.wso2.financial.services.accelerator.event.notifications.service.model
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Event Publisher DAO interface.
@@ -67,6 +68,40 @@ public interface EventNotificationDAO {
     void storeErrorNotification(Connection connection, NotificationError notificationError)
             throws FSEventNotificationException;
 
+    /**
+     * This method is to update the status of a set of notifications, allowed values are.
+     * OPEN,ACK and ERR
+     *
+     * @param connection         Database connection
+     * @param notificationIds    Notification IDs to update
+     * @param notificationStatus Notification status to update
+     * @return Number of updated notifications
+     * @throws FSEventNotificationException  Exception when updating the notification statuses
+     */
+    int updateNotificationStatusByIds(Connection connection, List<String> notificationIds, String notificationStatus)
+            throws FSEventNotificationException;
+
+    /**
+     * This method is to store the error details of a set of event notifications in the FS_NOTIFICATION_ERROR table.
+     *
+     * @param connection          Database connection
+     * @param notificationErrors  Notification error details
+     * @throws FSEventNotificationException  Exception when storing event notifications error details
+     */
+    void storeErrorNotifications(Connection connection, List<NotificationError> notificationErrors)
+            throws FSEventNotificationException;
+
+    /**
+     * This method is to retrieve the status of a set of notifications.
+     *
+     * @param connection       Database connection
+     * @param notificationIds  Notification IDs to retrieve the status
+     * @return Status by notification ID, notifications that do not exist are not included
+     * @throws FSEventNotificationException  Exception when retrieving the notification statuses
+     */
+    Map<String, String> getNotificationStatuses(Connection connection, List<String> notificationIds)
+            throws FSEventNotificationException;
+
     /**
      * This method is to retrieve given number of notifications in the FS_NOTIFICATION table by client and status.
      *
@@ -91,6 +126,18 @@ public interface EventNotificationDAO {
     List<NotificationEvent> getEventsByNotificationID(Connection connection, String notificationId)
             throws FSEventNotificationException;
 
+    /**
+     * This method is to retrieve the events of a set of notifications.
+     *
+     * @param connection       Database connection
+     * @param notificationIds  Notification IDs to retrieve events
+     * @return Events by notification ID, a notification without events is mapped to an empty list
+     * @throws FSEventNotificationException  Exception when retrieving events by notification IDs
+     */
+    Map<String, List<NotificationEvent>> getEventsByNotificationIDs(Connection connection,
+                                                                    List<String> notificationIds)
+            throws FSEventNotificationException;
+
     /**
      * This method is to retrieve notifications in the FS_NOTIFICATION table by status.
      *
@@ -124,4 +171,63 @@ public interface EventNotificationDAO {
      */
     boolean getNotificationStatus(Connection connection, String notificationId) throws FSEventNotificationException;
 
+    /**
+     * This method is to add a notification to the FS_NOTIFICATION_OUTBOX table for realtime delivery.
+     *
+     * @param connection      Database connection
+     * @param notificationId  Notification ID to deliver
+     * @throws FSEventNotificationException  Exception when storing the outbox entry
+     */
+    void storeOutboxEntry(Connection connection, String notificationId) throws FSEventNotificationException;
+
+    /**
+     * This method is to claim outbox entries that are not claimed or whose lease has expired.
+     *
+     * @param connection   Database connection
+     * @param workerId     ID of the delivery worker claiming the entries
+     * @param leaseExpiry  Time in milliseconds the claim is held until unless renewed
+     * @param maxEntries   Maximum number of entries to claim
+     * @return Notifications of the claimed entries
+     * @throws FSEventNotificationException  Exception when claiming the outbox entries
+     */
+    List<Notification> claimOutboxEntries(Connection connection, String workerId, long leaseExpiry, int maxEntries)
+            throws FSEventNotificationException;
+
+    /**
+     * This method is to extend the lease of the given outbox entries claimed by a delivery worker.
+     *
+     * @param connection       Database connection
+     * @param workerId         ID of the delivery worker
+     * @param notificationIds  Notification IDs of the entries in progress
+     * @param leaseExpiry      Time in milliseconds the claims are held until unless renewed
+     * @return Number of renewed entries
+     * @throws FSEventNotificationException  Exception when renewing the leases
+     */
+    int renewOutboxLeases(Connection connection, String workerId, List<String> notificationIds, long leaseExpiry)
+            throws FSEventNotificationException;
+
+    /**
+     * This method is to release outbox entries claimed by a delivery worker, so that they can be claimed again.
+     *
+     * @param connection       Database connection
+     * @param workerId         ID of the delivery worker
+     * @param notificationIds  Notification IDs to release
+     * @return Number of released entries
+     * @throws FSEventNotificationException  Exception when releasing the outbox entries
+     */
+    int releaseOutboxEntries(Connection connection, String workerId, List<String> notificationIds)
+            throws FSEventNotificationException;
+
+    /**
+     * This method is to delete outbox entries claimed by a delivery worker once their notifications are delivered.
+     *
+     * @param connection       Database connection
+     * @param workerId         ID of the delivery worker
+     * @param notificationIds  Notification IDs to delete
+     * @return Number of deleted entries
+     * @throws FSEventNotificationException  Exception when deleting the outbox entries
+     */
+    int deleteOutboxEntries(Connection connection, String workerId, List<String> notificationIds)
+            throws FSEventNotificationException;
+
 }
@@ -33,7 +33,13 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+
+import static java.sql.Statement.EXECUTE_FAILED;
 
 /**
  * Persisting event notifications to database.
@@ -169,6 +175,104 @@ public class EventNotificationDAOImpl implements EventNotificationDAO {
         }
     }
 
+    @Override
+    public int updateNotificationStatusByIds(Connection connection, List<String> notificationIds,
+                                             String notificationStatus) throws FSEventNotificationException {
+
+        int updatedCount = 0;
+        long currentTimestamp = System.currentTimeMillis() / 1000;
+        int batchSize = EventNotificationConstants.IN_CLAUSE_BATCH_SIZE;
+
+        for (int fromIndex = 0; fromIndex < notificationIds.size(); fromIndex += batchSize) {
+            List<String> batchNotificationIds = notificationIds.subList(fromIndex,
+                    Math.min(fromIndex + batchSize, notificationIds.size()));
+            String sql = sqlStatements.updateNotificationStatusQueryByIds(getPlaceholders(batchNotificationIds));
+
+            try (PreparedStatement updateNotificationStatusByIds = connection.prepareStatement(sql)) {
+                updateNotificationStatusByIds.setString(1, notificationStatus);
+                updateNotificationStatusByIds.setLong(2, currentTimestamp);
+                setNotificationIds(updateNotificationStatusByIds, batchNotificationIds, 3);
+                updatedCount += updateNotificationStatusByIds.executeUpdate();
+            } catch (SQLException e) {
+                log.error(EventNotificationConstants.DB_ERROR_NOTIFICATIONS_STATUS_UPDATE, e);
+                throw new FSEventNotificationException(EventNotificationConstants.DB_ERROR_NOTIFICATIONS_STATUS_UPDATE,
+                        e);
+            }
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Updated %d notifications to the status '%s'.", updatedCount,
+                    notificationStatus.replaceAll("[\r\n]", "")));
+        }
+        return updatedCount;
+    }
+
+    @Override
+    public void storeErrorNotifications(Connection connection, List<NotificationError> notificationErrors)
+            throws FSEventNotificationException {
+
+        if (notificationErrors.isEmpty()) {
+            return;
+        }
+        String storeErrorNotificationQuery = sqlStatements.storeErrorNotificationQuery();
+
+        try (PreparedStatement storeErrorNotificationPreparedStatement =
+                     connection.prepareStatement(storeErrorNotificationQuery)) {
+
+            for (NotificationError notificationError : notificationErrors) {
+                storeErrorNotificationPreparedStatement.setString(1, notificationError.getNotificationId());
+                storeErrorNotificationPreparedStatement.setString(2, notificationError.getErrorCode());
+                storeErrorNotificationPreparedStatement.setString(3, notificationError.getErrorDescription());
+                storeErrorNotificationPreparedStatement.addBatch();
+            }
+            int[] affectedRows = storeErrorNotificationPreparedStatement.executeBatch();
+
+            for (int index = 0; index < affectedRows.length; index++) {
+                if (affectedRows[index] == EXECUTE_FAILED) {
+                    throw new FSEventNotificationException(EventNotificationConstants.
+                            DB_FAILED_ERROR_NOTIFICATION_STORING + notificationErrors.get(index).getNotificationId());
+                }
+            }
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Successfully stored %d error notifications.", notificationErrors.size()));
+            }
+        } catch (SQLException e) {
+            throw new FSEventNotificationException(EventNotificationConstants.
+                    DB_ERROR_STORING_ERROR_NOTIFICATION, e);
+        }
+    }
+
+    @Override
+    public Map<String, String> getNotificationStatuses(Connection connection, List<String> notificationIds)
+            throws FSEventNotificationException {
+
+        Map<String, String> notificationStatuses = new HashMap<>();
+        int batchSize = EventNotificationConstants.IN_CLAUSE_BATCH_SIZE;
+
+        for (int fromIndex = 0; fromIndex < notificationIds.size(); fromIndex += batchSize) {
+            List<String> batchNotificationIds = notificationIds.subList(fromIndex,
+                    Math.min(fromIndex + batchSize, notificationIds.size()));
+            String sql = sqlStatements.getNotificationStatusesByNotificationIds(
+                    getPlaceholders(batchNotificationIds));
+
+            try (PreparedStatement getNotificationStatuses = connection.prepareStatement(sql)) {
+                setNotificationIds(getNotificationStatuses, batchNotificationIds, 1);
+                try (ResultSet notificationResultSet = getNotificationStatuses.executeQuery()) {
+                    while (notificationResultSet.next()) {
+                        notificationStatuses.put(notificationResultSet.getString(
+                                EventNotificationConstants.NOTIFICATION_ID), notificationResultSet.getString(
+                                EventNotificationConstants.STATUS));
+                    }
+                }
+            } catch (SQLException e) {
+                log.error(EventNotificationConstants.DB_ERROR_NOTIFICATIONS_STATUS_RETRIEVE, e);
+                throw new FSEventNotificationException(
+                        EventNotificationConstants.DB_ERROR_NOTIFICATIONS_STATUS_RETRIEVE, e);
+            }
+        }
+        return notificationStatuses;
+    }
+
     @Override
     public List<Notification> getNotificationsByClientIdAndStatus(Connection connection, String clientId,
                                                                   String status, int max)
@@ -276,6 +380,50 @@ public class EventNotificationDAOImpl implements EventNotificationDAO {
         return eventList;
     }
 
+    @Override
+    public Map<String, List<NotificationEvent>> getEventsByNotificationIDs(Connection connection,
+                                                                           List<String> notificationIds)
+            throws FSEventNotificationException {
+
+        Map<String, List<NotificationEvent>> eventsByNotificationId = new LinkedHashMap<>();
+        notificationIds.forEach(notificationId -> eventsByNotificationId.put(notificationId, new ArrayList<>()));
+        int batchSize = EventNotificationConstants.IN_CLAUSE_BATCH_SIZE;
+
+        for (int fromIndex = 0; fromIndex < notificationIds.size(); fromIndex += batchSize) {
+            List<String> batchNotificationIds = notificationIds.subList(fromIndex,
+                    Math.min(fromIndex + batchSize, notificationIds.size()));
+            String sql = sqlStatements.getEventsByNotificationIdsQuery(getPlaceholders(batchNotificationIds));
+
+            try (PreparedStatement getEventsPreparedStatement = connection.prepareStatement(sql)) {
+                setNotificationIds(getEventsPreparedStatement, batchNotificationIds, 1);
+
+                try (ResultSet eventsResultSet = getEventsPreparedStatement.executeQuery()) {
+                    while (eventsResultSet.next()) {
+                        NotificationEvent event = new NotificationEvent();
+                        event.setNotificationId(eventsResultSet.getString
+                                (EventNotificationConstants.NOTIFICATION_ID));
+                        event.setEventType(eventsResultSet.getString
+                                (EventNotificationConstants.EVENT_TYPE));
+                        event.setEventInformation(EventNotificationServiceUtil.
+                                getEventJSONFromString(eventsResultSet.getString
+                                        (EventNotificationConstants.EVENT_INFO)));
+                        eventsByNotificationId.computeIfAbsent(event.getNotificationId(), id -> new ArrayList<>())
+                                .add(event);
+                    }
+                }
+            } catch (SQLException e) {
+                log.error(EventNotificationConstants.DB_ERROR_NOTIFICATIONS_EVENTS_RETRIEVE, e);
+                throw new FSEventNotificationException(
+                        EventNotificationConstants.DB_ERROR_NOTIFICATIONS_EVENTS_RETRIEVE, e);
+            }
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Retrieved events for %d notifications.", notificationIds.size()));
+        }
+        return eventsByNotificationId;
+    }
+
     @Override
     public List<Notification> getNotificationsByStatus(Connection connection, String status)
             throws FSEventNotificationException {
@@ -392,4 +540,173 @@ public class EventNotificationDAOImpl implements EventNotificationDAO {
 
         return false;
     }
+
+    @Override
+    public void storeOutboxEntry(Connection connection, String notificationId) throws FSEventNotificationException {
+
+        String sql = sqlStatements.storeOutboxEntryQuery();
+
+        try (PreparedStatement storeOutboxEntry = connection.prepareStatement(sql)) {
+            storeOutboxEntry.setString(1, notificationId);
+            storeOutboxEntry.setLong(2, System.currentTimeMillis() / 1000);
+            storeOutboxEntry.executeUpdate();
+        } catch (SQLException e) {
+            log.error(EventNotificationConstants.DB_ERROR_OUTBOX_STORE, e);
+            throw new FSEventNotificationException(EventNotificationConstants.DB_ERROR_OUTBOX_STORE, e);
+        }
+    }
+
+    @Override
+    public List<Notification> claimOutboxEntries(Connection connection, String workerId, long leaseExpiry,
+                                                 int maxEntries) throws FSEventNotificationException {
+
+        long currentTime = System.currentTimeMillis();
+        List<String> candidateIds = new ArrayList<>();
+        List<Notification> claimedNotifications = new ArrayList<>();
+
+        try {
+            try (PreparedStatement getClaimableEntries = connection.prepareStatement(
+                    sqlStatements.getClaimableOutboxEntriesQuery())) {
+                getClaimableEntries.setMaxRows(maxEntries);
+                getClaimableEntries.setLong(1, currentTime);
+                try (ResultSet claimableResultSet = getClaimableEntries.executeQuery()) {
+                    while (claimableResultSet.next()) {
+                        candidateIds.add(claimableResultSet.getString(EventNotificationConstants.NOTIFICATION_ID));
+                    }
+                }
+            }
+            if (candidateIds.isEmpty()) {
+                return claimedNotifications;
+            }
+
+            // The lease is re-checked by the update, so an entry claimed concurrently by another worker is skipped.
+            String placeholders = getPlaceholders(candidateIds);
+            try (PreparedStatement claimEntries = connection.prepareStatement(
+                    sqlStatements.claimOutboxEntriesQuery(placeholders))) {
+                claimEntries.setString(1, workerId);
+                claimEntries.setLong(2, leaseExpiry);
+                claimEntries.setLong(3, currentTime);
+                setNotificationIds(claimEntries, candidateIds, 4);
+                claimEntries.executeUpdate();
+            }
+
+            try (PreparedStatement getClaimedNotifications = connection.prepareStatement(
+                    sqlStatements.getClaimedNotificationsQuery(placeholders))) {
+                getClaimedNotifications.setString(1, workerId);
+                getClaimedNotifications.setLong(2, leaseExpiry);
+                setNotificationIds(getClaimedNotifications, candidateIds, 3);
+                try (ResultSet notificationResultSet = getClaimedNotifications.executeQuery()) {
+                    while (notificationResultSet.next()) {
+                        Notification notification = new Notification();
+                        notification.setNotificationId(notificationResultSet.getString
+                                (EventNotificationConstants.NOTIFICATION_ID));
+                        notification.setClientId(notificationResultSet.getString
+                                (EventNotificationConstants.CLIENT_ID));
+                        notification.setResourceId(notificationResultSet.getString
+                                (EventNotificationConstants.RESOURCE_ID));
+                        notification.setStatus(notificationResultSet.getString
+                                (EventNotificationConstants.STATUS));
+                        notification.setUpdatedTimeStamp(notificationResultSet.getLong
+                                (EventNotificationConstants.UPDATED_TIMESTAMP));
+                        claimedNotifications.add(notification);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            log.error(EventNotificationConstants.DB_ERROR_OUTBOX_CLAIM, e);
+            throw new FSEventNotificationException(EventNotificationConstants.DB_ERROR_OUTBOX_CLAIM, e);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Claimed %d of %d outbox entries.", claimedNotifications.size(),
+                    candidateIds.size()));
+        }
+        return claimedNotifications;
+    }
+
+    @Override
+    public int renewOutboxLeases(Connection connection, String workerId, List<String> notificationIds,
+                                 long leaseExpiry) throws FSEventNotificationException {
+
+        int renewedCount = 0;
+        int batchSize = EventNotificationConstants.IN_CLAUSE_BATCH_SIZE;
+
+        for (int fromIndex = 0; fromIndex < notificationIds.size(); fromIndex += batchSize) {
+            List<String> batchNotificationIds = notificationIds.subList(fromIndex,
+                    Math.min(fromIndex + batchSize, notificationIds.size()));
+            String sql = sqlStatements.renewOutboxLeasesQuery(getPlaceholders(batchNotificationIds));
+
+            try (PreparedStatement renewOutboxLeases = connection.prepareStatement(sql)) {
+                renewOutboxLeases.setLong(1, leaseExpiry);
+                renewOutboxLeases.setString(2, workerId);
+                setNotificationIds(renewOutboxLeases, batchNotificationIds, 3);
+                renewedCount += renewOutboxLeases.executeUpdate();
+            } catch (SQLException e) {
+                log.error(EventNotificationConstants.DB_ERROR_OUTBOX_RENEW, e);
+                throw new FSEventNotificationException(EventNotificationConstants.DB_ERROR_OUTBOX_RENEW, e);
+            }
+        }
+        return renewedCount;
+    }
+
+    @Override
+    public int releaseOutboxEntries(Connection connection, String workerId, List<String> notificationIds)
+            throws FSEventNotificationException {
+
+        int releasedCount = 0;
+        int batchSize = EventNotificationConstants.IN_CLAUSE_BATCH_SIZE;
+
+        for (int fromIndex = 0; fromIndex < notificationIds.size(); fromIndex += batchSize) {
+            List<String> batchNotificationIds = notificationIds.subList(fromIndex,
+                    Math.min(fromIndex + batchSize, notificationIds.size()));
+            String sql = sqlStatements.releaseOutboxEntriesQuery(getPlaceholders(batchNotificationIds));
+
+            try (PreparedStatement releaseOutboxEntries = connection.prepareStatement(sql)) {
+                releaseOutboxEntries.setString(1, workerId);
+                setNotificationIds(releaseOutboxEntries, batchNotificationIds, 2);
+                releasedCount += releaseOutboxEntries.executeUpdate();
+            } catch (SQLException e) {
+                log.error(EventNotificationConstants.DB_ERROR_OUTBOX_RELEASE, e);
+                throw new FSEventNotificationException(EventNotificationConstants.DB_ERROR_OUTBOX_RELEASE, e);
+            }
+        }
+        return releasedCount;
+    }
+
+    @Override
+    public int deleteOutboxEntries(Connection connection, String workerId, List<String> notificationIds)
+            throws FSEventNotificationException {
+
+        int deletedCount = 0;
+        int batchSize = EventNotificationConstants.IN_CLAUSE_BATCH_SIZE;
+
+        for (int fromIndex = 0; fromIndex < notificationIds.size(); fromIndex += batchSize) {
+            List<String> batchNotificationIds = notificationIds.subList(fromIndex,
+                    Math.min(fromIndex + batchSize, notificationIds.size()));
+            String sql = sqlStatements.deleteOutboxEntriesQuery(getPlaceholders(batchNotificationIds));
+
+            try (PreparedStatement deleteOutboxEntries = connection.prepareStatement(sql)) {
+                deleteOutboxEntries.setString(1, workerId);
+                setNotificationIds(deleteOutboxEntries, batchNotificationIds, 2);
+                deletedCount += deleteOutboxEntries.executeUpdate();
+            } catch (SQLException e) {
+                log.error(EventNotificationConstants.DB_ERROR_OUTBOX_DELETE, e);
+                throw new FSEventNotificationException(EventNotificationConstants.DB_ERROR_OUTBOX_DELETE, e);
+            }
+        }
+        return deletedCount;
+    }
+
+    protected static String getPlaceholders(List<String> notificationIds) {
+
+        return String.join(",", Collections.nCopies(notificationIds.size(), "?"));
+    }
+
+    protected static void setNotificationIds(PreparedStatement preparedStatement, List<String> notificationIds,
+                                             int firstParameterIndex) throws SQLException {
+
+        for (int index = 0; index < notificationIds.size(); index++) {
+            preparedStatement.setString(firstParameterIndex + index, notificationIds.get(index));
+        }
+    }
 }
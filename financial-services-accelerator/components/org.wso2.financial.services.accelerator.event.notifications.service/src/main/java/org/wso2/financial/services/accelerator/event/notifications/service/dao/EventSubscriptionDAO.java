@@ -22,7 +22,9 @@ import org.wso2.financial.services.accelerator.event.notifications.service.excep
 import org.wso2.financial.services.accelerator.event.notifications.service.model.EventSubscription;
 
 import java.sql.Connection;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Event Notification Subscription DAO interface.
@@ -74,6 +76,18 @@ public interface EventSubscriptionDAO {
     List<EventSubscription> getEventSubscriptionsByClientId(Connection connection, String clientId)
             throws FSEventNotificationException;
 
+    /**
+     * This method is used to retrieve all event subscriptions of a set of clients.
+     *
+     * @param connection Database connection.
+     * @param clientIds Client IDs.
+     * @return EventSubscription models by client ID, a client without subscriptions is mapped to an empty list.
+     * @throws FSEventNotificationException  Exception when retrieving event subscriptions by client IDs
+     */
+    Map<String, List<EventSubscription>> getEventSubscriptionsByClientIds(Connection connection,
+                                                                          Collection<String> clientIds)
+            throws FSEventNotificationException;
+
     /**
      * This method is used to retrieve all event subscriptions by event type.
      *
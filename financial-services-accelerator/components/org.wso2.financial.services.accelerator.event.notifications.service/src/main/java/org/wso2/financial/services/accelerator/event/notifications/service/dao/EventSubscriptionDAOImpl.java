@@ -31,7 +31,11 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static java.sql.Statement.EXECUTE_FAILED;
@@ -185,6 +189,57 @@ public class EventSubscriptionDAOImpl implements EventSubscriptionDAO {
         }
     }
 
+    @Override
+    public Map<String, List<EventSubscription>> getEventSubscriptionsByClientIds(Connection connection,
+                                                                                 Collection<String> clientIds)
+            throws FSEventNotificationException {
+
+        Map<String, List<EventSubscription>> subscriptionsByClientId = new LinkedHashMap<>();
+        clientIds.forEach(clientId -> subscriptionsByClientId.put(clientId, new ArrayList<>()));
+        List<String> distinctClientIds = new ArrayList<>(subscriptionsByClientId.keySet());
+        int batchSize = EventNotificationConstants.IN_CLAUSE_BATCH_SIZE;
+
+        for (int fromIndex = 0; fromIndex < distinctClientIds.size(); fromIndex += batchSize) {
+            List<String> batchClientIds = distinctClientIds.subList(fromIndex,
+                    Math.min(fromIndex + batchSize, distinctClientIds.size()));
+            final String sql = sqlStatements.getEventSubscriptionsByClientIdsQuery(
+                    String.join(",", Collections.nCopies(batchClientIds.size(), "?")));
+
+            try (PreparedStatement getEventSubscriptionsByClientIdsStatement = connection.prepareStatement(sql)) {
+                for (int index = 0; index < batchClientIds.size(); index++) {
+                    getEventSubscriptionsByClientIdsStatement.setString(index + 1, batchClientIds.get(index));
+                }
+                // Rows of a subscription are one per subscribed event type, so they are grouped by subscription ID.
+                Map<String, EventSubscription> subscriptionsById = new LinkedHashMap<>();
+                try (ResultSet resultSet = getEventSubscriptionsByClientIdsStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        EventSubscription eventSubscription = subscriptionsById.get(
+                                resultSet.getString(EventNotificationConstants.SUBSCRIPTION_ID));
+                        if (eventSubscription == null) {
+                            eventSubscription = new EventSubscription();
+                            mapResultSetToEventSubscription(eventSubscription, resultSet);
+                            eventSubscription.setEventTypes(new ArrayList<>());
+                            subscriptionsById.put(eventSubscription.getSubscriptionId(), eventSubscription);
+                        }
+                        String eventType = resultSet.getString(EventNotificationConstants.EVENT_TYPE);
+                        if (eventType != null) {
+                            eventSubscription.getEventTypes().add(eventType);
+                        }
+                    }
+                }
+                for (EventSubscription eventSubscription : subscriptionsById.values()) {
+                    subscriptionsByClientId.computeIfAbsent(eventSubscription.getClientId(),
+                            clientId -> new ArrayList<>()).add(eventSubscription);
+                }
+            } catch (SQLException e) {
+                log.error("SQL exception when retrieving the event notification subscriptions.", e);
+                throw new FSEventNotificationException(EventNotificationConstants.ERROR_RETRIEVING_EVENT_SUBSCRIPTIONS);
+            }
+        }
+        log.debug("Retrieved the event notification subscriptions of the clients successfully.");
+        return subscriptionsByClientId;
+    }
+
     @Override
     public List<EventSubscription> getEventSubscriptionsByEventType(Connection connection, String eventType)
             throws FSEventNotificationException {
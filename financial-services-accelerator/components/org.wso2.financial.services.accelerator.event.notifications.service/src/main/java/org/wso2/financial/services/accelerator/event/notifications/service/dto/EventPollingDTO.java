@@ -30,8 +30,8 @@ import java.util.Map;
  */
 public class EventPollingDTO {
 
-    //Set to true by default as WSO2 Financial Services don't support long polling
-    private final Boolean returnImmediately = true;
+    //Set to true by default as long polling is only served when enabled in the configuration
+    private Boolean returnImmediately = true;
     private String clientId = null;
     private int maxEvents = 0;
     private List<String> ack = new ArrayList<String>();
@@ -49,6 +49,10 @@ public class EventPollingDTO {
         return returnImmediately;
     }
 
+    public void setReturnImmediately(Boolean returnImmediately) {
+        this.returnImmediately = returnImmediately;
+    }
+
     public int getMaxEvents() {
         return maxEvents;
     }
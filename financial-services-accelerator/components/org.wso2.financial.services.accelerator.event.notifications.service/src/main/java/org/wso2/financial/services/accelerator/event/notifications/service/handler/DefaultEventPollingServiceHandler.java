@@ -43,6 +43,8 @@ import org.wso2.financial.services.accelerator.event.notifications.service.util.
 
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * This is the service handler for event polling.
@@ -66,48 +68,105 @@ public class DefaultEventPollingServiceHandler implements EventPollingServiceHan
      */
     public EventPollingResponse pollEvents(EventPollingDTO eventPollingDTO) {
 
-        EventPollingResponse eventPollingResponse = new EventPollingResponse();
-
-        EventPollingResponse clientIdValidation = validateClientId(eventPollingDTO.getClientId());
-        // check whether clientIdValidation is not null, then return the error response
-        if (clientIdValidation != null) {
-            return clientIdValidation;
+        EventPolling eventPolling = mapEventPollingDtoToModel(eventPollingDTO);
+        //Poll events
+        try {
+            EventPollingResponse validationResponse = validatePollingRequest(eventPollingDTO, eventPolling);
+            if (validationResponse != null) {
+                return validationResponse;
+            }
+            return getEventPollingResponse(eventPollingService.pollEvents(eventPolling));
+        } catch (FSEventNotificationException e) {
+            return getErrorResponse(e);
         }
+    }
+
+    /**
+     * This method is used to Poll Events as per request params without blocking the calling
+     * thread while a long polling request waits for notifications.
+     * @param eventPollingDTO Event polling DTO
+     * @return  future completed with the EventPollingResponse
+     */
+    @Override
+    public CompletableFuture<EventPollingResponse> pollEventsAsync(EventPollingDTO eventPollingDTO) {
 
         EventPolling eventPolling = mapEventPollingDtoToModel(eventPollingDTO);
-        //Poll events
         try {
+            EventPollingResponse validationResponse = validatePollingRequest(eventPollingDTO, eventPolling);
+            if (validationResponse != null) {
+                return CompletableFuture.completedFuture(validationResponse);
+            }
+        } catch (FSEventNotificationException e) {
+            return CompletableFuture.completedFuture(getErrorResponse(e));
+        }
 
-            if (Boolean.parseBoolean(configs.get(FinancialServicesConstants.REQUIRE_SUBSCRIPTION_TO_POLL).toString()) &&
-                    !EventNotificationServiceUtil.isSubscriptionExist(new EventSubscriptionService(),
-                            eventPollingDTO.getClientId())) {
-                if (log.isDebugEnabled()) {
-                    log.debug(String.format("'%s' with clientId '%s'.", EventNotificationConstants.SUBSCRIPTION_EXISTS,
-                            eventPollingDTO.getClientId().replaceAll("[\r\n]", "")));
+        return eventPollingService.pollEventsAsync(eventPolling).handle((aggregatedPollingResponse, e) -> {
+            Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+            try {
+                if (cause instanceof FSEventNotificationException) {
+                    throw (FSEventNotificationException) cause;
+                } else if (cause != null) {
+                    throw new FSEventNotificationException("Error when retrieving FS event notifications.", cause);
                 }
-                eventPollingResponse.setStatus(HttpStatus.SC_CONFLICT);
-                eventPollingResponse.setResponseBody(EventNotificationServiceUtil.getErrorDTO(
-                        EventNotificationConstants.INVALID_REQUEST,
-                        EventNotificationConstants.SUBSCRIPTION_RESOURCE_NOT_FOUND));
-                return eventPollingResponse;
+                return getEventPollingResponse(aggregatedPollingResponse);
+            } catch (FSEventNotificationException ex) {
+                return getErrorResponse(ex);
             }
+        });
+    }
 
-            EventPollingResponse validationResponse = handleValidation(new JSONObject(eventPolling));
-            if (validationResponse != null) {
-                return validationResponse;
-            }
-            AggregatedPollingResponse aggregatedPollingResponse = eventPollingService.pollEvents(eventPolling);
+    /**
+     * Validate the client ID, the subscription of the client and the polling request.
+     *
+     * @param eventPollingDTO  Event polling DTO
+     * @param eventPolling     Event polling model
+     * @return EventPollingResponse if the request is invalid, null otherwise
+     * @throws FSEventNotificationException Exception when invoking the validation
+     */
+    private EventPollingResponse validatePollingRequest(EventPollingDTO eventPollingDTO, EventPolling eventPolling)
+            throws FSEventNotificationException {
 
-            eventPollingResponse.setStatus(aggregatedPollingResponse.getStatus());
-            eventPollingResponse.setResponseBody(handleResponseGeneration(aggregatedPollingResponse));
-            return eventPollingResponse;
-        } catch (FSEventNotificationException e) {
-            log.error("Error occurred while polling events" , e);
-            eventPollingResponse.setStatus(e.getStatus() == 0 ? HttpStatus.SC_INTERNAL_SERVER_ERROR : e.getStatus());
-            eventPollingResponse.setErrorResponse(EventNotificationServiceUtil.getErrorDTO(
-                    EventNotificationConstants.INVALID_REQUEST, e.getMessage()));
+        EventPollingResponse clientIdValidation = validateClientId(eventPollingDTO.getClientId());
+        // check whether clientIdValidation is not null, then return the error response
+        if (clientIdValidation != null) {
+            return clientIdValidation;
+        }
+
+        if (Boolean.parseBoolean(configs.get(FinancialServicesConstants.REQUIRE_SUBSCRIPTION_TO_POLL).toString()) &&
+                !EventNotificationServiceUtil.isSubscriptionExist(new EventSubscriptionService(),
+                        eventPollingDTO.getClientId())) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("'%s' with clientId '%s'.", EventNotificationConstants.SUBSCRIPTION_EXISTS,
+                        eventPollingDTO.getClientId().replaceAll("[\r\n]", "")));
+            }
+            EventPollingResponse eventPollingResponse = new EventPollingResponse();
+            eventPollingResponse.setStatus(HttpStatus.SC_CONFLICT);
+            eventPollingResponse.setResponseBody(EventNotificationServiceUtil.getErrorDTO(
+                    EventNotificationConstants.INVALID_REQUEST,
+                    EventNotificationConstants.SUBSCRIPTION_RESOURCE_NOT_FOUND));
             return eventPollingResponse;
         }
+
+        return handleValidation(new JSONObject(eventPolling));
+    }
+
+    private EventPollingResponse getEventPollingResponse(AggregatedPollingResponse aggregatedPollingResponse)
+            throws FSEventNotificationException {
+
+        EventPollingResponse eventPollingResponse = new EventPollingResponse();
+        eventPollingResponse.setStatus(aggregatedPollingResponse.getStatus());
+        eventPollingResponse.setResponseBody(handleResponseGeneration(aggregatedPollingResponse));
+        return eventPollingResponse;
+    }
+
+    private EventPollingResponse getErrorResponse(FSEventNotificationException e) {
+
+        log.error("Error occurred while polling events" , e);
+        EventPollingResponse eventPollingResponse = new EventPollingResponse();
+        eventPollingResponse.setStatus(e.getStatus() == 0 ? HttpStatus.SC_INTERNAL_SERVER_ERROR : e.getStatus());
+        eventPollingResponse.setErrorResponse(EventNotificationServiceUtil.getErrorDTO(
+                EventNotificationConstants.INVALID_REQUEST, e.getMessage()));
+        return eventPollingResponse;
     }
 
     /**
@@ -137,6 +196,9 @@ public class DefaultEventPollingServiceHandler implements EventPollingServiceHan
         responseJSON.put(EventNotificationConstants.SETS, aggregatedPollingResponse.getSets());
         responseJSON.put(EventNotificationConstants.MORE_AVAILABLE,
                 aggregatedPollingResponse.isMoreAvailable());
+        if (!aggregatedPollingResponse.getSetOutcomes().isEmpty()) {
+            responseJSON.put(EventNotificationConstants.SET_OUTCOMES, aggregatedPollingResponse.getSetOutcomes());
+        }
         return responseJSON;
     }
 
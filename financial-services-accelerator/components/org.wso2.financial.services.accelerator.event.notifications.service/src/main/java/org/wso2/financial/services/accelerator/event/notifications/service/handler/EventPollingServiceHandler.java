@@ -21,6 +21,8 @@ package org.wso2.financial.services.accelerator.event.notifications.service.hand
 import org.wso2.financial.services.accelerator.event.notifications.service.dto.EventPollingDTO;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.EventPollingResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * EventPolling Service handler is used to validate and map the polling request to the DTO before calling the
  * polling service. For custom validations this class can be extended and the extended class
@@ -36,4 +38,16 @@ public interface EventPollingServiceHandler {
      */
     EventPollingResponse pollEvents(EventPollingDTO eventPollingDTO);
 
+    /**
+     * This method polls events without blocking the calling thread while a long polling
+     * request waits for notifications. Handlers that do not support long polling respond
+     * immediately.
+     * @param eventPollingDTO  Event polling DTO
+     * @return future completed with the EventPollingResponse to the polling endpoint.
+     */
+    default CompletableFuture<EventPollingResponse> pollEventsAsync(EventPollingDTO eventPollingDTO) {
+
+        return CompletableFuture.completedFuture(pollEvents(eventPollingDTO));
+    }
+
 }
@@ -23,14 +23,16 @@ import org.apache.commons.logging.LogFactory;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.oauth2.OAuth2Service;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigurationService;
-import org.wso2.financial.services.accelerator.event.notifications.service.realtime.service.RealtimeEventNotificationLoaderService;
-import org.wso2.financial.services.accelerator.event.notifications.service.realtime.util.activator.PeriodicalEventNotificationConsumerJobActivator;
+import org.wso2.financial.services.accelerator.event.notifications.service.polling.PendingEventPollRegistry;
+import org.wso2.financial.services.accelerator.event.notifications.service.realtime.service.RealtimeEventNotificationDeliveryEngine;
+import org.wso2.financial.services.accelerator.event.notifications.service.realtime.service.RealtimeEventNotificationOutboxWorker;
 
 /**
  * The Component class for activating event notification osgi service.
@@ -49,16 +51,23 @@ public class EventNotificationComponent {
         // Check if realtime event notification enabled
         if (FinancialServicesConfigParser.getInstance().isRealtimeEventNotificationEnabled()) {
             /*
-             * Initialize the blocking queue for storing the realtime event notifications
-             * Initialize the quartz job for consuming the realtime event notifications
-             * Initialize the thread for producing the open state realtime event notifications
+             * Start the worker delivering the realtime event notifications stored in the outbox.
+             * Notifications left in the outbox by a previous run are claimed once their leases expire.
              */
             log.debug("Realtime Event Notification Service Activated");
-            new Thread(new RealtimeEventNotificationLoaderService()).start();
-            new PeriodicalEventNotificationConsumerJobActivator().activate();
+            RealtimeEventNotificationOutboxWorker.getInstance().start();
         }
     }
 
+    @Deactivate
+    protected void deactivate(ComponentContext context) {
+
+        RealtimeEventNotificationOutboxWorker.shutdownInstance();
+        RealtimeEventNotificationDeliveryEngine.shutdownInstance();
+        PendingEventPollRegistry.shutdownInstance();
+        log.debug("Event Notification Service Component Deactivated");
+    }
+
     /**
      * Setters for the descendent OSGI services of the EventNotificationComponent.
      * This is added to run the EventNotification OSGI component after the Common module
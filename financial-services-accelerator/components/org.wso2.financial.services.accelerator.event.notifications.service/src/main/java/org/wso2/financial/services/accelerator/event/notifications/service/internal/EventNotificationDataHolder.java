@@ -21,9 +21,6 @@ package org.wso2.financial.services.accelerator.event.notifications.service.inte
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigurationService;
-import org.wso2.financial.services.accelerator.event.notifications.service.model.RealtimeEventNotification;
-
-import java.util.concurrent.LinkedBlockingQueue;
 
 /**
  * Data holder for Open Banking Event Notifications.
@@ -31,11 +28,9 @@ import java.util.concurrent.LinkedBlockingQueue;
 public class EventNotificationDataHolder {
     private static Log log = LogFactory.getLog(EventNotificationDataHolder.class);
     private static volatile EventNotificationDataHolder instance;
-    private volatile LinkedBlockingQueue<RealtimeEventNotification> realtimeEventNotificationQueue;
     private FinancialServicesConfigurationService configService;
 
     private EventNotificationDataHolder() {
-        this.realtimeEventNotificationQueue = new LinkedBlockingQueue<>();
     }
 
     /**
@@ -54,14 +49,6 @@ public class EventNotificationDataHolder {
         return instance;
     }
 
-    public LinkedBlockingQueue<RealtimeEventNotification> getRealtimeEventNotificationQueue() {
-        return realtimeEventNotificationQueue;
-    }
-
-    public void setRealtimeEventNotificationQueue(LinkedBlockingQueue<RealtimeEventNotification> queue) {
-        this.realtimeEventNotificationQueue = queue;
-    }
-
     public FinancialServicesConfigurationService getConfigService() {
 
         return configService;
@@ -33,6 +33,9 @@ public class AggregatedPollingResponse {
 
     private int status;
 
+    //Outcome of the acknowledgements and errors by notification ID
+    private Map<String, String> setOutcomes = new HashMap<>();
+
     public int getStatus() {
         return status;
     }
@@ -57,6 +60,14 @@ public class AggregatedPollingResponse {
         this.count = count;
     }
 
+    public Map<String, String> getSetOutcomes() {
+        return setOutcomes;
+    }
+
+    public void setSetOutcomes(Map<String, String> setOutcomes) {
+        this.setOutcomes = setOutcomes;
+    }
+
     public Boolean isMoreAvailable() {
         return count > 0;
     }
@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.polling;
+
+import java.util.function.Consumer;
+
+/**
+ * Signal used to wake up the long polling requests parked for a client when a notification is created for the client.
+ * <p>
+ * The default implementation only reaches the polling requests parked on the same node. In a cluster, an
+ * implementation that delivers the signal to every node can be configured under
+ * EventNotifications.LongPolling.WakeUpSignal.
+ */
+public interface EventPollingWakeUpSignal {
+
+    /**
+     * Signal that notifications are available for a client.
+     *
+     * @param clientId client ID of the created notification
+     */
+    void publish(String clientId);
+
+    /**
+     * Register a listener invoked with the client ID whenever the signal is received.
+     *
+     * @param listener listener of the signal
+     */
+    void subscribe(Consumer<String> listener);
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.polling;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Wake-up signal delivered to the listeners registered in the same JVM.
+ */
+public class LocalEventPollingWakeUpSignal implements EventPollingWakeUpSignal {
+
+    private static final Log log = LogFactory.getLog(LocalEventPollingWakeUpSignal.class);
+
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(String clientId) {
+
+        for (Consumer<String> listener : listeners) {
+            try {
+                listener.accept(clientId);
+            } catch (RuntimeException e) {
+                log.error("Error occurred while delivering the event polling wake-up signal", e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,199 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.polling;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+import org.wso2.financial.services.accelerator.common.util.DaemonThreadFactory;
+import org.wso2.financial.services.accelerator.common.util.FinancialServicesUtils;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry of the long polling requests waiting for notifications.
+ * <p>
+ * A waiting request is represented by a future that is completed with true when the wake-up signal is received for
+ * its client, or with false when the wait times out. Neither a request thread nor a database connection is held while
+ * a request waits. The retrieval that follows a wake-up runs on the executor of the registry.
+ */
+public class PendingEventPollRegistry {
+
+    private static final Log log = LogFactory.getLog(PendingEventPollRegistry.class);
+    private static volatile PendingEventPollRegistry instance;
+
+    private final Map<String, Set<CompletableFuture<Boolean>>> pendingPolls = new ConcurrentHashMap<>();
+    private final EventPollingWakeUpSignal wakeUpSignal;
+    private final ScheduledExecutorService timeoutScheduler;
+    private final Executor executor;
+    // The executor is shut down with the registry only if the registry created it
+    private final boolean ownsExecutor;
+
+    public PendingEventPollRegistry(EventPollingWakeUpSignal wakeUpSignal) {
+
+        this(wakeUpSignal, Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()),
+                new DaemonThreadFactory("event-polling-worker")), true);
+    }
+
+    /**
+     * Create a registry running the retrievals that follow a wake-up on the given executor.
+     *
+     * @param wakeUpSignal wake-up signal notifying the clients with new notifications
+     * @param executor     executor running the retrievals, not shut down by the registry
+     */
+    public PendingEventPollRegistry(EventPollingWakeUpSignal wakeUpSignal, Executor executor) {
+
+        this(wakeUpSignal, executor, false);
+    }
+
+    private PendingEventPollRegistry(EventPollingWakeUpSignal wakeUpSignal, Executor executor,
+                                     boolean ownsExecutor) {
+
+        this.wakeUpSignal = wakeUpSignal;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.timeoutScheduler = Executors.newSingleThreadScheduledExecutor(
+                new DaemonThreadFactory("event-polling-timeout"));
+        wakeUpSignal.subscribe(this::wakeUp);
+    }
+
+    /**
+     * Return the registry used by the event polling and event creation services. The wake-up signal is read from the
+     * configuration when the registry is first used.
+     *
+     * @return registry of the long polling requests
+     */
+    public static PendingEventPollRegistry getInstance() {
+
+        if (instance == null) {
+            synchronized (PendingEventPollRegistry.class) {
+                if (instance == null) {
+                    instance = new PendingEventPollRegistry(FinancialServicesUtils.getClassInstanceFromFQN(
+                            FinancialServicesConfigParser.getInstance().getLongPollingWakeUpSignal(),
+                            EventPollingWakeUpSignal.class));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Shut down the registry used by the event polling and event creation services, if it has been created.
+     */
+    public static void shutdownInstance() {
+
+        synchronized (PendingEventPollRegistry.class) {
+            if (instance != null) {
+                instance.shutdown();
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Register a request waiting for notifications of a client. The returned future is removed from the registry
+     * once it is completed or cancelled.
+     *
+     * @param clientId      client ID
+     * @param timeoutMillis maximum time to wait in milliseconds
+     * @return future completed with true when woken up, or with false when the wait times out
+     */
+    public CompletableFuture<Boolean> register(String clientId, long timeoutMillis) {
+
+        CompletableFuture<Boolean> pendingPoll = new CompletableFuture<>();
+        pendingPolls.compute(clientId, (key, polls) -> {
+            Set<CompletableFuture<Boolean>> clientPolls = polls == null ? ConcurrentHashMap.newKeySet() : polls;
+            clientPolls.add(pendingPoll);
+            return clientPolls;
+        });
+        ScheduledFuture<?> timeout = timeoutScheduler.schedule(() -> pendingPoll.complete(false),
+                timeoutMillis, TimeUnit.MILLISECONDS);
+        pendingPoll.whenComplete((woken, e) -> {
+            timeout.cancel(false);
+            pendingPolls.computeIfPresent(clientId, (key, polls) -> {
+                polls.remove(pendingPoll);
+                return polls.isEmpty() ? null : polls;
+            });
+        });
+        return pendingPoll;
+    }
+
+    /**
+     * Signal that notifications are available for a client.
+     *
+     * @param clientId client ID
+     */
+    public void notifyClient(String clientId) {
+
+        wakeUpSignal.publish(clientId);
+    }
+
+    /**
+     * Stop the timeout scheduler and the executor created by the registry. The requests still waiting are completed
+     * as timed out, so that they respond without notifications.
+     */
+    public void shutdown() {
+
+        log.debug("Shutting down the event polling registry");
+        timeoutScheduler.shutdownNow();
+        if (ownsExecutor && executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdown();
+        }
+        for (Set<CompletableFuture<Boolean>> polls : pendingPolls.values()) {
+            for (CompletableFuture<Boolean> pendingPoll : polls) {
+                pendingPoll.complete(false);
+            }
+        }
+    }
+
+    public Executor getExecutor() {
+
+        return executor;
+    }
+
+    public int getPendingPollCount(String clientId) {
+
+        Set<CompletableFuture<Boolean>> polls = pendingPolls.get(clientId);
+        return polls == null ? 0 : polls.size();
+    }
+
+    private void wakeUp(String clientId) {
+
+        Set<CompletableFuture<Boolean>> polls = pendingPolls.get(clientId);
+        if (polls == null) {
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Waking up %d event polling requests of the client with ID : '%s'.",
+                    polls.size(), clientId.replaceAll("[\r\n]", "")));
+        }
+        for (CompletableFuture<Boolean> pendingPoll : polls) {
+            pendingPoll.complete(true);
+        }
+    }
+}
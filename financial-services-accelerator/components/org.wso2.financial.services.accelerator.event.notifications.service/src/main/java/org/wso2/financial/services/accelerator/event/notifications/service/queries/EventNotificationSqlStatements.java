@@ -39,6 +39,11 @@ public class EventNotificationSqlStatements {
         return "SELECT * FROM FS_NOTIFICATION_EVENT WHERE NOTIFICATION_ID = ?";
     }
 
+    public String getEventsByNotificationIdsQuery(String notificationIdPlaceholders) {
+
+        return "SELECT * FROM FS_NOTIFICATION_EVENT WHERE NOTIFICATION_ID IN (" + notificationIdPlaceholders + ")";
+    }
+
     public String getMaxNotificationsQuery() {
 
         return "SELECT * FROM FS_NOTIFICATION WHERE CLIENT_ID = ? AND STATUS = ? LIMIT ?";
@@ -59,6 +64,18 @@ public class EventNotificationSqlStatements {
         return "UPDATE FS_NOTIFICATION SET STATUS = ?, UPDATED_TIMESTAMP= ? WHERE NOTIFICATION_ID = ?";
     }
 
+    public String updateNotificationStatusQueryByIds(String notificationIdPlaceholders) {
+
+        return "UPDATE FS_NOTIFICATION SET STATUS = ?, UPDATED_TIMESTAMP= ? WHERE NOTIFICATION_ID IN (" +
+                notificationIdPlaceholders + ")";
+    }
+
+    public String getNotificationStatusesByNotificationIds(String notificationIdPlaceholders) {
+
+        return "SELECT NOTIFICATION_ID, STATUS FROM FS_NOTIFICATION WHERE NOTIFICATION_ID IN (" +
+                notificationIdPlaceholders + ")";
+    }
+
     public String getNotificationByNotificationId() {
 
         return "SELECT NOTIFICATION_ID, STATUS FROM FS_NOTIFICATION WHERE NOTIFICATION_ID = ?";
@@ -68,4 +85,49 @@ public class EventNotificationSqlStatements {
 
         return "SELECT * FROM FS_NOTIFICATION WHERE STATUS = ?";
     }
+
+    public String storeOutboxEntryQuery() {
+
+        return "INSERT INTO FS_NOTIFICATION_OUTBOX (NOTIFICATION_ID, CLAIMED_BY, LEASE_EXPIRY, CREATED_TIMESTAMP) " +
+                "VALUES (?, NULL, 0, ?)";
+    }
+
+    public String getClaimableOutboxEntriesQuery() {
+
+        return "SELECT O.NOTIFICATION_ID FROM FS_NOTIFICATION_OUTBOX O JOIN FS_NOTIFICATION N " +
+                "ON N.NOTIFICATION_ID = O.NOTIFICATION_ID WHERE O.LEASE_EXPIRY < ? AND N.STATUS = 'OPEN' " +
+                "ORDER BY O.LEASE_EXPIRY";
+    }
+
+    public String claimOutboxEntriesQuery(String notificationIdPlaceholders) {
+
+        return "UPDATE FS_NOTIFICATION_OUTBOX SET CLAIMED_BY = ?, LEASE_EXPIRY = ? WHERE LEASE_EXPIRY < ? " +
+                "AND NOTIFICATION_ID IN (" + notificationIdPlaceholders + ")";
+    }
+
+    public String getClaimedNotificationsQuery(String notificationIdPlaceholders) {
+
+        return "SELECT N.NOTIFICATION_ID, N.CLIENT_ID, N.RESOURCE_ID, N.STATUS, N.UPDATED_TIMESTAMP " +
+                "FROM FS_NOTIFICATION_OUTBOX O JOIN FS_NOTIFICATION N ON N.NOTIFICATION_ID = O.NOTIFICATION_ID " +
+                "WHERE O.CLAIMED_BY = ? AND O.LEASE_EXPIRY = ? AND O.NOTIFICATION_ID IN (" +
+                notificationIdPlaceholders + ")";
+    }
+
+    public String renewOutboxLeasesQuery(String notificationIdPlaceholders) {
+
+        return "UPDATE FS_NOTIFICATION_OUTBOX SET LEASE_EXPIRY = ? WHERE CLAIMED_BY = ? AND NOTIFICATION_ID IN (" +
+                notificationIdPlaceholders + ")";
+    }
+
+    public String releaseOutboxEntriesQuery(String notificationIdPlaceholders) {
+
+        return "UPDATE FS_NOTIFICATION_OUTBOX SET CLAIMED_BY = NULL, LEASE_EXPIRY = 0 WHERE CLAIMED_BY = ? " +
+                "AND NOTIFICATION_ID IN (" + notificationIdPlaceholders + ")";
+    }
+
+    public String deleteOutboxEntriesQuery(String notificationIdPlaceholders) {
+
+        return "DELETE FROM FS_NOTIFICATION_OUTBOX WHERE CLAIMED_BY = ? AND NOTIFICATION_ID IN (" +
+                notificationIdPlaceholders + ")";
+    }
 }
@@ -46,6 +46,13 @@ public class EventSubscriptionSqlStatements {
                 "ns.CLIENT_ID = ? AND ns.STATUS = 'CREATED'";
     }
 
+    public String getEventSubscriptionsByClientIdsQuery(String clientIdPlaceholders) {
+        return "SELECT ns.SUBSCRIPTION_ID, ns.CLIENT_ID, ns.REQUEST, ns.CALLBACK_URL, ns.TIMESTAMP, ns.SPEC_VERSION, " +
+                "ns.STATUS, nse.EVENT_TYPE FROM FS_NOTIFICATION_SUBSCRIPTION ns LEFT JOIN " +
+                "FS_NOTIFICATION_SUBSCRIBED_EVENTS nse ON ns.SUBSCRIPTION_ID = nse.SUBSCRIPTION_ID WHERE " +
+                "ns.CLIENT_ID IN (" + clientIdPlaceholders + ") AND ns.STATUS = 'CREATED'";
+    }
+
     public String getEventSubscriptionsByEventTypeQuery() {
         return "SELECT ns.SUBSCRIPTION_ID, ns.CLIENT_ID, ns.REQUEST, ns.CALLBACK_URL, ns.TIMESTAMP, ns.SPEC_VERSION, " +
                 "ns.STATUS, nse.EVENT_TYPE FROM FS_NOTIFICATION_SUBSCRIPTION ns LEFT JOIN " +
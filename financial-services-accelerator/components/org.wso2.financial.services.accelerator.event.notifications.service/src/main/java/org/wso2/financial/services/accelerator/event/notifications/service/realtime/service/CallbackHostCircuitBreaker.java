@@ -0,0 +1,201 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.realtime.service;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Circuit breaker of a single callback host, shared by every notification delivered to that host.
+ * <p>
+ * While closed, the outcomes of the recent requests are kept in a sliding window and the breaker opens once the
+ * window is full and its failure rate reaches the threshold. While open, no request is permitted until the wait
+ * duration elapses. The breaker then becomes half open and permits a limited number of probe requests. It closes
+ * when all the probes succeed and opens again when any of them fails.
+ */
+public class CallbackHostCircuitBreaker {
+
+    private static final Log log = LogFactory.getLog(CallbackHostCircuitBreaker.class);
+
+    /**
+     * States of a callback host circuit breaker.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String host;
+    private final int failureRateThreshold;
+    private final long waitDurationInOpenStateMillis;
+    private final int permittedCallsInHalfOpenState;
+    private final boolean[] slidingWindow;
+
+    private State state = State.CLOSED;
+    private int windowPosition;
+    private int recordedCalls;
+    private int recordedFailures;
+    private long openedTime;
+    private int permittedProbes;
+    private int successfulProbes;
+    private long tripCount;
+    private long rejectedCount;
+
+    public CallbackHostCircuitBreaker(String host, int failureRateThreshold, int slidingWindowSize,
+                                      long waitDurationInOpenStateMillis, int permittedCallsInHalfOpenState) {
+
+        this.host = host.replaceAll("[\r\n]", "");
+        this.failureRateThreshold = failureRateThreshold;
+        this.waitDurationInOpenStateMillis = waitDurationInOpenStateMillis;
+        this.permittedCallsInHalfOpenState = Math.max(1, permittedCallsInHalfOpenState);
+        this.slidingWindow = new boolean[Math.max(1, slidingWindowSize)];
+    }
+
+    /**
+     * Check whether a request may be sent to the host. A permitted request must be followed by a call to
+     * {@link #onSuccess()} or {@link #onFailure()}.
+     *
+     * @return true if the request is permitted
+     */
+    public synchronized boolean tryAcquirePermission() {
+
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedTime < waitDurationInOpenStateMillis) {
+                rejectedCount++;
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (permittedProbes >= permittedCallsInHalfOpenState) {
+                rejectedCount++;
+                return false;
+            }
+            permittedProbes++;
+        }
+        return true;
+    }
+
+    /**
+     * Record a request the host responded to.
+     */
+    public synchronized void onSuccess() {
+
+        if (state == State.HALF_OPEN) {
+            successfulProbes++;
+            if (successfulProbes >= permittedCallsInHalfOpenState) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    /**
+     * Record a request the host failed to respond to.
+     */
+    public synchronized void onFailure() {
+
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recordedCalls == slidingWindow.length
+                    && recordedFailures * 100 >= failureRateThreshold * recordedCalls) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    /**
+     * Get the time left until probe requests are permitted.
+     *
+     * @return remaining time in milliseconds, or 0 if the breaker is not open
+     */
+    public synchronized long getRemainingOpenMillis() {
+
+        if (state != State.OPEN) {
+            return 0;
+        }
+        return Math.max(0, waitDurationInOpenStateMillis - (System.currentTimeMillis() - openedTime));
+    }
+
+    public synchronized State getState() {
+
+        return state;
+    }
+
+    /**
+     * Get the failure rate of the requests in the sliding window.
+     *
+     * @return failure rate as a percentage
+     */
+    public synchronized float getFailureRate() {
+
+        return recordedCalls == 0 ? 0 : recordedFailures * 100f / recordedCalls;
+    }
+
+    public synchronized long getTripCount() {
+
+        return tripCount;
+    }
+
+    public synchronized long getRejectedCount() {
+
+        return rejectedCount;
+    }
+
+    private void record(boolean failure) {
+
+        if (recordedCalls == slidingWindow.length) {
+            if (slidingWindow[windowPosition]) {
+                recordedFailures--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        slidingWindow[windowPosition] = failure;
+        if (failure) {
+            recordedFailures++;
+        }
+        windowPosition = (windowPosition + 1) % slidingWindow.length;
+    }
+
+    private void transitionTo(State newState) {
+
+        if (newState == State.OPEN) {
+            openedTime = System.currentTimeMillis();
+            tripCount++;
+            log.warn(String.format("Circuit breaker of the callback host %s opened. Trip count: %d", host,
+                    tripCount));
+        } else if (newState == State.HALF_OPEN) {
+            permittedProbes = 0;
+            successfulProbes = 0;
+        } else {
+            windowPosition = 0;
+            recordedCalls = 0;
+            recordedFailures = 0;
+            log.info(String.format("Circuit breaker of the callback host %s closed.", host));
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Circuit breaker of the callback host %s moved from %s to %s.", host, state,
+                    newState));
+        }
+        state = newState;
+    }
+}
@@ -0,0 +1,503 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.realtime.service;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+import org.json.JSONObject;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+import org.wso2.financial.services.accelerator.common.util.DaemonThreadFactory;
+import org.wso2.financial.services.accelerator.common.util.HTTPClientUtils;
+import org.wso2.financial.services.accelerator.event.notifications.service.RealtimeNotificationService;
+import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationConstants;
+import org.wso2.financial.services.accelerator.event.notifications.service.exception.FSEventNotificationException;
+import org.wso2.financial.services.accelerator.event.notifications.service.util.EventNotificationServiceUtil;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers realtime event notifications to the TPP provided callback URLs.
+ * <p>
+ * Failed deliveries are not retried by sleeping on a worker thread. Each retry is placed on a delay queue and handed
+ * back to the workers once its backoff elapses. The number of requests in flight to a single callback host is
+ * bounded, and the deliveries exceeding the bound wait in a queue of that host, so a slow callback holds at most that
+ * many workers. Each callback host also has a {@link CallbackHostCircuitBreaker} shared by all its notifications.
+ * While the breaker of a host is open, deliveries to it are deferred until probe requests are permitted, instead of
+ * each notification retrying a dead endpoint on its own. The status of a notification is written once, when it is
+ * acknowledged or when the retries are given up. After the engine is shut down, the deliveries not yet completed
+ * are dropped without writing their statuses, leaving the notifications to be claimed again from the outbox.
+ */
+public class RealtimeEventNotificationDeliveryEngine {
+
+    private static final Log log = LogFactory.getLog(RealtimeEventNotificationDeliveryEngine.class);
+    private static volatile RealtimeEventNotificationDeliveryEngine instance;
+    private static final long HALF_OPEN_PROBE_WAIT_MILLIS = 1000;
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+
+    private final Map<String, CallbackHost> callbackHosts = new ConcurrentHashMap<>();
+    private final CloseableHttpClient httpClient;
+    private final RealtimeEventNotificationRequestGenerator httpRequestGenerator;
+    private final RealtimeNotificationService realtimeNotificationService;
+    private final ScheduledExecutorService retryScheduler;
+    private final Executor executor;
+    private final boolean ownsExecutor;
+    private final int maxRetries;
+    private final long initialBackoffTimeMillis;
+    private final String backoffFunction;
+    private final long circuitBreakerOpenTimeoutMillis;
+    private final int maxInFlightRequestsPerHost;
+    private final int failureRateThreshold;
+    private final int slidingWindowSize;
+    private final long waitDurationInOpenStateMillis;
+    private final int permittedCallsInHalfOpenState;
+    private final RequestConfig requestConfig;
+
+    /**
+     * Create a delivery engine sending the requests on the given executor. The retry policy, the bound of the
+     * requests in flight to a callback host and the circuit breaker policy are read from the configuration.
+     *
+     * @param httpClient                  HTTP client sending the requests
+     * @param httpRequestGenerator        generator of the additional request headers
+     * @param realtimeNotificationService service updating the notification statuses
+     * @param executor                    executor sending the requests
+     */
+    public RealtimeEventNotificationDeliveryEngine(CloseableHttpClient httpClient,
+                                                   RealtimeEventNotificationRequestGenerator httpRequestGenerator,
+                                                   RealtimeNotificationService realtimeNotificationService,
+                                                   Executor executor) {
+
+        this(httpClient, httpRequestGenerator, realtimeNotificationService, executor, false);
+    }
+
+    private RealtimeEventNotificationDeliveryEngine(CloseableHttpClient httpClient,
+                                                    RealtimeEventNotificationRequestGenerator httpRequestGenerator,
+                                                    RealtimeNotificationService realtimeNotificationService,
+                                                    Executor executor, boolean ownsExecutor) {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        this.httpClient = httpClient;
+        this.httpRequestGenerator = httpRequestGenerator;
+        this.realtimeNotificationService = realtimeNotificationService;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(
+                new DaemonThreadFactory("realtime-event-notification-retry"));
+        this.maxRetries = configParser.getRealtimeEventNotificationMaxRetries();
+        this.initialBackoffTimeMillis = TimeUnit.SECONDS.toMillis(
+                configParser.getRealtimeEventNotificationInitialBackoffTimeInSeconds());
+        this.backoffFunction = configParser.getRealtimeEventNotificationBackoffFunction().replaceAll("[\r\n]", "");
+        this.circuitBreakerOpenTimeoutMillis = TimeUnit.SECONDS.toMillis(
+                configParser.getRealtimeEventNotificationCircuitBreakerOpenTimeoutInSeconds());
+        this.maxInFlightRequestsPerHost = Math.max(1,
+                configParser.getRealtimeEventNotificationMaxInFlightRequestsPerHost());
+        this.failureRateThreshold = configParser.getHostCircuitBreakerFailureRateThreshold();
+        this.slidingWindowSize = configParser.getHostCircuitBreakerSlidingWindowSize();
+        this.waitDurationInOpenStateMillis = TimeUnit.SECONDS.toMillis(
+                configParser.getHostCircuitBreakerWaitDurationInOpenStateInSeconds());
+        this.permittedCallsInHalfOpenState = configParser.getHostCircuitBreakerPermittedCallsInHalfOpenState();
+        int timeoutMillis = (int) TimeUnit.SECONDS.toMillis(
+                configParser.getRealtimeEventNotificationTimeoutInSeconds());
+        this.requestConfig = RequestConfig.custom()
+                .setConnectTimeout(timeoutMillis)
+                .setConnectionRequestTimeout(timeoutMillis)
+                .setSocketTimeout(timeoutMillis)
+                .build();
+    }
+
+    /**
+     * Return the delivery engine used by the realtime event notification outbox worker. The workers are sized by the
+     * event notification thread pool size configuration.
+     *
+     * @return realtime event notification delivery engine
+     */
+    public static RealtimeEventNotificationDeliveryEngine getInstance() {
+
+        if (instance == null) {
+            synchronized (RealtimeEventNotificationDeliveryEngine.class) {
+                if (instance == null) {
+                    int threadPoolSize = Math.max(2,
+                            FinancialServicesConfigParser.getInstance().getEventNotificationThreadPoolSize());
+                    instance = new RealtimeEventNotificationDeliveryEngine(HTTPClientUtils.getHttpsClient(),
+                            EventNotificationServiceUtil.getRealtimeEventNotificationRequestGenerator(),
+                            EventNotificationServiceUtil.getRealtimeNotificationService(),
+                            Executors.newFixedThreadPool(threadPoolSize,
+                                    new DaemonThreadFactory("realtime-event-notification-sender")), true);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Shut down the delivery engine of this node, if it has been created.
+     */
+    public static void shutdownInstance() {
+
+        synchronized (RealtimeEventNotificationDeliveryEngine.class) {
+            if (instance != null) {
+                instance.shutdown();
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Cancel the scheduled retries and stop accepting deliveries. The requests already sent are left to complete,
+     * and the executor is shut down only if it was created by the engine.
+     */
+    public void shutdown() {
+
+        retryScheduler.shutdownNow();
+        if (ownsExecutor && executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    /**
+     * Submit a notification for delivery. The method returns without waiting for the request to be sent.
+     *
+     * @param callbackUrl    callback URL of the TPP
+     * @param payloadJson    notification payload
+     * @param notificationId notification ID
+     * @return future completed with the final status of the notification once it is written
+     */
+    public CompletableFuture<EventNotificationConstants.EventNotificationStatusEnum> deliver(
+            String callbackUrl, JSONObject payloadJson, String notificationId) {
+
+        String host;
+        try {
+            URI callbackUri = URI.create(callbackUrl);
+            host = callbackUri.getAuthority() == null ? callbackUrl : callbackUri.getAuthority();
+        } catch (IllegalArgumentException | NullPointerException e) {
+            log.error("Invalid callback URL for the Real-time event notification with notificationId: "
+                    + String.valueOf(notificationId).replaceAll("[\r\n]", ""), e);
+            updateStatus(notificationId, EventNotificationConstants.EventNotificationStatusEnum.ERROR);
+            return CompletableFuture.completedFuture(EventNotificationConstants.EventNotificationStatusEnum.ERROR);
+        }
+        Delivery delivery = new Delivery(notificationId, callbackUrl, String.valueOf(payloadJson), host);
+        dispatch(delivery);
+        return delivery.result;
+    }
+
+    public int getWaitingDeliveryCount(String host) {
+
+        CallbackHost callbackHost = callbackHosts.get(host);
+        if (callbackHost == null) {
+            return 0;
+        }
+        synchronized (callbackHost) {
+            return callbackHost.waiting.size();
+        }
+    }
+
+    public int getInFlightRequestCount(String host) {
+
+        CallbackHost callbackHost = callbackHosts.get(host);
+        if (callbackHost == null) {
+            return 0;
+        }
+        synchronized (callbackHost) {
+            return callbackHost.inFlight;
+        }
+    }
+
+    /**
+     * Get the circuit breaker of a callback host.
+     *
+     * @param host host and port of the callback URL
+     * @return circuit breaker of the host, or null if no notification was delivered to the host
+     */
+    public CallbackHostCircuitBreaker getCircuitBreaker(String host) {
+
+        CallbackHost callbackHost = callbackHosts.get(host);
+        return callbackHost == null ? null : callbackHost.circuitBreaker;
+    }
+
+    /**
+     * Get the circuit breaker states of the callback hosts notifications were delivered to.
+     *
+     * @return circuit breaker states by host
+     */
+    public Map<String, CallbackHostCircuitBreaker.State> getCircuitBreakerStates() {
+
+        Map<String, CallbackHostCircuitBreaker.State> states = new HashMap<>();
+        callbackHosts.forEach((host, callbackHost) -> states.put(host, callbackHost.circuitBreaker.getState()));
+        return states;
+    }
+
+    /**
+     * Get the number of times the circuit breakers of all the callback hosts opened.
+     *
+     * @return total trip count
+     */
+    public long getCircuitBreakerTripCount() {
+
+        return callbackHosts.values().stream().mapToLong(callbackHost -> callbackHost.circuitBreaker.getTripCount())
+                .sum();
+    }
+
+    /**
+     * Calculate the time to wait before a retry.
+     *
+     * @param retryCount number of the retry, starting from one
+     * @return backoff time in milliseconds, or -1 if the backoff function is invalid
+     */
+    long getBackoffTimeMillis(int retryCount) {
+
+        switch (backoffFunction) {
+            case "CONSTANT":
+                // Retries will happen in constant time frames
+                return initialBackoffTimeMillis;
+            case "LINEAR":
+                // Backoff time will be doubled after each retry
+                return initialBackoffTimeMillis << Math.min(retryCount - 1, 30);
+            case "EX":
+                // Backoff time will be increased exponentially
+                return (long) (initialBackoffTimeMillis * Math.exp(retryCount - 1));
+            default:
+                return -1;
+        }
+    }
+
+    private void dispatch(Delivery delivery) {
+
+        CallbackHost callbackHost = callbackHosts.computeIfAbsent(delivery.host,
+                key -> new CallbackHost(new CallbackHostCircuitBreaker(key, failureRateThreshold, slidingWindowSize,
+                        waitDurationInOpenStateMillis, permittedCallsInHalfOpenState)));
+        synchronized (callbackHost) {
+            if (callbackHost.inFlight >= maxInFlightRequestsPerHost) {
+                callbackHost.waiting.add(delivery);
+                return;
+            }
+            callbackHost.inFlight++;
+        }
+        send(callbackHost, delivery);
+    }
+
+    private void send(CallbackHost callbackHost, Delivery delivery) {
+
+        try {
+            executor.execute(() -> {
+                try {
+                    attempt(callbackHost.circuitBreaker, delivery);
+                } finally {
+                    Delivery next;
+                    synchronized (callbackHost) {
+                        next = callbackHost.waiting.poll();
+                        if (next == null) {
+                            callbackHost.inFlight--;
+                        }
+                    }
+                    if (next != null) {
+                        send(callbackHost, next);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            dropDelivery(delivery);
+        }
+    }
+
+    private void attempt(CallbackHostCircuitBreaker circuitBreaker, Delivery delivery) {
+
+        if (!circuitBreaker.tryAcquirePermission()) {
+            defer(circuitBreaker, delivery);
+            return;
+        }
+        int statusCode = -1;
+        try {
+            HttpPost httpPost = new HttpPost(URI.create(delivery.callbackUrl));
+            for (Map.Entry<String, String> entry : httpRequestGenerator.getAdditionalHeaders().entrySet()) {
+                httpPost.setHeader(entry.getKey(), entry.getValue());
+            }
+            httpPost.setEntity(new StringEntity(delivery.payload, ContentType.APPLICATION_JSON));
+            httpPost.setConfig(requestConfig);
+
+            // Closing the response returns the connection to the pool of the shared client.
+            try (CloseableHttpResponse response = httpClient.execute(httpPost)) {
+                statusCode = response.getStatusLine().getStatusCode();
+                EntityUtils.consume(response.getEntity());
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Real-time event notification with notificationId: " +
+                    delivery.notificationId.replaceAll("[\r\n]", "") + " sent failed", e);
+        }
+
+        // Only the failures showing the host is unavailable count towards opening its circuit breaker.
+        if (statusCode == -1 || statusCode >= HttpStatus.SC_INTERNAL_SERVER_ERROR
+                || statusCode == SC_TOO_MANY_REQUESTS) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+
+        if (statusCode == HttpStatus.SC_ACCEPTED) {
+            if (log.isDebugEnabled()) {
+                log.debug("Real-time event notification with notificationId: " +
+                        delivery.notificationId.replaceAll("[\r\n]", "") + " sent successfully");
+            }
+            complete(delivery, EventNotificationConstants.EventNotificationStatusEnum.ACK);
+            return;
+        }
+        if (log.isDebugEnabled() && statusCode != -1) {
+            log.debug("Real-time event notification with notificationId: " +
+                    delivery.notificationId.replaceAll("[\r\n]", "") + " sent failed with status code: " + statusCode);
+        }
+        scheduleRetry(delivery);
+    }
+
+    private void scheduleRetry(Delivery delivery) {
+
+        delivery.retryCount++;
+        if (delivery.retryCount > maxRetries) {
+            complete(delivery, EventNotificationConstants.EventNotificationStatusEnum.ERROR);
+            return;
+        }
+        // Retrying will be given up if the retrying time exceeds the configured circuit breaker timeout.
+        if (System.currentTimeMillis() - delivery.startTime > circuitBreakerOpenTimeoutMillis) {
+            if (log.isDebugEnabled()) {
+                log.debug("Circuit breaker open for the realtime event notification with notificationId: "
+                        + delivery.notificationId.replaceAll("[\r\n]", ""));
+            }
+            complete(delivery, EventNotificationConstants.EventNotificationStatusEnum.ERROR);
+            return;
+        }
+        long backoffTimeMillis = getBackoffTimeMillis(delivery.retryCount);
+        if (backoffTimeMillis < 0) {
+            log.error("Invalid backoff function for the realtime event notification retry policy: "
+                    + backoffFunction);
+            complete(delivery, EventNotificationConstants.EventNotificationStatusEnum.ERROR);
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("HTTP request Retry #" + delivery.retryCount + " - scheduled after "
+                    + backoffTimeMillis + " ms");
+        }
+        schedule(delivery, backoffTimeMillis);
+    }
+
+    private void defer(CallbackHostCircuitBreaker circuitBreaker, Delivery delivery) {
+
+        long waitTimeMillis = Math.max(circuitBreaker.getRemainingOpenMillis(), HALF_OPEN_PROBE_WAIT_MILLIS);
+        if (System.currentTimeMillis() + waitTimeMillis - delivery.startTime > circuitBreakerOpenTimeoutMillis) {
+            if (log.isDebugEnabled()) {
+                log.debug("Callback host circuit breaker open beyond the retrying time of the realtime event " +
+                        "notification with notificationId: " + delivery.notificationId.replaceAll("[\r\n]", ""));
+            }
+            complete(delivery, EventNotificationConstants.EventNotificationStatusEnum.ERROR);
+            return;
+        }
+        schedule(delivery, waitTimeMillis);
+    }
+
+    private void schedule(Delivery delivery, long delayMillis) {
+
+        try {
+            retryScheduler.schedule(() -> dispatch(delivery), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            dropDelivery(delivery);
+        }
+    }
+
+    private void dropDelivery(Delivery delivery) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Realtime event notification delivery engine is shut down. Dropped the delivery of the " +
+                    "notification with notificationId: " + delivery.notificationId.replaceAll("[\r\n]", ""));
+        }
+    }
+
+    private void complete(Delivery delivery,
+                          EventNotificationConstants.EventNotificationStatusEnum notificationStatus) {
+
+        updateStatus(delivery.notificationId, notificationStatus);
+        delivery.result.complete(notificationStatus);
+    }
+
+    private void updateStatus(String notificationId,
+                              EventNotificationConstants.EventNotificationStatusEnum notificationStatus) {
+
+        try {
+            realtimeNotificationService.updateNotificationStatusById(notificationId, notificationStatus);
+        } catch (FSEventNotificationException e) {
+            log.error("Failed to update the status of the Real-time event notification with notificationId: "
+                    + String.valueOf(notificationId).replaceAll("[\r\n]", ""), e);
+        }
+    }
+
+    /**
+     * Bulkhead of a callback host, holding the requests in flight to the host, the deliveries waiting for one of
+     * them to complete and the circuit breaker of the host.
+     */
+    private static final class CallbackHost {
+
+        private final Queue<Delivery> waiting = new ArrayDeque<>();
+        private final CallbackHostCircuitBreaker circuitBreaker;
+        private int inFlight;
+
+        private CallbackHost(CallbackHostCircuitBreaker circuitBreaker) {
+
+            this.circuitBreaker = circuitBreaker;
+        }
+    }
+
+    /**
+     * State of a notification delivery carried across its retries.
+     */
+    private static final class Delivery {
+
+        private final String notificationId;
+        private final String callbackUrl;
+        private final String payload;
+        private final String host;
+        private final long startTime = System.currentTimeMillis();
+        private final CompletableFuture<EventNotificationConstants.EventNotificationStatusEnum> result =
+                new CompletableFuture<>();
+        private int retryCount;
+
+        private Delivery(String notificationId, String callbackUrl, String payload, String host) {
+
+            this.notificationId = notificationId;
+            this.callbackUrl = callbackUrl;
+            this.payload = payload;
+            this.host = host;
+        }
+    }
+}
@@ -0,0 +1,419 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.realtime.service;
+
+import com.nimbusds.jose.JOSEException;
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+import org.wso2.financial.services.accelerator.common.util.DaemonThreadFactory;
+import org.wso2.financial.services.accelerator.event.notifications.service.EventNotificationGenerator;
+import org.wso2.financial.services.accelerator.event.notifications.service.EventSubscriptionService;
+import org.wso2.financial.services.accelerator.event.notifications.service.RealtimeNotificationService;
+import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationConstants;
+import org.wso2.financial.services.accelerator.event.notifications.service.exception.FSEventNotificationException;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.EventSubscription;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.Notification;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationEvent;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationResponse;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.RealtimeEventNotification;
+import org.wso2.financial.services.accelerator.event.notifications.service.util.EventNotificationServiceUtil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Feeds the realtime event notifications stored in the database outbox to the delivery engine.
+ * <p>
+ * A notification is written to the outbox in the transaction that creates it. The worker claims outbox entries of
+ * open notifications by setting a lease on them, and keeps renewing the leases of the entries while their deliveries
+ * are in progress. An entry is removed once all deliveries of its notification are finished, and is released for
+ * another claim if its deliveries could not be started or its security event token could not be generated. The
+ * lease of an entry is renewed until its removal is committed. If a node stops, the leases of its entries expire and
+ * the entries are claimed by another node, so a notification is delivered at least once. No more entries are claimed
+ * while the configured number of notifications is in progress, so a backlog stays in the database instead of in
+ * memory.
+ */
+public class RealtimeEventNotificationOutboxWorker {
+
+    private static final Log log = LogFactory.getLog(RealtimeEventNotificationOutboxWorker.class);
+    private static volatile RealtimeEventNotificationOutboxWorker instance;
+
+    private final String workerId = UUID.randomUUID().toString();
+    private final RealtimeNotificationService realtimeNotificationService;
+    private final EventSubscriptionService eventSubscriptionService;
+    private final EventNotificationGenerator eventNotificationGenerator;
+    private final RealtimeEventNotificationDeliveryEngine deliveryEngine;
+    private final ScheduledExecutorService scheduler;
+    private final Set<String> inProgressNotificationIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicBoolean pollPending = new AtomicBoolean();
+    private final Queue<String> completedNotificationIds = new ConcurrentLinkedQueue<>();
+    private final Queue<String> failedNotificationIds = new ConcurrentLinkedQueue<>();
+    private final long leaseDurationMillis;
+    private final int claimBatchSize;
+    private final int maxInProgressNotifications;
+    private final long pollIntervalMillis;
+
+    /**
+     * Create an outbox worker.
+     *
+     * @param realtimeNotificationService realtime notification service accessing the outbox
+     * @param eventSubscriptionService    event subscription service to find the callback URLs
+     * @param eventNotificationGenerator  generator of the security event tokens
+     * @param deliveryEngine              delivery engine sending the notifications
+     * @param scheduler                   scheduler running the polling and lease renewal tasks
+     */
+    public RealtimeEventNotificationOutboxWorker(RealtimeNotificationService realtimeNotificationService,
+                                                 EventSubscriptionService eventSubscriptionService,
+                                                 EventNotificationGenerator eventNotificationGenerator,
+                                                 RealtimeEventNotificationDeliveryEngine deliveryEngine,
+                                                 ScheduledExecutorService scheduler) {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        this.realtimeNotificationService = realtimeNotificationService;
+        this.eventSubscriptionService = eventSubscriptionService;
+        this.eventNotificationGenerator = eventNotificationGenerator;
+        this.deliveryEngine = deliveryEngine;
+        this.scheduler = scheduler;
+        this.leaseDurationMillis = TimeUnit.SECONDS.toMillis(Math.max(1,
+                configParser.getRealtimeEventNotificationOutboxLeaseDurationInSeconds()));
+        this.claimBatchSize = Math.min(EventNotificationConstants.IN_CLAUSE_BATCH_SIZE,
+                Math.max(1, configParser.getRealtimeEventNotificationOutboxClaimBatchSize()));
+        this.maxInProgressNotifications = Math.max(1,
+                configParser.getRealtimeEventNotificationOutboxMaxInProgressNotifications());
+        this.pollIntervalMillis = Math.max(1, configParser.getRealtimeEventNotificationOutboxPollIntervalInMillis());
+    }
+
+    /**
+     * Return the outbox worker of this node.
+     *
+     * @return realtime event notification outbox worker
+     */
+    public static RealtimeEventNotificationOutboxWorker getInstance() {
+
+        if (instance == null) {
+            synchronized (RealtimeEventNotificationOutboxWorker.class) {
+                if (instance == null) {
+                    instance = new RealtimeEventNotificationOutboxWorker(
+                            EventNotificationServiceUtil.getRealtimeNotificationService(),
+                            EventNotificationServiceUtil.getEventSubscriptionService(),
+                            EventNotificationServiceUtil.getEventNotificationGenerator(),
+                            RealtimeEventNotificationDeliveryEngine.getInstance(),
+                            Executors.newSingleThreadScheduledExecutor(
+                                    new DaemonThreadFactory("realtime-event-notification-outbox")));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Shut down the outbox worker of this node, if it has been created.
+     */
+    public static void shutdownInstance() {
+
+        synchronized (RealtimeEventNotificationOutboxWorker.class) {
+            if (instance != null) {
+                instance.shutdown();
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Start polling the outbox and renewing the leases of the claimed notifications. Calls after the first call
+     * have no effect.
+     */
+    public void start() {
+
+        if (!started.compareAndSet(false, true)) {
+            log.debug("Realtime event notification outbox worker is already started");
+            return;
+        }
+        long renewalIntervalMillis = Math.max(1, leaseDurationMillis / 3);
+        scheduler.scheduleWithFixedDelay(this::poll, 0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::renewLeases, renewalIntervalMillis, renewalIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        if (log.isDebugEnabled()) {
+            log.debug("Realtime event notification outbox worker " + workerId + " started");
+        }
+    }
+
+    /**
+     * Stop polling the outbox. The completed notifications are removed from the outbox, and the notifications still
+     * in progress are released so that another node claims them without waiting for their leases to expire.
+     */
+    public void shutdown() {
+
+        log.debug("Shutting down the realtime event notification outbox worker");
+        scheduler.shutdownNow();
+        try {
+            removeCompletedNotifications();
+        } catch (FSEventNotificationException | RuntimeException e) {
+            log.error("Error while removing the completed realtime event notifications", e);
+        }
+        List<String> notificationIds = new ArrayList<>(inProgressNotificationIds);
+        notificationIds.addAll(drain(failedNotificationIds));
+        if (!notificationIds.isEmpty()) {
+            releaseNotifications(notificationIds);
+        }
+    }
+
+    /**
+     * Poll the outbox without waiting for the next poll interval. Called when a notification is added to the outbox.
+     * Calls made while a poll is already pending are merged into it.
+     */
+    public void wakeUp() {
+
+        if (scheduler.isShutdown()) {
+            return;
+        }
+        if (pollPending.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                pollPending.set(false);
+                poll();
+            });
+        }
+    }
+
+    /**
+     * Return the ID used by this worker to claim outbox entries.
+     *
+     * @return worker ID
+     */
+    public String getWorkerId() {
+
+        return workerId;
+    }
+
+    /**
+     * Return the number of claimed notifications with deliveries in progress.
+     *
+     * @return in progress notification count
+     */
+    public int getInProgressCount() {
+
+        return inProgressNotificationIds.size();
+    }
+
+    /**
+     * Remove the completed notifications from the outbox and claim new notifications while there is capacity.
+     */
+    void poll() {
+
+        try {
+            removeCompletedNotifications();
+            releaseFailedNotifications();
+            while (true) {
+                int capacity = maxInProgressNotifications - inProgressNotificationIds.size();
+                if (capacity <= 0) {
+                    log.debug("Maximum number of in progress realtime event notifications reached. " +
+                            "Remaining notifications are left in the outbox");
+                    return;
+                }
+                int maxEntries = Math.min(claimBatchSize, capacity);
+                List<Notification> notifications = realtimeNotificationService.claimOutboxNotifications(workerId,
+                        System.currentTimeMillis() + leaseDurationMillis, maxEntries);
+                if (!notifications.isEmpty()) {
+                    deliver(notifications);
+                }
+                if (notifications.size() < maxEntries) {
+                    return;
+                }
+            }
+        } catch (FSEventNotificationException | RuntimeException e) {
+            log.error("Error while polling the realtime event notification outbox", e);
+        }
+    }
+
+    /**
+     * Extend the leases of the notifications in progress, and of the completed notifications not yet removed from
+     * the outbox, so that other nodes do not claim them.
+     */
+    void renewLeases() {
+
+        try {
+            removeCompletedNotifications();
+            releaseFailedNotifications();
+        } catch (FSEventNotificationException | RuntimeException e) {
+            log.error("Error while removing the completed realtime event notifications", e);
+        }
+        try {
+            Set<String> notificationIds = new LinkedHashSet<>(inProgressNotificationIds);
+            notificationIds.addAll(completedNotificationIds);
+            notificationIds.addAll(failedNotificationIds);
+            if (!notificationIds.isEmpty()) {
+                realtimeNotificationService.renewOutboxLeases(workerId, new ArrayList<>(notificationIds),
+                        System.currentTimeMillis() + leaseDurationMillis);
+            }
+        } catch (FSEventNotificationException | RuntimeException e) {
+            log.error("Error while renewing the leases of the realtime event notifications", e);
+        }
+    }
+
+    private void removeCompletedNotifications() throws FSEventNotificationException {
+
+        List<String> notificationIds = drain(completedNotificationIds);
+        if (notificationIds.isEmpty()) {
+            return;
+        }
+        try {
+            realtimeNotificationService.deleteOutboxEntries(workerId, notificationIds);
+        } catch (FSEventNotificationException e) {
+            // Retried on the next poll. The entries are kept in the outbox until then.
+            completedNotificationIds.addAll(notificationIds);
+            throw e;
+        }
+    }
+
+    private void releaseFailedNotifications() {
+
+        List<String> notificationIds = drain(failedNotificationIds);
+        if (!notificationIds.isEmpty()) {
+            releaseNotifications(notificationIds);
+        }
+    }
+
+    private static List<String> drain(Queue<String> notificationIds) {
+
+        List<String> drainedNotificationIds = new ArrayList<>();
+        String notificationId;
+        while ((notificationId = notificationIds.poll()) != null) {
+            drainedNotificationIds.add(notificationId);
+        }
+        return drainedNotificationIds;
+    }
+
+    private void deliver(List<Notification> notifications) throws FSEventNotificationException {
+
+        List<String> notificationIds = notifications.stream().map(Notification::getNotificationId)
+                .collect(Collectors.toList());
+        Map<String, List<NotificationEvent>> eventsByNotificationId;
+        Map<String, List<EventSubscription>> subscriptionsByClientId;
+        try {
+            // Get the events of all notifications and the subscriptions of all clients at once
+            eventsByNotificationId = realtimeNotificationService.getEventsByNotificationIDs(notificationIds);
+            subscriptionsByClientId = eventSubscriptionService.getEventSubscriptionsByClientIds(notifications.stream()
+                    .map(Notification::getClientId).collect(Collectors.toCollection(LinkedHashSet::new)));
+        } catch (FSEventNotificationException | RuntimeException e) {
+            releaseNotifications(notificationIds);
+            throw e;
+        }
+
+        for (Notification notification : notifications) {
+            String notificationId = notification.getNotificationId();
+            inProgressNotificationIds.add(notificationId);
+            List<CompletableFuture<EventNotificationConstants.EventNotificationStatusEnum>> deliveries =
+                    new ArrayList<>();
+            AtomicBoolean failed = new AtomicBoolean();
+            try {
+                List<EventSubscription> subscriptionList = subscriptionsByClientId.getOrDefault(
+                        notification.getClientId(), Collections.emptyList());
+                if (subscriptionList.isEmpty()) {
+                    log.error("No subscriptions found for the client ID: " +
+                            notification.getClientId().replaceAll("[\r\n]", ""));
+                }
+                List<NotificationEvent> notificationEvents = eventsByNotificationId.getOrDefault(
+                        notification.getNotificationId(), Collections.emptyList());
+
+                for (EventSubscription subscription : subscriptionList) {
+                    List<NotificationEvent> allowedEvents = new ArrayList<>();
+                    notificationEvents.forEach(notificationEvent -> {
+                        if (subscription.getEventTypes().contains(notificationEvent.getEventType())) {
+                            allowedEvents.add(notificationEvent);
+                        }
+                    });
+
+                    if (!allowedEvents.isEmpty() && StringUtils.isNotEmpty(subscription.getCallbackUrl())) {
+                        NotificationResponse notificationResponse = eventNotificationGenerator
+                                .generateEventNotificationBody(notification, allowedEvents);
+                        RealtimeEventNotification realtimeEventNotification = new RealtimeEventNotification();
+                        realtimeEventNotification.setNotification(notification);
+                        realtimeEventNotification.setCallbackUrl(subscription.getCallbackUrl());
+                        realtimeEventNotification.setSecurityEventToken(eventNotificationGenerator
+                                .generateEventNotification(NotificationResponse.getJsonNode(notificationResponse)));
+                        deliveries.add(deliveryEngine.deliver(realtimeEventNotification.getCallbackUrl(),
+                                realtimeEventNotification.getJsonPayload(),
+                                realtimeEventNotification.getNotificationId()));
+                    }
+                }
+            } catch (FSEventNotificationException e) {
+                // Released once the started deliveries are finished, so that the notification is claimed again
+                failed.set(true);
+                log.error("Error when generating the event notification", e);
+            } catch (IOException | JOSEException | IdentityOAuth2Exception e) {
+                failed.set(true);
+                log.error("Error while processing event notification JSON object", e);
+            } catch (RuntimeException e) {
+                log.error("Error while delivering the realtime event notification", e);
+            } finally {
+                // Completes once the started deliveries are finished, or at once if none were started
+                CompletableFuture.allOf(deliveries.toArray(new CompletableFuture[0]))
+                        .whenComplete((result, throwable) -> onCompleted(notificationId, failed.get()));
+            }
+        }
+    }
+
+    private void releaseNotifications(List<String> notificationIds) {
+
+        try {
+            realtimeNotificationService.releaseOutboxEntries(workerId, notificationIds);
+        } catch (FSEventNotificationException | RuntimeException e) {
+            // The entries are claimed again once their leases expire
+            log.error("Error while releasing the claimed realtime event notifications", e);
+        }
+    }
+
+    private void onCompleted(String notificationId, boolean failed) {
+
+        int inProgressCount = inProgressNotificationIds.size();
+        if (!inProgressNotificationIds.contains(notificationId)) {
+            return;
+        }
+        // Queued before it stops being in progress so that the lease renewal does not miss the notification
+        if (failed) {
+            failedNotificationIds.add(notificationId);
+        } else {
+            completedNotificationIds.add(notificationId);
+        }
+        inProgressNotificationIds.remove(notificationId);
+        if (inProgressCount >= maxInProgressNotifications) {
+            // Claiming was stopped for the back-pressure, continue without waiting for the next poll interval
+            wakeUp();
+        }
+    }
+}
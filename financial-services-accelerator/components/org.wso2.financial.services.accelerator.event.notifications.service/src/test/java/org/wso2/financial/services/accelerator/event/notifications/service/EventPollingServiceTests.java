@@ -28,20 +28,33 @@ import org.testng.annotations.Test;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
 import org.wso2.financial.services.accelerator.common.util.DatabaseUtils;
+import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationConstants;
+import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationTestConstants;
 import org.wso2.financial.services.accelerator.event.notifications.service.dao.EventNotificationDAO;
 import org.wso2.financial.services.accelerator.event.notifications.service.exception.FSEventNotificationException;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.AggregatedPollingResponse;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.EventPolling;
 import org.wso2.financial.services.accelerator.event.notifications.service.persistence.EventNotificationStoreInitializer;
+import org.wso2.financial.services.accelerator.event.notifications.service.polling.LocalEventPollingWakeUpSignal;
+import org.wso2.financial.services.accelerator.event.notifications.service.polling.PendingEventPollRegistry;
 import org.wso2.financial.services.accelerator.event.notifications.service.util.EventNotificationServiceUtil;
 import org.wso2.financial.services.accelerator.event.notifications.service.util.EventNotificationTestUtils;
 
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 
 /**
  * Test class for EventPollingService.
@@ -52,11 +65,13 @@ public class EventPollingServiceTests {
     private MockedStatic<EventNotificationStoreInitializer> eventStoreInitializerMockedStatic;
     private MockedStatic<DatabaseUtils> databaseUtilMockedStatic;
     private MockedStatic<EventNotificationServiceUtil> eventNotificationUtilMockedStatic;
+    private FinancialServicesConfigParser configParserMock;
 
     @BeforeClass
-    public void initTest() {
+    public void initTest() throws FSEventNotificationException {
         Connection mockedConnection = Mockito.mock(Connection.class);
         EventNotificationGenerator mockedEventNotificationGenerator = Mockito.mock(EventNotificationGenerator.class);
+        Mockito.when(mockedEventNotificationGenerator.generateEventNotifications(any())).thenCallRealMethod();
 
         configParserMockedStatic = Mockito.mockStatic(FinancialServicesConfigParser.class);
         eventStoreInitializerMockedStatic = Mockito.mockStatic(EventNotificationStoreInitializer.class);
@@ -65,7 +80,7 @@ public class EventPollingServiceTests {
 
         Map<String, Object> configs = new HashMap<String, Object>();
         configs.put(FinancialServicesConstants.REALTIME_EVENT_NOTIFICATION_ENABLED, false);
-        FinancialServicesConfigParser configParserMock = Mockito.mock(FinancialServicesConfigParser.class);
+        configParserMock = Mockito.mock(FinancialServicesConfigParser.class);
         Mockito.doReturn(configs).when(configParserMock).getConfiguration();
         configParserMockedStatic.when(FinancialServicesConfigParser::getInstance).thenReturn(configParserMock);
 
@@ -117,4 +132,154 @@ public class EventPollingServiceTests {
 
         Assert.assertEquals(aggregatedPollingResponse.getStatus(), HttpStatus.SC_OK);
     }
+
+    @Test
+    public void testPollEventsUpdatesSetStatuses() throws FSEventNotificationException {
+
+        String erroneousNotificationId = "d3fcb77a-274d-4851-b392-a2c0af312fd8";
+        Map<String, String> notificationStatuses = new HashMap<>();
+        notificationStatuses.put(EventNotificationTestConstants.SAMPLE_NOTIFICATION_ID,
+                EventNotificationConstants.OPEN);
+        notificationStatuses.put(erroneousNotificationId, EventNotificationConstants.OPEN);
+
+        mockedEventNotificationDao = Mockito.mock(EventNotificationDAO.class);
+        Mockito.when(mockedEventNotificationDao.getNotificationStatuses(any(), anyList()))
+                .thenReturn(notificationStatuses);
+
+        eventStoreInitializerMockedStatic.when(EventNotificationStoreInitializer::getEventNotificationDAO)
+                .thenReturn(mockedEventNotificationDao);
+
+        EventPolling eventPolling = EventNotificationTestUtils.getEventPollingDTO();
+        eventPolling.setAck("unknown-notification-id");
+
+        AggregatedPollingResponse aggregatedPollingResponse = new EventPollingService().pollEvents(eventPolling);
+
+        Map<String, String> setOutcomes = aggregatedPollingResponse.getSetOutcomes();
+        Assert.assertEquals(setOutcomes.get(EventNotificationTestConstants.SAMPLE_NOTIFICATION_ID),
+                EventNotificationConstants.ACK);
+        Assert.assertEquals(setOutcomes.get("unknown-notification-id"), EventNotificationConstants.SET_NOT_FOUND);
+        Assert.assertEquals(setOutcomes.get(erroneousNotificationId), EventNotificationConstants.ERROR);
+        Mockito.verify(mockedEventNotificationDao, Mockito.times(1)).updateNotificationStatusByIds(any(),
+                eq(Collections.singletonList(EventNotificationTestConstants.SAMPLE_NOTIFICATION_ID)),
+                eq(EventNotificationConstants.ACK));
+        Mockito.verify(mockedEventNotificationDao, Mockito.times(1)).updateNotificationStatusByIds(any(),
+                eq(Collections.singletonList(erroneousNotificationId)), eq(EventNotificationConstants.ERROR));
+        Mockito.verify(mockedEventNotificationDao, Mockito.times(1)).storeErrorNotifications(any(), anyList());
+        Mockito.verify(mockedEventNotificationDao, Mockito.never()).updateNotificationStatusById(any(),
+                anyString(), anyString());
+    }
+
+    @Test
+    public void testLongPollingWokenUpByNewNotification() throws Exception {
+
+        mockedEventNotificationDao = Mockito.mock(EventNotificationDAO.class);
+        Mockito.when(mockedEventNotificationDao.getNotificationsByClientIdAndStatus(any(), anyString(), anyString(),
+                anyInt())).thenReturn(new ArrayList<>())
+                .thenReturn(EventNotificationTestUtils.getSampleSavedTestNotification());
+        Mockito.doReturn(30).when(configParserMock).getLongPollingMaxWaitInSeconds();
+
+        eventStoreInitializerMockedStatic.when(EventNotificationStoreInitializer::getEventNotificationDAO)
+                .thenReturn(mockedEventNotificationDao);
+
+        // Retrieve on the waking thread, as the static mocks are only visible to the test thread.
+        PendingEventPollRegistry registry = new PendingEventPollRegistry(new LocalEventPollingWakeUpSignal(),
+                Runnable::run);
+        EventPollingService eventPollingService = new EventPollingService(registry);
+        EventPolling eventPolling = EventNotificationTestUtils.getEventPollingDTO();
+        eventPolling.setReturnImmediately(false);
+
+        CompletableFuture<AggregatedPollingResponse> pollingResponse =
+                eventPollingService.pollEventsAsync(eventPolling);
+
+        Assert.assertFalse(pollingResponse.isDone());
+        Assert.assertEquals(registry.getPendingPollCount(eventPolling.getClientId()), 1);
+
+        registry.notifyClient(eventPolling.getClientId());
+
+        Assert.assertEquals(pollingResponse.get(5, TimeUnit.SECONDS).getStatus(), HttpStatus.SC_OK);
+        Assert.assertEquals(registry.getPendingPollCount(eventPolling.getClientId()), 0);
+        // Acknowledgements are only updated by the first retrieval.
+        Mockito.verify(mockedEventNotificationDao, Mockito.times(1)).getNotificationStatuses(any(), anyList());
+    }
+
+    @Test
+    public void testLongPollingTimeout() throws Exception {
+
+        mockedEventNotificationDao = Mockito.mock(EventNotificationDAO.class);
+        Mockito.when(mockedEventNotificationDao.getNotificationsByClientIdAndStatus(any(), anyString(), anyString(),
+                anyInt())).thenReturn(new ArrayList<>());
+        Mockito.doReturn(1).when(configParserMock).getLongPollingMaxWaitInSeconds();
+
+        eventStoreInitializerMockedStatic.when(EventNotificationStoreInitializer::getEventNotificationDAO)
+                .thenReturn(mockedEventNotificationDao);
+
+        BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+        PendingEventPollRegistry registry = new PendingEventPollRegistry(new LocalEventPollingWakeUpSignal(),
+                tasks::add);
+        EventPollingService eventPollingService = new EventPollingService(registry);
+        EventPolling eventPolling = EventNotificationTestUtils.getEventPollingDTO();
+        eventPolling.setReturnImmediately(false);
+
+        CompletableFuture<AggregatedPollingResponse> pollingResponse =
+                eventPollingService.pollEventsAsync(eventPolling);
+        runOnTestThread(tasks);
+
+        Assert.assertEquals(pollingResponse.get(5, TimeUnit.SECONDS).getStatus(), HttpStatus.SC_NOT_FOUND);
+        Assert.assertEquals(registry.getPendingPollCount(eventPolling.getClientId()), 0);
+        // The notifications are retrieved once more when the wait elapses.
+        Mockito.verify(mockedEventNotificationDao, Mockito.times(2)).getNotificationsByClientIdAndStatus(any(),
+                anyString(), anyString(), anyInt());
+        registry.shutdown();
+    }
+
+    @Test
+    public void testLongPollingTimeoutReturnsNotificationStoredOnOtherNode() throws Exception {
+
+        mockedEventNotificationDao = Mockito.mock(EventNotificationDAO.class);
+        Mockito.when(mockedEventNotificationDao.getNotificationsByClientIdAndStatus(any(), anyString(), anyString(),
+                anyInt())).thenReturn(new ArrayList<>())
+                .thenReturn(EventNotificationTestUtils.getSampleSavedTestNotification());
+        Mockito.doReturn(1).when(configParserMock).getLongPollingMaxWaitInSeconds();
+
+        eventStoreInitializerMockedStatic.when(EventNotificationStoreInitializer::getEventNotificationDAO)
+                .thenReturn(mockedEventNotificationDao);
+
+        BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+        PendingEventPollRegistry registry = new PendingEventPollRegistry(new LocalEventPollingWakeUpSignal(),
+                tasks::add);
+        EventPollingService eventPollingService = new EventPollingService(registry);
+        EventPolling eventPolling = EventNotificationTestUtils.getEventPollingDTO();
+        eventPolling.setReturnImmediately(false);
+
+        // No wake-up is signalled on this node for a notification stored on another node.
+        CompletableFuture<AggregatedPollingResponse> pollingResponse =
+                eventPollingService.pollEventsAsync(eventPolling);
+        runOnTestThread(tasks);
+
+        Assert.assertEquals(pollingResponse.get(5, TimeUnit.SECONDS).getStatus(), HttpStatus.SC_OK);
+        registry.shutdown();
+    }
+
+    @Test
+    public void testRegistryShutdownCompletesPendingPolls() throws Exception {
+
+        PendingEventPollRegistry registry = new PendingEventPollRegistry(new LocalEventPollingWakeUpSignal());
+        CompletableFuture<Boolean> pendingPoll = registry.register("client-id", TimeUnit.MINUTES.toMillis(1));
+
+        registry.shutdown();
+
+        Assert.assertFalse(pendingPoll.get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(registry.getPendingPollCount("client-id"), 0);
+    }
+
+    /**
+     * Run the task scheduled on the registry executor on the test thread, as the static mocks are only visible to the
+     * test thread.
+     */
+    private static void runOnTestThread(BlockingQueue<Runnable> tasks) throws InterruptedException {
+
+        Runnable task = tasks.poll(5, TimeUnit.SECONDS);
+        Assert.assertNotNull(task);
+        task.run();
+    }
 }
@@ -37,7 +37,10 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.anyString;
@@ -131,6 +134,41 @@ public class EventNotificationDAOImplTests {
         Assert.assertNotNull(eventsList);
     }
 
+    @Test
+    public void testGetEventsByNotificationIDs() throws FSEventNotificationException, SQLException {
+
+        Map<String, List<NotificationEvent>> eventsByNotificationId;
+        String firstNotificationId = UUID.randomUUID().toString();
+        String secondNotificationId = UUID.randomUUID().toString();
+        String notificationIdWithoutEvents = UUID.randomUUID().toString();
+        try (Connection connection = EventNotificationTestUtils.getConnection(DB_NAME)) {
+            eventNotificationDAOImpl.persistEventNotification(connection,
+                    EventNotificationTestUtils.getSampleNotificationDTO(firstNotificationId),
+                    EventNotificationTestUtils.getSampleEventList());
+            eventNotificationDAOImpl.persistEventNotification(connection,
+                    EventNotificationTestUtils.getSampleNotificationDTO(secondNotificationId),
+                    EventNotificationTestUtils.getSampleEventList());
+            eventsByNotificationId = eventNotificationDAOImpl.getEventsByNotificationIDs(connection,
+                    Arrays.asList(firstNotificationId, secondNotificationId, notificationIdWithoutEvents));
+        }
+
+        Assert.assertEquals(eventsByNotificationId.size(), 3);
+        Assert.assertEquals(eventsByNotificationId.get(firstNotificationId).size(), 1);
+        Assert.assertEquals(eventsByNotificationId.get(firstNotificationId).get(0).getEventType(),
+                EventNotificationTestConstants.SAMPLE_NOTIFICATION_EVENT_TYPE_1);
+        Assert.assertEquals(eventsByNotificationId.get(secondNotificationId).size(), 1);
+        Assert.assertTrue(eventsByNotificationId.get(notificationIdWithoutEvents).isEmpty());
+    }
+
+    @Test(expectedExceptions = FSEventNotificationException.class)
+    public void testGetEventsByNotificationIDsDBError() throws SQLException, FSEventNotificationException {
+
+        Mockito.when(mockedExceptionConnection.prepareStatement(anyString())).thenThrow(new SQLException());
+
+        eventNotificationDAOImpl.getEventsByNotificationIDs(mockedExceptionConnection,
+                Collections.singletonList(UUID.randomUUID().toString()));
+    }
+
     @Test
     public void testGetNotificationsByClientIdAndStatus() throws SQLException, FSEventNotificationException {
 
@@ -177,6 +215,71 @@ public class EventNotificationDAOImplTests {
         }
     }
 
+    @Test
+    public void testUpdateNotificationStatusByIds() throws SQLException, FSEventNotificationException {
+
+        String firstNotificationId = UUID.randomUUID().toString();
+        String secondNotificationId = UUID.randomUUID().toString();
+        String unknownNotificationId = UUID.randomUUID().toString();
+        int updatedCount;
+        Map<String, String> notificationStatuses;
+        try (Connection connection = EventNotificationTestUtils.getConnection(DB_NAME)) {
+            eventNotificationDAOImpl.persistEventNotification(connection,
+                    EventNotificationTestUtils.getSampleNotificationDTO(firstNotificationId),
+                    EventNotificationTestUtils.getSampleEventList());
+            eventNotificationDAOImpl.persistEventNotification(connection,
+                    EventNotificationTestUtils.getSampleNotificationDTO(secondNotificationId),
+                    EventNotificationTestUtils.getSampleEventList());
+            updatedCount = eventNotificationDAOImpl.updateNotificationStatusByIds(connection,
+                    Arrays.asList(firstNotificationId, unknownNotificationId), EventNotificationConstants.ACK);
+            notificationStatuses = eventNotificationDAOImpl.getNotificationStatuses(connection,
+                    Arrays.asList(firstNotificationId, secondNotificationId, unknownNotificationId));
+        }
+
+        Assert.assertEquals(updatedCount, 1);
+        Assert.assertEquals(notificationStatuses.size(), 2);
+        Assert.assertEquals(notificationStatuses.get(firstNotificationId), EventNotificationConstants.ACK);
+        Assert.assertEquals(notificationStatuses.get(secondNotificationId), EventNotificationConstants.OPEN);
+        Assert.assertFalse(notificationStatuses.containsKey(unknownNotificationId));
+    }
+
+    @Test
+    public void testStoreErrorNotificationsBatch() throws SQLException, FSEventNotificationException {
+
+        String firstNotificationId = UUID.randomUUID().toString();
+        String secondNotificationId = UUID.randomUUID().toString();
+        try (Connection connection = EventNotificationTestUtils.getConnection(DB_NAME)) {
+            eventNotificationDAOImpl.persistEventNotification(connection,
+                    EventNotificationTestUtils.getSampleNotificationDTO(firstNotificationId),
+                    EventNotificationTestUtils.getSampleEventList());
+            eventNotificationDAOImpl.persistEventNotification(connection,
+                    EventNotificationTestUtils.getSampleNotificationDTO(secondNotificationId),
+                    EventNotificationTestUtils.getSampleEventList());
+            eventNotificationDAOImpl.storeErrorNotifications(connection, Arrays.asList(
+                    EventNotificationTestUtils.getNotificationError(firstNotificationId),
+                    EventNotificationTestUtils.getNotificationError(secondNotificationId)));
+
+            try (PreparedStatement countStatement = connection.prepareStatement(
+                    "SELECT COUNT(*) FROM FS_NOTIFICATION_ERROR WHERE NOTIFICATION_ID IN (?,?)")) {
+                countStatement.setString(1, firstNotificationId);
+                countStatement.setString(2, secondNotificationId);
+                try (ResultSet resultSet = countStatement.executeQuery()) {
+                    Assert.assertTrue(resultSet.next());
+                    Assert.assertEquals(resultSet.getInt(1), 2);
+                }
+            }
+        }
+    }
+
+    @Test(expectedExceptions = FSEventNotificationException.class)
+    public void testUpdateNotificationStatusByIdsDBError() throws SQLException, FSEventNotificationException {
+
+        Mockito.when(mockedExceptionConnection.prepareStatement(anyString())).thenThrow(new SQLException());
+
+        eventNotificationDAOImpl.updateNotificationStatusByIds(mockedExceptionConnection,
+                Collections.singletonList(UUID.randomUUID().toString()), EventNotificationConstants.ACK);
+    }
+
     @Test
     public void testGetEventsStatusACK() throws SQLException, FSEventNotificationException {
 
@@ -255,4 +358,107 @@ public class EventNotificationDAOImplTests {
         }
     }
 
+    @Test
+    public void testClaimRenewAndDeleteOutboxEntries() throws SQLException, FSEventNotificationException {
+
+        String notificationId = UUID.randomUUID().toString();
+        String workerId = UUID.randomUUID().toString();
+        String otherWorkerId = UUID.randomUUID().toString();
+        long leaseExpiry = System.currentTimeMillis() + 60000;
+        try (Connection connection = EventNotificationTestUtils.getConnection(DB_NAME)) {
+            eventNotificationDAOImpl.persistEventNotification(connection,
+                    EventNotificationTestUtils.getSampleNotificationDTO(notificationId),
+                    EventNotificationTestUtils.getSampleEventList());
+            eventNotificationDAOImpl.storeOutboxEntry(connection, notificationId);
+
+            List<Notification> claimed = eventNotificationDAOImpl.claimOutboxEntries(connection, workerId,
+                    leaseExpiry, 100);
+            Assert.assertTrue(claimed.stream().anyMatch(n -> notificationId.equals(n.getNotificationId())));
+
+            // A leased entry is not claimed by another worker until the lease expires
+            List<Notification> claimedByOther = eventNotificationDAOImpl.claimOutboxEntries(connection,
+                    otherWorkerId, leaseExpiry, 100);
+            Assert.assertTrue(claimedByOther.stream().noneMatch(n -> notificationId.equals(n.getNotificationId())));
+
+            Assert.assertEquals(eventNotificationDAOImpl.renewOutboxLeases(connection, otherWorkerId,
+                    Collections.singletonList(notificationId), leaseExpiry + 60000), 0);
+            Assert.assertEquals(eventNotificationDAOImpl.renewOutboxLeases(connection, workerId,
+                    Collections.singletonList(notificationId), leaseExpiry + 60000), 1);
+            Assert.assertEquals(eventNotificationDAOImpl.deleteOutboxEntries(connection, otherWorkerId,
+                    Collections.singletonList(notificationId)), 0);
+            Assert.assertEquals(eventNotificationDAOImpl.deleteOutboxEntries(connection, workerId,
+                    Collections.singletonList(notificationId)), 1);
+        }
+    }
+
+    @Test
+    public void testReleaseOutboxEntries() throws SQLException, FSEventNotificationException {
+
+        String notificationId = UUID.randomUUID().toString();
+        String workerId = UUID.randomUUID().toString();
+        long leaseExpiry = System.currentTimeMillis() + 60000;
+        try (Connection connection = EventNotificationTestUtils.getConnection(DB_NAME)) {
+            eventNotificationDAOImpl.persistEventNotification(connection,
+                    EventNotificationTestUtils.getSampleNotificationDTO(notificationId),
+                    EventNotificationTestUtils.getSampleEventList());
+            eventNotificationDAOImpl.storeOutboxEntry(connection, notificationId);
+            eventNotificationDAOImpl.claimOutboxEntries(connection, workerId, leaseExpiry, 100);
+
+            Assert.assertEquals(eventNotificationDAOImpl.releaseOutboxEntries(connection,
+                    UUID.randomUUID().toString(), Collections.singletonList(notificationId)), 0);
+            Assert.assertEquals(eventNotificationDAOImpl.releaseOutboxEntries(connection, workerId,
+                    Collections.singletonList(notificationId)), 1);
+
+            // A released entry is claimed by another worker before the lease would have expired
+            List<Notification> reclaimed = eventNotificationDAOImpl.claimOutboxEntries(connection,
+                    UUID.randomUUID().toString(), leaseExpiry, 100);
+            Assert.assertTrue(reclaimed.stream().anyMatch(n -> notificationId.equals(n.getNotificationId())));
+        }
+    }
+
+    @Test
+    public void testOutboxEntryOfClosedNotificationNotClaimed() throws SQLException, FSEventNotificationException {
+
+        String notificationId = UUID.randomUUID().toString();
+        try (Connection connection = EventNotificationTestUtils.getConnection(DB_NAME)) {
+            eventNotificationDAOImpl.persistEventNotification(connection,
+                    EventNotificationTestUtils.getSampleNotificationDTO(notificationId),
+                    EventNotificationTestUtils.getSampleEventList());
+            eventNotificationDAOImpl.storeOutboxEntry(connection, notificationId);
+            eventNotificationDAOImpl.updateNotificationStatusById(connection, notificationId, "ACK");
+
+            List<Notification> claimed = eventNotificationDAOImpl.claimOutboxEntries(connection,
+                    UUID.randomUUID().toString(), System.currentTimeMillis() + 60000, 100);
+            Assert.assertTrue(claimed.stream().noneMatch(n -> notificationId.equals(n.getNotificationId())));
+        }
+    }
+
+    @Test
+    public void testClaimExpiredOutboxEntry() throws SQLException, FSEventNotificationException {
+
+        String notificationId = UUID.randomUUID().toString();
+        String workerId = UUID.randomUUID().toString();
+        try (Connection connection = EventNotificationTestUtils.getConnection(DB_NAME)) {
+            eventNotificationDAOImpl.persistEventNotification(connection,
+                    EventNotificationTestUtils.getSampleNotificationDTO(notificationId),
+                    EventNotificationTestUtils.getSampleEventList());
+            eventNotificationDAOImpl.storeOutboxEntry(connection, notificationId);
+
+            // Claim with an already expired lease, as a worker which stopped before finishing the delivery
+            eventNotificationDAOImpl.claimOutboxEntries(connection, workerId, 1, 100);
+            List<Notification> reclaimed = eventNotificationDAOImpl.claimOutboxEntries(connection,
+                    UUID.randomUUID().toString(), System.currentTimeMillis() + 60000, 100);
+
+            Assert.assertTrue(reclaimed.stream().anyMatch(n -> notificationId.equals(n.getNotificationId())));
+        }
+    }
+
+    @Test(expectedExceptions = FSEventNotificationException.class)
+    public void testClaimOutboxEntriesDBError() throws SQLException, FSEventNotificationException {
+
+        Mockito.when(mockedExceptionConnection.prepareStatement(anyString())).thenThrow(new SQLException());
+
+        eventNotificationDAOImpl.claimOutboxEntries(mockedExceptionConnection, UUID.randomUUID().toString(),
+                System.currentTimeMillis(), 10);
+    }
 }
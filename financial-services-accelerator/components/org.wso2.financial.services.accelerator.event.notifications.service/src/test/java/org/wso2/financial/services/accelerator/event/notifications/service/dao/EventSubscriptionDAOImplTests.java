@@ -34,7 +34,9 @@ import org.wso2.financial.services.accelerator.event.notifications.service.util.
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.anyString;
 
@@ -179,6 +181,32 @@ public class EventSubscriptionDAOImplTests {
         Assert.assertEquals(eventSubscriptions.size(), 2); // We expect one EventSubscription object
     }
 
+    @Test
+    public void testGetEventSubscriptionsByClientIds() throws FSEventNotificationException, SQLException {
+
+        List<EventSubscription> eventSubscriptions;
+        Map<String, List<EventSubscription>> eventSubscriptionsByClientId;
+        try (Connection connection = EventNotificationTestUtils.getConnection(DB_NAME)) {
+            eventSubscriptions = eventSubscriptionDAOImpl.getEventSubscriptionsByClientId(
+                    connection, EventNotificationTestConstants.SAMPLE_CLIENT_ID);
+            eventSubscriptionsByClientId = eventSubscriptionDAOImpl.getEventSubscriptionsByClientIds(connection,
+                    Arrays.asList(EventNotificationTestConstants.SAMPLE_CLIENT_ID, "TestClientID"));
+        }
+
+        Assert.assertEquals(eventSubscriptionsByClientId.size(), 2);
+        Assert.assertTrue(eventSubscriptionsByClientId.get("TestClientID").isEmpty());
+        List<EventSubscription> clientSubscriptions =
+                eventSubscriptionsByClientId.get(EventNotificationTestConstants.SAMPLE_CLIENT_ID);
+        Assert.assertEquals(clientSubscriptions.size(), eventSubscriptions.size());
+        for (EventSubscription eventSubscription : eventSubscriptions) {
+            EventSubscription batchedSubscription = clientSubscriptions.stream()
+                    .filter(subscription -> subscription.getSubscriptionId()
+                            .equals(eventSubscription.getSubscriptionId()))
+                    .findFirst().orElseThrow(AssertionError::new);
+            Assert.assertEquals(batchedSubscription.getEventTypes(), eventSubscription.getEventTypes());
+        }
+    }
+
     @Test
     public void testGetEventSubscriptionsByClientIdNoSubscriptions()
             throws FSEventNotificationException, SQLException {
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.realtime;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.event.notifications.service.realtime.service.CallbackHostCircuitBreaker;
+
+/**
+ * Test class for CallbackHostCircuitBreaker.
+ */
+public class CallbackHostCircuitBreakerTests {
+
+    private static final String HOST = "tpp.example.com";
+
+    @Test
+    public void testCircuitBreakerOpensWhenFailureRateReachesThreshold() {
+
+        CallbackHostCircuitBreaker circuitBreaker = new CallbackHostCircuitBreaker(HOST, 50, 4, 60000, 1);
+
+        for (int i = 0; i < 2; i++) {
+            Assert.assertTrue(circuitBreaker.tryAcquirePermission());
+            circuitBreaker.onSuccess();
+        }
+        Assert.assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onFailure();
+        Assert.assertEquals(circuitBreaker.getState(), CallbackHostCircuitBreaker.State.CLOSED);
+
+        Assert.assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onFailure();
+
+        Assert.assertEquals(circuitBreaker.getState(), CallbackHostCircuitBreaker.State.OPEN);
+        Assert.assertEquals(circuitBreaker.getFailureRate(), 50f);
+        Assert.assertEquals(circuitBreaker.getTripCount(), 1);
+        Assert.assertFalse(circuitBreaker.tryAcquirePermission());
+        Assert.assertEquals(circuitBreaker.getRejectedCount(), 1);
+        Assert.assertTrue(circuitBreaker.getRemainingOpenMillis() > 0);
+    }
+
+    @Test
+    public void testCircuitBreakerClosesAfterSuccessfulProbes() {
+
+        CallbackHostCircuitBreaker circuitBreaker = new CallbackHostCircuitBreaker(HOST, 50, 1, 0, 2);
+        circuitBreaker.onFailure();
+        Assert.assertEquals(circuitBreaker.getState(), CallbackHostCircuitBreaker.State.OPEN);
+
+        Assert.assertTrue(circuitBreaker.tryAcquirePermission());
+        Assert.assertEquals(circuitBreaker.getState(), CallbackHostCircuitBreaker.State.HALF_OPEN);
+        Assert.assertTrue(circuitBreaker.tryAcquirePermission());
+        Assert.assertFalse(circuitBreaker.tryAcquirePermission());
+
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        Assert.assertEquals(circuitBreaker.getState(), CallbackHostCircuitBreaker.State.CLOSED);
+        Assert.assertEquals(circuitBreaker.getFailureRate(), 0f);
+    }
+
+    @Test
+    public void testCircuitBreakerReopensWhenProbeFails() {
+
+        CallbackHostCircuitBreaker circuitBreaker = new CallbackHostCircuitBreaker(HOST, 50, 1, 0, 2);
+        circuitBreaker.onFailure();
+
+        Assert.assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onFailure();
+
+        Assert.assertEquals(circuitBreaker.getState(), CallbackHostCircuitBreaker.State.OPEN);
+        Assert.assertEquals(circuitBreaker.getTripCount(), 2);
+    }
+}
@@ -0,0 +1,219 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.realtime;
+
+import org.apache.http.HttpStatus;
+import org.apache.http.StatusLine;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.json.JSONObject;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+import org.wso2.financial.services.accelerator.event.notifications.service.RealtimeNotificationService;
+import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationConstants;
+import org.wso2.financial.services.accelerator.event.notifications.service.realtime.service.CallbackHostCircuitBreaker;
+import org.wso2.financial.services.accelerator.event.notifications.service.realtime.service.RealtimeEventNotificationDeliveryEngine;
+import org.wso2.financial.services.accelerator.event.notifications.service.realtime.service.RealtimeEventNotificationRequestGenerator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * Test class for RealtimeEventNotificationDeliveryEngine.
+ */
+public class RealtimeEventNotificationDeliveryEngineTests {
+
+    private static final String CALLBACK_URL = "https://tpp.example.com/callback";
+    private MockedStatic<FinancialServicesConfigParser> configParserMockedStatic;
+    private RealtimeEventNotificationRequestGenerator requestGenerator;
+
+    @BeforeClass
+    public void initTest() {
+
+        FinancialServicesConfigParser configParserMock = Mockito.mock(FinancialServicesConfigParser.class);
+        Mockito.doReturn(1).when(configParserMock).getRealtimeEventNotificationMaxRetries();
+        Mockito.doReturn(0).when(configParserMock).getRealtimeEventNotificationInitialBackoffTimeInSeconds();
+        Mockito.doReturn("CONSTANT").when(configParserMock).getRealtimeEventNotificationBackoffFunction();
+        Mockito.doReturn(600).when(configParserMock).getRealtimeEventNotificationCircuitBreakerOpenTimeoutInSeconds();
+        Mockito.doReturn(60).when(configParserMock).getRealtimeEventNotificationTimeoutInSeconds();
+        Mockito.doReturn(1).when(configParserMock).getRealtimeEventNotificationMaxInFlightRequestsPerHost();
+        Mockito.doReturn(50).when(configParserMock).getHostCircuitBreakerFailureRateThreshold();
+        Mockito.doReturn(2).when(configParserMock).getHostCircuitBreakerSlidingWindowSize();
+        Mockito.doReturn(60).when(configParserMock).getHostCircuitBreakerWaitDurationInOpenStateInSeconds();
+        Mockito.doReturn(1).when(configParserMock).getHostCircuitBreakerPermittedCallsInHalfOpenState();
+        configParserMockedStatic = Mockito.mockStatic(FinancialServicesConfigParser.class);
+        configParserMockedStatic.when(FinancialServicesConfigParser::getInstance).thenReturn(configParserMock);
+
+        requestGenerator = Mockito.mock(RealtimeEventNotificationRequestGenerator.class);
+        Mockito.doReturn(Collections.emptyMap()).when(requestGenerator).getAdditionalHeaders();
+    }
+
+    @AfterClass
+    public void tearDown() {
+
+        configParserMockedStatic.close();
+    }
+
+    @Test
+    public void testDeliverAcknowledgedNotification() throws Exception {
+
+        CloseableHttpResponse response = getResponse(HttpStatus.SC_ACCEPTED);
+        CloseableHttpClient httpClient = Mockito.mock(CloseableHttpClient.class);
+        Mockito.doReturn(response).when(httpClient).execute(any(HttpUriRequest.class));
+        RealtimeNotificationService realtimeNotificationService = Mockito.mock(RealtimeNotificationService.class);
+
+        new RealtimeEventNotificationDeliveryEngine(httpClient, requestGenerator, realtimeNotificationService,
+                Runnable::run).deliver(CALLBACK_URL, new JSONObject(), "notification-1");
+
+        Mockito.verify(response).close();
+        Mockito.verify(realtimeNotificationService, Mockito.times(1)).updateNotificationStatusById(
+                Mockito.anyString(), Mockito.any());
+        Mockito.verify(realtimeNotificationService).updateNotificationStatusById("notification-1",
+                EventNotificationConstants.EventNotificationStatusEnum.ACK);
+    }
+
+    @Test
+    public void testDeliverWritesErrorOnceAfterRetries() throws Exception {
+
+        CloseableHttpResponse response = getResponse(HttpStatus.SC_INTERNAL_SERVER_ERROR);
+        CloseableHttpClient httpClient = Mockito.mock(CloseableHttpClient.class);
+        Mockito.doReturn(response).when(httpClient).execute(any(HttpUriRequest.class));
+        RealtimeNotificationService realtimeNotificationService = Mockito.mock(RealtimeNotificationService.class);
+
+        new RealtimeEventNotificationDeliveryEngine(httpClient, requestGenerator, realtimeNotificationService,
+                Runnable::run).deliver(CALLBACK_URL, new JSONObject(), "notification-2");
+
+        Mockito.verify(realtimeNotificationService, Mockito.timeout(5000)).updateNotificationStatusById(
+                "notification-2", EventNotificationConstants.EventNotificationStatusEnum.ERROR);
+        Mockito.verify(httpClient, Mockito.times(2)).execute(any(HttpUriRequest.class));
+        Mockito.verify(response, Mockito.times(2)).close();
+        Mockito.verify(realtimeNotificationService, Mockito.times(1)).updateNotificationStatusById(
+                Mockito.anyString(), Mockito.any());
+    }
+
+    @Test
+    public void testDeliveriesWaitForBusyCallbackHost() throws Exception {
+
+        CloseableHttpResponse response = getResponse(HttpStatus.SC_ACCEPTED);
+        CloseableHttpClient httpClient = Mockito.mock(CloseableHttpClient.class);
+        Mockito.doReturn(response).when(httpClient).execute(any(HttpUriRequest.class));
+        RealtimeNotificationService realtimeNotificationService = Mockito.mock(RealtimeNotificationService.class);
+        List<Runnable> submittedTasks = new ArrayList<>();
+
+        RealtimeEventNotificationDeliveryEngine deliveryEngine = new RealtimeEventNotificationDeliveryEngine(
+                httpClient, requestGenerator, realtimeNotificationService, submittedTasks::add);
+        deliveryEngine.deliver(CALLBACK_URL, new JSONObject(), "notification-3");
+        deliveryEngine.deliver(CALLBACK_URL, new JSONObject(), "notification-4");
+
+        Assert.assertEquals(submittedTasks.size(), 1);
+        Assert.assertEquals(deliveryEngine.getWaitingDeliveryCount("tpp.example.com"), 1);
+
+        submittedTasks.remove(0).run();
+
+        Assert.assertEquals(submittedTasks.size(), 1);
+        Assert.assertEquals(deliveryEngine.getWaitingDeliveryCount("tpp.example.com"), 0);
+        submittedTasks.remove(0).run();
+        Mockito.verify(realtimeNotificationService, Mockito.times(2)).updateNotificationStatusById(
+                Mockito.anyString(), Mockito.eq(EventNotificationConstants.EventNotificationStatusEnum.ACK));
+    }
+
+    @Test
+    public void testOpenCircuitBreakerStopsRequestsToCallbackHost() throws Exception {
+
+        CloseableHttpResponse response = getResponse(HttpStatus.SC_SERVICE_UNAVAILABLE);
+        CloseableHttpClient httpClient = Mockito.mock(CloseableHttpClient.class);
+        Mockito.doReturn(response).when(httpClient).execute(any(HttpUriRequest.class));
+        RealtimeNotificationService realtimeNotificationService = Mockito.mock(RealtimeNotificationService.class);
+
+        RealtimeEventNotificationDeliveryEngine deliveryEngine = new RealtimeEventNotificationDeliveryEngine(
+                httpClient, requestGenerator, realtimeNotificationService, Runnable::run);
+        deliveryEngine.deliver(CALLBACK_URL, new JSONObject(), "notification-5");
+
+        Mockito.verify(realtimeNotificationService, Mockito.timeout(5000)).updateNotificationStatusById(
+                "notification-5", EventNotificationConstants.EventNotificationStatusEnum.ERROR);
+        Assert.assertEquals(deliveryEngine.getCircuitBreakerStates().get("tpp.example.com"),
+                CallbackHostCircuitBreaker.State.OPEN);
+        Assert.assertEquals(deliveryEngine.getCircuitBreakerTripCount(), 1);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (deliveryEngine.getInFlightRequestCount("tpp.example.com") > 0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // While the breaker is open, a new notification to the host is deferred without sending a request.
+        deliveryEngine.deliver(CALLBACK_URL, new JSONObject(), "notification-6");
+
+        Mockito.verify(httpClient, Mockito.times(2)).execute(any(HttpUriRequest.class));
+        Mockito.verify(realtimeNotificationService, Mockito.never()).updateNotificationStatusById(
+                Mockito.eq("notification-6"), Mockito.any());
+        Assert.assertEquals(deliveryEngine.getCircuitBreaker("tpp.example.com").getRejectedCount(), 1);
+    }
+
+    @Test
+    public void testShutdownCancelsRetries() throws Exception {
+
+        CloseableHttpResponse response = getResponse(HttpStatus.SC_INTERNAL_SERVER_ERROR);
+        CloseableHttpClient httpClient = Mockito.mock(CloseableHttpClient.class);
+        Mockito.doReturn(response).when(httpClient).execute(any(HttpUriRequest.class));
+        RealtimeNotificationService realtimeNotificationService = Mockito.mock(RealtimeNotificationService.class);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try {
+            RealtimeEventNotificationDeliveryEngine deliveryEngine = new RealtimeEventNotificationDeliveryEngine(
+                    httpClient, requestGenerator, realtimeNotificationService, executorService);
+            deliveryEngine.shutdown();
+            CompletableFuture<EventNotificationConstants.EventNotificationStatusEnum> result =
+                    deliveryEngine.deliver(CALLBACK_URL, new JSONObject(), "notification-7");
+
+            // The failed request is not retried, and the status is left for the notification to be claimed again.
+            Mockito.verify(httpClient, Mockito.timeout(5000)).execute(any(HttpUriRequest.class));
+            Thread.sleep(100);
+            Mockito.verify(httpClient, Mockito.times(1)).execute(any(HttpUriRequest.class));
+            Mockito.verify(realtimeNotificationService, Mockito.never()).updateNotificationStatusById(
+                    Mockito.anyString(), Mockito.any());
+            Assert.assertFalse(result.isDone());
+            // The executor given to the engine is not shut down by it.
+            Assert.assertFalse(executorService.isShutdown());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static CloseableHttpResponse getResponse(int statusCode) {
+
+        StatusLine statusLine = Mockito.mock(StatusLine.class);
+        Mockito.doReturn(statusCode).when(statusLine).getStatusCode();
+        CloseableHttpResponse response = Mockito.mock(CloseableHttpResponse.class);
+        Mockito.doReturn(statusLine).when(response).getStatusLine();
+        return response;
+    }
+}
@@ -0,0 +1,277 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.realtime;
+
+import org.json.JSONObject;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+import org.wso2.financial.services.accelerator.event.notifications.service.EventNotificationGenerator;
+import org.wso2.financial.services.accelerator.event.notifications.service.EventSubscriptionService;
+import org.wso2.financial.services.accelerator.event.notifications.service.RealtimeNotificationService;
+import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationConstants;
+import org.wso2.financial.services.accelerator.event.notifications.service.exception.FSEventNotificationException;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.EventSubscription;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.Notification;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationEvent;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationResponse;
+import org.wso2.financial.services.accelerator.event.notifications.service.realtime.service.RealtimeEventNotificationDeliveryEngine;
+import org.wso2.financial.services.accelerator.event.notifications.service.realtime.service.RealtimeEventNotificationOutboxWorker;
+import org.wso2.financial.services.accelerator.event.notifications.service.realtime.service.RealtimeEventNotificationRequestGenerator;
+import org.wso2.financial.services.accelerator.event.notifications.service.util.EventNotificationServiceUtil;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+/**
+ * Test class for RealtimeEventNotificationOutboxWorker.
+ */
+public class RealtimeEventNotificationOutboxWorkerTests {
+
+    private static final String NOTIFICATION_ID = "notification-1";
+    private static final String CLIENT_ID = "client-1";
+    private static final String EVENT_TYPE = "urn_uk_org_openbanking_events_resource-update";
+
+    private MockedStatic<FinancialServicesConfigParser> configParserMockedStatic;
+    private MockedStatic<EventNotificationServiceUtil> serviceUtilMockedStatic;
+    private RealtimeNotificationService realtimeNotificationService;
+    private EventSubscriptionService eventSubscriptionService;
+    private EventNotificationGenerator eventNotificationGenerator;
+    private RealtimeEventNotificationDeliveryEngine deliveryEngine;
+    private ScheduledExecutorService scheduler;
+    private RealtimeEventNotificationOutboxWorker worker;
+    private Runnable poll;
+    private Runnable renewLeases;
+
+    @BeforeClass
+    public void initTest() {
+
+        FinancialServicesConfigParser configParserMock = Mockito.mock(FinancialServicesConfigParser.class);
+        Mockito.doReturn(30).when(configParserMock).getRealtimeEventNotificationOutboxLeaseDurationInSeconds();
+        Mockito.doReturn(10).when(configParserMock).getRealtimeEventNotificationOutboxClaimBatchSize();
+        Mockito.doReturn(10).when(configParserMock).getRealtimeEventNotificationOutboxMaxInProgressNotifications();
+        Mockito.doReturn(1000).when(configParserMock).getRealtimeEventNotificationOutboxPollIntervalInMillis();
+        configParserMockedStatic = Mockito.mockStatic(FinancialServicesConfigParser.class);
+        configParserMockedStatic.when(FinancialServicesConfigParser::getInstance).thenReturn(configParserMock);
+
+        RealtimeEventNotificationRequestGenerator requestGenerator =
+                Mockito.mock(RealtimeEventNotificationRequestGenerator.class);
+        Mockito.doReturn(new JSONObject()).when(requestGenerator).getRealtimeEventNotificationPayload(any(), any());
+        serviceUtilMockedStatic = Mockito.mockStatic(EventNotificationServiceUtil.class);
+        serviceUtilMockedStatic.when(EventNotificationServiceUtil::getRealtimeEventNotificationRequestGenerator)
+                .thenReturn(requestGenerator);
+    }
+
+    @AfterClass
+    public void tearDown() {
+
+        configParserMockedStatic.close();
+        serviceUtilMockedStatic.close();
+    }
+
+    @BeforeMethod
+    public void initMethod() throws Exception {
+
+        realtimeNotificationService = Mockito.mock(RealtimeNotificationService.class);
+        eventSubscriptionService = Mockito.mock(EventSubscriptionService.class);
+        eventNotificationGenerator = Mockito.mock(EventNotificationGenerator.class);
+        deliveryEngine = Mockito.mock(RealtimeEventNotificationDeliveryEngine.class);
+        scheduler = Mockito.mock(ScheduledExecutorService.class);
+
+        Mockito.doReturn(Collections.singletonList(getNotification()))
+                .doReturn(Collections.emptyList())
+                .when(realtimeNotificationService).claimOutboxNotifications(anyString(), anyLong(), anyInt());
+        Mockito.doReturn(Collections.singletonMap(NOTIFICATION_ID, Collections.singletonList(getEvent())))
+                .when(realtimeNotificationService).getEventsByNotificationIDs(anyList());
+        Mockito.doReturn(new NotificationResponse()).when(eventNotificationGenerator)
+                .generateEventNotificationBody(any(), anyList());
+        Mockito.doReturn("security-event-token").when(eventNotificationGenerator).generateEventNotification(any());
+
+        worker = new RealtimeEventNotificationOutboxWorker(realtimeNotificationService, eventSubscriptionService,
+                eventNotificationGenerator, deliveryEngine, scheduler);
+        worker.start();
+        ArgumentCaptor<Runnable> tasks = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.verify(scheduler, Mockito.times(2)).scheduleWithFixedDelay(tasks.capture(), anyLong(),
+                anyLong(), any(TimeUnit.class));
+        poll = tasks.getAllValues().get(0);
+        renewLeases = tasks.getAllValues().get(1);
+    }
+
+    @Test
+    public void testLeasesRenewedOnlyWhileDeliveryInProgress() throws Exception {
+
+        CompletableFuture<EventNotificationConstants.EventNotificationStatusEnum> delivery = new CompletableFuture<>();
+        Mockito.doReturn(delivery).when(deliveryEngine).deliver(anyString(), any(), anyString());
+        mockSubscriptions(Collections.singletonList(EVENT_TYPE));
+
+        poll.run();
+        Assert.assertEquals(worker.getInProgressCount(), 1);
+
+        renewLeases.run();
+        Mockito.verify(realtimeNotificationService).renewOutboxLeases(eq(worker.getWorkerId()),
+                eq(Collections.singletonList(NOTIFICATION_ID)), anyLong());
+
+        delivery.complete(EventNotificationConstants.EventNotificationStatusEnum.ACK);
+        Assert.assertEquals(worker.getInProgressCount(), 0);
+
+        renewLeases.run();
+        Mockito.verify(realtimeNotificationService, Mockito.times(1)).renewOutboxLeases(anyString(), anyList(),
+                anyLong());
+        Mockito.verify(realtimeNotificationService).deleteOutboxEntries(worker.getWorkerId(),
+                Collections.singletonList(NOTIFICATION_ID));
+    }
+
+    @Test
+    public void testNotificationCompletedOnRuntimeException() throws Exception {
+
+        // A subscription without event types fails the notification with a runtime exception
+        mockSubscriptions(null);
+
+        poll.run();
+
+        Assert.assertEquals(worker.getInProgressCount(), 0);
+        Mockito.verify(deliveryEngine, Mockito.never()).deliver(anyString(), any(), anyString());
+
+        renewLeases.run();
+        Mockito.verify(realtimeNotificationService, Mockito.never()).renewOutboxLeases(anyString(), anyList(),
+                anyLong());
+        Mockito.verify(realtimeNotificationService).deleteOutboxEntries(worker.getWorkerId(),
+                Collections.singletonList(NOTIFICATION_ID));
+    }
+
+    @Test
+    public void testClaimedNotificationsReleasedWhenDeliveryCannotStart() throws Exception {
+
+        Mockito.doThrow(new FSEventNotificationException("Error")).when(realtimeNotificationService)
+                .getEventsByNotificationIDs(anyList());
+
+        poll.run();
+
+        Assert.assertEquals(worker.getInProgressCount(), 0);
+        Mockito.verify(realtimeNotificationService).releaseOutboxEntries(worker.getWorkerId(),
+                Collections.singletonList(NOTIFICATION_ID));
+        Mockito.verify(deliveryEngine, Mockito.never()).deliver(anyString(), any(), anyString());
+    }
+
+    @Test
+    public void testNotificationReleasedWhenTokenGenerationFails() throws Exception {
+
+        Mockito.doThrow(new FSEventNotificationException("Error")).when(eventNotificationGenerator)
+                .generateEventNotification(any());
+        mockSubscriptions(Collections.singletonList(EVENT_TYPE));
+
+        poll.run();
+        Assert.assertEquals(worker.getInProgressCount(), 0);
+
+        renewLeases.run();
+        Mockito.verify(realtimeNotificationService).releaseOutboxEntries(worker.getWorkerId(),
+                Collections.singletonList(NOTIFICATION_ID));
+        Mockito.verify(realtimeNotificationService, Mockito.never()).deleteOutboxEntries(anyString(), anyList());
+    }
+
+    @Test
+    public void testLeaseRenewedUntilCompletedNotificationRemoved() throws Exception {
+
+        CompletableFuture<EventNotificationConstants.EventNotificationStatusEnum> delivery = new CompletableFuture<>();
+        Mockito.doReturn(delivery).when(deliveryEngine).deliver(anyString(), any(), anyString());
+        Mockito.doThrow(new FSEventNotificationException("Error")).doNothing().when(realtimeNotificationService)
+                .deleteOutboxEntries(anyString(), anyList());
+        mockSubscriptions(Collections.singletonList(EVENT_TYPE));
+
+        poll.run();
+        delivery.complete(EventNotificationConstants.EventNotificationStatusEnum.ACK);
+
+        renewLeases.run();
+        Mockito.verify(realtimeNotificationService).renewOutboxLeases(eq(worker.getWorkerId()),
+                eq(Collections.singletonList(NOTIFICATION_ID)), anyLong());
+
+        renewLeases.run();
+        Mockito.verify(realtimeNotificationService, Mockito.times(2)).deleteOutboxEntries(worker.getWorkerId(),
+                Collections.singletonList(NOTIFICATION_ID));
+        Mockito.verify(realtimeNotificationService, Mockito.times(1)).renewOutboxLeases(anyString(), anyList(),
+                anyLong());
+    }
+
+    @Test
+    public void testStartIsIdempotent() {
+
+        worker.start();
+
+        Mockito.verify(scheduler, Mockito.times(2)).scheduleWithFixedDelay(any(Runnable.class), anyLong(),
+                anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void testShutdownReleasesNotificationsInProgress() throws Exception {
+
+        Mockito.doReturn(new CompletableFuture<>()).when(deliveryEngine).deliver(anyString(), any(), anyString());
+        mockSubscriptions(Collections.singletonList(EVENT_TYPE));
+        poll.run();
+
+        worker.shutdown();
+
+        Mockito.verify(scheduler).shutdownNow();
+        Mockito.verify(realtimeNotificationService).releaseOutboxEntries(worker.getWorkerId(),
+                Collections.singletonList(NOTIFICATION_ID));
+    }
+
+    private void mockSubscriptions(List<String> eventTypes) throws FSEventNotificationException {
+
+        EventSubscription subscription = new EventSubscription();
+        subscription.setClientId(CLIENT_ID);
+        subscription.setCallbackUrl("https://tpp.example.com/callback");
+        subscription.setEventTypes(eventTypes);
+        Mockito.doReturn(Collections.singletonMap(CLIENT_ID, Collections.singletonList(subscription)))
+                .when(eventSubscriptionService).getEventSubscriptionsByClientIds(any());
+    }
+
+    private static Notification getNotification() {
+
+        Notification notification = new Notification();
+        notification.setNotificationId(NOTIFICATION_ID);
+        notification.setClientId(CLIENT_ID);
+        notification.setResourceId("resource-1");
+        notification.setStatus(EventNotificationConstants.OPEN);
+        return notification;
+    }
+
+    private static NotificationEvent getEvent() {
+
+        NotificationEvent event = new NotificationEvent();
+        event.setNotificationId(NOTIFICATION_ID);
+        event.setEventType(EVENT_TYPE);
+        return event;
+    }
+}
@@ -41,3 +41,13 @@ CREATE TABLE IF NOT EXISTS FS_NOTIFICATION_SUBSCRIBED_EVENTS (
     PRIMARY KEY (SUBSCRIPTION_ID, EVENT_TYPE),
     CONSTRAINT FK_NotificationSubEvents FOREIGN KEY (SUBSCRIPTION_ID) REFERENCES FS_NOTIFICATION_SUBSCRIPTION(SUBSCRIPTION_ID)
 );
+
+CREATE TABLE IF NOT EXISTS FS_NOTIFICATION_OUTBOX (
+    NOTIFICATION_ID     VARCHAR(36) NOT NULL,
+    CLAIMED_BY          VARCHAR(36),
+    LEASE_EXPIRY        BIGINT NOT NULL,
+    CREATED_TIMESTAMP   BIGINT NOT NULL,
+    PRIMARY KEY (NOTIFICATION_ID)
+);
+
+CREATE INDEX IF NOT EXISTS IDX_FS_NOTIFICATION_OUTBOX_LEASE ON FS_NOTIFICATION_OUTBOX (LEASE_EXPIRY);
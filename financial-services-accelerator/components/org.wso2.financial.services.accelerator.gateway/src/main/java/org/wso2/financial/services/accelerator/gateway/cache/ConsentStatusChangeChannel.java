@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Channel through which consent status changes are announced to the caches holding decisions of the consent.
+ * <p>
+ * Publishers are the components receiving consent status change events of the deployment, such as the
+ * {@link ConsentStatusChangePoller} retrieving the changes from the identity server. Subscribers are invoked on the
+ * publishing thread.
+ */
+public class ConsentStatusChangeChannel {
+
+    private static final Log log = LogFactory.getLog(ConsentStatusChangeChannel.class);
+    private static volatile ConsentStatusChangeChannel instance;
+
+    private final List<Consumer<String>> subscribers = new CopyOnWriteArrayList<>();
+
+    public static ConsentStatusChangeChannel getInstance() {
+
+        if (instance == null) {
+            synchronized (ConsentStatusChangeChannel.class) {
+                if (instance == null) {
+                    instance = new ConsentStatusChangeChannel();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Subscribe to consent status changes.
+     *
+     * @param subscriber consumer of the ID of the changed consent
+     */
+    public void subscribe(Consumer<String> subscriber) {
+
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Unsubscribe from consent status changes.
+     *
+     * @param subscriber subscribed consumer
+     */
+    public void unsubscribe(Consumer<String> subscriber) {
+
+        subscribers.remove(subscriber);
+    }
+
+    /**
+     * Announce that the status of a consent changed.
+     *
+     * @param consentId ID of the changed consent
+     */
+    public void publish(String consentId) {
+
+        for (Consumer<String> subscriber : subscribers) {
+            try {
+                subscriber.accept(consentId);
+            } catch (RuntimeException e) {
+                log.error("Error occurred while notifying a consent status change subscriber", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.cache;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.utils.URIBuilder;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+import org.wso2.financial.services.accelerator.common.util.DaemonThreadFactory;
+import org.wso2.financial.services.accelerator.common.util.Generated;
+import org.wso2.financial.services.accelerator.gateway.internal.GatewayDataHolder;
+import org.wso2.financial.services.accelerator.gateway.util.GatewayConstants;
+import org.wso2.financial.services.accelerator.gateway.util.GatewayUtils;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the identity server for the consents whose status changed and publishes them on the
+ * {@link ConsentStatusChangeChannel}.
+ * <p>
+ * The identity server returns the consents updated since the time the previous poll ended at, and the time of the
+ * current poll. Each poll looks back further than the previous poll by a fixed period, so that a status change
+ * committed by a transaction that started before the previous poll is not missed. When the identity server reports
+ * more changes than it returns, or at the first poll when the changes before it are unknown, all cached decisions
+ * are invalidated instead. A failed poll does not advance the time, so its changes are published by the next one.
+ */
+public class ConsentStatusChangePoller {
+
+    private static final Log log = LogFactory.getLog(ConsentStatusChangePoller.class);
+    private static final String STATUS_CHANGES_PATH = "/status-changes";
+    private static final String FROM_TIME = "fromTime";
+    private static final String TO_TIME = "toTime";
+    private static final String CONSENT_IDS = "consentIds";
+    private static final String TRUNCATED = "truncated";
+    private static final long LOOK_BACK_SECONDS = 30;
+
+    private final String statusChangesEndpoint;
+    private final long pollIntervalMillis;
+    private final ConsentStatusChangeChannel channel;
+    private final Runnable invalidateAll;
+    private final ScheduledExecutorService scheduler;
+    private Long fromTime;
+
+    /**
+     * Create a poller of consent status changes.
+     *
+     * @param consentValidationEndpoint consent validation endpoint of the identity server
+     * @param pollIntervalSeconds       time between two polls
+     * @param channel                   channel the changed consents are published on
+     * @param invalidateAll             action invalidating all cached decisions
+     */
+    public ConsentStatusChangePoller(String consentValidationEndpoint, int pollIntervalSeconds,
+                                     ConsentStatusChangeChannel channel, Runnable invalidateAll) {
+
+        this.statusChangesEndpoint = consentValidationEndpoint + STATUS_CHANGES_PATH;
+        this.pollIntervalMillis = TimeUnit.SECONDS.toMillis(Math.max(1, pollIntervalSeconds));
+        this.channel = channel;
+        this.invalidateAll = invalidateAll;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                new DaemonThreadFactory("consent-status-change-poller"));
+    }
+
+    /**
+     * Start polling the consent status changes.
+     */
+    public void start() {
+
+        scheduler.scheduleWithFixedDelay(this::poll, 0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop polling the consent status changes.
+     */
+    public void shutdown() {
+
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Retrieve the consent status changes since the previous poll and publish them.
+     */
+    void poll() {
+
+        JSONObject statusChanges;
+        long toTime;
+        try {
+            statusChanges = new JSONObject(fetchStatusChanges(fromTime));
+            toTime = statusChanges.getLong(TO_TIME);
+        } catch (IOException | FinancialServicesException | RuntimeException e) {
+            // Exceptions are not propagated, since they would stop the scheduled polls.
+            log.error("Error occurred while retrieving the consent status changes", e);
+            return;
+        }
+
+        JSONArray consentIds = statusChanges.optJSONArray(CONSENT_IDS);
+        try {
+            if (fromTime == null || statusChanges.optBoolean(TRUNCATED) || consentIds == null) {
+                invalidateAll.run();
+            } else {
+                for (int i = 0; i < consentIds.length(); i++) {
+                    channel.publish(consentIds.optString(i));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Error occurred while invalidating the cached consent validation decisions", e);
+            return;
+        }
+        fromTime = toTime - LOOK_BACK_SECONDS;
+    }
+
+    /**
+     * Retrieve the consent status changes from the identity server.
+     *
+     * @param fromTime time the changes are retrieved from (in seconds), null to retrieve only the current time
+     * @return response of the identity server
+     * @throws IOException                when failed to invoke the identity server
+     * @throws FinancialServicesException when failed to create the HTTP client
+     */
+    @Generated(message = "Ignoring from unit tests since this method require calling external component to function")
+    protected String fetchStatusChanges(Long fromTime) throws IOException, FinancialServicesException {
+
+        HttpGet httpGet;
+        try {
+            URIBuilder uriBuilder = new URIBuilder(statusChangesEndpoint);
+            if (fromTime != null) {
+                uriBuilder.addParameter(FROM_TIME, String.valueOf(fromTime));
+            }
+            httpGet = new HttpGet(uriBuilder.build());
+        } catch (URISyntaxException e) {
+            throw new FinancialServicesException("Invalid consent status changes endpoint", e);
+        }
+        String userName = GatewayUtils.getAPIMgtConfig(GatewayConstants.API_KEY_VALIDATOR_USERNAME);
+        String password = GatewayUtils.getAPIMgtConfig(GatewayConstants.API_KEY_VALIDATOR_PASSWORD);
+        httpGet.setHeader(GatewayConstants.AUTH_HEADER, GatewayUtils.getBasicAuthHeader(userName, password));
+        try (CloseableHttpResponse response = GatewayDataHolder.getHttpClient().execute(httpGet)) {
+            String responseBody = IOUtils.toString(response.getEntity().getContent(),
+                    String.valueOf(StandardCharsets.UTF_8));
+            if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+                throw new IOException("Failed to retrieve the consent status changes. Status code: "
+                        + response.getStatusLine().getStatusCode());
+            }
+            return responseBody;
+        }
+    }
+}
@@ -0,0 +1,336 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.cache;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.accelerator.common.caching.FinancialServicesBaseCache;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of positive consent validation decisions used by the consent enforcement executor.
+ * <p>
+ * A decision is keyed on the consent ID, client ID, user ID, HTTP method, the normalized resource path and the
+ * request headers sent to the validation service, except the ignored ones. It is
+ * served until its time to live elapses, and never after the expiry time of the consent reported by the validation
+ * service. Every entry is stamped with the version of its consent, and {@link #invalidate(String)} bumps the version
+ * when the status of the consent changes, so all decisions of the consent stop being served at once. The number of
+ * entries is bounded by evicting the least recently used decision.
+ */
+public class ConsentValidationDecisionCache extends FinancialServicesBaseCache<GatewayCacheKey,
+        ConsentValidationDecisionCache.CachedDecision> {
+
+    private static final Log log = LogFactory.getLog(ConsentValidationDecisionCache.class);
+    private static final String cacheName = "FINANCIAL_SERVICES_CONSENT_VALIDATION_DECISION_CACHE";
+    private static final int VERSION_STRIPES = 1024;
+    private static final String KEY_SEPARATOR = "|";
+
+    private final Clock clock;
+    private final long timeToLiveMillis;
+    private final int maxEntries;
+    private final int expiryMinutes;
+
+    // Versions are striped by consent ID so that tracking them does not grow with the number of consents.
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final Map<String, Boolean> cachedKeys;
+
+    private final LongAdder invalidationCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Initialize with unique cache name.
+     *
+     * @param timeToLiveSeconds time a cached decision is served
+     * @param maxEntries        maximum number of cached decisions
+     * @param clock             clock used to evaluate expiry
+     */
+    public ConsentValidationDecisionCache(int timeToLiveSeconds, int maxEntries, Clock clock) {
+
+        super(cacheName);
+        this.clock = clock;
+        this.timeToLiveMillis = TimeUnit.SECONDS.toMillis(timeToLiveSeconds);
+        this.maxEntries = maxEntries;
+        this.expiryMinutes = (int) Math.max(1, TimeUnit.SECONDS.toMinutes(timeToLiveSeconds + 59L));
+        this.cachedKeys = new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+
+                if (size() > ConsentValidationDecisionCache.this.maxEntries) {
+                    evictionCount.increment();
+                    removeFromCache(GatewayCacheKey.of(eldest.getKey()));
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Build the key of a decision of a request without headers.
+     *
+     * @param consentId  consent ID
+     * @param clientId   client ID
+     * @param userId     user ID
+     * @param httpMethod HTTP method of the request
+     * @param context    API context of the request
+     * @param resource   resource path of the request including the query
+     * @return decision key
+     */
+    public static String buildKey(String consentId, String clientId, String userId, String httpMethod,
+                                  String context, String resource) {
+
+        return buildKey(consentId, clientId, userId, httpMethod, context, resource, Collections.emptyMap(),
+                Collections.emptySet());
+    }
+
+    /**
+     * Build the key of a decision. The headers are sent to the validation service with the request, so the ones
+     * not ignored are part of the key. Header names are compared case insensitively.
+     *
+     * @param consentId      consent ID
+     * @param clientId       client ID
+     * @param userId         user ID
+     * @param httpMethod     HTTP method of the request
+     * @param context        API context of the request
+     * @param resource       resource path of the request including the query
+     * @param headers        request headers sent to the validation service
+     * @param ignoredHeaders lower case names of the headers not used by the validation service
+     * @return decision key
+     */
+    public static String buildKey(String consentId, String clientId, String userId, String httpMethod,
+                                  String context, String resource, Map<String, String> headers,
+                                  Set<String> ignoredHeaders) {
+
+        String key = String.join(KEY_SEPARATOR, consentId, StringUtils.defaultString(clientId),
+                StringUtils.defaultString(userId), StringUtils.upperCase(httpMethod, Locale.ENGLISH),
+                normalizeResourcePath(StringUtils.defaultString(context) + "/" + StringUtils.defaultString(resource)));
+
+        Map<String, String> keyHeaders = new TreeMap<>();
+        if (headers != null) {
+            headers.forEach((name, value) -> {
+                String headerName = StringUtils.lowerCase(name, Locale.ENGLISH);
+                if (headerName != null && (ignoredHeaders == null || !ignoredHeaders.contains(headerName))) {
+                    keyHeaders.put(headerName, StringUtils.defaultString(value));
+                }
+            });
+        }
+        if (keyHeaders.isEmpty()) {
+            return key;
+        }
+        // Names and values are prefixed with their lengths, so that no two sets of headers build the same key.
+        StringBuilder keyBuilder = new StringBuilder(key).append(KEY_SEPARATOR);
+        keyHeaders.forEach((name, value) -> keyBuilder.append(name.length()).append(':').append(name)
+                .append(value.length()).append(':').append(value));
+        return keyBuilder.toString();
+    }
+
+    /**
+     * Normalize a resource path by removing repeated and trailing slashes and sorting the query parameters.
+     *
+     * @param resourcePath resource path including the query
+     * @return normalized resource path
+     */
+    public static String normalizeResourcePath(String resourcePath) {
+
+        String path = StringUtils.substringBefore(resourcePath, "?");
+        String query = StringUtils.substringAfter(resourcePath, "?");
+
+        path = path.replaceAll("/{2,}", "/");
+        if (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        if (StringUtils.isEmpty(query)) {
+            return path;
+        }
+        String[] queryParams = query.split("&");
+        Arrays.sort(queryParams);
+        return path + "?" + String.join("&", queryParams);
+    }
+
+    /**
+     * Get the current version of a consent. The version must be read before invoking the validation service and
+     * passed to {@link #put(String, String, String, long, long)}.
+     *
+     * @param consentId consent ID
+     * @return current version of the consent
+     */
+    public long getVersion(String consentId) {
+
+        return versions.get(stripeOf(consentId));
+    }
+
+    /**
+     * Get a cached decision.
+     *
+     * @param consentId consent ID
+     * @param key       decision key
+     * @return cached validation response, or null if it is not cached, expired or invalidated
+     */
+    public String get(String consentId, String key) {
+
+        CachedDecision cached = getFromCache(GatewayCacheKey.of(key));
+        if (cached == null || cached.version != getVersion(consentId) || clock.millis() >= cached.expiryTime) {
+            return null;
+        }
+        synchronized (cachedKeys) {
+            cachedKeys.get(key);
+        }
+        return cached.validationResponse;
+    }
+
+    /**
+     * Cache a positive decision unless the consent changed after the given version was read.
+     *
+     * @param consentId          consent ID
+     * @param key                decision key
+     * @param validationResponse validation response of the decision
+     * @param consentExpiryTime  expiry time of the consent in epoch seconds, 0 if the consent does not expire
+     * @param version            version of the consent read before invoking the validation service
+     */
+    public void put(String consentId, String key, String validationResponse, long consentExpiryTime,
+                    long version) {
+
+        if (validationResponse == null || version != getVersion(consentId)) {
+            return;
+        }
+        long now = clock.millis();
+        long expiryTime = now + timeToLiveMillis;
+        if (consentExpiryTime > 0) {
+            expiryTime = Math.min(expiryTime, TimeUnit.SECONDS.toMillis(consentExpiryTime));
+        }
+        if (expiryTime <= now) {
+            return;
+        }
+        addToCache(GatewayCacheKey.of(key), new CachedDecision(validationResponse, version, expiryTime));
+        synchronized (cachedKeys) {
+            cachedKeys.put(key, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Invalidate the cached decisions of a consent whose status changed.
+     *
+     * @param consentId consent ID
+     */
+    public void invalidate(String consentId) {
+
+        if (consentId == null) {
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Invalidating cached consent validation decisions of consent %s",
+                    consentId.replaceAll("[\r\n]", "")));
+        }
+        versions.incrementAndGet(stripeOf(consentId));
+        invalidationCount.increment();
+        String keyPrefix = consentId + KEY_SEPARATOR;
+        List<String> removedKeys = new ArrayList<>();
+        synchronized (cachedKeys) {
+            cachedKeys.keySet().removeIf(key -> key.startsWith(keyPrefix) && removedKeys.add(key));
+        }
+        for (String key : removedKeys) {
+            removeFromCache(GatewayCacheKey.of(key));
+        }
+    }
+
+    /**
+     * Invalidate all cached decisions.
+     */
+    public void invalidateAll() {
+
+        log.debug("Invalidating all cached consent validation decisions");
+        for (int i = 0; i < VERSION_STRIPES; i++) {
+            versions.incrementAndGet(i);
+        }
+        invalidationCount.increment();
+        List<String> keys;
+        synchronized (cachedKeys) {
+            keys = new ArrayList<>(cachedKeys.keySet());
+            cachedKeys.clear();
+        }
+        for (String key : keys) {
+            removeFromCache(GatewayCacheKey.of(key));
+        }
+    }
+
+    public long getInvalidationCount() {
+
+        return invalidationCount.sum();
+    }
+
+    public long getEvictionCount() {
+
+        return evictionCount.sum();
+    }
+
+    public int getSize() {
+
+        synchronized (cachedKeys) {
+            return cachedKeys.size();
+        }
+    }
+
+    @Override
+    public int getCacheAccessExpiryMinutes() {
+
+        return expiryMinutes;
+    }
+
+    @Override
+    public int getCacheModifiedExpiryMinutes() {
+
+        return expiryMinutes;
+    }
+
+    private static int stripeOf(String consentId) {
+
+        return (consentId.hashCode() & Integer.MAX_VALUE) % VERSION_STRIPES;
+    }
+
+    /**
+     * Validation response together with the consent version and the time it is served until.
+     */
+    static final class CachedDecision {
+
+        private final String validationResponse;
+        private final long version;
+        private final long expiryTime;
+
+        private CachedDecision(String validationResponse, long version, long expiryTime) {
+
+            this.validationResponse = validationResponse;
+            this.version = version;
+            this.expiryTime = expiryTime;
+        }
+    }
+}
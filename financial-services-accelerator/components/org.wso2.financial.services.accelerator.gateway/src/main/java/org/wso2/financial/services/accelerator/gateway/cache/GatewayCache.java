@@ -30,6 +30,7 @@ public class GatewayCache extends FinancialServicesBaseCache<GatewayCacheKey, Ob
 
     private final Integer accessExpiryMinutes;
     private final Integer modifiedExpiryMinutes;
+    private final int refreshAheadSeconds;
 
     /**
      * Initialize with unique cache name.
@@ -39,6 +40,15 @@ public class GatewayCache extends FinancialServicesBaseCache<GatewayCacheKey, Ob
         super(cacheName);
         this.accessExpiryMinutes = setAccessExpiryMinutes();
         this.modifiedExpiryMinutes = setModifiedExpiryMinutes();
+        // Refreshing more than half of the expiry ahead would reload the entries on most of the requests
+        this.refreshAheadSeconds = Math.min(GatewayDataHolder.getInstance().getGatewayCacheRefreshAheadTime(),
+                modifiedExpiryMinutes * 60 / 2);
+    }
+
+    @Override
+    public int getRefreshAheadSeconds() {
+
+        return refreshAheadSeconds;
     }
 
     @Override
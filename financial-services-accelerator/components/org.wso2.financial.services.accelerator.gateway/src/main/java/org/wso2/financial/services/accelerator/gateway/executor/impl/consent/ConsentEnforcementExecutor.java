@@ -25,15 +25,19 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.StringEntity;
+import org.json.JSONArray;
 import org.json.JSONObject;
 import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
 import org.wso2.financial.services.accelerator.common.constant.FinancialServicesErrorCodes;
 import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+import org.wso2.financial.services.accelerator.common.util.DaemonThreadFactory;
 import org.wso2.financial.services.accelerator.common.util.Generated;
 import org.wso2.financial.services.accelerator.common.util.HTTPClientUtils;
+import org.wso2.financial.services.accelerator.gateway.cache.ConsentValidationDecisionCache;
 import org.wso2.financial.services.accelerator.gateway.executor.core.FinancialServicesGatewayExecutor;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIRequestContext;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIResponseContext;
@@ -54,7 +58,14 @@ import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Consent Enforcement executor.
@@ -81,8 +92,14 @@ public class ConsentEnforcementExecutor implements FinancialServicesGatewayExecu
     private static final String HTTP_CODE = "httpCode";
     private static final String MODIFIED_PAYLOAD = "modifiedPayload";
     private static final String CONSENT_INFO = "consentInformation";
+    private static final String CONSENT_EXPIRY_TIME = "consentExpiryTime";
+    private static final String VALIDATION_REQUESTS = "requests";
+    private static final String VALIDATION_RESULTS = "results";
+    private static final String BULK_VALIDATION_PATH = "/bulk";
+    private static final int BATCH_DISPATCH_QUEUE_CAPACITY = 1000;
     private static volatile String consentValidationEndpoint;
     private static volatile Key key;
+    private static volatile ConsentValidationBatcher validationBatcher;
 
     /**
      * Method to handle request.
@@ -116,19 +133,42 @@ public class ConsentEnforcementExecutor implements FinancialServicesGatewayExecu
         additionalParams.put(CLIENT_ID_TAG, fsApiRequestContext.getApiRequestInfo().getConsumerKey());
         additionalParams.put(RESOURCE_PARAMS, getResourceParamMap(fsApiRequestContext));
 
-        JSONObject validationRequest;
-        if (StringUtils.isNotBlank(fsApiRequestContext.getModifiedPayload())) {
-            validationRequest = createValidationRequestPayload(requestHeaders,
-                    fsApiRequestContext.getModifiedPayload(), additionalParams);
-        } else {
-            validationRequest = createValidationRequestPayload(requestHeaders,
-                    fsApiRequestContext.getRequestPayload(), additionalParams);
+        String requestPayload = StringUtils.isNotBlank(fsApiRequestContext.getModifiedPayload()) ?
+                fsApiRequestContext.getModifiedPayload() : fsApiRequestContext.getRequestPayload();
+
+        // Decisions of requests without a payload only depend on the consent, the requested resource and the request
+        // headers, hence they are served from the decision cache when it is enabled.
+        ConsentValidationDecisionCache decisionCache = hasPayload(requestPayload) ? null :
+                GatewayDataHolder.getConsentValidationDecisionCache();
+        String consentId = fsApiRequestContext.getConsentId();
+        String decisionKey = null;
+        long consentVersion = 0;
+        String response = null;
+        if (decisionCache != null) {
+            decisionKey = ConsentValidationDecisionCache.buildKey(consentId,
+                    fsApiRequestContext.getApiRequestInfo().getConsumerKey(),
+                    fsApiRequestContext.getApiRequestInfo().getUsername(),
+                    fsApiRequestContext.getMsgInfo().getHttpMethod(),
+                    fsApiRequestContext.getApiRequestInfo().getContext(),
+                    fsApiRequestContext.getMsgInfo().getResource(), requestHeaders,
+                    GatewayDataHolder.getInstance().getConsentValidationDecisionCacheIgnoredHeaders());
+            consentVersion = decisionCache.getVersion(consentId);
+            response = decisionCache.get(consentId, decisionKey);
         }
-        String enforcementJWTPayload = generateJWT(validationRequest.toString());
+
         JSONObject jsonResponse;
         try {
-            String response = invokeConsentValidationService(enforcementJWTPayload);
-            jsonResponse = new JSONObject(response);
+            if (response == null) {
+                JSONObject validationRequest = createValidationRequestPayload(requestHeaders, requestPayload,
+                        additionalParams);
+                response = validateConsent(consentId, validationRequest);
+                jsonResponse = new JSONObject(response);
+                if (decisionCache != null) {
+                    cacheDecision(decisionCache, consentId, decisionKey, response, jsonResponse, consentVersion);
+                }
+            } else {
+                jsonResponse = new JSONObject(response);
+            }
         } catch (IOException | FinancialServicesException e) {
             handleError(fsApiRequestContext, FinancialServicesErrorCodes.CONSENT_VALIDATION_REQUEST_FAILURE,
                     e.getMessage(), FinancialServicesErrorCodes.SERVER_ERROR_CODE);
@@ -233,6 +273,104 @@ public class ConsentEnforcementExecutor implements FinancialServicesGatewayExecu
                 .compact();
     }
 
+    /**
+     * Method to obtain the validation batcher when consent validation batching is enabled.
+     *
+     * @return validation batcher, or null if batching is disabled
+     */
+    private ConsentValidationBatcher getValidationBatcher() {
+
+        if (!dataHolder.isConsentValidationBatchingEnabled()) {
+            return null;
+        }
+        if (validationBatcher == null) {
+            synchronized (ConsentEnforcementExecutor.class) {
+                if (validationBatcher == null) {
+                    int dispatcherThreads = Runtime.getRuntime().availableProcessors();
+                    validationBatcher = new ConsentValidationBatcher(this::invokeBulkConsentValidationService,
+                            Executors.newSingleThreadScheduledExecutor(
+                                    new DaemonThreadFactory("consent-validation-batch-timer")),
+                            new ThreadPoolExecutor(dispatcherThreads, dispatcherThreads, 0L, TimeUnit.MILLISECONDS,
+                                    new ArrayBlockingQueue<>(BATCH_DISPATCH_QUEUE_CAPACITY),
+                                    new DaemonThreadFactory("consent-validation-batch-dispatcher")),
+                            dataHolder.getConsentValidationBatchingMaxWait(),
+                            dataHolder.getConsentValidationBatchingMaxBatchSize());
+                }
+            }
+        }
+        return validationBatcher;
+    }
+
+    /**
+     * Method to stop the consent validation batcher. Called when the gateway component is deactivated.
+     */
+    public static void shutdownValidationBatcher() {
+
+        synchronized (ConsentEnforcementExecutor.class) {
+            if (validationBatcher != null) {
+                validationBatcher.shutdown();
+                validationBatcher = null;
+            }
+        }
+    }
+
+    /**
+     * Method to validate a validation request, coalescing it with concurrent requests of the same consent when
+     * consent validation batching is enabled. The request is validated without batching if its batch fails or
+     * does not complete within the batching timeout.
+     *
+     * @param consentId         Consent ID
+     * @param validationRequest Validation request
+     * @return Validation response as a String
+     * @throws IOException When failed to invoke the validation endpoint or failed to parse the response.
+     */
+    private String validateConsent(String consentId, JSONObject validationRequest) throws IOException,
+            FinancialServicesException {
+
+        ConsentValidationBatcher batcher = getValidationBatcher();
+        if (batcher == null) {
+            return invokeConsentValidationService(generateJWT(validationRequest.toString()));
+        }
+        try {
+            return batcher.submit(consentId, validationRequest).get(dataHolder.getConsentValidationBatchingMaxWait()
+                    + dataHolder.getConsentValidationBatchingTimeout(), TimeUnit.MILLISECONDS).toString();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FinancialServicesException("Interrupted while waiting for the consent validation", e);
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Batched consent validation did not complete. Validating the request without batching", e);
+        }
+        return invokeConsentValidationService(generateJWT(validationRequest.toString()));
+    }
+
+    /**
+     * Method to validate a batch of validation requests with a single call to the bulk validation endpoint.
+     *
+     * @param validationRequests Validation requests
+     * @return Validation results in the order of the requests
+     * @throws IOException When failed to invoke the validation endpoint or failed to parse the response.
+     */
+    private List<JSONObject> invokeBulkConsentValidationService(List<JSONObject> validationRequests)
+            throws IOException, FinancialServicesException {
+
+        JSONObject bulkValidationRequest = new JSONObject();
+        bulkValidationRequest.put(VALIDATION_REQUESTS, new JSONArray(validationRequests));
+        int timeout = (int) dataHolder.getConsentValidationBatchingTimeout();
+        RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(timeout)
+                .setConnectionRequestTimeout(timeout).setSocketTimeout(timeout).build();
+        String response = invokeConsentValidationService(getValidationEndpoint() + BULK_VALIDATION_PATH,
+                generateJWT(bulkValidationRequest.toString()), requestConfig);
+        JSONArray validationResults = new JSONObject(response).optJSONArray(VALIDATION_RESULTS);
+        if (validationResults == null) {
+            throw new FinancialServicesException("Bulk consent validation response does not contain the results");
+        }
+        List<JSONObject> results = new ArrayList<>();
+        for (int i = 0; i < validationResults.length(); i++) {
+            results.add(validationResults.getJSONObject(i));
+        }
+        return results;
+    }
+
     /**
      * Method to invoke consent validation service when the JWT payload is provided.
      *
@@ -240,11 +378,30 @@ public class ConsentEnforcementExecutor implements FinancialServicesGatewayExecu
      * @return Response as a String
      * @throws IOException When failed to invoke the validation endpoint or failed to parse the response.
      */
-    @Generated(message = "Ignoring from unit tests since this method require calling external component to function")
     private String invokeConsentValidationService(String enforcementJWTPayload) throws IOException,
             FinancialServicesException {
 
-        HttpPost httpPost = new HttpPost(getValidationEndpoint());
+        return invokeConsentValidationService(getValidationEndpoint(), enforcementJWTPayload, null);
+    }
+
+    /**
+     * Method to invoke a consent validation endpoint when the JWT payload is provided.
+     *
+     * @param validationEndpoint    Validation endpoint
+     * @param enforcementJWTPayload JWT Payload
+     * @param requestConfig         Request configuration with the timeouts of the call, null for the client defaults
+     * @return Response as a String
+     * @throws IOException When failed to invoke the validation endpoint or failed to parse the response.
+     */
+    @Generated(message = "Ignoring from unit tests since this method require calling external component to function")
+    protected String invokeConsentValidationService(String validationEndpoint, String enforcementJWTPayload,
+                                                    RequestConfig requestConfig)
+            throws IOException, FinancialServicesException {
+
+        HttpPost httpPost = new HttpPost(validationEndpoint);
+        if (requestConfig != null) {
+            httpPost.setConfig(requestConfig);
+        }
         StringEntity params;
         params = new StringEntity(enforcementJWTPayload);
         httpPost.setEntity(params);
@@ -289,9 +446,7 @@ public class ConsentEnforcementExecutor implements FinancialServicesGatewayExecu
         JSONObject headers = new JSONObject();
         requestHeaders.forEach(headers::put);
         validationRequest.put(HEADERS_TAG, headers);
-        /*requestContextDTO.getMsgInfo().getPayloadHandler().consumeAsString() method sets the request payload as a
-        null string, hence adding string null check to the validation*/
-        if (requestPayload != null && !requestPayload.isEmpty() && !requestPayload.equals("null")) {
+        if (hasPayload(requestPayload)) {
             //This assumes all input payloads are in Content-Type : Application/JSON
             validationRequest.put(BODY_TAG, new JSONObject(requestPayload));
         }
@@ -299,6 +454,40 @@ public class ConsentEnforcementExecutor implements FinancialServicesGatewayExecu
         return validationRequest;
     }
 
+    /**
+     * Method to check whether the request carries a payload.
+     *
+     * @param requestPayload Request payload of original request
+     * @return true if the request has a payload
+     */
+    private static boolean hasPayload(String requestPayload) {
+
+        /*requestContextDTO.getMsgInfo().getPayloadHandler().consumeAsString() method sets the request payload as a
+        null string, hence adding string null check to the validation*/
+        return requestPayload != null && !requestPayload.isEmpty() && !requestPayload.equals("null");
+    }
+
+    /**
+     * Method to cache a positive validation decision. Decisions are cached only when the validation service reports
+     * the expiry time of the consent, so that no decision is served after the consent expires.
+     *
+     * @param decisionCache      Consent validation decision cache
+     * @param consentId          Consent ID
+     * @param decisionKey        Key of the decision
+     * @param response           Validation response
+     * @param jsonResponse       Parsed validation response
+     * @param consentVersion     Version of the consent read before invoking the validation service
+     */
+    private static void cacheDecision(ConsentValidationDecisionCache decisionCache, String consentId,
+                                      String decisionKey, String response, JSONObject jsonResponse,
+                                      long consentVersion) {
+
+        if (jsonResponse.optBoolean(IS_VALID) && jsonResponse.has(CONSENT_EXPIRY_TIME)) {
+            decisionCache.put(consentId, decisionKey, response, jsonResponse.getLong(CONSENT_EXPIRY_TIME),
+                    consentVersion);
+        }
+    }
+
     /**
      * Method to construct resource parameter map to invoke the validation service.
      *
@@ -0,0 +1,199 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.executor.impl.consent;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.json.JSONObject;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces concurrent consent validation requests of the same consent into bulk validation calls.
+ * <p>
+ * The first request of a consent opens a batch which is dispatched after the maximum wait time, or as soon as it
+ * reaches the maximum batch size. Every request of the batch is completed with its own validation result, and all of
+ * them fail together if the bulk call fails.
+ * <p>
+ * The timer only closes batches, and the blocking bulk calls run on a separate bounded dispatcher. A batch which the
+ * dispatcher cannot accept fails, so that the callers can validate their requests without batching.
+ */
+public class ConsentValidationBatcher {
+
+    private static final Log log = LogFactory.getLog(ConsentValidationBatcher.class);
+
+    private final BulkConsentValidator bulkConsentValidator;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService dispatcher;
+    private final long maxWaitMillis;
+    private final int maxBatchSize;
+    private final Map<String, Batch> openBatches = new HashMap<>();
+
+    /**
+     * Validates a batch of consent validation requests with a single call.
+     */
+    @FunctionalInterface
+    public interface BulkConsentValidator {
+
+        /**
+         * Validate a batch of validation requests.
+         *
+         * @param validationRequests validation requests
+         * @return validation results in the order of the requests
+         * @throws IOException                When failed to invoke the validation service
+         * @throws FinancialServicesException When failed to build the request or to read the response
+         */
+        List<JSONObject> validate(List<JSONObject> validationRequests) throws IOException, FinancialServicesException;
+    }
+
+    /**
+     * Create a consent validation batcher.
+     *
+     * @param bulkConsentValidator validator of a batch of validation requests
+     * @param timer                scheduler closing the batches after the maximum wait time
+     * @param dispatcher           bounded executor running the bulk validation calls
+     * @param maxWaitMillis        maximum time a batch is kept open
+     * @param maxBatchSize         maximum number of requests of a batch
+     */
+    public ConsentValidationBatcher(BulkConsentValidator bulkConsentValidator, ScheduledExecutorService timer,
+                                    ExecutorService dispatcher, long maxWaitMillis, int maxBatchSize) {
+
+        this.bulkConsentValidator = bulkConsentValidator;
+        this.timer = timer;
+        this.dispatcher = dispatcher;
+        this.maxWaitMillis = maxWaitMillis;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Submit a validation request to the open batch of its consent.
+     *
+     * @param consentId         ID of the consent being validated
+     * @param validationRequest validation request
+     * @return future completed with the validation result of the request
+     */
+    public CompletableFuture<JSONObject> submit(String consentId, JSONObject validationRequest) {
+
+        CompletableFuture<JSONObject> result = new CompletableFuture<>();
+        Batch fullBatch = null;
+        synchronized (openBatches) {
+            Batch batch = openBatches.get(consentId);
+            if (batch == null) {
+                batch = new Batch();
+                openBatches.put(consentId, batch);
+                Batch scheduledBatch = batch;
+                try {
+                    timer.schedule(() -> closeAndDispatch(consentId, scheduledBatch), maxWaitMillis,
+                            TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    openBatches.remove(consentId);
+                    result.completeExceptionally(e);
+                    return result;
+                }
+            }
+            batch.requests.add(validationRequest);
+            batch.results.add(result);
+            if (batch.requests.size() >= maxBatchSize) {
+                openBatches.remove(consentId);
+                fullBatch = batch;
+            }
+        }
+        if (fullBatch != null) {
+            dispatchAsync(fullBatch);
+        }
+        return result;
+    }
+
+    /**
+     * Stop the timer and the dispatcher of the batcher. The requests of the open batches fail.
+     */
+    public void shutdown() {
+
+        timer.shutdownNow();
+        dispatcher.shutdownNow();
+        List<Batch> remainingBatches;
+        synchronized (openBatches) {
+            remainingBatches = new ArrayList<>(openBatches.values());
+            openBatches.clear();
+        }
+        RejectedExecutionException e = new RejectedExecutionException("Consent validation batcher is shut down");
+        remainingBatches.forEach(batch -> batch.results.forEach(result -> result.completeExceptionally(e)));
+    }
+
+    private void closeAndDispatch(String consentId, Batch batch) {
+
+        synchronized (openBatches) {
+            // The batch may already have been dispatched when it became full
+            if (!openBatches.remove(consentId, batch)) {
+                return;
+            }
+        }
+        dispatchAsync(batch);
+    }
+
+    private void dispatchAsync(Batch batch) {
+
+        try {
+            dispatcher.execute(() -> dispatch(batch));
+        } catch (RejectedExecutionException e) {
+            log.warn("Consent validation batch dispatcher is saturated. Failing the batch to validate its requests " +
+                    "without batching");
+            batch.results.forEach(result -> result.completeExceptionally(e));
+        }
+    }
+
+    private void dispatch(Batch batch) {
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Dispatching a batch of %d consent validation requests", batch.requests.size()));
+        }
+        try {
+            List<JSONObject> validationResults = bulkConsentValidator.validate(batch.requests);
+            if (validationResults.size() != batch.requests.size()) {
+                throw new FinancialServicesException(String.format("Expected %d consent validation results but " +
+                        "received %d", batch.requests.size(), validationResults.size()));
+            }
+            for (int i = 0; i < validationResults.size(); i++) {
+                batch.results.get(i).complete(validationResults.get(i));
+            }
+        } catch (IOException | FinancialServicesException | RuntimeException e) {
+            log.error("Error occurred while validating a batch of consent validation requests", e);
+            batch.results.forEach(result -> result.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Validation requests of a batch together with the futures of their results.
+     */
+    private static final class Batch {
+
+        private final List<JSONObject> requests = new ArrayList<>();
+        private final List<CompletableFuture<JSONObject>> results = new ArrayList<>();
+    }
+}
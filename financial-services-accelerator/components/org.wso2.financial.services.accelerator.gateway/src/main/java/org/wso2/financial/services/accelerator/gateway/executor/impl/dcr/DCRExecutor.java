@@ -19,6 +19,7 @@
 package org.wso2.financial.services.accelerator.gateway.executor.impl.dcr;
 
 import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSObject;
 import com.nimbusds.jose.proc.BadJOSEException;
 import com.nimbusds.jwt.JWTClaimsSet;
 import org.apache.commons.logging.Log;
@@ -28,11 +29,11 @@ import org.json.JSONObject;
 import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
 import org.wso2.financial.services.accelerator.common.constant.FinancialServicesErrorCodes;
 import org.wso2.financial.services.accelerator.common.util.Generated;
-import org.wso2.financial.services.accelerator.common.util.JWTUtils;
 import org.wso2.financial.services.accelerator.gateway.executor.core.FinancialServicesGatewayExecutor;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIRequestContext;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIResponseContext;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSExecutorError;
+import org.wso2.financial.services.accelerator.gateway.executor.model.FSRequestJWTContext;
 import org.wso2.financial.services.accelerator.gateway.internal.GatewayDataHolder;
 import org.wso2.financial.services.accelerator.gateway.util.GatewayConstants;
 import org.wso2.financial.services.accelerator.gateway.util.GatewayUtils;
@@ -72,53 +73,49 @@ public class DCRExecutor implements FinancialServicesGatewayExecutor {
             String httpMethod = fsapiRequestContext.getMsgInfo().getHttpMethod();
             if (HttpMethod.POST.equals(httpMethod) || HttpMethod.PUT.equals(httpMethod)) {
                 if (payload != null) {
-                    //decode request jwt
-                    String decodedRequest = null;
-                    try {
-                        decodedRequest = JWTUtils.decodeRequestJWT(payload, FinancialServicesConstants.JWT_BODY);
-                    } catch (ParseException e) {
-                        log.error("Error occurred while decoding the provided jwt", e);
-                        handleBadRequestError(fsapiRequestContext, GatewayConstants.INVALID_REQUEST,
-                                "Malformed request JWT");
-                    }
-
-                    //Check whether decodedRequest is null
-                    if (decodedRequest == null) {
-                        handleBadRequestError(fsapiRequestContext, GatewayConstants.INVALID_REQUEST,
-                                "Provided jwt is malformed and cannot be decoded");
-                        return;
+                    // Parse the request jwt once and share it with the other executors through the context
+                    FSRequestJWTContext requestJWTContext = fsapiRequestContext.getRequestJWTContext();
+                    if (requestJWTContext == null) {
+                        try {
+                            requestJWTContext = FSRequestJWTContext.parse(payload);
+                        } catch (ParseException e) {
+                            log.error("Error occurred while decoding the provided jwt", e);
+                            handleBadRequestError(fsapiRequestContext, GatewayConstants.INVALID_REQUEST,
+                                    "Malformed request JWT");
+                            return;
+                        }
+                        fsapiRequestContext.setRequestJWTContext(requestJWTContext);
                     }
 
-                    JSONObject decodedRequestObj = new JSONObject(decodedRequest);
-                    JSONObject decodedSSA;
-                    //Check whether the SSA exists and decode the SSA
-                    if (decodedRequestObj.has(GatewayConstants.SOFTWARE_STATEMENT) &&
-                            decodedRequestObj.getString(GatewayConstants.SOFTWARE_STATEMENT) != null) {
+                    JSONObject decodedSSA = requestJWTContext.getDecodedSSA();
+                    if (decodedSSA == null) {
+                        //Check whether the SSA exists and decode the SSA
+                        Object ssa = requestJWTContext.getClaims().getClaim(GatewayConstants.SOFTWARE_STATEMENT);
+                        if (!(ssa instanceof String)) {
+                            handleBadRequestError(fsapiRequestContext, GatewayConstants.INVALID_SSA,
+                                    "Required parameter software statement cannot be null");
+                            return;
+                        }
                         try {
-                            String ssa = JWTUtils.decodeRequestJWT(decodedRequestObj
-                                            .getString(GatewayConstants.SOFTWARE_STATEMENT),
-                                    FinancialServicesConstants.JWT_BODY);
-                            decodedSSA = new JSONObject(ssa);
+                            decodedSSA = new JSONObject(JWSObject.parse((String) ssa).getPayload().toJSONObject());
                         } catch (ParseException e) {
                             log.error("Error occurred while decoding the provided jwt", e);
                             handleBadRequestError(fsapiRequestContext, GatewayConstants.INVALID_SSA,
                                     "Malformed Software Statement JWT found");
                             return;
                         }
-                    } else {
-                        handleBadRequestError(fsapiRequestContext, GatewayConstants.INVALID_SSA,
-                                "Required parameter software statement cannot be null");
-                        return;
+                        requestJWTContext.setDecodedSSA(decodedSSA);
                     }
 
                     try {
                         // Validate the request signature
-                        JWTClaimsSet requestClaims = GatewayUtils.validateRequestSignature(payload, decodedSSA);
+                        JWTClaimsSet requestClaims = GatewayUtils.validateRequestSignature(
+                                requestJWTContext.getSignedJWT(), decodedSSA);
                         // Construct the IS DCR request payload
                         String dcrISPayload = GatewayUtils.constructISDcrRequestPayload(requestClaims, decodedSSA);
-                        // Add the request payload to the context to use in response processing
-                        fsapiRequestContext.addContextProperty(GatewayConstants.REQUEST_PAYLOAD,
-                                String.valueOf(new JSONObject(requestClaims.getClaims())));
+                        // Add the request claims to the context to use in response processing
+                        fsapiRequestContext.getContextProps().put(GatewayConstants.REQUEST_PAYLOAD,
+                                requestClaims.toJSONObject());
 
                         // Set the modified payload to the context
                         fsapiRequestContext.setModifiedPayload(dcrISPayload);
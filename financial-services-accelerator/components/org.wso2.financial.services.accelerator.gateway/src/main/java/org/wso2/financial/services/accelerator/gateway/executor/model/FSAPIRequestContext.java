@@ -53,6 +53,7 @@ public class FSAPIRequestContext extends RequestContextDTO {
     private ArrayList<FSExecutorError> errors;
     private String consentId;
     private OpenAPI openAPI;
+    private FSRequestJWTContext requestJWTContext;
 
     public FSAPIRequestContext(RequestContextDTO requestContextDTO, Map<String, Object> contextProps) {
 
@@ -173,6 +174,16 @@ public class FSAPIRequestContext extends RequestContextDTO {
         this.openAPI = openAPI;
     }
 
+    public FSRequestJWTContext getRequestJWTContext() {
+
+        return requestJWTContext;
+    }
+
+    public void setRequestJWTContext(FSRequestJWTContext requestJWTContext) {
+
+        this.requestJWTContext = requestJWTContext;
+    }
+
     @Override
     public MsgInfoDTO getMsgInfo() {
 
@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.executor.model;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.json.JSONObject;
+
+import java.text.ParseException;
+
+/**
+ * Parsed form of the JWT carried in the request payload. The JWT is parsed once when the request enters the
+ * executor pipeline and the parsed form is shared by the executors through the request context.
+ */
+public class FSRequestJWTContext {
+
+    private final SignedJWT signedJWT;
+    private final JWTClaimsSet claims;
+    private JSONObject decodedSSA;
+
+    public FSRequestJWTContext(SignedJWT signedJWT) throws ParseException {
+
+        this.signedJWT = signedJWT;
+        this.claims = signedJWT.getJWTClaimsSet();
+    }
+
+    /**
+     * Parse the given JWT string.
+     *
+     * @param jwt  Serialized JWT
+     * @return Parsed JWT context
+     * @throws ParseException When the JWT cannot be parsed
+     */
+    public static FSRequestJWTContext parse(String jwt) throws ParseException {
+
+        return new FSRequestJWTContext(SignedJWT.parse(jwt));
+    }
+
+    public SignedJWT getSignedJWT() {
+
+        return signedJWT;
+    }
+
+    public JWTClaimsSet getClaims() {
+
+        return claims;
+    }
+
+    public JSONObject getDecodedSSA() {
+
+        return decodedSSA;
+    }
+
+    public void setDecodedSSA(JSONObject decodedSSA) {
+
+        this.decodedSSA = decodedSSA;
+    }
+}
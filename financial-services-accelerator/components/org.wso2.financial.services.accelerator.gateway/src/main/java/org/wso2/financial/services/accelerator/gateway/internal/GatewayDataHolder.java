@@ -18,6 +18,8 @@
 
 package org.wso2.financial.services.accelerator.gateway.internal;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
@@ -28,25 +30,58 @@ import org.wso2.financial.services.accelerator.common.constant.FinancialServices
 import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
 import org.wso2.financial.services.accelerator.common.util.FinancialServicesUtils;
 import org.wso2.financial.services.accelerator.common.util.HTTPClientUtils;
+import org.wso2.financial.services.accelerator.gateway.cache.ConsentStatusChangeChannel;
+import org.wso2.financial.services.accelerator.gateway.cache.ConsentStatusChangePoller;
+import org.wso2.financial.services.accelerator.gateway.cache.ConsentValidationDecisionCache;
 import org.wso2.financial.services.accelerator.gateway.cache.GatewayCache;
 import org.wso2.financial.services.accelerator.gateway.executor.core.AbstractRequestRouter;
 import org.wso2.financial.services.accelerator.gateway.util.GatewayConstants;
+import org.wso2.financial.services.accelerator.gateway.util.GatewayUtils;
+import org.wso2.financial.services.accelerator.gateway.util.OpenAPIDefinitionLoader;
 
+import java.nio.file.Paths;
+import java.time.Clock;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Data holder for executor core.
  */
 public class GatewayDataHolder {
 
+    // Headers which differ between the requests of a client and are not used to validate the consent.
+    private static final String DEFAULT_CONSENT_VALIDATION_DECISION_CACHE_IGNORED_HEADERS = "authorization," +
+            "activityid,x-fapi-interaction-id,x-fapi-auth-date,x-fapi-customer-ip-address,x-customer-user-agent," +
+            "user-agent,host,connection,accept-encoding,content-length,x-forwarded-for,x-request-id";
     private static volatile GatewayDataHolder instance;
     private static volatile CloseableHttpClient httpClient;
     private static volatile GatewayCache gatewayCache;
+    private static volatile ConsentValidationDecisionCache consentValidationDecisionCache;
+    private static Consumer<String> consentStatusChangeSubscriber;
+    private static ConsentStatusChangePoller consentStatusChangePoller;
+    private static volatile OpenAPIDefinitionLoader openAPIDefinitionLoader;
     private FinancialServicesConfigurationService financialServicesConfigurationService;
     private int gatewayCacheAccessExpiry;
     private int gatewayCacheModifiedExpiry;
+    private int gatewayCacheRefreshAheadTime = 60;
+    private boolean gatewayCachePreWarmEnabled = true;
+    private String gatewayCacheSnapshotDirectory;
+    private boolean consentValidationDecisionCacheEnabled;
+    private int consentValidationDecisionCacheTimeToLive = 30;
+    private int consentValidationDecisionCacheMaxEntries = 10000;
+    private int consentValidationDecisionCacheStatusChangePollInterval = 5;
+    private Set<String> consentValidationDecisionCacheIgnoredHeaders =
+            parseHeaderNames(DEFAULT_CONSENT_VALIDATION_DECISION_CACHE_IGNORED_HEADERS);
+    private boolean consentValidationBatchingEnabled;
+    private long consentValidationBatchingMaxWait = 5;
+    private int consentValidationBatchingMaxBatchSize = 20;
+    private long consentValidationBatchingTimeout = 5000;
     private APIManagerConfigurationService apiManagerConfigurationService;
     private AbstractRequestRouter requestRouter;
     private String keyStoreLocation;
@@ -99,6 +134,88 @@ public class GatewayDataHolder {
         gatewayCache = cache;
     }
 
+    @SuppressFBWarnings("PATH_TRAVERSAL_IN")
+    // Suppressed content - Paths.get(snapshotDirectory)
+    // Suppression reason - False Positive : Snapshot directory is obtained from deployment.toml. So it can be marked
+    //                      as a trusted filepath
+    // Suppressed warning count - 1
+    public static OpenAPIDefinitionLoader getOpenAPIDefinitionLoader() {
+
+        if (openAPIDefinitionLoader == null) {
+            synchronized (GatewayDataHolder.class) {
+                if (openAPIDefinitionLoader == null) {
+                    String snapshotDirectory = getInstance().getGatewayCacheSnapshotDirectory();
+                    openAPIDefinitionLoader = new OpenAPIDefinitionLoader(getGatewayCache(),
+                            GatewayUtils::getSwaggerDefinition, GatewayUtils::getDeployedAPIIds,
+                            snapshotDirectory == null ? null : Paths.get(snapshotDirectory));
+                }
+            }
+        }
+        return openAPIDefinitionLoader;
+    }
+
+    public void setOpenAPIDefinitionLoader(OpenAPIDefinitionLoader loader) {
+
+        openAPIDefinitionLoader = loader;
+    }
+
+    /**
+     * Get the consent validation decision cache. When the cache is created, it is subscribed to consent status changes
+     * and the changes are polled from the identity server.
+     *
+     * @return consent validation decision cache, or null if decision caching is disabled
+     */
+    public static ConsentValidationDecisionCache getConsentValidationDecisionCache() {
+
+        GatewayDataHolder dataHolder = getInstance();
+        if (!dataHolder.isConsentValidationDecisionCacheEnabled()) {
+            return null;
+        }
+        if (consentValidationDecisionCache == null) {
+            synchronized (GatewayDataHolder.class) {
+                if (consentValidationDecisionCache == null) {
+                    ConsentValidationDecisionCache cache = new ConsentValidationDecisionCache(
+                            dataHolder.getConsentValidationDecisionCacheTimeToLive(),
+                            dataHolder.getConsentValidationDecisionCacheMaxEntries(), Clock.systemUTC());
+                    consentStatusChangeSubscriber = cache::invalidate;
+                    ConsentStatusChangeChannel.getInstance().subscribe(consentStatusChangeSubscriber);
+                    consentStatusChangePoller = new ConsentStatusChangePoller(
+                            dataHolder.getFinancialServicesConfigurationService().getConfigurations()
+                                    .get(FinancialServicesConstants.CONSENT_VALIDATION_ENDPOINT).toString(),
+                            dataHolder.getConsentValidationDecisionCacheStatusChangePollInterval(),
+                            ConsentStatusChangeChannel.getInstance(), cache::invalidateAll);
+                    consentStatusChangePoller.start();
+                    consentValidationDecisionCache = cache;
+                }
+            }
+        }
+        return consentValidationDecisionCache;
+    }
+
+    public void setConsentValidationDecisionCache(ConsentValidationDecisionCache cache) {
+
+        consentValidationDecisionCache = cache;
+    }
+
+    /**
+     * Stop polling the consent status changes and drop the consent validation decision cache. Called when the
+     * gateway component is deactivated.
+     */
+    public static void shutdownConsentValidationDecisionCache() {
+
+        synchronized (GatewayDataHolder.class) {
+            if (consentStatusChangePoller != null) {
+                consentStatusChangePoller.shutdown();
+                consentStatusChangePoller = null;
+            }
+            if (consentStatusChangeSubscriber != null) {
+                ConsentStatusChangeChannel.getInstance().unsubscribe(consentStatusChangeSubscriber);
+                consentStatusChangeSubscriber = null;
+            }
+            consentValidationDecisionCache = null;
+        }
+    }
+
     public FinancialServicesConfigurationService getFinancialServicesConfigurationService() {
 
         return financialServicesConfigurationService;
@@ -113,6 +230,30 @@ public class GatewayDataHolder {
             setGatewayCacheAccessExpiry((String) configurations.get(FinancialServicesConstants.GATEWAY_CACHE_EXPIRY));
             setGatewayCacheModifiedExpiry((String) configurations
                     .get(FinancialServicesConstants.GATEWAY_CACHE_MODIFIED_EXPIRY));
+            setGatewayCacheRefreshAheadTime((String) configurations
+                    .get(FinancialServicesConstants.GATEWAY_CACHE_REFRESH_AHEAD_TIME));
+            setGatewayCachePreWarmEnabled((String) configurations
+                    .get(FinancialServicesConstants.GATEWAY_CACHE_PRE_WARM_ENABLED));
+            setGatewayCacheSnapshotDirectory((String) configurations
+                    .get(FinancialServicesConstants.GATEWAY_CACHE_SNAPSHOT_DIRECTORY));
+            setConsentValidationDecisionCacheEnabled((String) configurations
+                    .get(FinancialServicesConstants.CONSENT_VALIDATION_DECISION_CACHE_ENABLED));
+            setConsentValidationDecisionCacheTimeToLive((String) configurations
+                    .get(FinancialServicesConstants.CONSENT_VALIDATION_DECISION_CACHE_TIME_TO_LIVE));
+            setConsentValidationDecisionCacheMaxEntries((String) configurations
+                    .get(FinancialServicesConstants.CONSENT_VALIDATION_DECISION_CACHE_MAX_ENTRIES));
+            setConsentValidationDecisionCacheStatusChangePollInterval((String) configurations
+                    .get(FinancialServicesConstants.CONSENT_VALIDATION_DECISION_CACHE_STATUS_CHANGE_POLL_INTERVAL));
+            setConsentValidationDecisionCacheIgnoredHeaders((String) configurations
+                    .get(FinancialServicesConstants.CONSENT_VALIDATION_DECISION_CACHE_IGNORED_HEADERS));
+            setConsentValidationBatchingEnabled((String) configurations
+                    .get(FinancialServicesConstants.CONSENT_VALIDATION_BATCHING_ENABLED));
+            setConsentValidationBatchingMaxWait((String) configurations
+                    .get(FinancialServicesConstants.CONSENT_VALIDATION_BATCHING_MAX_WAIT));
+            setConsentValidationBatchingMaxBatchSize((String) configurations
+                    .get(FinancialServicesConstants.CONSENT_VALIDATION_BATCHING_MAX_BATCH_SIZE));
+            setConsentValidationBatchingTimeout((String) configurations
+                    .get(FinancialServicesConstants.CONSENT_VALIDATION_BATCHING_TIMEOUT));
             AbstractRequestRouter configuredRequestRouter = FinancialServicesUtils.getClassInstanceFromFQN(
                     configurations.get(FinancialServicesConstants.REQUEST_ROUTER).toString(),
                     AbstractRequestRouter.class);
@@ -152,6 +293,136 @@ public class GatewayDataHolder {
         this.gatewayCacheModifiedExpiry = expTime == null ? 60 : Integer.parseInt(expTime);
     }
 
+    public int getGatewayCacheRefreshAheadTime() {
+
+        return gatewayCacheRefreshAheadTime;
+    }
+
+    public void setGatewayCacheRefreshAheadTime(String refreshAheadTime) {
+
+        this.gatewayCacheRefreshAheadTime = refreshAheadTime == null ? 60 : Integer.parseInt(refreshAheadTime);
+    }
+
+    public boolean isGatewayCachePreWarmEnabled() {
+
+        return gatewayCachePreWarmEnabled;
+    }
+
+    public void setGatewayCachePreWarmEnabled(String enabled) {
+
+        this.gatewayCachePreWarmEnabled = enabled == null || Boolean.parseBoolean(enabled);
+    }
+
+    public String getGatewayCacheSnapshotDirectory() {
+
+        return gatewayCacheSnapshotDirectory;
+    }
+
+    public void setGatewayCacheSnapshotDirectory(String snapshotDirectory) {
+
+        this.gatewayCacheSnapshotDirectory = StringUtils.isBlank(snapshotDirectory) ? null : snapshotDirectory.trim();
+    }
+
+    public boolean isConsentValidationDecisionCacheEnabled() {
+
+        return consentValidationDecisionCacheEnabled;
+    }
+
+    public void setConsentValidationDecisionCacheEnabled(String enabled) {
+
+        this.consentValidationDecisionCacheEnabled = Boolean.parseBoolean(enabled);
+    }
+
+    public int getConsentValidationDecisionCacheTimeToLive() {
+
+        return consentValidationDecisionCacheTimeToLive;
+    }
+
+    public void setConsentValidationDecisionCacheTimeToLive(String timeToLive) {
+
+        this.consentValidationDecisionCacheTimeToLive = timeToLive == null ? 30 : Integer.parseInt(timeToLive);
+    }
+
+    public int getConsentValidationDecisionCacheMaxEntries() {
+
+        return consentValidationDecisionCacheMaxEntries;
+    }
+
+    public void setConsentValidationDecisionCacheMaxEntries(String maxEntries) {
+
+        this.consentValidationDecisionCacheMaxEntries = maxEntries == null ? 10000 : Integer.parseInt(maxEntries);
+    }
+
+    public int getConsentValidationDecisionCacheStatusChangePollInterval() {
+
+        return consentValidationDecisionCacheStatusChangePollInterval;
+    }
+
+    public void setConsentValidationDecisionCacheStatusChangePollInterval(String pollInterval) {
+
+        this.consentValidationDecisionCacheStatusChangePollInterval = pollInterval == null ? 5 :
+                Integer.parseInt(pollInterval);
+    }
+
+    public Set<String> getConsentValidationDecisionCacheIgnoredHeaders() {
+
+        return consentValidationDecisionCacheIgnoredHeaders;
+    }
+
+    public void setConsentValidationDecisionCacheIgnoredHeaders(String ignoredHeaders) {
+
+        this.consentValidationDecisionCacheIgnoredHeaders = parseHeaderNames(ignoredHeaders == null ?
+                DEFAULT_CONSENT_VALIDATION_DECISION_CACHE_IGNORED_HEADERS : ignoredHeaders);
+    }
+
+    private static Set<String> parseHeaderNames(String headerNames) {
+
+        return Collections.unmodifiableSet(Arrays.stream(headerNames.split(","))
+                .map(headerName -> headerName.trim().toLowerCase(Locale.ENGLISH))
+                .filter(headerName -> !headerName.isEmpty())
+                .collect(Collectors.toSet()));
+    }
+
+    public boolean isConsentValidationBatchingEnabled() {
+
+        return consentValidationBatchingEnabled;
+    }
+
+    public void setConsentValidationBatchingEnabled(String enabled) {
+
+        this.consentValidationBatchingEnabled = Boolean.parseBoolean(enabled);
+    }
+
+    public long getConsentValidationBatchingMaxWait() {
+
+        return consentValidationBatchingMaxWait;
+    }
+
+    public void setConsentValidationBatchingMaxWait(String maxWait) {
+
+        this.consentValidationBatchingMaxWait = maxWait == null ? 5 : Long.parseLong(maxWait);
+    }
+
+    public int getConsentValidationBatchingMaxBatchSize() {
+
+        return consentValidationBatchingMaxBatchSize;
+    }
+
+    public void setConsentValidationBatchingMaxBatchSize(String maxBatchSize) {
+
+        this.consentValidationBatchingMaxBatchSize = maxBatchSize == null ? 20 : Integer.parseInt(maxBatchSize);
+    }
+
+    public long getConsentValidationBatchingTimeout() {
+
+        return consentValidationBatchingTimeout;
+    }
+
+    public void setConsentValidationBatchingTimeout(String timeout) {
+
+        this.consentValidationBatchingTimeout = timeout == null ? 5000 : Long.parseLong(timeout);
+    }
+
     public String getKeyStoreLocation() {
 
         return keyStoreLocation == null ? ServerConfiguration.getInstance()
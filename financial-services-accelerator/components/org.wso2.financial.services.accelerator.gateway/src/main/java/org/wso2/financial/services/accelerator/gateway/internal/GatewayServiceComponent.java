@@ -29,6 +29,11 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.apimgt.impl.APIManagerConfigurationService;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigurationService;
+import org.wso2.financial.services.accelerator.common.util.DaemonThreadFactory;
+import org.wso2.financial.services.accelerator.gateway.executor.impl.consent.ConsentEnforcementExecutor;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * Service class for executor core.
@@ -40,16 +45,28 @@ import org.wso2.financial.services.accelerator.common.config.FinancialServicesCo
 public class GatewayServiceComponent {
 
     private static final Log log = LogFactory.getLog(GatewayServiceComponent.class);
+    private ScheduledExecutorService preWarmExecutor;
 
     @Activate
     protected void activate(ComponentContext context) {
 
+        if (GatewayDataHolder.getInstance().isGatewayCachePreWarmEnabled()) {
+            preWarmExecutor = Executors.newSingleThreadScheduledExecutor(
+                    new DaemonThreadFactory("openapi-definition-pre-warmer"));
+            GatewayDataHolder.getOpenAPIDefinitionLoader().startPreWarming(preWarmExecutor);
+        }
         log.debug("Financial services gateway component is activated ");
     }
 
     @Deactivate
     protected void deactivate(ComponentContext context) {
 
+        if (preWarmExecutor != null) {
+            preWarmExecutor.shutdownNow();
+            preWarmExecutor = null;
+        }
+        ConsentEnforcementExecutor.shutdownValidationBatcher();
+        GatewayDataHolder.shutdownConsentValidationDecisionCache();
         log.debug("Financial services gateway component is deactivated ");
     }
 
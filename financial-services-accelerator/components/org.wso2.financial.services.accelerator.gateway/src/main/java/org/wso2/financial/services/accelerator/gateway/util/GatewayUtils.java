@@ -24,13 +24,14 @@ import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.proc.BadJOSEException;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
-import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.utils.URIBuilder;
+import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.json.XML;
@@ -40,7 +41,6 @@ import org.wso2.financial.services.accelerator.common.exception.FinancialService
 import org.wso2.financial.services.accelerator.common.exception.FinancialServicesRuntimeException;
 import org.wso2.financial.services.accelerator.common.util.Generated;
 import org.wso2.financial.services.accelerator.common.util.JWTUtils;
-import org.wso2.financial.services.accelerator.gateway.cache.GatewayCacheKey;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIResponseContext;
 import org.wso2.financial.services.accelerator.gateway.internal.GatewayDataHolder;
 
@@ -52,6 +52,7 @@ import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
@@ -117,15 +118,7 @@ public class GatewayUtils {
     @Generated(message = "Cannot test without running APIM. Integration test will be written for this")
     public static String getSwaggerDefinition(String apiId) {
 
-        String publisherHostName =
-                GatewayDataHolder.getInstance().getFinancialServicesConfigurationService()
-                        .getConfigurations()
-                        .get(FinancialServicesConstants.PUBLISHER_HOSTNAME).toString();
-
-        String publisherAPIURL = publisherHostName.endsWith(GatewayConstants.SLASH) ?
-                publisherHostName + GatewayConstants.PUBLISHER_API_PATH + apiId + GatewayConstants.SWAGGER_ENDPOINT :
-                publisherHostName + GatewayConstants.SLASH + GatewayConstants.PUBLISHER_API_PATH + apiId +
-                        GatewayConstants.SWAGGER_ENDPOINT;
+        String publisherAPIURL = getPublisherAPIURL() + apiId + GatewayConstants.SWAGGER_ENDPOINT;
         try {
             URIBuilder uriBuilder = new URIBuilder(publisherAPIURL);
             HttpGet httpGet = new HttpGet(uriBuilder.build().toString());
@@ -142,6 +135,63 @@ public class GatewayUtils {
         }
     }
 
+    /**
+     * Method to obtain the IDs of the APIs deployed in the publisher.
+     *
+     * @return List of API IDs
+     */
+    @Generated(message = "Cannot test without running APIM. Integration test will be written for this")
+    public static List<String> getDeployedAPIIds() {
+
+        String publisherAPIURL = StringUtils.removeEnd(getPublisherAPIURL(), GatewayConstants.SLASH);
+        String userName = getAPIMgtConfig(GatewayConstants.API_KEY_VALIDATOR_USERNAME);
+        String password = getAPIMgtConfig(GatewayConstants.API_KEY_VALIDATOR_PASSWORD);
+        List<String> apiIds = new ArrayList<>();
+        int total;
+        try {
+            do {
+                URIBuilder uriBuilder = new URIBuilder(publisherAPIURL)
+                        .addParameter(GatewayConstants.LIMIT, String.valueOf(GatewayConstants.PUBLISHER_API_LIST_LIMIT))
+                        .addParameter(GatewayConstants.OFFSET, String.valueOf(apiIds.size()));
+                HttpGet httpGet = new HttpGet(uriBuilder.build().toString());
+                httpGet.setHeader(GatewayConstants.AUTH_HEADER, GatewayUtils.getBasicAuthHeader(userName, password));
+                HttpResponse response = GatewayDataHolder.getHttpClient().execute(httpGet);
+                String responseBody = IOUtils.toString(response.getEntity().getContent(),
+                        String.valueOf(StandardCharsets.UTF_8));
+                if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+                    throw new FinancialServicesRuntimeException("Failed to retrieve the deployed APIs from the " +
+                            "publisher. Status code: " + response.getStatusLine().getStatusCode());
+                }
+
+                JSONObject apiList = new JSONObject(responseBody);
+                JSONArray apis = apiList.optJSONArray(GatewayConstants.LIST);
+                if (apis == null || apis.length() == 0) {
+                    break;
+                }
+                for (int i = 0; i < apis.length(); i++) {
+                    apiIds.add(apis.getJSONObject(i).getString(GatewayConstants.ID));
+                }
+                JSONObject pagination = apiList.optJSONObject(GatewayConstants.PAGINATION);
+                total = pagination == null ? apiIds.size() : pagination.optInt(GatewayConstants.TOTAL, apiIds.size());
+            } while (apiIds.size() < total);
+        } catch (IOException | FinancialServicesException | URISyntaxException | JSONException e) {
+            throw new FinancialServicesRuntimeException("Failed to retrieve the deployed APIs from the publisher", e);
+        }
+        return apiIds;
+    }
+
+    private static String getPublisherAPIURL() {
+
+        String publisherHostName =
+                GatewayDataHolder.getInstance().getFinancialServicesConfigurationService()
+                        .getConfigurations()
+                        .get(FinancialServicesConstants.PUBLISHER_HOSTNAME).toString();
+
+        return publisherHostName.endsWith(GatewayConstants.SLASH) ?
+                publisherHostName + GatewayConstants.PUBLISHER_API_PATH :
+                publisherHostName + GatewayConstants.SLASH + GatewayConstants.PUBLISHER_API_PATH;
+    }
+
     /**
      * Retrieve OpenAPI definition from the cache or from the publisher API.
      *
@@ -152,17 +202,11 @@ public class GatewayUtils {
     public static OpenAPI retrieveOpenAPI(RequestContextDTO requestContextDTO) {
 
         String apiId = requestContextDTO.getApiRequestInfo().getApiId();
-        Object cacheObject = GatewayDataHolder.getGatewayCache()
-                .getFromCache(GatewayCacheKey.of(apiId));
-        if (cacheObject == null) {
-            String swaggerDefinition = GatewayUtils.getSwaggerDefinition(apiId);
-            OpenAPIParser parser = new OpenAPIParser();
-            OpenAPI openAPIDefinition =  parser.readContents(swaggerDefinition, null, null).getOpenAPI();
-            GatewayDataHolder.getGatewayCache().addToCache(GatewayCacheKey.of(apiId), openAPIDefinition);
-            return openAPIDefinition;
+        try {
+            return GatewayDataHolder.getOpenAPIDefinitionLoader().getOpenAPI(apiId);
+        } catch (FinancialServicesException e) {
+            throw new FinancialServicesRuntimeException("Failed to retrieve the OpenAPI definition of the API", e);
         }
-
-        return (OpenAPI) cacheObject;
     }
 
     /**
@@ -251,7 +295,7 @@ public class GatewayUtils {
     /**
      * Method to validate the signature of the request.
      *
-     * @param payload      JWT payload
+     * @param signedJWT    Parsed request JWT
      * @param decodedSSA   Decoded SSA
      * @return            JWT claims set
      * @throws ParseException        When parsing fails
@@ -260,16 +304,15 @@ public class GatewayUtils {
      * @throws MalformedURLException  When JWKS URL is malformed
      */
     @Generated(message = "Excluding from unit tests since there is an external http call")
-    public static JWTClaimsSet validateRequestSignature(String payload, JSONObject decodedSSA)
+    public static JWTClaimsSet validateRequestSignature(SignedJWT signedJWT, JSONObject decodedSSA)
             throws ParseException, JOSEException, BadJOSEException, MalformedURLException {
 
         String jwksEndpointName = configs.get(FinancialServicesConstants.JWKS_ENDPOINT_NAME).toString();
         //validate request signature
         String jwksEndpoint = decodedSSA.getString(jwksEndpointName);
-        SignedJWT signedJWT = SignedJWT.parse(payload);
         String alg = signedJWT.getHeader().getAlgorithm().getName();
 
-        return JWTUtils.validateJWTSignature(payload, jwksEndpoint, alg);
+        return JWTUtils.validateJWTSignature(signedJWT, jwksEndpoint, alg);
     }
 
     /**
@@ -318,9 +361,11 @@ public class GatewayUtils {
      */
     public static String constructDCRResponseForCreate(FSAPIResponseContext fsapiResponseContext) {
 
-        // Retrieve the request payload from context props and make it the response
-        String requestPayload = fsapiResponseContext.getContextProperty(GatewayConstants.REQUEST_PAYLOAD).toString();
-        JSONObject dcrResponse = new JSONObject(requestPayload);
+        // Retrieve the request payload from context props and make it the response. The request claims are stored
+        // as a map by the request flow, hence the payload is parsed only if it is stored as a string.
+        Object requestPayload = fsapiResponseContext.getContextProperty(GatewayConstants.REQUEST_PAYLOAD);
+        JSONObject dcrResponse = requestPayload instanceof Map ? new JSONObject((Map<?, ?>) requestPayload) :
+                new JSONObject(requestPayload.toString());
 
         // Remove the unnecessary claims from the response
         dcrResponse.remove(GatewayConstants.IAT);
@@ -0,0 +1,263 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.util;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.base.MultitenantConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+import org.wso2.financial.services.accelerator.gateway.cache.GatewayCache;
+import org.wso2.financial.services.accelerator.gateway.cache.GatewayCacheKey;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Loads the OpenAPI definitions of APIs into the gateway cache.
+ * <p>
+ * Definitions are retrieved from the Publisher through the single flight retrieval of the gateway cache, so concurrent
+ * requests of an API which is not cached result in a single Publisher call. The definitions of all the deployed APIs
+ * can be loaded ahead of the first request, and when a snapshot directory is configured the retrieved definitions are
+ * stored on disk to be served after a restart until the Publisher is reachable. Pre-warmed and restored definitions
+ * are loaded through the same retrieval, so they are refreshed ahead of expiry like the definitions loaded by
+ * requests.
+ */
+public class OpenAPIDefinitionLoader {
+
+    private static final Log log = LogFactory.getLog(OpenAPIDefinitionLoader.class);
+    private static final Pattern API_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-]+");
+    private static final String SNAPSHOT_FILE_EXTENSION = ".json";
+    private static final int MAX_PRE_WARM_ATTEMPTS = 5;
+    private static final long PRE_WARM_RETRY_DELAY_SECONDS = 30;
+
+    private final GatewayCache gatewayCache;
+    private final Function<String, String> definitionRetriever;
+    private final Supplier<List<String>> apiIdRetriever;
+    private final Path snapshotDirectory;
+
+    /**
+     * Create a loader of OpenAPI definitions.
+     *
+     * @param gatewayCache        cache holding the parsed definitions
+     * @param definitionRetriever retriever of the definition of an API ID from the Publisher
+     * @param apiIdRetriever      retriever of the IDs of the deployed APIs from the Publisher
+     * @param snapshotDirectory   directory to store the retrieved definitions in, null to disable snapshots
+     */
+    public OpenAPIDefinitionLoader(GatewayCache gatewayCache, Function<String, String> definitionRetriever,
+                                   Supplier<List<String>> apiIdRetriever, Path snapshotDirectory) {
+
+        this.gatewayCache = gatewayCache;
+        this.definitionRetriever = definitionRetriever;
+        this.apiIdRetriever = apiIdRetriever;
+        this.snapshotDirectory = snapshotDirectory;
+    }
+
+    /**
+     * Get the OpenAPI definition of an API from the cache, or from the Publisher if it is not cached.
+     *
+     * @param apiId ID of the API
+     * @return OpenAPI definition
+     * @throws FinancialServicesException When the definition cannot be parsed
+     */
+    public OpenAPI getOpenAPI(String apiId) throws FinancialServicesException {
+
+        return (OpenAPI) gatewayCache.getFromCacheOrRetrieve(GatewayCacheKey.of(apiId), () -> load(apiId));
+    }
+
+    /**
+     * Load the definitions of the snapshot, then the definitions of all the deployed APIs from the Publisher. Loading
+     * from the Publisher is retried on the executor while the Publisher is not reachable. The definitions are loaded
+     * in the super tenant flow, as the executor threads do not carry a tenant context.
+     *
+     * @param executor executor to load the definitions on
+     */
+    public void startPreWarming(ScheduledExecutorService executor) {
+
+        executor.execute(() -> runInSuperTenantFlow(() -> {
+            restoreSnapshot();
+            preWarm(executor, 1);
+        }));
+    }
+
+    /**
+     * Load the definitions of the snapshot into the cache.
+     *
+     * @return number of definitions loaded
+     */
+    public int restoreSnapshot() {
+
+        if (snapshotDirectory == null || !Files.isDirectory(snapshotDirectory)) {
+            return 0;
+        }
+        int restoredCount = 0;
+        try (DirectoryStream<Path> snapshotFiles = Files.newDirectoryStream(snapshotDirectory,
+                "*" + SNAPSHOT_FILE_EXTENSION)) {
+            for (Path snapshotFile : snapshotFiles) {
+                String fileName = snapshotFile.getFileName().toString();
+                String apiId = fileName.substring(0, fileName.length() - SNAPSHOT_FILE_EXTENSION.length());
+                OpenAPI openAPI = parse(new String(Files.readAllBytes(snapshotFile), StandardCharsets.UTF_8));
+                if (openAPI == null) {
+                    log.warn(String.format("Ignoring the OpenAPI definition snapshot of API %s as it cannot be " +
+                            "parsed", apiId.replaceAll("[\r\n]", "")));
+                    continue;
+                }
+                // Definitions retrieved by requests before the snapshot is restored are more recent
+                if (gatewayCache.getFromCache(GatewayCacheKey.of(apiId)) != null) {
+                    continue;
+                }
+                AtomicBoolean restored = new AtomicBoolean();
+                try {
+                    gatewayCache.getFromCacheOrRetrieve(GatewayCacheKey.of(apiId), () -> {
+                        restored.set(true);
+                        return openAPI;
+                    });
+                } catch (FinancialServicesException e) {
+                    log.error(String.format("Error while restoring the OpenAPI definition snapshot of API %s",
+                            apiId.replaceAll("[\r\n]", "")), e);
+                }
+                if (restored.get()) {
+                    restoredCount++;
+                }
+            }
+        } catch (IOException e) {
+            log.error("Error while reading the OpenAPI definition snapshot", e);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Restored %d OpenAPI definitions from the snapshot", restoredCount));
+        }
+        return restoredCount;
+    }
+
+    /**
+     * Load the definitions of all the deployed APIs which are not cached from the Publisher into the cache.
+     *
+     * @return number of definitions cached
+     */
+    public int preWarm() {
+
+        int loadedCount = 0;
+        for (String apiId : apiIdRetriever.get()) {
+            try {
+                getOpenAPI(apiId);
+                loadedCount++;
+            } catch (FinancialServicesException | RuntimeException e) {
+                log.error(String.format("Error while loading the OpenAPI definition of API %s",
+                        apiId.replaceAll("[\r\n]", "")), e);
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Loaded %d OpenAPI definitions of the deployed APIs", loadedCount));
+        }
+        return loadedCount;
+    }
+
+    private void preWarm(ScheduledExecutorService executor, int attempt) {
+
+        try {
+            preWarm();
+        } catch (RuntimeException e) {
+            if (attempt >= MAX_PRE_WARM_ATTEMPTS) {
+                log.error("Error while retrieving the deployed APIs from the Publisher. OpenAPI definitions will " +
+                        "be loaded on the first request of each API", e);
+                return;
+            }
+            log.warn(String.format("Error while retrieving the deployed APIs from the Publisher. Retrying in %d " +
+                    "seconds", PRE_WARM_RETRY_DELAY_SECONDS), e);
+            try {
+                executor.schedule(() -> runInSuperTenantFlow(() -> preWarm(executor, attempt + 1)),
+                        PRE_WARM_RETRY_DELAY_SECONDS, TimeUnit.SECONDS);
+            } catch (RejectedExecutionException rejectedExecutionException) {
+                log.debug("Pre-warming of OpenAPI definitions is stopped", rejectedExecutionException);
+            }
+        }
+    }
+
+    private static void runInSuperTenantFlow(Runnable task) {
+
+        PrivilegedCarbonContext.startTenantFlow();
+        try {
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantDomain(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+            carbonContext.setTenantId(MultitenantConstants.SUPER_TENANT_ID);
+            task.run();
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    private OpenAPI load(String apiId) throws FinancialServicesException {
+
+        String definition = definitionRetriever.apply(apiId);
+        OpenAPI openAPI = parse(definition);
+        if (openAPI == null) {
+            throw new FinancialServicesException("Failed to parse the OpenAPI definition of the API");
+        }
+        writeSnapshot(apiId, definition);
+        return openAPI;
+    }
+
+    private static OpenAPI parse(String definition) {
+
+        return new OpenAPIParser().readContents(definition, null, null).getOpenAPI();
+    }
+
+    @SuppressFBWarnings("PATH_TRAVERSAL_IN")
+    // Suppressed content - snapshotDirectory.resolve(apiId + SNAPSHOT_FILE_EXTENSION)
+    // Suppression reason - False Positive : The API ID is validated against API_ID_PATTERN before it is used as a
+    //                      file name, so it cannot leave the snapshot directory
+    // Suppressed warning count - 1
+    private void writeSnapshot(String apiId, String definition) {
+
+        if (snapshotDirectory == null) {
+            return;
+        }
+        if (!API_ID_PATTERN.matcher(apiId).matches()) {
+            log.warn(String.format("Skipping the OpenAPI definition snapshot of API %s as the API ID is not a " +
+                    "valid file name", apiId.replaceAll("[\r\n]", "")));
+            return;
+        }
+        try {
+            Files.createDirectories(snapshotDirectory);
+            // Write to a temporary file first so that a partially written snapshot is never read
+            Path temporaryFile = Files.createTempFile(snapshotDirectory, apiId, ".tmp");
+            Files.write(temporaryFile, definition.getBytes(StandardCharsets.UTF_8));
+            Files.move(temporaryFile, snapshotDirectory.resolve(apiId + SNAPSHOT_FILE_EXTENSION),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error(String.format("Error while writing the OpenAPI definition snapshot of API %s",
+                    apiId.replaceAll("[\r\n]", "")), e);
+        }
+    }
+}
@@ -18,7 +18,9 @@
 
 package org.wso2.financial.services.accelerator.gateway;
 
+import java.nio.charset.StandardCharsets;
 import java.util.AbstractMap;
+import java.util.Base64;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -176,6 +178,11 @@ public class GatewayTestConstants {
             "  \"id_token_signed_response_alg\" : \"PS256\"\n" +
             "}\n";
 
+    public static final String DCR_PAYLOAD_WITHOUT_SSA = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("{\"alg\":\"PS256\"}".getBytes(StandardCharsets.UTF_8)) + "." +
+            Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(DECODED_DCR_PAYLOAD_WITHOUT_SSA.getBytes(StandardCharsets.UTF_8)) + ".c2lnbmF0dXJl";
+
     public static final Map<String, Object> DCR_CLAIMS = Map.of("token_endpoint_auth_signing_alg", "PS256",
             "software_id", "oQ4KoaavpOuoE7rvQsZEOV",
             "software_client_name", "WSO2 Open Banking TPP2 (Sandbox)",
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.cache;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test for consent status change poller.
+ */
+public class ConsentStatusChangePollerTest {
+
+    private static final String VALIDATION_ENDPOINT = "https://localhost:9446/api/fs/consent/validate/validate";
+
+    private List<String> publishedConsentIds;
+    private AtomicInteger invalidateAllCount;
+    private Queue<String> responses;
+    private List<Long> requestedFromTimes;
+    private ConsentStatusChangePoller poller;
+
+    @BeforeMethod
+    public void init() {
+
+        publishedConsentIds = new ArrayList<>();
+        invalidateAllCount = new AtomicInteger();
+        responses = new ArrayDeque<>();
+        requestedFromTimes = new ArrayList<>();
+        ConsentStatusChangeChannel channel = new ConsentStatusChangeChannel();
+        channel.subscribe(publishedConsentIds::add);
+        poller = new ConsentStatusChangePoller(VALIDATION_ENDPOINT, 5, channel, invalidateAllCount::incrementAndGet) {
+            @Override
+            protected String fetchStatusChanges(Long fromTime) throws IOException {
+
+                requestedFromTimes.add(fromTime);
+                String response = responses.poll();
+                if (response == null) {
+                    throw new IOException("Identity server is not reachable");
+                }
+                return response;
+            }
+        };
+    }
+
+    @Test
+    public void testFirstPollInvalidatesAllDecisions() {
+
+        responses.add("{\"toTime\":1000,\"consentIds\":[],\"truncated\":false}");
+
+        poller.poll();
+
+        Assert.assertNull(requestedFromTimes.get(0));
+        Assert.assertEquals(invalidateAllCount.get(), 1);
+        Assert.assertTrue(publishedConsentIds.isEmpty());
+    }
+
+    @Test
+    public void testChangedConsentsPublished() {
+
+        responses.add("{\"toTime\":1000,\"consentIds\":[],\"truncated\":false}");
+        responses.add("{\"toTime\":1005,\"consentIds\":[\"consent-1\",\"consent-2\"],\"truncated\":false}");
+        responses.add("{\"toTime\":1010,\"consentIds\":[],\"truncated\":false}");
+
+        poller.poll();
+        poller.poll();
+        poller.poll();
+
+        // Each poll looks back from the time the previous poll ended at.
+        Assert.assertEquals(requestedFromTimes.get(1).longValue(), 970L);
+        Assert.assertEquals(requestedFromTimes.get(2).longValue(), 975L);
+        Assert.assertEquals(publishedConsentIds.size(), 2);
+        Assert.assertTrue(publishedConsentIds.contains("consent-1"));
+        Assert.assertTrue(publishedConsentIds.contains("consent-2"));
+        Assert.assertEquals(invalidateAllCount.get(), 1);
+    }
+
+    @Test
+    public void testTruncatedChangesInvalidateAllDecisions() {
+
+        responses.add("{\"toTime\":1000,\"consentIds\":[],\"truncated\":false}");
+        responses.add("{\"toTime\":1005,\"consentIds\":[],\"truncated\":true}");
+
+        poller.poll();
+        poller.poll();
+
+        Assert.assertEquals(invalidateAllCount.get(), 2);
+        Assert.assertTrue(publishedConsentIds.isEmpty());
+    }
+
+    @Test
+    public void testFailedPollDoesNotAdvanceTime() {
+
+        responses.add("{\"toTime\":1000,\"consentIds\":[],\"truncated\":false}");
+
+        poller.poll();
+        poller.poll();
+        responses.add("{\"toTime\":1010,\"consentIds\":[\"consent-1\"],\"truncated\":false}");
+        poller.poll();
+
+        Assert.assertEquals(requestedFromTimes.get(1).longValue(), 970L);
+        Assert.assertEquals(requestedFromTimes.get(2).longValue(), 970L);
+        Assert.assertEquals(publishedConsentIds.size(), 1);
+        Assert.assertEquals(publishedConsentIds.get(0), "consent-1");
+    }
+}
@@ -0,0 +1,230 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.cache;
+
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+
+import java.time.Clock;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * Test for consent validation decision cache.
+ */
+public class ConsentValidationDecisionCacheTest {
+
+    private static final String CACHE_NAME = "FINANCIAL_SERVICES_CONSENT_VALIDATION_DECISION_CACHE";
+    private static final String CONSENT_ID = "consent-id";
+    private static final String OTHER_CONSENT_ID = "other-consent-id";
+    private static final String VALIDATION_RESPONSE = "{\"isValid\":true}";
+    private static final long START_TIME = 1700000000000L;
+
+    private MockedStatic<Caching> cachingMockedStatic;
+    private MockedStatic<FinancialServicesConfigParser> configParserMockedStatic;
+    private AtomicLong currentTime;
+    private Clock clock;
+
+    @BeforeMethod
+    public void init() {
+
+        Map<Object, Object> entries = new ConcurrentHashMap<>();
+        Cache cache = Mockito.mock(Cache.class);
+        Mockito.doReturn(CACHE_NAME).when(cache).getName();
+        Mockito.doAnswer(invocation -> entries.get(invocation.getArgument(0))).when(cache).get(any());
+        Mockito.doAnswer(invocation -> entries.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(cache).put(any(), any());
+        Mockito.doAnswer(invocation -> entries.remove(invocation.getArgument(0)) != null).when(cache).remove(any());
+
+        CacheManager cacheManager = Mockito.mock(CacheManager.class);
+        Mockito.doReturn(Collections.singletonList(cache)).when(cacheManager).getCaches();
+        Mockito.doReturn(cache).when(cacheManager).getCache(CACHE_NAME);
+        cachingMockedStatic = Mockito.mockStatic(Caching.class);
+        cachingMockedStatic.when(() -> Caching.getCacheManager(anyString())).thenReturn(cacheManager);
+
+        // The near cache is disabled so that only the mocked cache holds the decisions
+        FinancialServicesConfigParser configParserMock = Mockito.mock(FinancialServicesConfigParser.class);
+        configParserMockedStatic = Mockito.mockStatic(FinancialServicesConfigParser.class);
+        configParserMockedStatic.when(FinancialServicesConfigParser::getInstance).thenReturn(configParserMock);
+
+        currentTime = new AtomicLong(START_TIME);
+        clock = Mockito.mock(Clock.class);
+        Mockito.doAnswer(invocation -> currentTime.get()).when(clock).millis();
+    }
+
+    @AfterMethod
+    public void cleanUp() {
+
+        cachingMockedStatic.close();
+        configParserMockedStatic.close();
+    }
+
+    @Test
+    public void testDecisionIsNotServedAfterConsentExpiry() {
+
+        ConsentValidationDecisionCache decisionCache = new ConsentValidationDecisionCache(60, 10, clock);
+        String key = getKey(CONSENT_ID, "/accounts");
+        long consentExpiryTime = START_TIME / 1000 + 30;
+
+        decisionCache.put(CONSENT_ID, key, VALIDATION_RESPONSE, consentExpiryTime,
+                decisionCache.getVersion(CONSENT_ID));
+        Assert.assertEquals(decisionCache.get(CONSENT_ID, key), VALIDATION_RESPONSE);
+
+        // The time to live is capped at the expiry time of the consent
+        currentTime.addAndGet(30000);
+        Assert.assertNull(decisionCache.get(CONSENT_ID, key));
+    }
+
+    @Test
+    public void testDecisionOfExpiredConsentIsNotCached() {
+
+        ConsentValidationDecisionCache decisionCache = new ConsentValidationDecisionCache(60, 10, clock);
+        String key = getKey(CONSENT_ID, "/accounts");
+
+        decisionCache.put(CONSENT_ID, key, VALIDATION_RESPONSE, START_TIME / 1000,
+                decisionCache.getVersion(CONSENT_ID));
+
+        Assert.assertNull(decisionCache.get(CONSENT_ID, key));
+        Assert.assertEquals(decisionCache.getSize(), 0);
+    }
+
+    @Test
+    public void testDecisionIsNotServedAfterTimeToLive() {
+
+        ConsentValidationDecisionCache decisionCache = new ConsentValidationDecisionCache(60, 10, clock);
+        String key = getKey(CONSENT_ID, "/accounts");
+
+        decisionCache.put(CONSENT_ID, key, VALIDATION_RESPONSE, 0, decisionCache.getVersion(CONSENT_ID));
+        currentTime.addAndGet(59999);
+        Assert.assertEquals(decisionCache.get(CONSENT_ID, key), VALIDATION_RESPONSE);
+
+        currentTime.addAndGet(1);
+        Assert.assertNull(decisionCache.get(CONSENT_ID, key));
+    }
+
+    @Test
+    public void testRacedPutIsDroppedAfterInvalidation() {
+
+        ConsentValidationDecisionCache decisionCache = new ConsentValidationDecisionCache(60, 10, clock);
+        String key = getKey(CONSENT_ID, "/accounts");
+
+        // The version is read before the validation call, and the consent changes before the decision is cached
+        long version = decisionCache.getVersion(CONSENT_ID);
+        decisionCache.invalidate(CONSENT_ID);
+        decisionCache.put(CONSENT_ID, key, VALIDATION_RESPONSE, 0, version);
+
+        Assert.assertNull(decisionCache.get(CONSENT_ID, key));
+        Assert.assertEquals(decisionCache.getSize(), 0);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedDecisionIsEvicted() {
+
+        ConsentValidationDecisionCache decisionCache = new ConsentValidationDecisionCache(60, 2, clock);
+        String firstKey = getKey(CONSENT_ID, "/accounts");
+        String secondKey = getKey(CONSENT_ID, "/balances");
+        String thirdKey = getKey(CONSENT_ID, "/transactions");
+        long version = decisionCache.getVersion(CONSENT_ID);
+
+        decisionCache.put(CONSENT_ID, firstKey, VALIDATION_RESPONSE, 0, version);
+        decisionCache.put(CONSENT_ID, secondKey, VALIDATION_RESPONSE, 0, version);
+        Assert.assertEquals(decisionCache.get(CONSENT_ID, firstKey), VALIDATION_RESPONSE);
+        decisionCache.put(CONSENT_ID, thirdKey, VALIDATION_RESPONSE, 0, version);
+
+        Assert.assertEquals(decisionCache.getSize(), 2);
+        Assert.assertEquals(decisionCache.getEvictionCount(), 1);
+        Assert.assertNull(decisionCache.get(CONSENT_ID, secondKey));
+        Assert.assertEquals(decisionCache.get(CONSENT_ID, firstKey), VALIDATION_RESPONSE);
+        Assert.assertEquals(decisionCache.get(CONSENT_ID, thirdKey), VALIDATION_RESPONSE);
+    }
+
+    @Test
+    public void testInvalidateRemovesOnlyDecisionsOfConsent() {
+
+        ConsentValidationDecisionCache decisionCache = new ConsentValidationDecisionCache(60, 10, clock);
+        String accountsKey = getKey(CONSENT_ID, "/accounts");
+        String balancesKey = getKey(CONSENT_ID, "/balances");
+        String otherConsentKey = getKey(OTHER_CONSENT_ID, "/accounts");
+
+        decisionCache.put(CONSENT_ID, accountsKey, VALIDATION_RESPONSE, 0, decisionCache.getVersion(CONSENT_ID));
+        decisionCache.put(CONSENT_ID, balancesKey, VALIDATION_RESPONSE, 0, decisionCache.getVersion(CONSENT_ID));
+        decisionCache.put(OTHER_CONSENT_ID, otherConsentKey, VALIDATION_RESPONSE, 0,
+                decisionCache.getVersion(OTHER_CONSENT_ID));
+
+        decisionCache.invalidate(CONSENT_ID);
+
+        Assert.assertNull(decisionCache.get(CONSENT_ID, accountsKey));
+        Assert.assertNull(decisionCache.get(CONSENT_ID, balancesKey));
+        Assert.assertEquals(decisionCache.get(OTHER_CONSENT_ID, otherConsentKey), VALIDATION_RESPONSE);
+        Assert.assertEquals(decisionCache.getSize(), 1);
+        Assert.assertEquals(decisionCache.getInvalidationCount(), 1);
+    }
+
+    @Test
+    public void testBuildKeyIncludesValidatedHeaders() {
+
+        Set<String> ignoredHeaders = Collections.singleton("x-fapi-interaction-id");
+        Map<String, String> headers = new HashMap<>();
+        headers.put("x-idempotency-key", "key-1");
+        headers.put("x-fapi-interaction-id", "interaction-1");
+        String key = getKey(headers, ignoredHeaders);
+
+        Map<String, String> otherInteraction = new HashMap<>(headers);
+        otherInteraction.put("x-fapi-interaction-id", "interaction-2");
+        Assert.assertEquals(getKey(otherInteraction, ignoredHeaders), key);
+
+        Map<String, String> otherCase = new HashMap<>();
+        otherCase.put("X-Idempotency-Key", "key-1");
+        Assert.assertEquals(getKey(otherCase, ignoredHeaders), key);
+
+        Map<String, String> otherIdempotencyKey = new HashMap<>(headers);
+        otherIdempotencyKey.put("x-idempotency-key", "key-2");
+        Assert.assertNotEquals(getKey(otherIdempotencyKey, ignoredHeaders), key);
+        Assert.assertNotEquals(getKey(Collections.emptyMap(), ignoredHeaders), key);
+        Assert.assertEquals(getKey(Collections.emptyMap(), ignoredHeaders), getKey(CONSENT_ID, "/accounts"));
+    }
+
+    private static String getKey(Map<String, String> headers, Set<String> ignoredHeaders) {
+
+        return ConsentValidationDecisionCache.buildKey(CONSENT_ID, "client-id", "user", "GET", "/open-banking",
+                "/accounts", headers, ignoredHeaders);
+    }
+
+    private static String getKey(String consentId, String resource) {
+
+        return ConsentValidationDecisionCache.buildKey(consentId, "client-id", "user", "GET", "/open-banking",
+                resource);
+    }
+}
@@ -20,6 +20,7 @@ package org.wso2.financial.services.accelerator.gateway.executor.impl.consent;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.http.HttpEntity;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.json.JSONObject;
@@ -37,6 +38,7 @@ import org.wso2.financial.services.accelerator.common.config.FinancialServicesCo
 import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
 import org.wso2.financial.services.accelerator.common.util.HTTPClientUtils;
 import org.wso2.financial.services.accelerator.gateway.GatewayTestConstants;
+import org.wso2.financial.services.accelerator.gateway.cache.ConsentValidationDecisionCache;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIRequestContext;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSExecutorError;
 import org.wso2.financial.services.accelerator.gateway.internal.GatewayDataHolder;
@@ -50,8 +52,10 @@ import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Test for enforcement executor.
@@ -184,4 +188,130 @@ public class ConsentEnforcementExecutorTest {
         consentEnforcementExecutor.postProcessRequest(fsapiRequestContext);
     }
 
+    @Test
+    public void testPostProcessRequestWithCachedDecision() {
+
+        String consentID = String.valueOf(UUID.randomUUID());
+        FSAPIRequestContext fsapiRequestContext = getRequestContext(consentID, "/accounts");
+
+        ConsentValidationDecisionCache decisionCacheMock = Mockito.mock(ConsentValidationDecisionCache.class);
+        Mockito.doReturn("{\"isValid\":true,\"consentInformation\":\"info\"}").when(decisionCacheMock)
+                .get(Mockito.eq(consentID), Mockito.anyString());
+        GatewayDataHolder dataHolder = GatewayDataHolder.getInstance();
+        dataHolder.setConsentValidationDecisionCacheEnabled("true");
+        dataHolder.setConsentValidationDecisionCache(decisionCacheMock);
+
+        try {
+            consentEnforcementExecutor.postProcessRequest(fsapiRequestContext);
+
+            Mockito.verify(decisionCacheMock).get(consentID, ConsentValidationDecisionCache.buildKey(consentID,
+                    "test-client-id", "admin@wso2.com", "GET", "/open-banking/v3.1/aisp", "/accounts"));
+            Mockito.verify(decisionCacheMock, Mockito.never()).put(Mockito.anyString(), Mockito.anyString(),
+                    Mockito.anyString(), Mockito.anyLong(), Mockito.anyLong());
+            Mockito.verify(fsapiRequestContext, Mockito.never()).setError(true);
+            Mockito.verify(fsapiRequestContext).setAddedHeaders(Mockito.anyMap());
+        } finally {
+            dataHolder.setConsentValidationDecisionCacheEnabled("false");
+            dataHolder.setConsentValidationDecisionCache(null);
+        }
+    }
+
+    @Test
+    public void testPostProcessRequestWithBatching() {
+
+        List<String> invokedEndpoints = new CopyOnWriteArrayList<>();
+        ConsentEnforcementExecutor batchingExecutor = new ConsentEnforcementExecutor() {
+            @Override
+            protected String invokeConsentValidationService(String validationEndpoint, String enforcementJWTPayload,
+                                                            RequestConfig requestConfig) {
+
+                invokedEndpoints.add(validationEndpoint);
+                return "{\"results\":[{\"isValid\":true,\"consentInformation\":\"info\"}]}";
+            }
+        };
+        FSAPIRequestContext fsapiRequestContext = getRequestContext(String.valueOf(UUID.randomUUID()), "/accounts");
+
+        GatewayDataHolder dataHolder = GatewayDataHolder.getInstance();
+        dataHolder.setConsentValidationBatchingEnabled("true");
+        dataHolder.setConsentValidationBatchingMaxBatchSize("1");
+        try {
+            batchingExecutor.postProcessRequest(fsapiRequestContext);
+
+            Assert.assertEquals(invokedEndpoints, List.of("http://localhost:8080/bulk"));
+            Mockito.verify(fsapiRequestContext, Mockito.never()).setError(true);
+            Mockito.verify(fsapiRequestContext).setAddedHeaders(Mockito.anyMap());
+        } finally {
+            ConsentEnforcementExecutor.shutdownValidationBatcher();
+            dataHolder.setConsentValidationBatchingEnabled("false");
+            dataHolder.setConsentValidationBatchingMaxBatchSize(null);
+        }
+    }
+
+    @Test
+    public void testPostProcessRequestFallsBackWhenBatchFails() {
+
+        List<String> invokedEndpoints = new CopyOnWriteArrayList<>();
+        ConsentEnforcementExecutor batchingExecutor = new ConsentEnforcementExecutor() {
+            @Override
+            protected String invokeConsentValidationService(String validationEndpoint, String enforcementJWTPayload,
+                                                            RequestConfig requestConfig) throws IOException {
+
+                invokedEndpoints.add(validationEndpoint);
+                if (validationEndpoint.endsWith("/bulk")) {
+                    throw new IOException("Bulk validation endpoint is not reachable");
+                }
+                return "{\"isValid\":true,\"consentInformation\":\"info\"}";
+            }
+        };
+        FSAPIRequestContext fsapiRequestContext = getRequestContext(String.valueOf(UUID.randomUUID()), "/accounts");
+
+        GatewayDataHolder dataHolder = GatewayDataHolder.getInstance();
+        dataHolder.setConsentValidationBatchingEnabled("true");
+        dataHolder.setConsentValidationBatchingMaxBatchSize("1");
+        try {
+            batchingExecutor.postProcessRequest(fsapiRequestContext);
+
+            Assert.assertEquals(invokedEndpoints, List.of("http://localhost:8080/bulk", "http://localhost:8080"));
+            Mockito.verify(fsapiRequestContext, Mockito.never()).setError(true);
+            Mockito.verify(fsapiRequestContext).setAddedHeaders(Mockito.anyMap());
+        } finally {
+            ConsentEnforcementExecutor.shutdownValidationBatcher();
+            dataHolder.setConsentValidationBatchingEnabled("false");
+            dataHolder.setConsentValidationBatchingMaxBatchSize(null);
+        }
+    }
+
+    @Test
+    public void testDecisionKeyNormalization() {
+
+        String key = ConsentValidationDecisionCache.buildKey("consent-id", "client-id", "user", "get",
+                "/open-banking/v3.1/aisp", "//accounts/?toDate=2025&fromDate=2024");
+
+        Assert.assertEquals(key, ConsentValidationDecisionCache.buildKey("consent-id", "client-id", "user", "GET",
+                "/open-banking/v3.1/aisp/", "/accounts?fromDate=2024&toDate=2025"));
+        Assert.assertTrue(key.endsWith("|GET|/open-banking/v3.1/aisp/accounts?fromDate=2024&toDate=2025"));
+        Assert.assertNotEquals(key, ConsentValidationDecisionCache.buildKey("consent-id", "client-id", "user",
+                "GET", "/open-banking/v3.1/aisp", "/accounts/account-1"));
+    }
+
+    private FSAPIRequestContext getRequestContext(String consentID, String resource) {
+
+        MsgInfoDTO msgInfoDTOMock = Mockito.mock(MsgInfoDTO.class);
+        Mockito.doReturn(resource).when(msgInfoDTOMock).getElectedResource();
+        Mockito.doReturn(resource).when(msgInfoDTOMock).getResource();
+        Mockito.doReturn("GET").when(msgInfoDTOMock).getHttpMethod();
+        Mockito.doReturn(new HashMap<String, String>()).when(msgInfoDTOMock).getHeaders();
+
+        APIRequestInfoDTO apiRequestInfoDTOMock = Mockito.mock(APIRequestInfoDTO.class);
+        Mockito.doReturn("admin@wso2.com").when(apiRequestInfoDTOMock).getUsername();
+        Mockito.doReturn("test-client-id").when(apiRequestInfoDTOMock).getConsumerKey();
+        Mockito.doReturn("/open-banking/v3.1/aisp").when(apiRequestInfoDTOMock).getContext();
+
+        FSAPIRequestContext fsapiRequestContext = Mockito.mock(FSAPIRequestContext.class);
+        Mockito.doReturn(false).when(fsapiRequestContext).isError();
+        Mockito.doReturn(consentID).when(fsapiRequestContext).getConsentId();
+        Mockito.doReturn(apiRequestInfoDTOMock).when(fsapiRequestContext).getApiRequestInfo();
+        Mockito.doReturn(msgInfoDTOMock).when(fsapiRequestContext).getMsgInfo();
+        return fsapiRequestContext;
+    }
 }
@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.executor.impl.consent;
+
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test for consent validation batcher.
+ */
+public class ConsentValidationBatcherTest {
+
+    private static final String CONSENT_ID = "consent-id";
+    private ScheduledExecutorService timer;
+    private ExecutorService dispatcher;
+
+    @BeforeClass
+    public void beforeClass() {
+
+        timer = Executors.newSingleThreadScheduledExecutor();
+        dispatcher = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterClass
+    public void afterClass() {
+
+        timer.shutdownNow();
+        dispatcher.shutdownNow();
+    }
+
+    @Test
+    public void testRequestsOfSameConsentAreCoalesced() throws Exception {
+
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        ConsentValidationBatcher batcher = new ConsentValidationBatcher(requests -> {
+            batchSizes.add(requests.size());
+            return echo(requests);
+        }, timer, dispatcher, 10000, 3);
+
+        List<CompletableFuture<JSONObject>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(batcher.submit(CONSENT_ID, new JSONObject().put("index", i)));
+        }
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(results.get(i).get(5, TimeUnit.SECONDS).getInt("index"), i);
+        }
+        Assert.assertEquals(batchSizes, List.of(3));
+    }
+
+    @Test
+    public void testBatchIsDispatchedAfterMaxWait() throws Exception {
+
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        ConsentValidationBatcher batcher = new ConsentValidationBatcher(requests -> {
+            batchSizes.add(requests.size());
+            return echo(requests);
+        }, timer, dispatcher, 50, 100);
+
+        CompletableFuture<JSONObject> first = batcher.submit(CONSENT_ID, new JSONObject().put("index", 0));
+        CompletableFuture<JSONObject> other = batcher.submit("other-consent-id", new JSONObject().put("index", 1));
+
+        Assert.assertEquals(first.get(5, TimeUnit.SECONDS).getInt("index"), 0);
+        Assert.assertEquals(other.get(5, TimeUnit.SECONDS).getInt("index"), 1);
+        Assert.assertEquals(batchSizes, List.of(1, 1));
+    }
+
+    @Test
+    public void testBatchFailureCompletesAllRequests() throws Exception {
+
+        ConsentValidationBatcher batcher = new ConsentValidationBatcher(requests -> {
+            throw new FinancialServicesException("Validation service unavailable");
+        }, timer, dispatcher, 10000, 2);
+
+        CompletableFuture<JSONObject> first = batcher.submit(CONSENT_ID, new JSONObject());
+        CompletableFuture<JSONObject> second = batcher.submit(CONSENT_ID, new JSONObject());
+
+        for (CompletableFuture<JSONObject> result : List.of(first, second)) {
+            try {
+                result.get(5, TimeUnit.SECONDS);
+                Assert.fail("Expected the batch to fail");
+            } catch (ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof FinancialServicesException);
+            }
+        }
+    }
+
+    @Test
+    public void testMismatchedResultCountFailsBatch() throws Exception {
+
+        ConsentValidationBatcher batcher = new ConsentValidationBatcher(requests -> new ArrayList<>(),
+                timer, dispatcher, 10000, 1);
+
+        try {
+            batcher.submit(CONSENT_ID, new JSONObject()).get(5, TimeUnit.SECONDS);
+            Assert.fail("Expected the batch to fail");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof FinancialServicesException);
+        }
+    }
+
+    @Test
+    public void testBlockedBulkCallDoesNotDelayTimer() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        ScheduledExecutorService batchTimer = Executors.newSingleThreadScheduledExecutor();
+        ExecutorService batchDispatcher = Executors.newFixedThreadPool(2);
+        ConsentValidationBatcher batcher = new ConsentValidationBatcher(requests -> {
+            if (requests.get(0).getInt("index") == 0) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return echo(requests);
+        }, batchTimer, batchDispatcher, 20, 100);
+
+        try {
+            CompletableFuture<JSONObject> blocked = batcher.submit(CONSENT_ID, new JSONObject().put("index", 0));
+            Thread.sleep(100);
+            CompletableFuture<JSONObject> other = batcher.submit("other-consent-id",
+                    new JSONObject().put("index", 1));
+
+            // The second batch is closed and dispatched while the first bulk call is still blocked
+            Assert.assertEquals(other.get(2, TimeUnit.SECONDS).getInt("index"), 1);
+            Assert.assertFalse(blocked.isDone());
+            release.countDown();
+            Assert.assertEquals(blocked.get(5, TimeUnit.SECONDS).getInt("index"), 0);
+        } finally {
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testBatchFailsWhenDispatcherIsSaturated() throws Exception {
+
+        ExecutorService saturatedDispatcher = Executors.newSingleThreadExecutor();
+        saturatedDispatcher.shutdown();
+        ConsentValidationBatcher batcher = new ConsentValidationBatcher(ConsentValidationBatcherTest::echo,
+                timer, saturatedDispatcher, 10000, 1);
+
+        try {
+            batcher.submit(CONSENT_ID, new JSONObject().put("index", 0)).get(5, TimeUnit.SECONDS);
+            Assert.fail("Expected the batch to fail");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
+    @Test
+    public void testShutdownFailsOpenBatches() throws Exception {
+
+        ConsentValidationBatcher batcher = new ConsentValidationBatcher(ConsentValidationBatcherTest::echo,
+                Executors.newSingleThreadScheduledExecutor(), Executors.newSingleThreadExecutor(), 10000, 100);
+        CompletableFuture<JSONObject> result = batcher.submit(CONSENT_ID, new JSONObject().put("index", 0));
+
+        batcher.shutdown();
+
+        try {
+            result.get(5, TimeUnit.SECONDS);
+            Assert.fail("Expected the open batch to fail");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+        Assert.assertTrue(batcher.submit(CONSENT_ID, new JSONObject().put("index", 1)).isCompletedExceptionally());
+    }
+
+    private static List<JSONObject> echo(List<JSONObject> requests) {
+
+        List<JSONObject> results = new ArrayList<>();
+        for (JSONObject request : requests) {
+            results.add(new JSONObject().put("isValid", true).put("index", request.getInt("index")));
+        }
+        return results;
+    }
+}
@@ -48,7 +48,6 @@ import org.wso2.financial.services.accelerator.gateway.util.GatewayUtils;
 
 import java.io.InputStream;
 import java.net.MalformedURLException;
-import java.text.ParseException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -91,14 +90,13 @@ public class DCRExecutorTest {
         dataHolder.setFinancialServicesConfigurationService(financialServicesConfigurationService);
 
         jwtUtilsMockedStatic = Mockito.mockStatic(JWTUtils.class);
-        jwtUtilsMockedStatic.when(() -> JWTUtils.decodeRequestJWT(anyString(), anyString()))
-                .thenReturn(GatewayTestConstants.DECODED_DCR_PAYLOAD);
 
         JWTClaimsSet jwtClaimsSet = Mockito.mock(JWTClaimsSet.class);
         Mockito.doReturn(GatewayTestConstants.DCR_CLAIMS).when(jwtClaimsSet).getClaims();
+        Mockito.doReturn(GatewayTestConstants.DCR_CLAIMS).when(jwtClaimsSet).toJSONObject();
 
         gatewayUtilsMockedStatic = Mockito.mockStatic(GatewayUtils.class);
-        gatewayUtilsMockedStatic.when(() -> GatewayUtils.validateRequestSignature(anyString(), any()))
+        gatewayUtilsMockedStatic.when(() -> GatewayUtils.validateRequestSignature(any(), any()))
                 .thenReturn(jwtClaimsSet);
         gatewayUtilsMockedStatic.when(() -> GatewayUtils.getSwaggerDefinition(anyString()))
                 .thenReturn("");
@@ -131,6 +129,7 @@ public class DCRExecutorTest {
         Mockito.doReturn(GatewayTestConstants.DCR_PAYLOAD).when(fsapiRequestContext).getRequestPayload();
         Mockito.doReturn(msgInfoDTO).when(fsapiRequestContext).getMsgInfo();
         Mockito.doReturn(new HashMap<>()).when(fsapiRequestContext).getAddedHeaders();
+        Mockito.doReturn(new HashMap<>()).when(fsapiRequestContext).getContextProps();
 
         dcrExecutor.preProcessRequest(fsapiRequestContext);
         verify(fsapiRequestContext, times(0)).setError(true);
@@ -208,7 +207,6 @@ public class DCRExecutorTest {
 
         gatewayUtilsMockedStatic.when(() -> GatewayUtils.getTextPayload(anyString()))
                 .thenReturn(GatewayTestConstants.DCR_SOAP_PAYLOAD);
-        jwtUtilsMockedStatic.when(() -> JWTUtils.decodeRequestJWT(anyString(), anyString())).thenReturn(null);
 
         FSAPIRequestContext fsapiRequestContext = new FSAPIRequestContext(requestContextDTO, new HashMap<>());
         dcrExecutor.preProcessRequest(fsapiRequestContext);
@@ -248,9 +246,7 @@ public class DCRExecutorTest {
         requestContextDTO.setApiRequestInfo(apiRequestInfoDTO);
 
         gatewayUtilsMockedStatic.when(() -> GatewayUtils.getTextPayload(anyString()))
-                .thenReturn(GatewayTestConstants.DCR_SOAP_PAYLOAD);
-        jwtUtilsMockedStatic.when(() -> JWTUtils.decodeRequestJWT(anyString(), anyString()))
-                .thenReturn(GatewayTestConstants.DECODED_DCR_PAYLOAD_WITHOUT_SSA);
+                .thenReturn(GatewayTestConstants.DCR_PAYLOAD_WITHOUT_SSA);
 
         FSAPIRequestContext fsapiRequestContext = new FSAPIRequestContext(requestContextDTO, new HashMap<>());
         dcrExecutor.preProcessRequest(fsapiRequestContext);
@@ -291,8 +287,6 @@ public class DCRExecutorTest {
 
         gatewayUtilsMockedStatic.when(() -> GatewayUtils.getTextPayload(anyString()))
                 .thenReturn(GatewayTestConstants.DCR_SOAP_PAYLOAD);
-        jwtUtilsMockedStatic.when(() -> JWTUtils.decodeRequestJWT(anyString(), anyString()))
-                .thenThrow(ParseException.class);
 
         FSAPIRequestContext fsapiRequestContext = new FSAPIRequestContext(requestContextDTO, new HashMap<>());
         dcrExecutor.preProcessRequest(fsapiRequestContext);
@@ -332,11 +326,9 @@ public class DCRExecutorTest {
         requestContextDTO.setApiRequestInfo(apiRequestInfoDTO);
 
         gatewayUtilsMockedStatic.when(() -> GatewayUtils.getTextPayload(anyString()))
-                .thenReturn(GatewayTestConstants.DCR_SOAP_PAYLOAD);
-        gatewayUtilsMockedStatic.when(() -> GatewayUtils.validateRequestSignature(anyString(), any()))
+                .thenReturn(GatewayTestConstants.DCR_PAYLOAD);
+        gatewayUtilsMockedStatic.when(() -> GatewayUtils.validateRequestSignature(any(), any()))
                 .thenThrow(MalformedURLException.class);
-        jwtUtilsMockedStatic.when(() -> JWTUtils.decodeRequestJWT(anyString(), anyString()))
-                .thenReturn(GatewayTestConstants.DECODED_DCR_PAYLOAD);
 
         FSAPIRequestContext fsapiRequestContext = new FSAPIRequestContext(requestContextDTO, new HashMap<>());
         dcrExecutor.preProcessRequest(fsapiRequestContext);
@@ -376,11 +368,9 @@ public class DCRExecutorTest {
         requestContextDTO.setApiRequestInfo(apiRequestInfoDTO);
 
         gatewayUtilsMockedStatic.when(() -> GatewayUtils.getTextPayload(anyString()))
-                .thenReturn(GatewayTestConstants.DCR_SOAP_PAYLOAD);
-        gatewayUtilsMockedStatic.when(() -> GatewayUtils.validateRequestSignature(anyString(), any()))
+                .thenReturn(GatewayTestConstants.DCR_PAYLOAD);
+        gatewayUtilsMockedStatic.when(() -> GatewayUtils.validateRequestSignature(any(), any()))
                 .thenThrow(JOSEException.class);
-        jwtUtilsMockedStatic.when(() -> JWTUtils.decodeRequestJWT(anyString(), anyString()))
-                .thenReturn(GatewayTestConstants.DECODED_DCR_PAYLOAD);
 
         FSAPIRequestContext fsapiRequestContext = new FSAPIRequestContext(requestContextDTO, new HashMap<>());
         dcrExecutor.preProcessRequest(fsapiRequestContext);
@@ -420,11 +410,9 @@ public class DCRExecutorTest {
         requestContextDTO.setApiRequestInfo(apiRequestInfoDTO);
 
         gatewayUtilsMockedStatic.when(() -> GatewayUtils.getTextPayload(anyString()))
-                .thenReturn(GatewayTestConstants.DCR_SOAP_PAYLOAD);
-        gatewayUtilsMockedStatic.when(() -> GatewayUtils.validateRequestSignature(anyString(), any()))
+                .thenReturn(GatewayTestConstants.DCR_PAYLOAD);
+        gatewayUtilsMockedStatic.when(() -> GatewayUtils.validateRequestSignature(any(), any()))
                 .thenThrow(BadJOSEException.class);
-        jwtUtilsMockedStatic.when(() -> JWTUtils.decodeRequestJWT(anyString(), anyString()))
-                .thenReturn(GatewayTestConstants.DECODED_DCR_PAYLOAD);
 
         FSAPIRequestContext fsapiRequestContext = new FSAPIRequestContext(requestContextDTO, new HashMap<>());
         dcrExecutor.preProcessRequest(fsapiRequestContext);
@@ -240,6 +240,47 @@ public class GatewayUtilsTest {
         Assert.assertNotNull(payload);
     }
 
+    @Test
+    public void testConstructDCRResponseForCreateWithRequestClaims() {
+
+        HashMap<String, String> headers = new HashMap<>();
+        headers.put(GatewayConstants.CONTENT_TYPE_TAG, GatewayConstants.JSON_CONTENT_TYPE);
+
+        PayloadHandler payloadHandler = new PayloadHandler() {
+            @Override
+            public String consumeAsString() throws Exception {
+                return GatewayTestConstants.IS_DCR_RESPONSE;
+            }
+
+            @Override
+            public InputStream consumeAsStream() throws Exception {
+                return null;
+            }
+        };
+
+        MsgInfoDTO msgInfoDTO = new MsgInfoDTO();
+        msgInfoDTO.setHttpMethod(HttpMethod.POST);
+        msgInfoDTO.setHeaders(headers);
+        msgInfoDTO.setPayloadHandler(payloadHandler);
+
+        APIRequestInfoDTO apiRequestInfoDTO = new APIRequestInfoDTO();
+        apiRequestInfoDTO.setApiId("1234");
+
+        ResponseContextDTO responseContextDTO = new ResponseContextDTO();
+        responseContextDTO.setMsgInfo(msgInfoDTO);
+        responseContextDTO.setApiRequestInfo(apiRequestInfoDTO);
+        responseContextDTO.setStatusCode(HttpStatus.SC_CREATED);
+
+        FSAPIResponseContext fsapiResponseContext = new FSAPIResponseContext(responseContextDTO, new HashMap<>());
+        fsapiResponseContext.getContextProps().put(GatewayConstants.REQUEST_PAYLOAD,
+                GatewayTestConstants.DCR_CLAIMS);
+
+        String payload = GatewayUtils.constructDCRResponseForCreate(fsapiResponseContext);
+        Assert.assertNotNull(payload);
+        Assert.assertTrue(payload.contains(GatewayConstants.CLIENT_ID));
+        Assert.assertTrue(payload.contains("software_client_name"));
+    }
+
     @Test
     public void testConstructDCRResponseForRetrieval() {
 
@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.util;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.caching.FinancialServicesBaseCache;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+import org.wso2.financial.services.accelerator.gateway.cache.GatewayCache;
+import org.wso2.financial.services.accelerator.gateway.cache.GatewayCacheKey;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * Test class for OpenAPIDefinitionLoader.
+ */
+public class OpenAPIDefinitionLoaderTest {
+
+    private static final String DEFINITION = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"Accounts\"," +
+            "\"version\":\"1.0\"},\"paths\":{}}";
+
+    private Map<Object, Object> entries;
+    private GatewayCache gatewayCache;
+    private Path snapshotDirectory;
+
+    @BeforeMethod
+    public void init() throws Exception {
+
+        entries = new ConcurrentHashMap<>();
+        gatewayCache = Mockito.mock(GatewayCache.class);
+        Mockito.doAnswer(invocation -> entries.get(invocation.getArgument(0)))
+                .when(gatewayCache).getFromCache(any(GatewayCacheKey.class));
+        Mockito.doAnswer(invocation -> entries.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(gatewayCache).addToCache(any(GatewayCacheKey.class), any());
+        Mockito.doAnswer(invocation -> {
+            Object key = invocation.getArgument(0);
+            if (!entries.containsKey(key)) {
+                FinancialServicesBaseCache.OnDemandRetriever retriever = invocation.getArgument(1);
+                entries.put(key, retriever.get());
+            }
+            return entries.get(key);
+        }).when(gatewayCache).getFromCacheOrRetrieve(any(GatewayCacheKey.class), any());
+
+        snapshotDirectory = Files.createTempDirectory("openapi-snapshot");
+    }
+
+    @AfterMethod
+    public void cleanUp() {
+
+        File[] snapshotFiles = snapshotDirectory.toFile().listFiles();
+        if (snapshotFiles != null) {
+            for (File snapshotFile : snapshotFiles) {
+                snapshotFile.delete();
+            }
+        }
+        snapshotDirectory.toFile().delete();
+    }
+
+    @Test
+    public void testDefinitionIsRetrievedOnce() throws Exception {
+
+        AtomicInteger retrievalCount = new AtomicInteger();
+        OpenAPIDefinitionLoader loader = new OpenAPIDefinitionLoader(gatewayCache, apiId -> {
+            retrievalCount.incrementAndGet();
+            return DEFINITION;
+        }, Collections::emptyList, snapshotDirectory);
+
+        OpenAPI openAPI = loader.getOpenAPI("api-1");
+        Assert.assertEquals(openAPI.getInfo().getTitle(), "Accounts");
+        Assert.assertSame(loader.getOpenAPI("api-1"), openAPI);
+        Assert.assertEquals(retrievalCount.get(), 1);
+        Assert.assertTrue(Files.exists(snapshotDirectory.resolve("api-1.json")));
+    }
+
+    @Test
+    public void testSnapshotIsRestored() throws Exception {
+
+        new OpenAPIDefinitionLoader(gatewayCache, apiId -> DEFINITION, Collections::emptyList, snapshotDirectory)
+                .getOpenAPI("api-1");
+        entries.clear();
+
+        OpenAPIDefinitionLoader loader = new OpenAPIDefinitionLoader(gatewayCache, apiId -> {
+            throw new IllegalStateException("Publisher is not reachable");
+        }, Collections::emptyList, snapshotDirectory);
+
+        Assert.assertEquals(loader.restoreSnapshot(), 1);
+        Assert.assertEquals(loader.getOpenAPI("api-1").getInfo().getTitle(), "Accounts");
+    }
+
+    @Test
+    public void testPreWarm() {
+
+        AtomicInteger retrievalCount = new AtomicInteger();
+        OpenAPIDefinitionLoader loader = new OpenAPIDefinitionLoader(gatewayCache, apiId -> {
+            retrievalCount.incrementAndGet();
+            return DEFINITION;
+        }, () -> Arrays.asList("api-1", "api-2"), null);
+
+        Assert.assertEquals(loader.preWarm(), 2);
+        Assert.assertEquals(retrievalCount.get(), 2);
+        Assert.assertEquals(entries.size(), 2);
+        Assert.assertEquals(loader.restoreSnapshot(), 0);
+    }
+
+    @Test
+    public void testPreWarmLoadsThroughCacheRetrieval() throws Exception {
+
+        AtomicInteger retrievalCount = new AtomicInteger();
+        OpenAPIDefinitionLoader loader = new OpenAPIDefinitionLoader(gatewayCache, apiId -> {
+            retrievalCount.incrementAndGet();
+            return DEFINITION;
+        }, () -> Arrays.asList("api-1", "api-2"), null);
+        loader.getOpenAPI("api-1");
+
+        Assert.assertEquals(loader.preWarm(), 2);
+        // The cached definition is not retrieved again
+        Assert.assertEquals(retrievalCount.get(), 2);
+        Mockito.verify(gatewayCache, Mockito.never()).addToCache(any(GatewayCacheKey.class), any());
+    }
+
+    @Test(expectedExceptions = FinancialServicesException.class)
+    public void testInvalidDefinitionIsNotCached() throws Exception {
+
+        OpenAPIDefinitionLoader loader = new OpenAPIDefinitionLoader(gatewayCache, apiId -> "invalid",
+                Collections::emptyList, snapshotDirectory);
+        try {
+            loader.getOpenAPI("api-1");
+        } finally {
+            Assert.assertTrue(entries.isEmpty());
+            Assert.assertFalse(Files.exists(snapshotDirectory.resolve("api-1.json")));
+        }
+    }
+}
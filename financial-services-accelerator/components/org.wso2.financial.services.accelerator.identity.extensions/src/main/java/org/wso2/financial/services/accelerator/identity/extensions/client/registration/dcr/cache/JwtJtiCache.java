@@ -21,10 +21,15 @@ package org.wso2.financial.services.accelerator.identity.extensions.client.regis
 import org.wso2.financial.services.accelerator.common.caching.FinancialServicesBaseCache;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
+import org.wso2.financial.services.accelerator.identity.extensions.util.IdentityCommonUtils;
 
 /**
  * Cache definition to store JTI values of Request JWTs.
+ *
+ * @deprecated JTI values are stored in the cluster wide {@link JwtJtiReplayStore}. This cache delegates to the
+ * replay store and will be removed in a future release.
  */
+@Deprecated
 public class JwtJtiCache extends FinancialServicesBaseCache<JwtJtiCacheKey, String> {
 
     private static final String CACHE_NAME = "DCR_JTI_CACHE";
@@ -86,4 +91,34 @@ public class JwtJtiCache extends FinancialServicesBaseCache<JwtJtiCacheKey, Stri
         return cacheAccessExpiry == null ? 3600 : Integer.parseInt(cacheAccessExpiry);
     }
 
+    /**
+     * Check the JTI against the replay store. The JTI is stored in the replay store if it is not already stored, so
+     * a caller which reads the JTI before adding it still identifies any later use of the JTI as a replay.
+     *
+     * @param key JTI cache key
+     * @return the JTI value if the JTI is already stored, null otherwise
+     */
+    @Override
+    public String getFromCache(JwtJtiCacheKey key) {
+
+        return storeJti(key) ? null : key.getJtiValue();
+    }
+
+    /**
+     * Store the JTI in the replay store until the default JTI expiry time.
+     *
+     * @param key   JTI cache key
+     * @param value JTI value
+     */
+    @Override
+    public void addToCache(JwtJtiCacheKey key, String value) {
+
+        storeJti(key);
+    }
+
+    private static boolean storeJti(JwtJtiCacheKey key) {
+
+        return JwtJtiReplayStore.getInstance().storeIfAbsent(key.getJtiValue(),
+                IdentityCommonUtils.getJtiExpiryTime(null));
+    }
 }
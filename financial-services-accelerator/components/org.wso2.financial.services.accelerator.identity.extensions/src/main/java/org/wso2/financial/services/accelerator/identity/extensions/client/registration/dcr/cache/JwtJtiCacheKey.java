@@ -26,7 +26,10 @@ import java.util.Objects;
 
 /**
  * The definition of Cache Key to create JWT JTI Cache.
+ *
+ * @deprecated Used only by the deprecated {@link JwtJtiCache}, and will be removed in a future release.
  */
+@Deprecated
 public class JwtJtiCacheKey extends FinancialServicesBaseCacheKey implements Serializable {
 
     static final long serialVersionUID = 1382340306L;
@@ -41,6 +44,11 @@ public class JwtJtiCacheKey extends FinancialServicesBaseCacheKey implements Ser
         return new JwtJtiCacheKey(jtiCacheKey);
     }
 
+    public String getJtiValue() {
+
+        return jtiValue;
+    }
+
     @Override
     public boolean equals(Object o) {
 
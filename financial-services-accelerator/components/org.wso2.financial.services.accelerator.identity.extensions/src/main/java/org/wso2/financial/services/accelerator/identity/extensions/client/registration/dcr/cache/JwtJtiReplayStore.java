@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.identity.extensions.client.registration.dcr.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
+import org.wso2.financial.services.accelerator.identity.extensions.internal.IdentityExtensionsDataHolder;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replay detection store for the JTI values of Request JWTs and software statements.
+ * <p>
+ * A JTI is first reserved in a size bounded local map with an atomic put if absent, which rejects replays reaching
+ * the same node without a database call. A JTI reserved locally is then inserted to the JTI table of the database,
+ * where the JTI is the primary key. The database is authoritative, so only one of any number of concurrent requests
+ * with the same JTI is accepted across all nodes. Each JTI is kept until the expiry time of its JWT.
+ */
+public class JwtJtiReplayStore {
+
+    private static final Log log = LogFactory.getLog(JwtJtiReplayStore.class);
+    private static volatile JwtJtiReplayStore jwtJtiReplayStore;
+
+    // JTI against its expiry time in seconds
+    private final ConcurrentHashMap<String, Long> localJtis = new ConcurrentHashMap<>();
+    private final int maxLocalEntries;
+    private volatile long nextPurgeTime;
+
+    JwtJtiReplayStore(int maxLocalEntries) {
+
+        this.maxLocalEntries = maxLocalEntries;
+    }
+
+    /**
+     * Singleton getInstance method to create only one object.
+     *
+     * @return JwtJtiReplayStore object
+     */
+    public static JwtJtiReplayStore getInstance() {
+
+        if (jwtJtiReplayStore == null) {
+            synchronized (JwtJtiReplayStore.class) {
+                if (jwtJtiReplayStore == null) {
+                    jwtJtiReplayStore = new JwtJtiReplayStore(
+                            FinancialServicesConfigParser.getInstance().getJtiReplayStoreLocalMaxEntries());
+                }
+            }
+        }
+        return jwtJtiReplayStore;
+    }
+
+    /**
+     * Store the given JTI until the given expiry time, if it is not already stored.
+     *
+     * @param jti        JTI value
+     * @param expiryTime expiry time of the JWT (in seconds)
+     * @return true if the JTI is stored, false if the JTI is replayed or the replay check could not be completed
+     */
+    public boolean storeIfAbsent(String jti, long expiryTime) {
+
+        long currentTime = System.currentTimeMillis() / 1000;
+        if (!reserveLocally(jti, expiryTime, currentTime)) {
+            log.debug("JTI is already stored in the local replay store");
+            return false;
+        }
+
+        try {
+            return IdentityExtensionsDataHolder.getInstance().getConsentCoreService()
+                    .storeJtiIfAbsent(jti, expiryTime);
+        } catch (ConsentManagementException e) {
+            // Release the local reservation so that the request can be retried
+            localJtis.remove(jti, expiryTime);
+            log.error("Error occurred while storing the JTI in the replay store. Treating the JTI as replayed", e);
+            return false;
+        }
+    }
+
+    /**
+     * Reserve the JTI in the local map. The local map is skipped when it is full of unexpired JTIs, leaving the
+     * replay check to the database.
+     *
+     * @param jti         JTI value
+     * @param expiryTime  expiry time of the JWT (in seconds)
+     * @param currentTime current time (in seconds)
+     * @return false if an unexpired reservation of the JTI exists, true otherwise
+     */
+    private boolean reserveLocally(String jti, long expiryTime, long currentTime) {
+
+        if (localJtis.size() >= maxLocalEntries) {
+            purgeExpiredJtis(currentTime);
+            if (localJtis.size() >= maxLocalEntries) {
+                return true;
+            }
+        }
+
+        Long storedExpiryTime = localJtis.putIfAbsent(jti, expiryTime);
+        if (storedExpiryTime == null) {
+            return true;
+        }
+        // An expired reservation is taken over, the database decides whether the JTI is replayed
+        return storedExpiryTime <= currentTime && localJtis.replace(jti, storedExpiryTime, expiryTime);
+    }
+
+    /**
+     * Remove the expired JTIs from the local map, at most once per second.
+     *
+     * @param currentTime current time (in seconds)
+     */
+    private void purgeExpiredJtis(long currentTime) {
+
+        if (currentTime < nextPurgeTime) {
+            return;
+        }
+        nextPurgeTime = currentTime + 1;
+        localJtis.values().removeIf(storedExpiryTime -> storedExpiryTime <= currentTime);
+    }
+}
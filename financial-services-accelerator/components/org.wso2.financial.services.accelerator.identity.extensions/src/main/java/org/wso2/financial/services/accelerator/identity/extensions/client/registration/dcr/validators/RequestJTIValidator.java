@@ -40,8 +40,10 @@ public class RequestJTIValidator implements DynamicClientRegistrationValidator {
     public void validatePost(ApplicationRegistrationRequest applicationRegistrationRequest,
                              Map<String, Object> ssaParams) throws FinancialServicesDCRException {
 
-        String requestJtiValue = (String) applicationRegistrationRequest.getAdditionalAttributes().get("jti");
-        if (requestJtiValue != null && IdentityCommonUtils.isJTIReplayed(requestJtiValue)) {
+        Map<String, Object> requestAttributes = applicationRegistrationRequest.getAdditionalAttributes();
+        String requestJtiValue = (String) requestAttributes.get(IdentityCommonConstants.JTI);
+        if (requestJtiValue != null && IdentityCommonUtils.isJTIReplayed(requestJtiValue,
+                requestAttributes.get(IdentityCommonConstants.EXP))) {
             log.debug("Rejected the replayed jti in the registration request");
             throw new FinancialServicesDCRException(IdentityCommonConstants.INVALID_CLIENT_METADATA,
                     "Rejected the replayed jti in the registration request");
@@ -58,8 +60,10 @@ public class RequestJTIValidator implements DynamicClientRegistrationValidator {
                                ServiceProviderProperty[] serviceProviderProperties)
             throws FinancialServicesDCRException {
 
-        String requestJtiValue = (String) applicationUpdateRequest.getAdditionalAttributes().get("jti");
-        if (requestJtiValue != null && IdentityCommonUtils.isJTIReplayed(requestJtiValue)) {
+        Map<String, Object> requestAttributes = applicationUpdateRequest.getAdditionalAttributes();
+        String requestJtiValue = (String) requestAttributes.get(IdentityCommonConstants.JTI);
+        if (requestJtiValue != null && IdentityCommonUtils.isJTIReplayed(requestJtiValue,
+                requestAttributes.get(IdentityCommonConstants.EXP))) {
             log.debug("Rejected the replayed jti in the registration request");
             throw new FinancialServicesDCRException(IdentityCommonConstants.INVALID_CLIENT_METADATA,
                     "Rejected the replayed jti in the registration request");
@@ -41,7 +41,7 @@ public class SSAJTIValidator implements DynamicClientRegistrationValidator {
                              Map<String, Object> ssaParams) throws FinancialServicesDCRException {
 
         String ssaJtiValue = (String) ssaParams.get(IdentityCommonConstants.JTI);
-        if (IdentityCommonUtils.isJTIReplayed(ssaJtiValue)) {
+        if (IdentityCommonUtils.isJTIReplayed(ssaJtiValue, ssaParams.get(IdentityCommonConstants.EXP))) {
             log.debug("Rejected the replayed jti in the software statement");
             throw new FinancialServicesDCRException(IdentityCommonConstants.INVALID_SOFTWARE_STATEMENT,
                     "Rejected the replayed jti in the software statement");
@@ -60,7 +60,7 @@ public class SSAJTIValidator implements DynamicClientRegistrationValidator {
 
 
         String ssaJtiValue = (String) ssaParams.get(IdentityCommonConstants.JTI);
-        if (IdentityCommonUtils.isJTIReplayed(ssaJtiValue)) {
+        if (IdentityCommonUtils.isJTIReplayed(ssaJtiValue, ssaParams.get(IdentityCommonConstants.EXP))) {
             log.debug("Rejected the replayed jti in the software statement");
             throw new FinancialServicesDCRException(IdentityCommonConstants.INVALID_SOFTWARE_STATEMENT,
                     "Rejected the replayed jti in the software statement");
@@ -29,15 +29,16 @@ import org.wso2.carbon.identity.application.common.model.ServiceProviderProperty
 import org.wso2.carbon.identity.oauth2.authz.OAuthAuthzReqMessageContext;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenRespDTO;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2AuthorizeReqDTO;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
 import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
 import org.wso2.financial.services.accelerator.common.util.FinancialServicesUtils;
-import org.wso2.financial.services.accelerator.identity.extensions.client.registration.dcr.cache.JwtJtiCache;
-import org.wso2.financial.services.accelerator.identity.extensions.client.registration.dcr.cache.JwtJtiCacheKey;
+import org.wso2.financial.services.accelerator.identity.extensions.client.registration.dcr.cache.JwtJtiReplayStore;
 import org.wso2.financial.services.accelerator.identity.extensions.internal.IdentityExtensionsDataHolder;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -104,34 +105,40 @@ public class IdentityCommonUtils {
     }
 
     /**
-     * Check whether the given jti value is replayed.
+     * Check whether the given jti value is replayed. The jti value is stored in the JTI replay store until the given
+     * expiry time, so that any later use of the same jti value is identified as a replay.
      *
      * @param jtiValue - jti value
+     * @param expiry   - exp claim of the JWT carrying the jti value, can be null
      * @return true if the JTI is replayed, false otherwise
      */
-    public static boolean isJTIReplayed(String jtiValue) {
+    public static boolean isJTIReplayed(String jtiValue, Object expiry) {
 
-        // Validate JTI. Continue if jti is not present in cache
-        if (getJtiFromCache(jtiValue) != null) {
-            return true;
-        }
-
-        // Add jti value to cache
-        JwtJtiCacheKey jtiCacheKey = JwtJtiCacheKey.of(jtiValue);
-        JwtJtiCache.getInstance().addToCache(jtiCacheKey, jtiValue);
-        return false;
+        return !JwtJtiReplayStore.getInstance().storeIfAbsent(jtiValue, getJtiExpiryTime(expiry));
     }
 
     /**
-     * Try to retrieve the given jti value from cache.
+     * Get the time until which a jti value is kept in the JTI replay store. The exp claim of the JWT is used when it
+     * is available, but the jti value is always kept for at least the configured default expiry so that a JWT with
+     * an exp claim in the past cannot be replayed once its jti value is purged.
      *
-     * @param jtiValue - jti value
-     * @return the cached JTI value or null if not found
+     * @param expiry - exp claim of the JWT, as a date or as seconds since the epoch
+     * @return expiry time in seconds since the epoch
      */
-    public static String getJtiFromCache(String jtiValue) {
+    public static long getJtiExpiryTime(Object expiry) {
 
-        JwtJtiCacheKey cacheKey = JwtJtiCacheKey.of(jtiValue);
-        return JwtJtiCache.getInstance().getFromCache(cacheKey);
+        long defaultExpiryTime = System.currentTimeMillis() / 1000 +
+                FinancialServicesConfigParser.getInstance().getJtiReplayStoreDefaultExpiryInSeconds();
+        if (expiry instanceof Date) {
+            return Math.max(((Date) expiry).getTime() / 1000, defaultExpiryTime);
+        }
+        if (expiry instanceof Number) {
+            return Math.max(((Number) expiry).longValue(), defaultExpiryTime);
+        }
+        if (expiry instanceof String && StringUtils.isNumeric((String) expiry)) {
+            return Math.max(Long.parseLong((String) expiry), defaultExpiryTime);
+        }
+        return defaultExpiryTime;
     }
 
     /**
@@ -39,8 +39,6 @@ import org.wso2.financial.services.accelerator.common.extension.model.ExternalSe
 import org.wso2.financial.services.accelerator.common.extension.model.StatusEnum;
 import org.wso2.financial.services.accelerator.common.util.ServiceExtensionUtils;
 import org.wso2.financial.services.accelerator.identity.extensions.client.registration.dcr.attribute.filter.FSAdditionalAttributeFilter;
-import org.wso2.financial.services.accelerator.identity.extensions.client.registration.dcr.cache.JwtJtiCache;
-import org.wso2.financial.services.accelerator.identity.extensions.client.registration.dcr.cache.JwtJtiCacheKey;
 import org.wso2.financial.services.accelerator.identity.extensions.internal.IdentityExtensionsDataHolder;
 import org.wso2.financial.services.accelerator.identity.extensions.util.IdentityCommonConstants;
 import org.wso2.financial.services.accelerator.identity.extensions.util.TestConstants;
@@ -51,7 +49,6 @@ import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 
@@ -64,7 +61,6 @@ public class FSAdditionalAttributeFilterTest {
     IdentityExtensionsDataHolder identityExtensionsDataHolder;
     private static MockedStatic<IdentityExtensionsDataHolder> identityExtensionsDataHolderMockedStatic;
     private MockedStatic<FinancialServicesConfigParser> configParserMockedStatic;
-    private static MockedStatic<JwtJtiCache> jwtJtiCacheMockedStatic;
     MockedStatic<ServiceExtensionUtils> serviceExtensionUtilsMockedStatic;
     private static final Gson gson = new Gson();
 
@@ -118,13 +114,6 @@ public class FSAdditionalAttributeFilterTest {
                 .invokeExternalServiceCall(any(), any())).thenReturn(new ExternalServiceResponse("testId",
                 StatusEnum.SUCCESS, rootNode));
 
-        JwtJtiCache jwtJtiCache = Mockito.mock(JwtJtiCache.class);
-        Mockito.doReturn(null).when(jwtJtiCache).getFromCache(JwtJtiCacheKey.of(anyString()));
-
-
-        jwtJtiCacheMockedStatic = Mockito.mockStatic(JwtJtiCache.class);
-        jwtJtiCacheMockedStatic.when(JwtJtiCache::getInstance).thenReturn(jwtJtiCache);
-
         fsAdditionalAttributeFilter = new FSAdditionalAttributeFilter();
 
     }
@@ -133,7 +122,6 @@ public class FSAdditionalAttributeFilterTest {
     public void afterClass() {
         identityExtensionsDataHolderMockedStatic.close();
         configParserMockedStatic.close();
-        jwtJtiCacheMockedStatic.close();
         serviceExtensionUtilsMockedStatic.close();
     }
 
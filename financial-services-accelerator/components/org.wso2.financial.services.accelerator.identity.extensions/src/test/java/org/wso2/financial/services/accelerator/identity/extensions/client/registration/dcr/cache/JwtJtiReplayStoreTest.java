@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2025, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.identity.extensions.client.registration.dcr.cache;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
+import org.wso2.financial.services.accelerator.consent.mgt.service.ConsentCoreService;
+import org.wso2.financial.services.accelerator.identity.extensions.internal.IdentityExtensionsDataHolder;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for JwtJtiReplayStore.
+ */
+public class JwtJtiReplayStoreTest {
+
+    private ConsentCoreService consentCoreService;
+    private long expiryTime;
+
+    @BeforeMethod
+    public void beforeMethod() throws ConsentManagementException {
+
+        consentCoreService = mock(ConsentCoreService.class);
+        when(consentCoreService.storeJtiIfAbsent(anyString(), anyLong())).thenReturn(true);
+        IdentityExtensionsDataHolder.getInstance().setConsentCoreService(consentCoreService);
+        expiryTime = System.currentTimeMillis() / 1000 + 3600;
+    }
+
+    @Test
+    public void testStoreReplayedJtiOnSameNode() throws ConsentManagementException {
+
+        JwtJtiReplayStore jwtJtiReplayStore = new JwtJtiReplayStore(10);
+
+        Assert.assertTrue(jwtJtiReplayStore.storeIfAbsent("jti-1", expiryTime));
+        Assert.assertFalse(jwtJtiReplayStore.storeIfAbsent("jti-1", expiryTime));
+        verify(consentCoreService, times(1)).storeJtiIfAbsent(eq("jti-1"), anyLong());
+    }
+
+    @Test
+    public void testStoreJtiReplayedOnAnotherNode() throws ConsentManagementException {
+
+        when(consentCoreService.storeJtiIfAbsent(eq("jti-2"), anyLong())).thenReturn(false);
+        JwtJtiReplayStore jwtJtiReplayStore = new JwtJtiReplayStore(10);
+
+        Assert.assertFalse(jwtJtiReplayStore.storeIfAbsent("jti-2", expiryTime));
+    }
+
+    @Test
+    public void testStoreJtiWithDatabaseError() throws ConsentManagementException {
+
+        when(consentCoreService.storeJtiIfAbsent(eq("jti-3"), anyLong()))
+                .thenThrow(new ConsentManagementException("Database error"))
+                .thenReturn(true);
+        JwtJtiReplayStore jwtJtiReplayStore = new JwtJtiReplayStore(10);
+
+        Assert.assertFalse(jwtJtiReplayStore.storeIfAbsent("jti-3", expiryTime));
+        // The failed attempt must not block a retry of the same request
+        Assert.assertTrue(jwtJtiReplayStore.storeIfAbsent("jti-3", expiryTime));
+    }
+
+    @Test
+    public void testStoreJtiWhenLocalStoreIsFull() throws ConsentManagementException {
+
+        JwtJtiReplayStore jwtJtiReplayStore = new JwtJtiReplayStore(1);
+
+        Assert.assertTrue(jwtJtiReplayStore.storeIfAbsent("jti-4", expiryTime));
+        when(consentCoreService.storeJtiIfAbsent(eq("jti-5"), anyLong())).thenReturn(true, false);
+        Assert.assertTrue(jwtJtiReplayStore.storeIfAbsent("jti-5", expiryTime));
+        Assert.assertFalse(jwtJtiReplayStore.storeIfAbsent("jti-5", expiryTime));
+        verify(consentCoreService, times(2)).storeJtiIfAbsent(eq("jti-5"), anyLong());
+    }
+
+    @Test
+    public void testStoreExpiredLocalJti() throws ConsentManagementException {
+
+        JwtJtiReplayStore jwtJtiReplayStore = new JwtJtiReplayStore(10);
+        long expiredTime = System.currentTimeMillis() / 1000 - 1;
+
+        Assert.assertTrue(jwtJtiReplayStore.storeIfAbsent("jti-6", expiredTime));
+        Assert.assertTrue(jwtJtiReplayStore.storeIfAbsent("jti-6", expiryTime));
+        verify(consentCoreService, times(2)).storeJtiIfAbsent(eq("jti-6"), anyLong());
+    }
+}
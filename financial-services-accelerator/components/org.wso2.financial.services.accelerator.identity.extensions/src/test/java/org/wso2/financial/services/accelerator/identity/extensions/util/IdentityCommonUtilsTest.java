@@ -18,6 +18,7 @@
 
 package org.wso2.financial.services.accelerator.identity.extensions.util;
 
+import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
@@ -27,6 +28,7 @@ import org.wso2.carbon.identity.application.common.model.ServiceProviderProperty
 import org.wso2.carbon.identity.oauth2.authz.OAuthAuthzReqMessageContext;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenRespDTO;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2AuthorizeReqDTO;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
 import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
 import org.wso2.financial.services.accelerator.consent.mgt.service.ConsentCoreService;
@@ -34,6 +36,7 @@ import org.wso2.financial.services.accelerator.identity.extensions.internal.Iden
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -158,4 +161,37 @@ public class IdentityCommonUtilsTest {
         Assert.assertEquals(spMetaData.get("key1"), "value1");
         Assert.assertEquals(spMetaData.get("key2"), "value2,value3");
     }
+
+    @Test
+    public void testGetJtiExpiryTime() {
+
+        FinancialServicesConfigParser configParserMock = mock(FinancialServicesConfigParser.class);
+        when(configParserMock.getJtiReplayStoreDefaultExpiryInSeconds()).thenReturn(3600L);
+        try (MockedStatic<FinancialServicesConfigParser> configParserMockedStatic =
+                     Mockito.mockStatic(FinancialServicesConfigParser.class)) {
+            configParserMockedStatic.when(FinancialServicesConfigParser::getInstance).thenReturn(configParserMock);
+
+            long expiry = System.currentTimeMillis() / 1000 + 7200;
+            Assert.assertEquals(IdentityCommonUtils.getJtiExpiryTime(new Date(expiry * 1000)), expiry);
+            Assert.assertEquals(IdentityCommonUtils.getJtiExpiryTime(expiry), expiry);
+            Assert.assertEquals(IdentityCommonUtils.getJtiExpiryTime(String.valueOf(expiry)), expiry);
+        }
+    }
+
+    @Test
+    public void testGetJtiExpiryTimeOfPastExpiry() {
+
+        FinancialServicesConfigParser configParserMock = mock(FinancialServicesConfigParser.class);
+        when(configParserMock.getJtiReplayStoreDefaultExpiryInSeconds()).thenReturn(3600L);
+        try (MockedStatic<FinancialServicesConfigParser> configParserMockedStatic =
+                     Mockito.mockStatic(FinancialServicesConfigParser.class)) {
+            configParserMockedStatic.when(FinancialServicesConfigParser::getInstance).thenReturn(configParserMock);
+
+            // A past exp claim is kept for the default expiry so that the jti cannot be replayed once purged
+            long minExpiry = System.currentTimeMillis() / 1000 + 3600;
+            Assert.assertTrue(IdentityCommonUtils.getJtiExpiryTime(new Date(1700000000000L)) >= minExpiry);
+            Assert.assertTrue(IdentityCommonUtils.getJtiExpiryTime(1700000000L) >= minExpiry);
+            Assert.assertTrue(IdentityCommonUtils.getJtiExpiryTime("1700000000") >= minExpiry);
+        }
+    }
 }
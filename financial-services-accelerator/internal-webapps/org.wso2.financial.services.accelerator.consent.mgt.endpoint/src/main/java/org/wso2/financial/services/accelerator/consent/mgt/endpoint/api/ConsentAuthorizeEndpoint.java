@@ -18,9 +18,6 @@
 
 package org.wso2.financial.services.accelerator.consent.mgt.endpoint.api;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
@@ -46,16 +43,13 @@ import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.Aut
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentException;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentExtensionConstants;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentExtensionExporter;
-import org.wso2.financial.services.accelerator.consent.mgt.service.impl.ConsentCoreServiceImpl;
 
 import java.io.Serializable;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -87,8 +81,6 @@ public class ConsentAuthorizeEndpoint {
     private static boolean isPreInitiatedConsent = false;
     private static List<ConsentPersistStep> consentPersistSteps = null;
     private static List<ConsentRetrievalStep> consentRetrievalSteps = null;
-    private static final ConsentCoreServiceImpl consentCoreService = new ConsentCoreServiceImpl();
-    private static final Gson gson = new Gson();
 
     public ConsentAuthorizeEndpoint() {
 
@@ -226,15 +218,7 @@ public class ConsentAuthorizeEndpoint {
                     ConsentConstants.ERROR_SERVER_ERROR, state);
         }
         ConsentUtils.setCommonDataToResponse(consentData, jsonObject);
-        String consent = gson.toJson(consentData);
-        Map<String, String> authorizeData = new HashMap<>();
-        authorizeData.put(consentData.getSessionDataKey(), consent);
         ConsentCache.addConsentDataToCache(sessionDataKey, consentData);
-        if (ConsentConstants.STORE_CONSENT) {
-            if (consentCoreService.getConsentAttributesByName(sessionDataKey).isEmpty()) {
-                consentCoreService.storeConsentAttributes(consentData.getConsentId(), authorizeData);
-            }
-        }
         return Response.ok(jsonObject.toString(), MediaType.APPLICATION_JSON).build();
     }
 
@@ -253,32 +237,6 @@ public class ConsentAuthorizeEndpoint {
         ConsentData consentData = ConsentCache.getConsentDataFromCache(sessionDataKey);
         URI location;
         try {
-            if (consentData == null) {
-                if (ConsentConstants.STORE_CONSENT) {
-                    Map<String, String> consentDetailsMap = consentCoreService
-                            .getConsentAttributesByName(sessionDataKey);
-                    if (consentDetailsMap.isEmpty()) {
-                        throw new ConsentException(consentData.getRedirectURI(),
-                                AuthErrorCode.SERVER_ERROR,
-                                "Unable to get consent data", consentData.getState());
-                    }
-                    Set<String> keys = consentDetailsMap.keySet();
-                    String consentId = new ArrayList<>(keys).get(0);
-                    JsonObject consentDetails = JsonParser.parseString(consentDetailsMap.get(consentId))
-                            .getAsJsonObject();
-                    consentData = ConsentUtils.getConsentDataFromAttributes(consentDetails, sessionDataKey);
-
-                    if (consentDetailsMap.isEmpty()) {
-                        throw new ConsentException(consentData.getRedirectURI(),
-                                AuthErrorCode.SERVER_ERROR, "Unable to get consent data",
-                                consentData.getState());
-                    }
-                } else {
-                    throw new ConsentException(consentData.getRedirectURI(),
-                            AuthErrorCode.SERVER_ERROR, "Unable to get consent data",
-                            consentData.getState());
-                }
-            }
             JSONObject payload;
             try {
                 payload = ConsentUtils.getJSONObjectPayload(request);
@@ -353,19 +311,7 @@ public class ConsentAuthorizeEndpoint {
                         consentPersistData.getBrowserCookies(), consentData);
             }
         } finally {
-            if (ConsentConstants.STORE_CONSENT && consentData != null) {
-                // remove all session data related to the consent from consent attributes
-                ArrayList<String> keysToDelete = new ArrayList<>();
-                Map<String, String> consentAttributes = consentCoreService
-                        .getConsentAttributes(consentData.getConsentId()).getConsentAttributes();
-                consentAttributes.forEach((key, value) -> {
-                    if (ConsentUtils.isValidJson(value) && value.contains("sessionDataKey")) {
-                        keysToDelete.add(key);
-                    }
-                });
-                consentCoreService.deleteConsentAttributes(consentData.getConsentId(),
-                        keysToDelete);
-            }
+            ConsentCache.removeStoredConsent(sessionDataKey);
         }
 
         return Response.status(ConsentExtensionConstants.STATUS_FOUND).location(location).build();
@@ -21,11 +21,13 @@ package org.wso2.financial.services.accelerator.consent.mgt.endpoint.api;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
 import org.wso2.financial.services.accelerator.common.util.JWTUtils;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.endpoint.utils.ConsentConstants;
 import org.wso2.financial.services.accelerator.consent.mgt.endpoint.utils.ConsentUtils;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentException;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentExtensionConstants;
@@ -39,8 +41,13 @@ import org.wso2.financial.services.accelerator.consent.mgt.service.impl.ConsentC
 
 import java.net.URISyntaxException;
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -49,9 +56,11 @@ import java.util.TreeMap;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 
@@ -108,8 +117,195 @@ public class ConsentValidationEndpoint {
     @Produces({ "application/json; charset=utf-8" })
     public Response validate(@Context HttpServletRequest request, @Context HttpServletResponse response) {
 
-        String payload = ConsentUtils.getStringPayload(request);
-        JSONObject requestData = new JSONObject();
+        JSONObject requestData = getRequestData(ConsentUtils.getStringPayload(request));
+        ConsentValidateData consentValidateData = getConsentValidateData(requestData);
+
+        try {
+            DetailedConsentResource consentResource = consentCoreService
+                    .getDetailedConsent(consentValidateData.getConsentId());
+            consentValidateData.setComprehensiveConsent(consentResource);
+        } catch (ConsentManagementException e) {
+            log.error("Exception while getting consent", e);
+            throw new ConsentException(ResponseStatus.BAD_REQUEST, "Exception while getting consent");
+        }
+
+        ConsentValidationResult validationResult = validateConsent(consentValidateData);
+
+        JSONObject responsePayload;
+        try {
+            responsePayload = validationResult.generatePayload();
+            responsePayload.put(ConsentExtensionConstants.CONSENT_INFO,
+                    ConsentUtils.signJWTWithDefaultKey(validationResult.getConsentInformation().toString()));
+        } catch (Exception e) {
+            log.error("Error occurred while getting private key", e);
+            throw new ConsentException(ResponseStatus.INTERNAL_SERVER_ERROR, "Error while getting private key");
+        }
+        return Response.status(HttpServletResponse.SC_OK).entity(responsePayload.toString()).build();
+    }
+
+    /**
+     * Validate a batch of validation requests sent in a single envelope. The consents of all the requests are
+     * retrieved together and the consent information of all the results is signed together. The results are
+     * returned in the order of the requests, and a request which cannot be validated gets an invalid result without
+     * failing the rest of the batch.
+     */
+    @POST
+    @Path("/validate/bulk")
+    @Consumes({ "application/jwt; charset=utf-8" })
+    @Produces({ "application/json; charset=utf-8" })
+    public Response validateBulk(@Context HttpServletRequest request, @Context HttpServletResponse response) {
+
+        JSONObject requestData = getRequestData(ConsentUtils.getStringPayload(request));
+        JSONArray validationRequests = requestData.optJSONArray(ConsentConstants.VALIDATION_REQUESTS);
+        if (validationRequests == null || validationRequests.isEmpty()) {
+            throw new ConsentException(ResponseStatus.BAD_REQUEST, "Validation requests are mandatory for bulk " +
+                    "consent validation");
+        }
+
+        List<JSONObject> results = new ArrayList<>(Collections.nCopies(validationRequests.length(), null));
+        Map<Integer, ConsentValidateData> consentValidateDataByIndex = new LinkedHashMap<>();
+        Set<String> consentIds = new LinkedHashSet<>();
+        for (int i = 0; i < validationRequests.length(); i++) {
+            try {
+                ConsentValidateData consentValidateData =
+                        getConsentValidateData(validationRequests.getJSONObject(i));
+                consentValidateDataByIndex.put(i, consentValidateData);
+                consentIds.add(consentValidateData.getConsentId());
+            } catch (ConsentException e) {
+                results.set(i, getErrorResult(e));
+            } catch (JSONException e) {
+                log.error("Unable to parse the validation request", e);
+                results.set(i, getInvalidResult(ResponseStatus.BAD_REQUEST, "Unable to parse the validation request"));
+            }
+        }
+
+        Map<String, DetailedConsentResource> consentResources;
+        try {
+            consentResources = consentCoreService.getDetailedConsents(new ArrayList<>(consentIds));
+        } catch (ConsentManagementException e) {
+            log.error("Exception while getting consents", e);
+            throw new ConsentException(ResponseStatus.BAD_REQUEST, "Exception while getting consents");
+        }
+
+        List<JSONObject> signableResults = new ArrayList<>();
+        List<String> consentInformation = new ArrayList<>();
+        for (Map.Entry<Integer, ConsentValidateData> entry : consentValidateDataByIndex.entrySet()) {
+            ConsentValidateData consentValidateData = entry.getValue();
+            DetailedConsentResource consentResource = consentResources.get(consentValidateData.getConsentId());
+            if (consentResource == null) {
+                results.set(entry.getKey(), getInvalidResult(ResponseStatus.BAD_REQUEST,
+                        "Exception while getting consent"));
+                continue;
+            }
+            consentValidateData.setComprehensiveConsent(consentResource);
+            ConsentValidationResult validationResult;
+            try {
+                validationResult = validateConsent(consentValidateData);
+            } catch (ConsentException e) {
+                results.set(entry.getKey(), getErrorResult(e));
+                continue;
+            }
+            JSONObject result = validationResult.generatePayload();
+            results.set(entry.getKey(), result);
+            signableResults.add(result);
+            consentInformation.add(validationResult.getConsentInformation().toString());
+        }
+
+        List<String> signedConsentInformation;
+        try {
+            signedConsentInformation = JWTUtils.signJWTsWithDefaultKey(consentInformation);
+        } catch (Exception e) {
+            log.error("Error occurred while getting private key", e);
+            throw new ConsentException(ResponseStatus.INTERNAL_SERVER_ERROR, "Error while getting private key");
+        }
+
+        for (int i = 0; i < signableResults.size(); i++) {
+            signableResults.get(i).put(ConsentExtensionConstants.CONSENT_INFO, signedConsentInformation.get(i));
+        }
+        JSONObject responsePayload = new JSONObject();
+        responsePayload.put(ConsentConstants.VALIDATION_RESULTS, new JSONArray(results));
+        return Response.status(HttpServletResponse.SC_OK).entity(responsePayload.toString()).build();
+    }
+
+    /**
+     * Retrieve the IDs of the consents updated since the given time, which include the consents whose status
+     * changed. The gateway nodes poll it to invalidate the validation decisions they cached for the consents. The
+     * response carries the time of the retrieval, from which the next poll starts. If more consents were updated than
+     * can be returned, no consent IDs are returned and the response is marked as truncated.
+     */
+    @GET
+    @Path("/validate/status-changes")
+    @Produces({ "application/json; charset=utf-8" })
+    public Response getConsentStatusChanges(@Context HttpServletRequest request, @Context HttpServletResponse response,
+                                            @QueryParam(ConsentConstants.FROM_TIME) String fromTime) {
+
+        long toTime = System.currentTimeMillis() / 1000;
+        JSONObject responsePayload = new JSONObject();
+        responsePayload.put(ConsentConstants.TO_TIME, toTime);
+        if (fromTime == null) {
+            responsePayload.put(ConsentConstants.CONSENT_IDS, new JSONArray());
+            responsePayload.put(ConsentConstants.TRUNCATED, false);
+            return Response.status(HttpServletResponse.SC_OK).entity(responsePayload.toString()).build();
+        }
+
+        ArrayList<String> consentIds;
+        try {
+            consentIds = consentCoreService.getUpdatedConsentIds(Long.parseLong(fromTime),
+                    ConsentConstants.MAX_CONSENT_STATUS_CHANGES + 1);
+        } catch (NumberFormatException e) {
+            throw new ConsentException(ResponseStatus.BAD_REQUEST, "Invalid value for the fromTime parameter");
+        } catch (ConsentManagementException e) {
+            log.error("Exception while getting consent status changes", e);
+            throw new ConsentException(ResponseStatus.INTERNAL_SERVER_ERROR,
+                    "Exception while getting consent status changes");
+        }
+
+        boolean truncated = consentIds.size() > ConsentConstants.MAX_CONSENT_STATUS_CHANGES;
+        responsePayload.put(ConsentConstants.CONSENT_IDS, truncated ? new JSONArray() : new JSONArray(consentIds));
+        responsePayload.put(ConsentConstants.TRUNCATED, truncated);
+        return Response.status(HttpServletResponse.SC_OK).entity(responsePayload.toString()).build();
+    }
+
+    /**
+     * Build the invalid result of a validation request of a bulk validation.
+     *
+     * @param status       response status of the failure
+     * @param errorMessage error message
+     * @return invalid validation result payload
+     */
+    private static JSONObject getInvalidResult(ResponseStatus status, String errorMessage) {
+
+        ConsentValidationResult validationResult = new ConsentValidationResult();
+        validationResult.setValid(false);
+        validationResult.setErrorCode(status.getReasonPhrase());
+        validationResult.setErrorMessage(errorMessage);
+        validationResult.setHttpCode(status.getStatusCode());
+        return validationResult.generatePayload();
+    }
+
+    /**
+     * Build the invalid result of a validation request of a bulk validation which failed with a consent exception.
+     *
+     * @param e consent exception thrown while validating the request
+     * @return invalid validation result payload
+     */
+    private static JSONObject getErrorResult(ConsentException e) {
+
+        ResponseStatus status = e.getStatus() != null ? e.getStatus() : ResponseStatus.INTERNAL_SERVER_ERROR;
+        JSONObject error = e.getPayload() != null ? e.getPayload().optJSONObject(ConsentExtensionConstants.ERROR)
+                : null;
+        String errorMessage = error != null ? error.optString(ConsentExtensionConstants.ERROR_DESCRIPTION,
+                status.getReasonPhrase()) : status.getReasonPhrase();
+        return getInvalidResult(status, errorMessage);
+    }
+
+    /**
+     * Decode the validation request payload, validating its signature if configured.
+     *
+     * @param payload validation request payload
+     * @return decoded validation request
+     */
+    private static JSONObject getRequestData(String payload) {
 
         if (ConsentUtils.getConsentJWTPayloadValidatorConfigEnabled()) {
             try {
@@ -118,7 +314,7 @@ public class ConsentValidationEndpoint {
                         ? JWTUtils.decodeRequestJWT(payload, ConsentExtensionConstants.BODY)
                         : null;
                 if (Objects.nonNull(decodedRequest)) {
-                    requestData = new JSONObject(decodedRequest);
+                    return new JSONObject(decodedRequest);
                 } else {
                     log.error("Error while decoding the JWT request payload");
                     throw new ConsentException(ResponseStatus.BAD_REQUEST,
@@ -134,12 +330,21 @@ public class ConsentValidationEndpoint {
             }
         } else {
             try {
-                requestData = new JSONObject(payload);
+                return new JSONObject(payload);
             } catch (JSONException e) {
                 log.error("Unable to parse the request payload", e);
                 throw new ConsentException(ResponseStatus.BAD_REQUEST, "Unable to parse the request payload");
             }
         }
+    }
+
+    /**
+     * Build the consent validate data of a validation request.
+     *
+     * @param requestData decoded validation request
+     * @return consent validate data without the consent
+     */
+    private static ConsentValidateData getConsentValidateData(JSONObject requestData) {
 
         JSONObject requestHeaders = (JSONObject) requestData.get(ConsentExtensionConstants.HEADERS);
         Set<String> headerNames = requestHeaders.keySet();
@@ -173,16 +378,17 @@ public class ConsentValidationEndpoint {
             throw new ConsentException(ResponseStatus.BAD_REQUEST, "Error while extracting query parameters");
         }
 
-        ConsentValidateData consentValidateData = new ConsentValidateData(requestHeaders, requestPayload,
-                requestPath, consentId, userId, clientId, resourceParamsMap, headersMap);
+        return new ConsentValidateData(requestHeaders, requestPayload, requestPath, consentId, userId, clientId,
+                resourceParamsMap, headersMap);
+    }
 
-        try {
-            DetailedConsentResource consentResource = consentCoreService.getDetailedConsent(consentId);
-            consentValidateData.setComprehensiveConsent(consentResource);
-        } catch (ConsentManagementException e) {
-            log.error("Exception while getting consent", e);
-            throw new ConsentException(ResponseStatus.BAD_REQUEST, "Exception while getting consent");
-        }
+    /**
+     * Validate the consent of a validation request and attach the consent information to the result.
+     *
+     * @param consentValidateData consent validate data with the consent
+     * @return consent validation result
+     */
+    private static ConsentValidationResult validateConsent(ConsentValidateData consentValidateData) {
 
         ConsentValidationResult validationResult = new ConsentValidationResult();
         consentValidator.validate(consentValidateData, validationResult);
@@ -191,16 +397,6 @@ public class ConsentValidationEndpoint {
                 consentValidateData.getComprehensiveConsent());
         information.put(ConsentExtensionConstants.ADDITIONAL_CONSENT_INFO, validationResult.getConsentInformation());
         validationResult.setConsentInformation(information);
-
-        JSONObject responsePayload;
-        try {
-            responsePayload = validationResult.generatePayload();
-            responsePayload.put(ConsentExtensionConstants.CONSENT_INFO,
-                    ConsentUtils.signJWTWithDefaultKey(validationResult.getConsentInformation().toString()));
-        } catch (Exception e) {
-            log.error("Error occurred while getting private key", e);
-            throw new ConsentException(ResponseStatus.INTERNAL_SERVER_ERROR, "Error while getting private key");
-        }
-        return Response.status(HttpServletResponse.SC_OK).entity(responsePayload.toString()).build();
+        return validationResult;
     }
 }
@@ -37,7 +37,6 @@ import org.wso2.financial.services.accelerator.consent.mgt.service.impl.ConsentC
 
 import java.net.URISyntaxException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -100,7 +99,7 @@ public class ConsentCache extends FinancialServicesBaseCache<ConsentCacheKey, Ob
     }
 
     /**
-     * Add consent data to database.
+     * Add consent data to the authorization session store in the database, keyed by the session data key.
      * 
      * @param sessionDataKey session data key
      * @param consentData    consent data
@@ -111,12 +110,21 @@ public class ConsentCache extends FinancialServicesBaseCache<ConsentCacheKey, Ob
 
         Gson gson = new Gson();
         if (ConsentConstants.STORE_CONSENT) {
-            String consent = gson.toJson(consentData);
-            Map<String, String> authorizeData = new HashMap<>();
-            authorizeData.put(consentData.getSessionDataKey(), consent);
-            if (consentCoreService.getConsentAttributesByName(sessionDataKey).isEmpty()) {
-                consentCoreService.storeConsentAttributes(consentData.getConsentId(), authorizeData);
-            }
+            consentCoreService.storeAuthorizationSession(sessionDataKey, consentData.getConsentId(),
+                    gson.toJson(consentData), ConsentConstants.AUTHORIZATION_SESSION_TIME_TO_LIVE);
+        }
+    }
+
+    /**
+     * Remove the consent data of an authorization flow from the database once the flow is completed.
+     *
+     * @param sessionDataKey session data key
+     * @throws ConsentManagementException if an error occurs while deleting consent data
+     */
+    public static void removeStoredConsent(String sessionDataKey) throws ConsentManagementException {
+
+        if (ConsentConstants.STORE_CONSENT) {
+            consentCoreService.deleteAuthorizationSession(sessionDataKey);
         }
     }
 
@@ -154,7 +162,8 @@ public class ConsentCache extends FinancialServicesBaseCache<ConsentCacheKey, Ob
     }
 
     /**
-     * Get Consent data from the consent cache.
+     * Get Consent data from the consent cache. On a cache miss the consent data is read from the authorization session
+     * store, if consent data is stored in the database.
      * 
      * @param sessionDataKey Session data key
      * @return consent data
@@ -165,34 +174,17 @@ public class ConsentCache extends FinancialServicesBaseCache<ConsentCacheKey, Ob
                 .getFromCache(ConsentCacheKey.of(sessionDataKey));
         if (consentData == null) {
             if (ConsentConstants.STORE_CONSENT) {
-                Map<String, String> consentDetailsMap = null;
                 try {
-                    consentDetailsMap = consentCoreService.getConsentAttributesByName(sessionDataKey);
-                    if (consentDetailsMap.isEmpty()) {
-                        throw new ConsentException(ResponseStatus.INTERNAL_SERVER_ERROR, "Unable to get consent data");
+                    String sessionData = consentCoreService.getAuthorizationSession(sessionDataKey);
+                    if (sessionData != null) {
+                        consentData = ConsentUtils.getConsentDataFromAttributes(
+                                JsonParser.parseString(sessionData).getAsJsonObject(), sessionDataKey);
+                    } else if (ConsentConstants.AUTHORIZATION_SESSION_LEGACY_ATTRIBUTE_FALLBACK_ENABLED) {
+                        consentData = getConsentDataFromConsentAttributes(sessionDataKey);
+                    } else {
+                        throw new ConsentException(ResponseStatus.INTERNAL_SERVER_ERROR,
+                                "Unable to get consent data");
                     }
-                    Set<String> keys = consentDetailsMap.keySet();
-                    String consentId = new ArrayList<>(keys).get(0);
-                    JsonObject consentDetails = JsonParser.parseString(consentDetailsMap.get(consentId))
-                            .getAsJsonObject();
-                    consentData = ConsentUtils.getConsentDataFromAttributes(consentDetails, sessionDataKey);
-
-                    if (consentDetailsMap.isEmpty()) {
-                        throw new ConsentException(ResponseStatus.INTERNAL_SERVER_ERROR, "Unable to get consent data");
-                    }
-                    // remove all session data related to the consent from consent attributes
-                    ArrayList<String> keysToDelete = new ArrayList<>();
-
-                    Map<String, String> consentAttributes = consentCoreService
-                            .getConsentAttributes(consentData.getConsentId()).getConsentAttributes();
-
-                    consentAttributes.forEach((key, value) -> {
-                        if (ConsentUtils.isValidJson(value) &&
-                                value.contains(ConsentExtensionConstants.SESSION_DATA_KEY)) {
-                            keysToDelete.add(key);
-                        }
-                    });
-                    consentCoreService.deleteConsentAttributes(consentData.getConsentId(), keysToDelete);
                 } catch (ConsentManagementException | URISyntaxException e) {
                     log.error("Error while retrieving consent data from cache", e);
                     throw new ConsentException(ResponseStatus.INTERNAL_SERVER_ERROR, "Unable to get consent data");
@@ -204,6 +196,49 @@ public class ConsentCache extends FinancialServicesBaseCache<ConsentCacheKey, Ob
         return consentData;
     }
 
+    /**
+     * Get consent data stored as a consent attribute, for authorization flows started before the consent data was
+     * stored in the authorization session store. The consent data is migrated to the authorization session store,
+     * so that later reads of the flow do not scan the consent attributes, and the session data of the consent is
+     * removed from the consent attributes.
+     *
+     * @param sessionDataKey Session data key
+     * @return consent data
+     * @throws ConsentManagementException if an error occurs while reading or removing the consent attributes
+     * @throws URISyntaxException if the stored redirect URI is invalid
+     */
+    private static ConsentData getConsentDataFromConsentAttributes(String sessionDataKey)
+            throws ConsentManagementException, URISyntaxException {
+
+        Map<String, String> consentDetailsMap = consentCoreService.getConsentAttributesByName(sessionDataKey);
+        if (consentDetailsMap.isEmpty()) {
+            throw new ConsentException(ResponseStatus.INTERNAL_SERVER_ERROR, "Unable to get consent data");
+        }
+        Set<String> keys = consentDetailsMap.keySet();
+        String consentId = new ArrayList<>(keys).get(0);
+        String sessionData = consentDetailsMap.get(consentId);
+        JsonObject consentDetails = JsonParser.parseString(sessionData).getAsJsonObject();
+        ConsentData consentData = ConsentUtils.getConsentDataFromAttributes(consentDetails, sessionDataKey);
+
+        consentCoreService.storeAuthorizationSession(sessionDataKey, consentId, sessionData,
+                ConsentConstants.AUTHORIZATION_SESSION_TIME_TO_LIVE);
+
+        // remove all session data related to the consent from consent attributes
+        ArrayList<String> keysToDelete = new ArrayList<>();
+
+        Map<String, String> consentAttributes = consentCoreService
+                .getConsentAttributes(consentData.getConsentId()).getConsentAttributes();
+
+        consentAttributes.forEach((key, value) -> {
+            if (ConsentUtils.isValidJson(value) &&
+                    value.contains(ConsentExtensionConstants.SESSION_DATA_KEY)) {
+                keysToDelete.add(key);
+            }
+        });
+        consentCoreService.deleteConsentAttributes(consentData.getConsentId(), keysToDelete);
+        return consentData;
+    }
+
     @Override
     public int getCacheAccessExpiryMinutes() {
         return accessExpiryMinutes;
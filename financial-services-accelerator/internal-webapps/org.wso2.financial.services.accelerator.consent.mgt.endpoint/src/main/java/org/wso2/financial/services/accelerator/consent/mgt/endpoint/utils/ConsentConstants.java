@@ -42,7 +42,18 @@ public class ConsentConstants {
                         "properly or invalid";
         public static final String PRESERVE_CONSENT = FinancialServicesConfigParser.getInstance().getPreserveConsent();
         public static final boolean STORE_CONSENT = Boolean.parseBoolean(PRESERVE_CONSENT);
+        public static final long AUTHORIZATION_SESSION_TIME_TO_LIVE = FinancialServicesConfigParser.getInstance()
+                .getAuthorizationSessionTimeToLiveInSeconds();
+        public static final boolean AUTHORIZATION_SESSION_LEGACY_ATTRIBUTE_FALLBACK_ENABLED =
+                FinancialServicesConfigParser.getInstance().isAuthorizationSessionLegacyAttributeFallbackEnabled();
 
         public static final String AUTHORIZATION = "authorization";
         public static final String CUSTOMER_CARE_OFFICER_SCOPE = "consents:read_all";
+        public static final String VALIDATION_REQUESTS = "requests";
+        public static final String VALIDATION_RESULTS = "results";
+        public static final String FROM_TIME = "fromTime";
+        public static final String TO_TIME = "toTime";
+        public static final String CONSENT_IDS = "consentIds";
+        public static final String TRUNCATED = "truncated";
+        public static final int MAX_CONSENT_STATUS_CHANGES = 1000;
 }
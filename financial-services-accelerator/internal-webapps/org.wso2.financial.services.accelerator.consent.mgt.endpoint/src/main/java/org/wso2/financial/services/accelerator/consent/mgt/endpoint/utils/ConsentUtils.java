@@ -47,12 +47,12 @@ import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
-import org.wso2.carbon.core.util.KeyStoreManager;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.local.auth.api.core.ParameterResolverService;
 import org.wso2.carbon.utils.HTTPClientUtils;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.exception.ConsentManagementRuntimeException;
+import org.wso2.financial.services.accelerator.common.util.JWTSigningService;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.AuthorizationResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentMappingResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentResource;
@@ -414,7 +414,8 @@ public class ConsentUtils {
     }
 
     /**
-     * Sign a string body using the carbon default key pair.
+     * Sign a string body using the carbon default key pair. The key and the signer are cached by the JWT signing
+     * service.
      * Skipped in unit tests since @KeystoreManager cannot be mocked
      *
      * @param body the body that needs to be signed as a string
@@ -422,9 +423,8 @@ public class ConsentUtils {
      * @throws Exception error if the tenant is invalid
      */
     public static String signJWTWithDefaultKey(String body) throws Exception {
-        KeyStoreManager keyStoreManager = KeyStoreManager.getInstance(-1234);
-        Key privateKey = keyStoreManager.getDefaultPrivateKey();
-        return generateJWT(body, privateKey);
+
+        return JWTSigningService.getInstance().sign(body);
     }
 
     /**
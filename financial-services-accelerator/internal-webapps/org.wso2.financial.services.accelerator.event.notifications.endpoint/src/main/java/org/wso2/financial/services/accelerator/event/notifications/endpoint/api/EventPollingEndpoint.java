@@ -31,13 +31,14 @@ import org.wso2.financial.services.accelerator.event.notifications.endpoint.util
 import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationConstants;
 import org.wso2.financial.services.accelerator.event.notifications.service.dto.EventPollingDTO;
 import org.wso2.financial.services.accelerator.event.notifications.service.handler.EventPollingServiceHandler;
-import org.wso2.financial.services.accelerator.event.notifications.service.model.EventPollingResponse;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationError;
 import org.wso2.financial.services.accelerator.event.notifications.service.util.EventNotificationServiceUtil;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -45,6 +46,8 @@ import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
@@ -58,6 +61,7 @@ import javax.ws.rs.core.Response;
 public class EventPollingEndpoint {
 
     private static final Log log = LogFactory.getLog(EventPollingEndpoint.class);
+    private static final int LONG_POLLING_TIMEOUT_BUFFER_IN_SECONDS = 10;
     private EventPollingServiceHandler eventPollingServiceHandler;
 
     public EventPollingEndpoint() {
@@ -85,8 +89,26 @@ public class EventPollingEndpoint {
     @Produces({"application/json; charset=utf-8", "application/jose+jwe"})
     @ApiOperation(value = "Retrieve Events", tags = {"Events"})
 
-    public Response pollEvents(@Context HttpServletRequest request, @Context HttpServletResponse response,
-                               MultivaluedMap parameterMap) {
+    public void pollEvents(@Context HttpServletRequest request, @Context HttpServletResponse response,
+                           MultivaluedMap parameterMap, @Suspended AsyncResponse asyncResponse) {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        if (configParser.isLongPollingEnabled()) {
+            // Allow the parked request to be answered after the maximum wait elapses.
+            asyncResponse.setTimeout(configParser.getLongPollingMaxWaitInSeconds()
+                    + LONG_POLLING_TIMEOUT_BUFFER_IN_SECONDS, TimeUnit.SECONDS);
+        }
+        pollEvents(request, parameterMap).whenComplete((pollingResponse, e) -> {
+            if (e != null) {
+                log.error("Error occurred while polling events", e);
+                asyncResponse.resume(e);
+            } else {
+                asyncResponse.resume(pollingResponse);
+            }
+        });
+    }
+
+    private CompletableFuture<Response> pollEvents(HttpServletRequest request, MultivaluedMap parameterMap) {
 
         String eventPollingData;
         JSONObject eventPollingRequest;
@@ -108,35 +130,35 @@ public class EventPollingEndpoint {
                         eventPollingRequest.put(EventNotificationEndPointConstants.X_WSO2_CLIENT_ID, request.
                                 getHeader(EventNotificationEndPointConstants.X_WSO2_CLIENT_ID));
                     } else {
-                        return Response.status(Response.Status.BAD_REQUEST).entity(EventNotificationServiceUtil
-                                .getErrorDTO(EventNotificationEndPointConstants.MISSING_REQUEST_HEADER,
-                                EventNotificationConstants.MISSING_HEADER_PARAM_CLIENT_ID).toString()).build();
+                        return getBadRequestResponse(EventNotificationEndPointConstants.MISSING_REQUEST_HEADER,
+                                EventNotificationConstants.MISSING_HEADER_PARAM_CLIENT_ID);
                     }
 
                     EventPollingDTO pollingDTO = mapPollingRequestToDTO(eventPollingRequest);
-                    EventPollingResponse eventPollingResponse = eventPollingServiceHandler.
-                            pollEvents(pollingDTO);
-
-                    return EventNotificationUtils.mapEventPollingServiceResponse(eventPollingResponse);
+                    return eventPollingServiceHandler.pollEventsAsync(pollingDTO)
+                            .thenApply(EventNotificationUtils::mapEventPollingServiceResponse);
 
                 } catch (ClassCastException e) {
                     log.error(EventNotificationEndPointConstants.REQUEST_PAYLOAD_ERROR, e);
-                    return Response.status(Response.Status.BAD_REQUEST).entity(EventNotificationServiceUtil
-                            .getErrorDTO(EventNotificationEndPointConstants.INVALID_REQUEST_PAYLOAD,
-                            EventNotificationEndPointConstants.REQUEST_PAYLOAD_ERROR).toString()).build();
+                    return getBadRequestResponse(EventNotificationEndPointConstants.INVALID_REQUEST_PAYLOAD,
+                            EventNotificationEndPointConstants.REQUEST_PAYLOAD_ERROR);
                 }
             } else {
-                return Response.status(Response.Status.BAD_REQUEST).entity(EventNotificationServiceUtil
-                        .getErrorDTO(EventNotificationEndPointConstants.INVALID_REQUEST_PAYLOAD,
-                        EventNotificationEndPointConstants.EMPTY_REQ_PAYLOAD).toString()).build();
+                return getBadRequestResponse(EventNotificationEndPointConstants.INVALID_REQUEST_PAYLOAD,
+                        EventNotificationEndPointConstants.EMPTY_REQ_PAYLOAD);
             }
         } else {
-            return Response.status(Response.Status.BAD_REQUEST).entity(EventNotificationServiceUtil
-                    .getErrorDTO(EventNotificationEndPointConstants.MISSING_REQUEST_PAYLOAD,
-                    EventNotificationConstants.MISSING_REQ_PAYLOAD).toString()).build();
+            return getBadRequestResponse(EventNotificationEndPointConstants.MISSING_REQUEST_PAYLOAD,
+                    EventNotificationConstants.MISSING_REQ_PAYLOAD);
         }
     }
 
+    private static CompletableFuture<Response> getBadRequestResponse(String errorCode, String errorMessage) {
+
+        return CompletableFuture.completedFuture(Response.status(Response.Status.BAD_REQUEST).entity(
+                EventNotificationServiceUtil.getErrorDTO(errorCode, errorMessage).toString()).build());
+    }
+
     /**
      * This method will map the eventPollingRequest JSON to EventPollingDTO.
      * @param eventPollingRequest JSON request for event polling
@@ -175,6 +197,13 @@ public class EventPollingEndpoint {
             });
         }
 
+        //Set whether to wait for notifications, long polling is only served when enabled
+        if (eventPollingRequest.has(EventNotificationConstants.RETURN_IMMEDIATELY)
+                && FinancialServicesConfigParser.getInstance().isLongPollingEnabled()) {
+            eventPollingDTO.setReturnImmediately(Boolean.parseBoolean(eventPollingRequest.
+                    get(EventNotificationConstants.RETURN_IMMEDIATELY).toString()));
+        }
+
         //Set maxEvents count to return
         if (eventPollingRequest.has(EventNotificationConstants.MAX_EVENTS)) {
             eventPollingDTO.setMaxEvents(Integer.parseInt(eventPollingRequest.